@@ -2,6 +2,7 @@ package flex.living.reviewsdashboard;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
 import org.springframework.cache.annotation.EnableCaching;
 
 @EnableCaching
@@ -9,6 +10,8 @@ import org.springframework.cache.annotation.EnableCaching;
 public class ReviewsDashboardApplication {
 
     public static void main(String[] args) {
-        SpringApplication.run(ReviewsDashboardApplication.class, args);
+        SpringApplication app = new SpringApplication(ReviewsDashboardApplication.class);
+        app.setApplicationStartup(new BufferingApplicationStartup(4096)); // startup steps under /actuator/startup
+        app.run(args);
     }
 }
\ No newline at end of file
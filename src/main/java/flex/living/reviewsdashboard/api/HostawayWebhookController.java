@@ -0,0 +1,68 @@
+package flex.living.reviewsdashboard.api;
+
+import flex.living.reviewsdashboard.config.WebhookConfig;
+import flex.living.reviewsdashboard.service.HostawayWebhookIngestor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.security.MessageDigest;
+import java.util.List;
+import java.util.Map;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+@RestController
+@RequestMapping("/api/webhooks")
+@RequiredArgsConstructor
+public class HostawayWebhookController {
+
+    private final HostawayWebhookIngestor ingestor;
+    private final WebhookConfig cfg;
+
+    /**
+     * POST /api/webhooks/hostaway — one event object or an array of them.
+     * Acknowledges with 202 once queued; 503 + Retry-After when the queue is full. {@code ?account=} pins
+     * every event to that account (404 if unknown); otherwise each event's {@code accountId} decides.
+     * Fails closed: 401 unless {@code X-Webhook-Secret} matches {@code hostaway.webhook.secret}, or no secret is
+     * configured and {@code hostaway.webhook.allow-unauthenticated} is set.
+     */
+    @PostMapping(path = "/hostaway", consumes = MediaType.APPLICATION_JSON_VALUE)
+    @SuppressWarnings("unchecked")
+    public ResponseEntity<Map<String, Object>> hostaway(
+            @RequestHeader(value = "X-Webhook-Secret", required = false) String secret,
+            @RequestParam(required = false) String account,
+            @RequestBody Object body) {
+
+        if (!authorized(secret)) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+
+        List<Map<String, Object>> events;
+        if (body instanceof List<?> list) {
+            events = list.stream().filter(Map.class::isInstance).map(m -> (Map<String, Object>) m).toList();
+        } else if (body instanceof Map<?, ?> m) {
+            events = List.of((Map<String, Object>) m);
+        } else {
+            return ResponseEntity.badRequest().build();
+        }
+
+        if (!ingestor.offer(account, events)) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).header(HttpHeaders.RETRY_AFTER, "1").build();
+        }
+        return ResponseEntity.accepted().body(Map.of("accepted", events.size()));
+    }
+
+    private boolean authorized(String secret) {
+        if (cfg.getSecret() == null || cfg.getSecret().isBlank()) return cfg.isAllowUnauthenticated();
+        return secret != null && MessageDigest.isEqual(cfg.getSecret().getBytes(UTF_8), secret.getBytes(UTF_8));
+    }
+}
@@ -1,21 +1,34 @@
 package flex.living.reviewsdashboard.api;
 
+import flex.living.reviewsdashboard.model.ColumnarReviewPage;
 import flex.living.reviewsdashboard.model.NormalizedReviewResponse;
 import flex.living.reviewsdashboard.service.HostawayReviewService;
+import flex.living.reviewsdashboard.service.ListingDirectoryService;
 import flex.living.reviewsdashboard.service.ReviewsAggregationService;
+import flex.living.reviewsdashboard.web.ResponseBytesCache;
+import flex.living.reviewsdashboard.web.ReviewProjection;
+import flex.living.reviewsdashboard.web.WireFormat;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
 
+import java.io.IOException;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 
 @RestController
-@RequestMapping(path = "/api/reviews", produces = MediaType.APPLICATION_JSON_VALUE)
+@RequestMapping(path = "/api/reviews",
+        produces = {MediaType.APPLICATION_JSON_VALUE, WireFormat.SMILE_VALUE, MediaType.APPLICATION_CBOR_VALUE})
 @RequiredArgsConstructor
 @Slf4j
 public class ReviewController {
@@ -26,46 +39,98 @@ public class ReviewController {
 
     private final HostawayReviewService hostawayService;
     private final ReviewsAggregationService aggregationService;
+    private final ResponseBytesCache responseCache;
+    private final ListingDirectoryService directory;
 
     /**
-     * GET /api/reviews/hostaway?limit=50&offset=0
+     * GET /api/reviews/hostaway?limit=50&offset=0[&account=key][&layout=columnar][&fields=guestName,overallRating][&snippet=120]
      */
     @GetMapping("/hostaway")
-    public ResponseEntity<NormalizedReviewResponse> hostaway(
+    public ResponseEntity<byte[]> hostaway(
             @RequestParam(value = "limit", required = false) Integer limit,
-            @RequestParam(value = "offset", required = false) Integer offset) {
+            @RequestParam(value = "offset", required = false) Integer offset,
+            @RequestParam(value = "account", required = false) String account,
+            @RequestParam(value = "layout", required = false) String layout,
+            @RequestParam(value = "fields", required = false) String fields,
+            @RequestParam(value = "snippet", required = false) Integer snippet,
+            HttpServletRequest request) {
 
         int lim = normalizeLimit(limit);
         int off = normalizeOffset(offset);
+        boolean columnar = isColumnar(layout);
+        var projection = ReviewProjection.of(fields, snippet);
 
         try {
-            return ResponseEntity.ok(hostawayService.getReviews(lim, off));
+            return responseCache.respond(request, "hostaway", params(account, lim, off, columnar),
+                    projection, () -> shape(hostawayService.getReviews(account, lim, off), columnar));
+        } catch (ResponseStatusException e) {
+            throw e; // unknown account
         } catch (Exception e) {
             log.warn("Hostaway fetch failed (limit={}, offset={}) → returning empty payload", lim, off, e);
-            return ResponseEntity.ok(new NormalizedReviewResponse("hostaway", 0, List.of()));
+            return responseCache.uncached(request, new NormalizedReviewResponse("hostaway", 0, List.of()));
         }
     }
 
     /**
-     * GET /api/reviews/combined?limit=500&offset=0
+     * GET /api/reviews/combined?limit=500&offset=0[&account=key][&listing=name][&layout=columnar][&fields=...][&snippet=120]
+     * <p>
+     * Every request, cached or not, counts as a view of {@code listing} (or of all listings) for the Google refresh schedule.
      */
     @GetMapping("/combined")
-    public ResponseEntity<NormalizedReviewResponse> combined(
+    public ResponseEntity<byte[]> combined(
             @RequestParam(value = "limit", defaultValue = "500") Integer limit,
-            @RequestParam(value = "offset", defaultValue = "0") Integer offset) {
+            @RequestParam(value = "offset", defaultValue = "0") Integer offset,
+            @RequestParam(value = "account", required = false) String account,
+            @RequestParam(value = "listing", required = false) String listing,
+            @RequestParam(value = "layout", required = false) String layout,
+            @RequestParam(value = "fields", required = false) String fields,
+            @RequestParam(value = "snippet", required = false) Integer snippet,
+            HttpServletRequest request) {
 
         int lim = normalizeLimit(limit);
         int off = normalizeOffset(offset);
+        boolean columnar = isColumnar(layout);
+        var projection = ReviewProjection.of(fields, snippet);
+        directory.recordView(listing);
 
+        Map<String, Object> params = new HashMap<>(params(account, lim, off, columnar));
+        params.put("listing", Objects.requireNonNullElse(listing, ""));
         try {
-            return ResponseEntity.ok(aggregationService.combined(lim, off));
+            return responseCache.respond(request, "combined", params,
+                    projection, () -> shape(aggregationService.combined(account, listing, lim, off), columnar));
+        } catch (ResponseStatusException e) {
+            throw e;
         } catch (Exception e) {
             log.warn("Combined fetch failed (limit={}, offset={}) → returning empty payload", lim, off, e);
-            return ResponseEntity.ok(new NormalizedReviewResponse("combined", 0, List.of()));
+            return responseCache.uncached(request, new NormalizedReviewResponse("combined", 0, List.of()));
         }
     }
 
+    /**
+     * GET /api/reviews/{id} — full review, for lazily loading the body behind a snippet.
+     */
+    @GetMapping("/{id}")
+    public ResponseEntity<byte[]> one(@PathVariable String id,
+                                      @RequestParam(value = "account", required = false) String account,
+                                      HttpServletRequest request) throws IOException {
+        return aggregationService.find(account, id)
+                .map(r -> responseCache.uncached(request, r))
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
     // -------- helpers --------
+    static boolean isColumnar(String layout) {
+        return "columnar".equalsIgnoreCase(layout);
+    }
+
+    private static Map<String, ?> params(String account, int lim, int off, boolean columnar) {
+        return Map.of("account", Objects.requireNonNullElse(account, ""), "limit", lim, "offset", off, "columnar", columnar);
+    }
+
+    private static Object shape(NormalizedReviewResponse resp, boolean columnar) {
+        return columnar ? ColumnarReviewPage.of(resp) : resp;
+    }
+
     private static int normalizeLimit(Integer limit) {
         int lim = (limit == null) ? DEFAULT_LIMIT : limit;
         if (lim < 1) lim = DEFAULT_LIMIT;
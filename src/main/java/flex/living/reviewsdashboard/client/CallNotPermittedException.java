@@ -0,0 +1,10 @@
+package flex.living.reviewsdashboard.client;
+
+/**
+ * Thrown instead of calling an upstream whose circuit breaker is open.
+ */
+public class CallNotPermittedException extends RuntimeException {
+    public CallNotPermittedException(String breaker) {
+        super("Circuit breaker '" + breaker + "' is open");
+    }
+}
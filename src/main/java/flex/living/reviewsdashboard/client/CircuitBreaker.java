@@ -0,0 +1,167 @@
+package flex.living.reviewsdashboard.client;
+
+import flex.living.reviewsdashboard.config.UpstreamBreakerConfig;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Count-based sliding-window circuit breaker for one upstream.
+ * <p>
+ * CLOSED records the outcome of the last {@code window-size} calls and opens when either the failure rate
+ * or the slow-call rate crosses its threshold. OPEN rejects immediately with {@link CallNotPermittedException}
+ * for {@code open-duration-ms}, then HALF_OPEN lets {@code half-open-probes} calls through: all succeeding
+ * closes the breaker, any failure re-opens it.
+ * <p>
+ * Client errors (4xx) say nothing about this upstream's health, so they are not counted as failures (429 is:
+ * the upstream is shedding load). Local rate-limit rejections and other open breakers are not recorded at all,
+ * not even as slow calls: wrap only the upstream call itself, never the wait for a permit.
+ */
+public class CircuitBreaker {
+
+    public enum State {CLOSED, OPEN, HALF_OPEN}
+
+    private static final byte OK = 0, FAILED = 1, SLOW = 2, SLOW_FAILED = 3;
+
+    private final String name;
+    private final UpstreamBreakerConfig cfg;
+    private final Listener listener;
+
+    // guarded by this
+    private final byte[] window;
+    private int next, size, failures, slow;
+    private State state = State.CLOSED;
+    private long openedAtNanos;
+    private int probesIssued, probesSucceeded;
+
+    interface Listener {
+        void onTransition(CircuitBreaker breaker, State from, State to);
+
+        void onRejected(CircuitBreaker breaker);
+    }
+
+    CircuitBreaker(String name, UpstreamBreakerConfig cfg, Listener listener) {
+        this.name = name;
+        this.cfg = cfg;
+        this.listener = listener;
+        this.window = new byte[Math.max(1, cfg.getWindowSize())];
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public synchronized State state() {
+        maybeHalfOpen();
+        return state;
+    }
+
+    public synchronized double failureRate() {
+        return size == 0 ? 0 : 100.0 * failures / size;
+    }
+
+    public synchronized double slowCallRate() {
+        return size == 0 ? 0 : 100.0 * slow / size;
+    }
+
+    public <T> T call(Supplier<T> call) {
+        if (!tryAcquire()) {
+            listener.onRejected(this);
+            throw new CallNotPermittedException(name);
+        }
+        long start = System.nanoTime();
+        try {
+            T result = call.get();
+            record(false, System.nanoTime() - start);
+            return result;
+        } catch (RateLimitedException | CallNotPermittedException e) {
+            unrecorded();
+            throw e;
+        } catch (RuntimeException e) {
+            record(countsAsFailure(e), System.nanoTime() - start);
+            throw e;
+        }
+    }
+
+    private static boolean countsAsFailure(RuntimeException e) {
+        if (e instanceof WebClientResponseException w) return w.getStatusCode().value() >= 500 || w.getStatusCode().value() == 429;
+        return true; // timeouts, connection refused, decode errors
+    }
+
+    private synchronized boolean tryAcquire() {
+        maybeHalfOpen();
+        return switch (state) {
+            case CLOSED -> true;
+            case OPEN -> false;
+            case HALF_OPEN -> {
+                if (probesIssued >= cfg.getHalfOpenProbes()) yield false;
+                probesIssued++;
+                yield true;
+            }
+        };
+    }
+
+    private synchronized void record(boolean failed, long elapsedNanos) {
+        boolean isSlow = elapsedNanos >= TimeUnit.MILLISECONDS.toNanos(cfg.getSlowCallDurationMs());
+
+        if (state == State.HALF_OPEN) {
+            if (failed || isSlow) {
+                transition(State.OPEN);
+            } else if (++probesSucceeded >= cfg.getHalfOpenProbes()) {
+                transition(State.CLOSED);
+            }
+            return;
+        }
+        if (state == State.OPEN) return; // late result from before opening
+
+        byte outcome = failed ? (isSlow ? SLOW_FAILED : FAILED) : (isSlow ? SLOW : OK);
+        if (size == window.length) evict(window[next]);
+        else size++;
+        window[next] = outcome;
+        if (outcome == FAILED || outcome == SLOW_FAILED) failures++;
+        if (outcome == SLOW || outcome == SLOW_FAILED) slow++;
+        next = (next + 1) % window.length;
+
+        if (size >= cfg.getMinimumCalls()
+                && (failureRate() >= cfg.getFailureRateThreshold() || slowCallRate() >= cfg.getSlowCallRateThreshold())) {
+            transition(State.OPEN);
+        }
+    }
+
+    /**
+     * The call never reached the upstream: hand a half-open probe slot back.
+     */
+    private synchronized void unrecorded() {
+        if (state == State.HALF_OPEN && probesIssued > 0) probesIssued--;
+    }
+
+    private void evict(byte outcome) {
+        if (outcome == FAILED || outcome == SLOW_FAILED) failures--;
+        if (outcome == SLOW || outcome == SLOW_FAILED) slow--;
+    }
+
+    private void maybeHalfOpen() {
+        if (state == State.OPEN
+                && System.nanoTime() - openedAtNanos >= TimeUnit.MILLISECONDS.toNanos(cfg.getOpenDurationMs())) {
+            transition(State.HALF_OPEN);
+        }
+    }
+
+    private void transition(State to) {
+        State from = state;
+        if (from == to) return;
+        state = to;
+        switch (to) {
+            case OPEN -> openedAtNanos = System.nanoTime();
+            case HALF_OPEN -> {
+                probesIssued = 0;
+                probesSucceeded = 0;
+            }
+            case CLOSED -> {
+                next = size = failures = slow = 0;
+            }
+        }
+        listener.onTransition(this, from, to);
+    }
+}
@@ -0,0 +1,59 @@
+package flex.living.reviewsdashboard.client;
+
+import flex.living.reviewsdashboard.config.UpstreamBreakerConfig;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * One {@link CircuitBreaker} per upstream, created on first use and published as
+ * {@code upstream.breaker.*} metrics (state: 0 closed, 1 open, 2 half-open).
+ */
+@Slf4j
+@Component
+public class CircuitBreakers implements CircuitBreaker.Listener {
+
+    public static final String HOSTAWAY_AUTH = "hostaway-auth";
+    public static final String HOSTAWAY_REVIEWS = "hostaway-reviews";
+    public static final String GOOGLE_DETAILS = "google-details";
+    public static final String GOOGLE_SEARCH = "google-search";
+
+    private final UpstreamBreakerConfig cfg;
+    private final MeterRegistry registry;
+    private final Map<String, CircuitBreaker> breakers = new ConcurrentHashMap<>();
+
+    public CircuitBreakers(UpstreamBreakerConfig cfg, MeterRegistry registry) {
+        this.cfg = cfg;
+        this.registry = registry;
+    }
+
+    public CircuitBreaker get(String name) {
+        return breakers.computeIfAbsent(name, n -> {
+            var b = new CircuitBreaker(n, cfg, this);
+            Gauge.builder("upstream.breaker.state", b, x -> x.state().ordinal()).tag("name", n).register(registry);
+            Gauge.builder("upstream.breaker.failure.rate", b, CircuitBreaker::failureRate).tag("name", n).register(registry);
+            Gauge.builder("upstream.breaker.slow.rate", b, CircuitBreaker::slowCallRate).tag("name", n).register(registry);
+            return b;
+        });
+    }
+
+    public Collection<CircuitBreaker> all() {
+        return breakers.values();
+    }
+
+    @Override
+    public void onTransition(CircuitBreaker breaker, CircuitBreaker.State from, CircuitBreaker.State to) {
+        log.warn("Circuit breaker '{}' {} → {}", breaker.name(), from, to);
+        registry.counter("upstream.breaker.transitions", "name", breaker.name(), "to", to.name().toLowerCase()).increment();
+    }
+
+    @Override
+    public void onRejected(CircuitBreaker breaker) {
+        registry.counter("upstream.breaker.rejected", "name", breaker.name()).increment();
+    }
+}
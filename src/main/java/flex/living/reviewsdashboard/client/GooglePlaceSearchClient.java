@@ -15,27 +15,38 @@ public class GooglePlaceSearchClient {
 
     private final WebClient wc;
     private final GooglePlacesConfig cfg;
+    private final CircuitBreaker breaker;
     private final ObjectMapper mapper = new ObjectMapper();
 
     // Qualify the WebClient to disambiguate
     public GooglePlaceSearchClient(
             @Qualifier("googlePlacesWebClient") WebClient wc,
-            GooglePlacesConfig cfg
+            GooglePlacesConfig cfg,
+            CircuitBreakers breakers
     ) {
         this.wc = wc;
         this.cfg = cfg;
+        this.breaker = breakers.get(CircuitBreakers.GOOGLE_SEARCH);
     }
 
+    /**
+     * Returns no candidates (instead of waiting on timeouts) while the search breaker is open.
+     */
     public List<Result> findByText(String query) {
-        String json = wc.get().uri(u -> u.path("/findplacefromtext/json")
-                        .queryParam("input", query)
-                        .queryParam("inputtype", "textquery")
-                        .queryParam("fields", "place_id,name,formatted_address")
-                        .queryParam("key", cfg.getApiKey())
-                        .build())
-                .retrieve()
-                .bodyToMono(String.class)
-                .block();
+        String json;
+        try {
+            json = breaker.call(() -> wc.get().uri(u -> u.path("/findplacefromtext/json")
+                            .queryParam("input", query)
+                            .queryParam("inputtype", "textquery")
+                            .queryParam("fields", "place_id,name,formatted_address")
+                            .queryParam("key", cfg.getApiKey())
+                            .build())
+                    .retrieve()
+                    .bodyToMono(String.class)
+                    .block());
+        } catch (CallNotPermittedException open) {
+            return List.of();
+        }
 
         List<Result> out = new ArrayList<>();
         try {
@@ -0,0 +1,17 @@
+package flex.living.reviewsdashboard.client;
+
+/**
+ * Google Places answered 200 with an error {@code status} (OVER_QUERY_LIMIT, REQUEST_DENIED, INVALID_REQUEST, ...).
+ */
+public class GooglePlacesStatusException extends RuntimeException {
+    private final String status;
+
+    public GooglePlacesStatusException(String placeId, String status) {
+        super("Google Places status " + status + " for " + placeId);
+        this.status = status;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+}
@@ -5,7 +5,10 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import flex.living.reviewsdashboard.config.GooglePlacesConfig;
 import flex.living.reviewsdashboard.model.NormalizedReview;
 import flex.living.reviewsdashboard.model.NormalizedReviewResponse;
+import flex.living.reviewsdashboard.web.RequestTimings;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.cache.annotation.CachePut;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
@@ -17,44 +20,100 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 @Component
 public class GoogleReviewClient {
 
     private final WebClient wc;
     private final GooglePlacesConfig cfg;
+    private final CircuitBreaker detailsBreaker;
+    private final CircuitBreaker searchBreaker;
+    private final RequestHedger detailsHedger;
+    private final List<FetchListener> listeners = new CopyOnWriteArrayList<>();
     private final ObjectMapper mapper = new ObjectMapper();
 
+    /**
+     * Notified of every Place Details call that reached Google, on the calling thread.
+     */
+    public interface FetchListener {
+        void onFetch(String placeId, boolean succeeded);
+    }
+
     // EXPLICIT constructor with @Qualifier to pick the right WebClient
     public GoogleReviewClient(
             @Qualifier("googlePlacesWebClient") WebClient wc,
-            GooglePlacesConfig cfg
+            GooglePlacesConfig cfg,
+            CircuitBreakers breakers,
+            MeterRegistry registry
     ) {
         this.wc = wc;
         this.cfg = cfg;
+        this.detailsBreaker = breakers.get(CircuitBreakers.GOOGLE_DETAILS);
+        this.searchBreaker = breakers.get(CircuitBreakers.GOOGLE_SEARCH);
+        this.detailsHedger = new RequestHedger("google-details", cfg.getHedge(), registry);
     }
 
     /**
      * Fetch up to 5 public reviews for a Google Place ID. Cached by placeId.
+     * Throws {@link CallNotPermittedException} while the details breaker is open (nothing is cached then).
+     * Slow calls may be hedged with one duplicate, see {@code google.places.hedge}.
      */
     @Cacheable(cacheNames = "google-reviews", key = "#placeId")
     public NormalizedReviewResponse fetchForPlace(String placeId) {
-        String json = wc.get().uri(uri -> uri.path("/details/json")
-                        .queryParam("place_id", placeId)
-                        .queryParam("fields", "reviews,rating,user_ratings_total")
-                        .queryParam("key", cfg.getApiKey())
-                        .build())
-                .retrieve()
-                .bodyToMono(String.class)
-                .block();
+        try (var t = RequestTimings.start("google", placeId)) {
+            return fetch(placeId);
+        }
+    }
 
-        List<NormalizedReview> out = new ArrayList<>();
+    /**
+     * Re-fetch {@code placeId} and replace its cache entry (used by the refresh scheduler). A failed fetch,
+     * including a 200 with an error {@code status}, throws and leaves the entry as it was.
+     */
+    @CachePut(cacheNames = "google-reviews", key = "#placeId")
+    public NormalizedReviewResponse refresh(String placeId) {
+        return fetch(placeId);
+    }
+
+    public void addFetchListener(FetchListener listener) {
+        listeners.add(listener);
+    }
+
+    private NormalizedReviewResponse fetch(String placeId) {
+        String json;
         try {
-            JsonNode root = mapper.readTree(json == null ? "{}" : json);
-            JsonNode arr = root.path("result").path("reviews");
-            if (arr.isArray()) for (JsonNode r : arr) out.add(mapOne(r));
-        } catch (Exception ignored) {
+            json = detailsBreaker.call(() -> detailsHedger.call(() -> wc.get().uri(uri -> uri.path("/details/json")
+                                    .queryParam("place_id", placeId)
+                                    .queryParam("fields", "reviews,rating,user_ratings_total")
+                                    .queryParam("key", cfg.getApiKey())
+                                    .build())
+                            .retrieve()
+                            .bodyToMono(String.class))
+                    .block());
+        } catch (CallNotPermittedException open) {
+            throw open; // never left the process
+        } catch (RuntimeException e) {
+            for (FetchListener l : listeners) l.onFetch(placeId, false);
+            throw e;
+        }
+
+        JsonNode root;
+        try {
+            root = mapper.readTree(json == null ? "{}" : json);
+        } catch (Exception e) {
+            root = mapper.createObjectNode();
         }
+        // quota and key errors come back as 200 with an error status; an empty answer must not replace good data
+        String status = root.path("status").asText("");
+        if (!"OK".equals(status) && !"ZERO_RESULTS".equals(status)) {
+            for (FetchListener l : listeners) l.onFetch(placeId, false);
+            throw new GooglePlacesStatusException(placeId, status.isEmpty() ? "missing" : status);
+        }
+        for (FetchListener l : listeners) l.onFetch(placeId, true);
+
+        List<NormalizedReview> out = new ArrayList<>();
+        JsonNode arr = root.path("result").path("reviews");
+        if (arr.isArray()) for (JsonNode r : arr) out.add(mapOne(r));
         return new NormalizedReviewResponse("google", out.size(), out);
     }
 
@@ -82,12 +141,17 @@ public class GoogleReviewClient {
      * Find placeIds by free text (name/address). Returns top matches (name, placeId, formatted address).
      */
     public List<GooglePlaceSearchClient.Result> findByText(String query) {
-        String json = wc.get().uri(u -> u.path("/findplacefromtext/json")
-                        .queryParam("input", query)
-                        .queryParam("inputtype", "textquery")
-                        .queryParam("fields", "place_id,name,formatted_address")
-                        .queryParam("key", cfg.getApiKey()).build())
-                .retrieve().bodyToMono(String.class).block();
+        String json;
+        try {
+            json = searchBreaker.call(() -> wc.get().uri(u -> u.path("/findplacefromtext/json")
+                            .queryParam("input", query)
+                            .queryParam("inputtype", "textquery")
+                            .queryParam("fields", "place_id,name,formatted_address")
+                            .queryParam("key", cfg.getApiKey()).build())
+                    .retrieve().bodyToMono(String.class).block());
+        } catch (CallNotPermittedException open) {
+            return List.of();
+        }
 
         List<GooglePlaceSearchClient.Result> out = new ArrayList<>();
         try {
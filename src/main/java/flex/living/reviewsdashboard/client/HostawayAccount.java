@@ -0,0 +1,61 @@
+package flex.living.reviewsdashboard.client;
+
+import java.time.Instant;
+
+/**
+ * One Hostaway account served by this process: credentials, its own token cache and its own rate limiter.
+ */
+public final class HostawayAccount {
+
+    private final String key;
+    private final Integer accountId;
+    private final String clientSecret;
+    private final int weight;
+    private final HostawayRateLimiter limiter;
+
+    // token cache, guarded by this
+    private String token;
+    private Instant expiresAt = Instant.EPOCH;
+
+    HostawayAccount(String key, Integer accountId, String clientSecret, int weight, HostawayRateLimiter limiter) {
+        this.key = key;
+        this.accountId = accountId;
+        this.clientSecret = clientSecret;
+        this.weight = weight;
+        this.limiter = limiter;
+    }
+
+    public String key() {
+        return key;
+    }
+
+    public Integer accountId() {
+        return accountId;
+    }
+
+    String clientSecret() {
+        return clientSecret;
+    }
+
+    public int weight() {
+        return weight;
+    }
+
+    HostawayRateLimiter limiter() {
+        return limiter;
+    }
+
+    synchronized String cachedToken() {
+        return Instant.now().isAfter(expiresAt) ? null : token;
+    }
+
+    synchronized void storeToken(String token, Instant expiresAt) {
+        this.token = token;
+        this.expiresAt = expiresAt;
+    }
+
+    @Override
+    public String toString() {
+        return "HostawayAccount[" + key + "]";
+    }
+}
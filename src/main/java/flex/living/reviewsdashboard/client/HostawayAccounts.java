@@ -0,0 +1,66 @@
+package flex.living.reviewsdashboard.client;
+
+import flex.living.reviewsdashboard.config.HostawayConfig;
+import flex.living.reviewsdashboard.config.HostawayRateLimitConfig;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.BeanUtils;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Registry of the Hostaway accounts this process serves ({@code hostaway.accounts}, or the single legacy
+ * {@code hostaway.account-id}). Each account gets its own {@link HostawayRateLimiter}, since Hostaway limits
+ * are per account, with meters tagged {@code account}.
+ */
+@Component
+public class HostawayAccounts {
+
+    private final Map<String, HostawayAccount> byKey = new LinkedHashMap<>();
+    private final HostawayAccount defaultAccount;
+
+    public HostawayAccounts(HostawayConfig cfg, HostawayRateLimitConfig limits, MeterRegistry registry) {
+        for (HostawayConfig.Account a : cfg.resolvedAccounts()) {
+            HostawayRateLimitConfig own = limits;
+            if (a.permitsPerSecond() != null) {
+                own = new HostawayRateLimitConfig();
+                BeanUtils.copyProperties(limits, own);
+                own.setPermitsPerSecond(a.permitsPerSecond());
+            }
+            var account = new HostawayAccount(a.key(), a.accountId(), a.clientSecret(), a.weight(),
+                    new HostawayRateLimiter(own, registry, a.key()));
+            if (byKey.putIfAbsent(a.key(), account) != null) {
+                throw new IllegalStateException("Duplicate Hostaway account key: " + a.key());
+            }
+        }
+        this.defaultAccount = byKey.values().iterator().next();
+    }
+
+    public HostawayAccount defaultAccount() {
+        return defaultAccount;
+    }
+
+    /**
+     * Account for {@code ?account=}; null or blank selects the default account.
+     *
+     * @throws UnknownAccountException if the key is not configured
+     */
+    public HostawayAccount resolve(String key) {
+        if (key == null || key.isBlank()) return defaultAccount;
+        HostawayAccount a = byKey.get(key);
+        if (a == null) throw new UnknownAccountException(key);
+        return a;
+    }
+
+    public Optional<HostawayAccount> byAccountId(Integer accountId) {
+        return byKey.values().stream().filter(a -> Objects.equals(a.accountId(), accountId)).findFirst();
+    }
+
+    public List<HostawayAccount> all() {
+        return List.copyOf(byKey.values());
+    }
+}
@@ -1,68 +1,86 @@
-package flex.living.reviewsdashboard.client;
-
-import flex.living.reviewsdashboard.config.HostawayConfig;
-import org.springframework.http.MediaType;
-import org.springframework.stereotype.Component;
-import org.springframework.web.reactive.function.client.WebClient;
-
-import java.time.Instant;
-import java.util.Map;
-import java.util.concurrent.atomic.AtomicReference;
-
-@Component
-public class HostawayAuthClient {
-    private final WebClient wc;
-    private final HostawayConfig cfg;
-
-    // naive in-memory token cache
-    private final AtomicReference<String> tokenRef = new AtomicReference<>();
-    private final AtomicReference<Instant> expiresAt = new AtomicReference<>(Instant.EPOCH);
-
-    public HostawayAuthClient(WebClient hostawayWebClient, HostawayConfig cfg) {
-        this.wc = hostawayWebClient;
-        this.cfg = cfg;
-    }
-
-    public String getBearerToken() {
-        // refresh if missing or “stale” (Hostaway tokens last up to 24 months; we still refresh on 403 elsewhere)
-        if (Instant.now().isAfter(expiresAt.get())) {
-            refreshToken();
-        }
-        return tokenRef.get();
-    }
-
-    public synchronized void refreshToken() {
-        var form = "grant_type=client_credentials"
-                + "&client_id=" + cfg.accountId()
-                + "&client_secret=" + cfg.clientSecret()
-                + "&scope=general";
-
-        Map<?, ?> body = wc.post()
-                .uri("/v1/accessTokens")
-                .contentType(MediaType.APPLICATION_FORM_URLENCODED)
-                .bodyValue(form)
-                .retrieve()
-                .bodyToMono(Map.class)
-                .block();
-
-        Object tokenObj = body.get("access_token");
-        String token = tokenObj != null ? tokenObj.toString() : "";
-
-        Object expiresInObj = body.get("expires_in");
-        long seconds;
-        if (expiresInObj instanceof Number n) {
-            seconds = n.longValue();
-        } else if (expiresInObj != null) {
-            try {
-                seconds = Long.parseLong(expiresInObj.toString());
-            } catch (NumberFormatException e) {
-                seconds = 60L * 60L * 24L * 30L; // default: 30 days
-            }
-        } else {
-            seconds = 60L * 60L * 24L * 30L; // default: 30 days
-        }
-
-        tokenRef.set(token);
-        expiresAt.set(Instant.now().plusSeconds(seconds - 60));
-    }
+package flex.living.reviewsdashboard.client;
+
+import flex.living.reviewsdashboard.web.RequestTimings;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.time.Instant;
+import java.util.Map;
+
+@Component
+public class HostawayAuthClient {
+    private final WebClient wc;
+    private final HostawayAccounts accounts;
+    private final CircuitBreaker breaker;
+
+    public HostawayAuthClient(WebClient hostawayWebClient, HostawayAccounts accounts, CircuitBreakers breakers) {
+        this.wc = hostawayWebClient;
+        this.accounts = accounts;
+        this.breaker = breakers.get(CircuitBreakers.HOSTAWAY_AUTH);
+    }
+
+    public String getBearerToken() {
+        return getBearerToken(accounts.defaultAccount());
+    }
+
+    /**
+     * Token for {@code account} from its own cache.
+     */
+    public String getBearerToken(HostawayAccount account) {
+        // refresh if missing or “stale” (Hostaway tokens last up to 24 months; we still refresh on 403 elsewhere)
+        String token = account.cachedToken();
+        if (token == null) {
+            refreshToken(account);
+            token = account.cachedToken();
+        }
+        return token;
+    }
+
+    public void refreshToken() {
+        refreshToken(accounts.defaultAccount());
+    }
+
+    public void refreshToken(HostawayAccount account) {
+        synchronized (account) { // one refresh per account at a time; other accounts proceed
+            doRefresh(account);
+        }
+    }
+
+    private void doRefresh(HostawayAccount account) {
+        var form = "grant_type=client_credentials"
+                + "&client_id=" + account.accountId()
+                + "&client_secret=" + account.clientSecret()
+                + "&scope=general";
+
+        Map<?, ?> body;
+        try (var t = RequestTimings.start("hostaway-auth")) {
+            body = breaker.call(() -> wc.post()
+                    .uri("/v1/accessTokens")
+                    .contentType(MediaType.APPLICATION_FORM_URLENCODED)
+                    .bodyValue(form)
+                    .retrieve()
+                    .bodyToMono(Map.class)
+                    .block());
+        }
+
+        Object tokenObj = body.get("access_token");
+        String token = tokenObj != null ? tokenObj.toString() : "";
+
+        Object expiresInObj = body.get("expires_in");
+        long seconds;
+        if (expiresInObj instanceof Number n) {
+            seconds = n.longValue();
+        } else if (expiresInObj != null) {
+            try {
+                seconds = Long.parseLong(expiresInObj.toString());
+            } catch (NumberFormatException e) {
+                seconds = 60L * 60L * 24L * 30L; // default: 30 days
+            }
+        } else {
+            seconds = 60L * 60L * 24L * 30L; // default: 30 days
+        }
+
+        account.storeToken(token, Instant.now().plusSeconds(seconds - 60));
+    }
 }
\ No newline at end of file
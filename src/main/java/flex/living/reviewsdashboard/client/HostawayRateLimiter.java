@@ -0,0 +1,302 @@
+package flex.living.reviewsdashboard.client;
+
+import flex.living.reviewsdashboard.config.HostawayRateLimitConfig;
+import flex.living.reviewsdashboard.web.RequestTimings;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * Client-side rate control for one Hostaway account (see {@link HostawayAccounts}).
+ * <ul>
+ *     <li>token bucket ({@code permits-per-second}, {@code burst}) caps the request rate;</li>
+ *     <li>an AIMD concurrency limit grows on success and shrinks on 429/5xx/timeouts;</li>
+ *     <li>waiters are admitted strictly by priority (interactive before background), FIFO within a priority;</li>
+ *     <li>{@code Retry-After} pauses all admissions; retries use full-jitter exponential backoff, bounded
+ *     per call ({@code max-retries}) and globally by a retry budget proportional to first attempts.</li>
+ * </ul>
+ */
+public class HostawayRateLimiter {
+
+    private static final double DECREASE_FACTOR = 0.7;
+
+    private final HostawayRateLimitConfig cfg;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition changed = lock.newCondition();
+    private final Map<RequestPriority, Deque<Object>> waiting = new EnumMap<>(RequestPriority.class);
+    private final Map<RequestPriority, AtomicInteger> depth = new EnumMap<>(RequestPriority.class);
+
+    // guarded by lock
+    private double tokens;
+    private long lastRefillNanos = System.nanoTime();
+    private double limit;
+    private int inFlight;
+    private long pausedUntilNanos;
+    private double retryBudget;
+
+    private final Counter throttled;
+    private final Counter retries;
+    private final Counter budgetExhausted;
+    private final Counter rejected;
+    private final Map<RequestPriority, Timer> waitTimers = new EnumMap<>(RequestPriority.class);
+
+    public HostawayRateLimiter(HostawayRateLimitConfig cfg, MeterRegistry registry, String account) {
+        this.cfg = cfg;
+        this.tokens = cfg.getBurst();
+        this.limit = Math.max(cfg.getMinConcurrency(), cfg.getInitialConcurrency());
+        this.retryBudget = cfg.getRetryBudgetMax();
+
+        for (RequestPriority p : RequestPriority.values()) {
+            waiting.put(p, new ArrayDeque<>());
+            AtomicInteger d = new AtomicInteger();
+            depth.put(p, d);
+            String tag = p.name().toLowerCase();
+            Gauge.builder("hostaway.ratelimit.queue.depth", d, AtomicInteger::get)
+                    .tag("priority", tag).tag("account", account).register(registry);
+            waitTimers.put(p, Timer.builder("hostaway.ratelimit.wait").tag("priority", tag).tag("account", account).register(registry));
+        }
+        Gauge.builder("hostaway.ratelimit.concurrency.limit", this, l -> l.limit).tag("account", account).register(registry);
+        Gauge.builder("hostaway.ratelimit.inflight", this, l -> l.inFlight).tag("account", account).register(registry);
+        throttled = registry.counter("hostaway.ratelimit.throttled", "account", account);
+        retries = registry.counter("hostaway.ratelimit.retries", "account", account);
+        budgetExhausted = registry.counter("hostaway.ratelimit.retry.budget.exhausted", "account", account);
+        rejected = registry.counter("hostaway.ratelimit.rejected", "account", account);
+    }
+
+    /**
+     * Run {@code call} under the limiter, retrying throttled (429/503) and 5xx responses within budget.
+     * Other errors (e.g. 403) are released without penalty and rethrown to the caller.
+     */
+    public <T> T execute(RequestPriority priority, Supplier<T> call) {
+        depositRetryBudget();
+        for (int attempt = 0; ; attempt++) {
+            Permit permit;
+            try (var t = RequestTimings.start("hostaway-queue")) {
+                permit = acquire(priority);
+            }
+            try {
+                T result = call.get();
+                permit.release(Outcome.SUCCESS);
+                return result;
+            } catch (WebClientResponseException e) {
+                int status = e.getStatusCode().value();
+                boolean isThrottle = status == 429 || status == 503;
+                if (!isThrottle && status < 500) {
+                    permit.release(Outcome.NEUTRAL);
+                    throw e;
+                }
+                permit.release(isThrottle ? Outcome.THROTTLED : Outcome.FAILED);
+
+                Duration retryAfter = isThrottle ? retryAfter(e.getHeaders()) : null;
+                if (isThrottle) {
+                    throttled.increment();
+                    if (retryAfter != null) pause(retryAfter);
+                }
+                boolean waitFits = retryAfter == null || retryAfter.toMillis() < cfg.getAcquireTimeoutMs();
+                if (attempt >= cfg.getMaxRetries() || !waitFits || !withdrawRetry()) throw e;
+
+                retries.increment();
+                sleep(backoffMillis(attempt));
+            } catch (CallNotPermittedException e) {
+                permit.release(Outcome.NEUTRAL); // breaker is open: nothing was sent
+                throw e;
+            } catch (RuntimeException e) {
+                permit.release(Outcome.FAILED); // timeouts, connection errors
+                throw e;
+            }
+        }
+    }
+
+    // ======================= ADMISSION =======================
+
+    Permit acquire(RequestPriority priority) {
+        long start = System.nanoTime();
+        long deadline = start + TimeUnit.MILLISECONDS.toNanos(cfg.getAcquireTimeoutMs());
+        Object ticket = new Object();
+
+        lock.lock();
+        try {
+            if (queued() >= cfg.getQueueCapacity()) {
+                rejected.increment();
+                throw new RateLimitedException("Hostaway request queue is full");
+            }
+            waiting.get(priority).addLast(ticket);
+            depth.get(priority).incrementAndGet();
+            try {
+                while (true) {
+                    long now = System.nanoTime();
+                    long remaining = deadline - now;
+                    long waitNanos = remaining;
+
+                    if (isNext(ticket)) {
+                        refill(now);
+                        if (now < pausedUntilNanos) {
+                            waitNanos = pausedUntilNanos - now;
+                        } else if (inFlight < (int) limit) {
+                            if (tokens >= 1) {
+                                tokens -= 1;
+                                inFlight++;
+                                waitTimers.get(priority).record(now - start, TimeUnit.NANOSECONDS);
+                                return new Permit();
+                            }
+                            waitNanos = (long) ((1 - tokens) / cfg.getPermitsPerSecond() * 1e9);
+                        }
+                        // else: concurrency-bound, wait for a release signal
+                    }
+
+                    if (remaining <= 0) {
+                        rejected.increment();
+                        throw new RateLimitedException("Timed out waiting for a Hostaway permit");
+                    }
+                    changed.awaitNanos(Math.max(1, Math.min(waitNanos, remaining)));
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RateLimitedException("Interrupted waiting for a Hostaway permit");
+            } finally {
+                waiting.get(priority).remove(ticket);
+                depth.get(priority).decrementAndGet();
+                changed.signalAll(); // let the next head re-check
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Only the oldest waiter of the highest non-empty priority may take a permit.
+     */
+    private boolean isNext(Object ticket) {
+        for (RequestPriority p : RequestPriority.values()) {
+            Deque<Object> q = waiting.get(p);
+            if (!q.isEmpty()) return q.peekFirst() == ticket;
+        }
+        return false;
+    }
+
+    private void refill(long now) {
+        double elapsed = (now - lastRefillNanos) / 1e9;
+        tokens = Math.min(cfg.getBurst(), tokens + elapsed * cfg.getPermitsPerSecond());
+        lastRefillNanos = now;
+    }
+
+    private int queued() {
+        int n = 0;
+        for (Deque<Object> q : waiting.values()) n += q.size();
+        return n;
+    }
+
+    void pause(Duration d) {
+        lock.lock();
+        try {
+            pausedUntilNanos = Math.max(pausedUntilNanos, System.nanoTime() + d.toNanos());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // ======================= RETRY BUDGET / BACKOFF =======================
+
+    private void depositRetryBudget() {
+        lock.lock();
+        try {
+            retryBudget = Math.min(cfg.getRetryBudgetMax(), retryBudget + cfg.getRetryBudgetRatio());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private boolean withdrawRetry() {
+        lock.lock();
+        try {
+            if (retryBudget < 1) {
+                budgetExhausted.increment();
+                return false;
+            }
+            retryBudget -= 1;
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Full jitter: uniform in [0, min(max, base * 2^attempt)].
+     */
+    long backoffMillis(int attempt) {
+        long cap = Math.min(cfg.getMaxBackoffMs(), cfg.getBaseBackoffMs() << Math.min(attempt, 20));
+        return ThreadLocalRandom.current().nextLong(cap + 1);
+    }
+
+    /**
+     * Parses {@code Retry-After} as delta-seconds or an HTTP date; null if absent or unparseable.
+     */
+    static Duration retryAfter(HttpHeaders headers) {
+        String v = headers == null ? null : headers.getFirst(HttpHeaders.RETRY_AFTER);
+        if (v == null || v.isBlank()) return null;
+        try {
+            return Duration.ofSeconds(Math.max(0, Long.parseLong(v.trim())));
+        } catch (NumberFormatException ignored) {
+        }
+        try {
+            Duration d = Duration.between(ZonedDateTime.now(), ZonedDateTime.parse(v.trim(), DateTimeFormatter.RFC_1123_DATE_TIME));
+            return d.isNegative() ? Duration.ZERO : d;
+        } catch (Exception ignored) {
+            return null;
+        }
+    }
+
+    private static void sleep(long millis) {
+        if (millis <= 0) return;
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RateLimitedException("Interrupted during Hostaway backoff");
+        }
+    }
+
+    // ======================= PERMITS =======================
+
+    enum Outcome {SUCCESS, NEUTRAL, THROTTLED, FAILED}
+
+    final class Permit {
+        private boolean released;
+
+        void release(Outcome outcome) {
+            lock.lock();
+            try {
+                if (released) return;
+                released = true;
+                inFlight--;
+                switch (outcome) {
+                    case SUCCESS -> limit = Math.min(cfg.getMaxConcurrency(), limit + 1.0 / limit);
+                    case THROTTLED, FAILED -> limit = Math.max(cfg.getMinConcurrency(), limit * DECREASE_FACTOR);
+                    case NEUTRAL -> {
+                    }
+                }
+                changed.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+}
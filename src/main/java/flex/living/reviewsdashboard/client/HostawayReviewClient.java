@@ -1,10 +1,17 @@
 package flex.living.reviewsdashboard.client;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import flex.living.reviewsdashboard.config.HostawayFetchConfig;
 import flex.living.reviewsdashboard.model.NormalizedReview;
 import flex.living.reviewsdashboard.model.NormalizedReviewResponse;
+import flex.living.reviewsdashboard.web.RequestTimings;
+import jakarta.annotation.PreDestroy;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
@@ -12,223 +19,290 @@ import org.springframework.web.reactive.function.client.WebClientResponseExcepti
 
 import java.io.IOException;
 import java.io.InputStream;
-import java.time.LocalDateTime;
-import java.time.OffsetDateTime;
-import java.time.ZoneOffset;
-import java.time.format.DateTimeFormatterBuilder;
-import java.time.temporal.ChronoField;
+import java.io.UncheckedIOException;
 import java.util.*;
-import java.util.stream.Collectors;
-
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Hostaway review pages for interactive requests and bulk loading.
+ * <p>
+ * Pages larger than {@code hostaway.fetch.chunk-size} are split into sub-page requests that run in parallel
+ * (each admitted by the account's rate limiter and the breaker on its own), are normalized as they arrive and
+ * are reassembled in offset order. Response bodies are parsed as a token stream, so no intermediate
+ * {@code String} or JSON tree of the page is held.
+ */
 @Component
 public class HostawayReviewClient {
 
     private static final String MOCK_RESOURCE = "/mock-reviews.json";
+    private static final TypeReference<Map<String, Object>> RAW_REVIEW = new TypeReference<>() {
+    };
 
     private final WebClient wc;
     private final HostawayAuthClient auth;
+    private final HostawayAccounts accounts;
+    private final CircuitBreaker breaker;
+    private final HostawayFetchConfig cfg;
+    private final ExecutorService chunkWorkers;
     private final ObjectMapper mapper = new ObjectMapper();
 
-    public HostawayReviewClient(WebClient hostawayWebClient, HostawayAuthClient auth) {
+    public HostawayReviewClient(WebClient hostawayWebClient, HostawayAuthClient auth,
+                                HostawayAccounts accounts, CircuitBreakers breakers, HostawayFetchConfig cfg) {
         this.wc = hostawayWebClient;
         this.auth = auth;
+        this.accounts = accounts;
+        this.breaker = breakers.get(CircuitBreakers.HOSTAWAY_REVIEWS);
+        this.cfg = cfg;
+        AtomicInteger n = new AtomicInteger();
+        this.chunkWorkers = Executors.newFixedThreadPool(Math.max(1, cfg.getChunkThreads()), r -> {
+            Thread t = new Thread(r, "hostaway-chunk-" + n.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    @PreDestroy
+    void shutdown() {
+        chunkWorkers.shutdownNow();
     }
 
     /**
-     * Orchestrates: call Hostaway → fallback to mock if empty/failed → normalize → wrap response.
+     * Orchestrates: call Hostaway → fallback to mock if empty/failed (or breaker open) → normalize → wrap response.
      */
     public NormalizedReviewResponse fetchAndNormalize(Integer limit, Integer offset) throws IOException {
-        List<Map<String, Object>> reviews;
+        return fetchAndNormalize(accounts.defaultAccount(), limit, offset, RequestPriority.INTERACTIVE);
+    }
 
+    /**
+     * As above for {@code account}, admitted through its rate limiter at {@code priority}
+     * (background sync queues behind users).
+     */
+    public NormalizedReviewResponse fetchAndNormalize(HostawayAccount account, Integer limit, Integer offset,
+                                                      RequestPriority priority) throws IOException {
+        List<NormalizedReview> normalized;
         try {
-            reviews = callReviews(limit, offset);
-        } catch (WebClientResponseException e) {
-            if (e.getStatusCode() == HttpStatus.FORBIDDEN) {
-                // Refresh once, then retry
-                auth.refreshToken();
-                reviews = callReviews(limit, offset);
-            } else {
-                reviews = mockReviews();
-            }
+            normalized = fetchReviews(account, limit, offset, priority);
         } catch (Exception any) {
-            reviews = mockReviews();
-        }
-
-        if (reviews == null || reviews.isEmpty()) {
-            reviews = mockReviews();
+            normalized = List.of();
         }
-
-        List<NormalizedReview> normalized = reviews.stream()
-                .map(this::normalizeOne)
-                .collect(Collectors.toList());
-
-        return new NormalizedReviewResponse("hostaway", normalized.size(), normalized);
+        return normalized.isEmpty() ? mockResponse() : new NormalizedReviewResponse("hostaway", normalized.size(), normalized);
     }
 
-    // ======================= HTTP CALL =======================
-
-    @SuppressWarnings("unchecked")
-    private List<Map<String, Object>> callReviews(Integer limit, Integer offset) {
-        String bearer = auth.getBearerToken();
-
-        String json = wc.get()
-                .uri(b -> b.path("/v1/reviews")
-                        .queryParam("limit", Optional.ofNullable(limit).orElse(50))
-                        .queryParam("offset", Optional.ofNullable(offset).orElse(0))
-                        .build())
-                .headers(h -> h.setBearerAuth(bearer))
-                .retrieve()
-                .bodyToMono(String.class)
-                .block();
-
-        if (json == null || json.isBlank()) return List.of();
-
+    /**
+     * A normalized page of real upstream reviews: no mock fallback, errors propagate (after a single token
+     * refresh on 403). Use this for anything that is stored.
+     */
+    public List<NormalizedReview> fetchReviews(HostawayAccount account, Integer limit, Integer offset,
+                                               RequestPriority priority) {
         try {
-            JsonNode root = mapper.readTree(json);
-            JsonNode arr = root.isArray() ? root
-                    : root.path("result").isMissingNode() ? root.path("data") : root.path("result");
-
-            if (arr == null || !arr.isArray() || arr.size() == 0) return List.of();
-
-            return mapper.convertValue(arr, new TypeReference<List<Map<String, Object>>>() {
-            });
-        } catch (IOException e) {
-            return List.of();
+            return fetchNormalized(account, limit, offset, priority);
+        } catch (WebClientResponseException e) {
+            if (e.getStatusCode() != HttpStatus.FORBIDDEN) throw e;
+            auth.refreshToken(account);
+            return fetchNormalized(account, limit, offset, priority);
         }
     }
 
-    // ======================= MOCK FALLBACK =======================
+    /**
+     * The demo reviews served when Hostaway has nothing to show; never stored.
+     */
+    public NormalizedReviewResponse mockResponse() throws IOException {
+        List<NormalizedReview> mock = normalize(mockReviews());
+        return new NormalizedReviewResponse("hostaway", mock.size(), mock);
+    }
+
+    // ======================= CHUNKED PAGES =======================
 
     /**
-     * Loads mock reviews from classpath and returns the array under result/data (or a root array).
+     * One page, split into {@code chunk-size} sub-pages when larger. The first chunk runs on the calling thread
+     * (so its timings land on the request); the rest go to the chunk workers. A chunk that comes back short
+     * marks the end of the data: later chunks are skipped if not yet sent and dropped otherwise. A failure of
+     * any chunk up to there is rethrown.
      */
-    private List<Map<String, Object>> mockReviews() throws IOException {
-        try (InputStream is = HostawayReviewClient.class.getResourceAsStream(MOCK_RESOURCE)) {
-            if (is == null) throw new IOException("Missing resource: " + MOCK_RESOURCE);
+    private List<NormalizedReview> fetchNormalized(HostawayAccount account, Integer limit, Integer offset,
+                                                   RequestPriority priority) {
+        int total = Optional.ofNullable(limit).orElse(50);
+        int start = Optional.ofNullable(offset).orElse(0);
+        int size = Math.max(1, cfg.getChunkSize());
+        if (total <= size) {
+            return normalize(guarded(account, total, start, priority).reviews());
+        }
 
-            JsonNode root = mapper.readTree(is);
-            JsonNode arr = root.isArray() ? root
-                    : root.path("result").isMissingNode() ? root.path("data") : root.path("result");
+        int chunks = (total + size - 1) / size;
+        AtomicInteger end = new AtomicInteger(Integer.MAX_VALUE); // first offset known to be past the data
+        List<CompletableFuture<List<NormalizedReview>>> parts = new ArrayList<>(chunks);
+        try (var t = RequestTimings.start("hostaway-chunks", chunks + "x" + size)) {
+            for (int i = 1; i < chunks; i++) {
+                int chunkOffset = start + i * size;
+                int chunkLimit = Math.min(size, total - i * size);
+                parts.add(CompletableFuture.supplyAsync(
+                        () -> fetchChunk(account, chunkLimit, chunkOffset, priority, end), chunkWorkers));
+            }
+            List<NormalizedReview> first;
+            try {
+                first = fetchChunk(account, size, start, priority, end);
+            } catch (RuntimeException e) {
+                parts.forEach(p -> p.cancel(false));
+                throw e;
+            }
 
-            if (arr == null || !arr.isArray()) {
-                throw new IOException("Mock JSON must be an array or have 'result'/'data' array");
+            List<NormalizedReview> all = new ArrayList<>(total);
+            all.addAll(first);
+            boolean more = first.size() == size;
+            for (int i = 1; i < chunks && more; i++) {
+                List<NormalizedReview> part = join(parts.get(i - 1));
+                all.addAll(part);
+                more = part.size() == Math.min(size, total - i * size);
             }
+            return all;
+        }
+    }
 
-            return mapper.convertValue(arr, new TypeReference<List<Map<String, Object>>>() {
-            });
+    private List<NormalizedReview> fetchChunk(HostawayAccount account, int limit, int offset, RequestPriority priority,
+                                              AtomicInteger end) {
+        if (offset >= end.get()) return List.of();
+        Page page = guarded(account, limit, offset, priority);
+        if (page.total() != null) end.accumulateAndGet(page.total(), Math::min);
+        if (page.reviews().size() < limit) end.accumulateAndGet(offset + page.reviews().size(), Math::min);
+        return normalize(page.reviews());
+    }
+
+    private static <T> T join(CompletableFuture<T> part) {
+        try {
+            return part.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException r) throw r;
+            throw e;
         }
     }
 
-    // ======================= NORMALIZATION =======================
+    private static List<NormalizedReview> normalize(List<Map<String, Object>> reviews) {
+        try (var t = RequestTimings.start("normalize")) {
+            List<NormalizedReview> out = new ArrayList<>(reviews.size());
+            for (var raw : reviews) out.add(HostawayReviewNormalizer.normalizeOne(raw));
+            return out;
+        }
+    }
 
     /**
-     * Maps one Hostaway review map to your NormalizedReview model.
+     * One raw page for bulk loading: no mock fallback, errors propagate (after a single token refresh on 403).
      */
-    private NormalizedReview normalizeOne(Map<String, Object> r) {
-        String id = String.valueOf(r.getOrDefault("id", UUID.randomUUID().toString()));
-        String direction = mapDirection((String) r.getOrDefault("type", ""));
-        String status = (String) r.getOrDefault("status", "unknown");
-        Integer overall = toInteger(r.get("rating"));
-
-        @SuppressWarnings("unchecked")
-        List<Map<String, Object>> cats = Optional
-                .ofNullable((List<Map<String, Object>>) r.get("reviewCategory"))
-                .orElse(List.of());
-
-        Map<String, Integer> categoryRatings = cats.stream()
-                .filter(Objects::nonNull)
-                .collect(Collectors.toMap(
-                        c -> String.valueOf(c.getOrDefault("category", "")).trim(),
-                        c -> toInteger(c.get("rating")),
-                        (a, b) -> b,
-                        LinkedHashMap::new
-                ));
-
-        String text = (String) r.getOrDefault("publicReview", null);
-        String listingName = (String) r.getOrDefault("listingName", null);
-        String guestName = (String) r.getOrDefault("guestName", null);
-        String channel = mapChannel(r.get("channelId"));
-        OffsetDateTime submitted = parseDateTime((String) r.getOrDefault("submittedAt", null));
-
-        return new NormalizedReview(
-                id, listingName, guestName, direction, status, overall, categoryRatings, channel, text, submitted
-        );
-    }
-
-    // ======================= HELPERS =======================
-
-    private static Integer toInteger(Object o) {
-        if (o == null) return null;
-        if (o instanceof Number n) return n.intValue();
+    public Page fetchPage(HostawayAccount account, int limit, int offset, RequestPriority priority) {
         try {
-            return Integer.parseInt(String.valueOf(o));
-        } catch (Exception e) {
-            return null;
+            return guarded(account, limit, offset, priority);
+        } catch (WebClientResponseException e) {
+            if (e.getStatusCode() != HttpStatus.FORBIDDEN) throw e;
+            auth.refreshToken(account);
+            return guarded(account, limit, offset, priority);
         }
     }
 
     /**
-     * Accepts ISO forms and "yyyy-MM-dd HH:mm:ss" (assumes UTC if no offset).
+     * Raw Hostaway reviews plus the total {@code count} reported by the API (null if absent).
      */
-    private static OffsetDateTime parseDateTime(String s) {
-        if (s == null || s.isBlank()) return null;
+    public record Page(List<Map<String, Object>> reviews, Integer total) {
+    }
 
-        // ISO_OFFSET_DATE_TIME
-        try {
-            return OffsetDateTime.parse(s);
-        } catch (Exception ignored) {
-        }
+    // ======================= HTTP CALL =======================
 
-        // "yyyy-MM-ddTHH:mm:ss" without zone → assume UTC
-        try {
-            return OffsetDateTime.parse(s.replace(" ", "T") + "Z");
-        } catch (Exception ignored) {
+    /**
+     * The breaker wraps each HTTP attempt inside the limiter, so queueing for a permit, Retry-After pauses and
+     * backoff sleeps never count as slow upstream calls.
+     */
+    private Page guarded(HostawayAccount account, Integer limit, Integer offset, RequestPriority priority) {
+        return account.limiter().execute(priority, () -> breaker.call(() -> callReviews(account, limit, offset)));
+    }
+
+    private Page callReviews(HostawayAccount account, Integer limit, Integer offset) {
+        String bearer = auth.getBearerToken(account);
+
+        DataBuffer body;
+        try (var t = RequestTimings.start("hostaway-reviews")) {
+            body = DataBufferUtils.join(wc.get()
+                            .uri(b -> b.path("/v1/reviews")
+                                    .queryParam("limit", Optional.ofNullable(limit).orElse(50))
+                                    .queryParam("offset", Optional.ofNullable(offset).orElse(0))
+                                    .build())
+                            .headers(h -> h.setBearerAuth(bearer))
+                            .retrieve()
+                            .bodyToFlux(DataBuffer.class), cfg.getMaxPageBytes())
+                    .block();
         }
 
-        // Strict "yyyy-MM-dd HH:mm:ss" → assume UTC
-        try {
-            var f = new DateTimeFormatterBuilder()
-                    .appendPattern("yyyy-MM-dd HH:mm:ss")
-                    .parseDefaulting(ChronoField.OFFSET_SECONDS, 0)
-                    .toFormatter(Locale.ROOT);
-            LocalDateTime ldt = LocalDateTime.parse(s, f);
-            return ldt.atOffset(ZoneOffset.UTC);
-        } catch (Exception ignored) {
+        if (body == null) return new Page(List.of(), null);
+
+        try (var t = RequestTimings.start("hostaway-parse");
+             InputStream in = body.asInputStream(true)) {
+            return parsePage(in);
+        } catch (IOException | UncheckedIOException e) {
+            return new Page(List.of(), null);
         }
+    }
 
-        // Last resort: now UTC (or return null if you prefer)
-        return OffsetDateTime.now(ZoneOffset.UTC);
+    /**
+     * Streams the reviews under result/data (or a root array) and the {@code count}, in whatever order they appear.
+     */
+    Page parsePage(InputStream in) throws IOException {
+        try (JsonParser p = mapper.getFactory().createParser(in)) {
+            JsonToken root = p.nextToken();
+            if (root == JsonToken.START_ARRAY) return new Page(readReviews(p), null);
+            if (root != JsonToken.START_OBJECT) return new Page(List.of(), null);
+
+            List<Map<String, Object>> result = null, data = null;
+            Integer total = null;
+            while (p.nextToken() == JsonToken.FIELD_NAME) {
+                String field = p.currentName();
+                JsonToken value = p.nextToken();
+                switch (field) {
+                    case "result" -> result = value == JsonToken.START_ARRAY ? readReviews(p) : skip(p);
+                    case "data" -> data = value == JsonToken.START_ARRAY ? readReviews(p) : skip(p);
+                    case "count" -> total = value == JsonToken.VALUE_NUMBER_INT ? p.getIntValue() : null;
+                    default -> p.skipChildren();
+                }
+            }
+            List<Map<String, Object>> reviews = result != null ? result : data;
+            return new Page(reviews == null ? List.of() : reviews, total);
+        }
     }
 
-    private static String mapDirection(String hostawayType) {
-        if (hostawayType == null) return "unknown";
-        return switch (hostawayType) {
-            case "host-to-guest" -> "host_to_guest";
-            case "guest-to-host" -> "guest_to_host";
-            default -> "unknown";
-        };
+    private List<Map<String, Object>> readReviews(JsonParser p) throws IOException {
+        List<Map<String, Object>> reviews = new ArrayList<>();
+        JsonToken t;
+        while ((t = p.nextToken()) != JsonToken.END_ARRAY && t != null) {
+            if (t == JsonToken.START_OBJECT) reviews.add(mapper.readValue(p, RAW_REVIEW));
+            else p.skipChildren();
+        }
+        return reviews;
     }
 
-    private static String mapChannel(Object channelId) {
-        if (channelId == null) return "hostaway";
-        int id = toInt(channelId);
-        return switch (id) {
-            case 2001 -> "booking";
-            case 2002 -> "airbnb";
-            case 2003 -> "homeaway";
-            case 2004 -> "expedia";
-            case 2005 -> "hostaway";
-            case 2012 -> "vrbo";
-            default -> "unknown";
-        };
+    private static List<Map<String, Object>> skip(JsonParser p) throws IOException {
+        p.skipChildren();
+        return List.of();
     }
 
-    private static int toInt(Object o) {
-        if (o instanceof Number n) return n.intValue();
-        try {
-            return Integer.parseInt(String.valueOf(o));
-        } catch (Exception e) {
-            return -1;
+    // ======================= MOCK FALLBACK =======================
+
+    /**
+     * Loads mock reviews from classpath and returns the array under result/data (or a root array).
+     */
+    private List<Map<String, Object>> mockReviews() throws IOException {
+        try (InputStream is = HostawayReviewClient.class.getResourceAsStream(MOCK_RESOURCE)) {
+            if (is == null) throw new IOException("Missing resource: " + MOCK_RESOURCE);
+
+            JsonNode root = mapper.readTree(is);
+            JsonNode arr = root.isArray() ? root
+                    : root.path("result").isMissingNode() ? root.path("data") : root.path("result");
+
+            if (arr == null || !arr.isArray()) {
+                throw new IOException("Mock JSON must be an array or have 'result'/'data' array");
+            }
+
+            return mapper.convertValue(arr, new TypeReference<List<Map<String, Object>>>() {
+            });
         }
     }
 }
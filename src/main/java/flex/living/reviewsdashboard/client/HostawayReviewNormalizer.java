@@ -0,0 +1,134 @@
+package flex.living.reviewsdashboard.client;
+
+import flex.living.reviewsdashboard.model.NormalizedReview;
+
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatterBuilder;
+import java.time.temporal.ChronoField;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * Hostaway review map → {@link NormalizedReview}. Shared by the HTTP client, webhook ingestion and bulk loads
+ * so every path normalizes identically.
+ */
+public final class HostawayReviewNormalizer {
+
+    private HostawayReviewNormalizer() {
+    }
+
+    // ======================= NORMALIZATION =======================
+
+    /**
+     * Maps one Hostaway review map to your NormalizedReview model.
+     */
+    public static NormalizedReview normalizeOne(Map<String, Object> r) {
+        String id = String.valueOf(r.getOrDefault("id", UUID.randomUUID().toString()));
+        String direction = mapDirection((String) r.getOrDefault("type", ""));
+        String status = (String) r.getOrDefault("status", "unknown");
+        Integer overall = toInteger(r.get("rating"));
+
+        @SuppressWarnings("unchecked")
+        List<Map<String, Object>> cats = Optional
+                .ofNullable((List<Map<String, Object>>) r.get("reviewCategory"))
+                .orElse(List.of());
+
+        Map<String, Integer> categoryRatings = cats.stream()
+                .filter(Objects::nonNull)
+                .collect(Collectors.toMap(
+                        c -> String.valueOf(c.getOrDefault("category", "")).trim(),
+                        c -> toInteger(c.get("rating")),
+                        (a, b) -> b,
+                        LinkedHashMap::new
+                ));
+
+        String text = (String) r.getOrDefault("publicReview", null);
+        String listingName = (String) r.getOrDefault("listingName", null);
+        String guestName = (String) r.getOrDefault("guestName", null);
+        String channel = mapChannel(r.get("channelId"));
+        OffsetDateTime submitted = parseDateTime((String) r.getOrDefault("submittedAt", null));
+
+        return new NormalizedReview(
+                id, listingName, guestName, direction, status, overall, categoryRatings, channel, text, submitted
+        );
+    }
+
+    // ======================= HELPERS =======================
+
+    private static Integer toInteger(Object o) {
+        if (o == null) return null;
+        if (o instanceof Number n) return n.intValue();
+        try {
+            return Integer.parseInt(String.valueOf(o));
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    /**
+     * Accepts ISO forms and "yyyy-MM-dd HH:mm:ss" (assumes UTC if no offset).
+     */
+    public static OffsetDateTime parseDateTime(String s) {
+        if (s == null || s.isBlank()) return null;
+
+        // ISO_OFFSET_DATE_TIME
+        try {
+            return OffsetDateTime.parse(s);
+        } catch (Exception ignored) {
+        }
+
+        // "yyyy-MM-ddTHH:mm:ss" without zone → assume UTC
+        try {
+            return OffsetDateTime.parse(s.replace(" ", "T") + "Z");
+        } catch (Exception ignored) {
+        }
+
+        // Strict "yyyy-MM-dd HH:mm:ss" → assume UTC
+        try {
+            var f = new DateTimeFormatterBuilder()
+                    .appendPattern("yyyy-MM-dd HH:mm:ss")
+                    .parseDefaulting(ChronoField.OFFSET_SECONDS, 0)
+                    .toFormatter(Locale.ROOT);
+            LocalDateTime ldt = LocalDateTime.parse(s, f);
+            return ldt.atOffset(ZoneOffset.UTC);
+        } catch (Exception ignored) {
+        }
+
+        // Last resort: now UTC (or return null if you prefer)
+        return OffsetDateTime.now(ZoneOffset.UTC);
+    }
+
+    private static String mapDirection(String hostawayType) {
+        if (hostawayType == null) return "unknown";
+        return switch (hostawayType) {
+            case "host-to-guest" -> "host_to_guest";
+            case "guest-to-host" -> "guest_to_host";
+            default -> "unknown";
+        };
+    }
+
+    private static String mapChannel(Object channelId) {
+        if (channelId == null) return "hostaway";
+        int id = toInt(channelId);
+        return switch (id) {
+            case 2001 -> "booking";
+            case 2002 -> "airbnb";
+            case 2003 -> "homeaway";
+            case 2004 -> "expedia";
+            case 2005 -> "hostaway";
+            case 2012 -> "vrbo";
+            default -> "unknown";
+        };
+    }
+
+    private static int toInt(Object o) {
+        if (o instanceof Number n) return n.intValue();
+        try {
+            return Integer.parseInt(String.valueOf(o));
+        } catch (Exception e) {
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package flex.living.reviewsdashboard.client;
+
+import java.util.Arrays;
+
+/**
+ * Sliding window of the most recent call latencies for one endpoint, used to derive hedge delays.
+ */
+public class LatencyTracker {
+
+    private final long[] samples;
+    private int next, size;
+
+    public LatencyTracker(int window) {
+        this.samples = new long[Math.max(1, window)];
+    }
+
+    public synchronized void record(long nanos) {
+        samples[next] = nanos;
+        next = (next + 1) % samples.length;
+        if (size < samples.length) size++;
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    /**
+     * @param q percentile in (0, 100]
+     * @return the latency at that percentile in nanos, or -1 with no samples
+     */
+    public long percentile(double q) {
+        long[] copy;
+        synchronized (this) {
+            if (size == 0) return -1;
+            copy = Arrays.copyOf(samples, size);
+        }
+        Arrays.sort(copy);
+        int idx = (int) Math.ceil(q / 100.0 * copy.length) - 1;
+        return copy[Math.max(0, Math.min(idx, copy.length - 1))];
+    }
+}
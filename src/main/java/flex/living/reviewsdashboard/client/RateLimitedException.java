@@ -0,0 +1,10 @@
+package flex.living.reviewsdashboard.client;
+
+/**
+ * Raised when a call could not get a rate-limit permit (queue full or waited too long).
+ */
+public class RateLimitedException extends RuntimeException {
+    public RateLimitedException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,82 @@
+package flex.living.reviewsdashboard.client;
+
+import flex.living.reviewsdashboard.config.GooglePlacesConfig;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Hedged requests: if the first attempt has not answered within the endpoint's observed
+ * {@code percentile} latency, fire one duplicate and take whichever succeeds first.
+ * The first attempt's outcome, error included, ends the call as soon as it arrives, so a fast 4xx
+ * surfaces as itself and is never hedged; a failing duplicate never ends it.
+ * <p>
+ * Each first attempt earns {@code budget-ratio} of a hedge token (capped), so duplicates stay
+ * within roughly that fraction of extra upstream calls. Until {@code min-samples} latencies are
+ * known no hedging happens.
+ */
+public class RequestHedger {
+
+    private static final double MAX_TOKENS = 10;
+
+    private final GooglePlacesConfig.Hedge cfg;
+    private final LatencyTracker latency;
+    private final Timer timer;
+    private final Counter fired;
+    private double tokens;
+
+    public RequestHedger(String endpoint, GooglePlacesConfig.Hedge cfg, MeterRegistry registry) {
+        this.cfg = cfg;
+        this.latency = new LatencyTracker(cfg.getWindow());
+        this.timer = registry.timer("upstream.latency", "endpoint", endpoint);
+        this.fired = registry.counter("upstream.hedge.fired", "endpoint", endpoint);
+    }
+
+    public <T> Mono<T> call(Supplier<Mono<T>> attempt) {
+        Mono<T> tracked = Mono.defer(() -> {
+            long start = System.nanoTime();
+            return attempt.get().doOnSuccess(v -> {
+                long took = System.nanoTime() - start;
+                latency.record(took);
+                timer.record(took, TimeUnit.NANOSECONDS);
+            });
+        });
+
+        Duration delay = hedgeDelay();
+        earn();
+        if (delay == null) return tracked;
+
+        // cancelled, and so never subscribed, once the first attempt has signalled
+        Mono<T> hedge = Mono.delay(delay)
+                .flatMap(t -> {
+                    if (!trySpend()) return Mono.never();
+                    fired.increment();
+                    return tracked.onErrorResume(e -> Mono.never());
+                });
+        return Mono.firstWithSignal(tracked, hedge);
+    }
+
+    /**
+     * @return current hedge delay, or null while hedging is disabled or there are too few samples
+     */
+    Duration hedgeDelay() {
+        if (!cfg.isEnabled() || latency.size() < cfg.getMinSamples()) return null;
+        long p = TimeUnit.NANOSECONDS.toMillis(latency.percentile(cfg.getPercentile()));
+        return Duration.ofMillis(Math.max(cfg.getMinDelayMs(), Math.min(cfg.getMaxDelayMs(), p)));
+    }
+
+    private synchronized void earn() {
+        tokens = Math.min(MAX_TOKENS, tokens + cfg.getBudgetRatio());
+    }
+
+    private synchronized boolean trySpend() {
+        if (tokens < 1) return false;
+        tokens -= 1;
+        return true;
+    }
+}
@@ -0,0 +1,9 @@
+package flex.living.reviewsdashboard.client;
+
+/**
+ * Upstream request class; interactive (user-facing) calls are admitted ahead of background sync.
+ */
+public enum RequestPriority {
+    INTERACTIVE,
+    BACKGROUND
+}
@@ -0,0 +1,13 @@
+package flex.living.reviewsdashboard.client;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * {@code ?account=} names an account that is not configured; surfaces as 404.
+ */
+public class UnknownAccountException extends ResponseStatusException {
+    public UnknownAccountException(String key) {
+        super(HttpStatus.NOT_FOUND, "Unknown Hostaway account: " + key);
+    }
+}
@@ -0,0 +1,37 @@
+package flex.living.reviewsdashboard.client;
+
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Breaker state per upstream under {@code /actuator/health} ("upstreams").
+ * Stays UP while a breaker is open: requests are served from the degraded path, not failed.
+ */
+@Component("upstreams")
+public class UpstreamHealthIndicator implements HealthIndicator {
+
+    private final CircuitBreakers breakers;
+
+    public UpstreamHealthIndicator(CircuitBreakers breakers) {
+        this.breakers = breakers;
+    }
+
+    @Override
+    public Health health() {
+        Map<String, Object> details = new LinkedHashMap<>();
+        boolean degraded = false;
+        for (CircuitBreaker b : breakers.all()) {
+            var state = b.state();
+            degraded |= state != CircuitBreaker.State.CLOSED;
+            details.put(b.name(), Map.of(
+                    "state", state,
+                    "failureRate", b.failureRate(),
+                    "slowCallRate", b.slowCallRate()));
+        }
+        return Health.up().withDetail("degraded", degraded).withDetails(details).build();
+    }
+}
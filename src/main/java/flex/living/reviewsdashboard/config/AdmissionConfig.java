@@ -0,0 +1,37 @@
+package flex.living.reviewsdashboard.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Configuration
+@ConfigurationProperties(prefix = "admission")
+@Getter
+@Setter
+public class AdmissionConfig {
+    private boolean enabled = true;
+    private long windowMs = 1_000;     // latency is averaged over this long before the limits move
+    private int minSamples = 5;        // ... and over at least this many requests
+    private Map<String, EndpointClass> classes = new LinkedHashMap<>(); // a request joins the first class whose paths match
+
+    @Getter
+    @Setter
+    public static class EndpointClass {
+        private List<String> paths = new ArrayList<>();        // Ant patterns, e.g. /api/manager/**
+        private List<String> excludePaths = new ArrayList<>(); // long-lived streams that must not hold a slot
+        private int initialLimit = 20;
+        private int minLimit = 2;
+        private int maxLimit = 100;
+        private int queueCapacity = 20;  // requests waiting beyond the limit; more are shed at once
+        private long maxQueueMs = 500;   // ... and waiters are shed after this long
+        private double tolerance = 2.0;  // latency may reach this multiple of the baseline before the limit shrinks
+        private int retryAfterSeconds = 1;
+        private boolean staleOnShed;     // answer a shed GET with the last cached response when there is one
+    }
+}
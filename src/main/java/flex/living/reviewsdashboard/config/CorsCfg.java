@@ -4,6 +4,7 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
+import org.springframework.security.config.annotation.web.configuration.WebSecurityCustomizer;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
@@ -59,4 +60,12 @@ public class CorsCfg {
 
         return http.build();
     }
+
+    /**
+     * The built UI is public and immutable; keep it out of the filter chain entirely.
+     */
+    @Bean
+    WebSecurityCustomizer staticAssetsBypass() {
+        return web -> web.ignoring().requestMatchers(StaticAssetHandlers.PATHS);
+    }
 }
@@ -0,0 +1,19 @@
+package flex.living.reviewsdashboard.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "reviews.dedup")
+@Getter
+@Setter
+public class DedupConfig {
+    private boolean enabled = true;
+    private int bands = 16;                  // LSH bands x rows = MinHash signature length
+    private int rows = 4;                    // candidate threshold ~ (1/bands)^(1/rows) = 0.5
+    private double similarityThreshold = 0.5; // estimated Jaccard needed to treat a candidate as the same stay
+    private int maxDaysApart = 30;           // guests post on Google and via the channel at different times
+    private int maxEntries = 200_000;        // signatures kept; least recently used are evicted beyond this
+}
@@ -0,0 +1,19 @@
+package flex.living.reviewsdashboard.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "reviews.feed")
+@Getter
+@Setter
+public class FeedConfig {
+    private long timeoutMs = 30 * 60_000;  // clients reconnect after this (EventSource does so automatically)
+    private long coalesceMs = 200;         // wait this long after the first change so bursts go out together
+    private int maxPending = 1_000;        // per subscriber; beyond this the client is told to resync instead
+    private int maxSubscribers = 500;
+    private int senderThreads = 4;
+    private int heartbeatSeconds = 20;     // comment line that keeps proxies from closing idle streams
+}
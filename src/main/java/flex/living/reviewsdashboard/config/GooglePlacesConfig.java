@@ -13,4 +13,35 @@ public class GooglePlacesConfig {
     private String apiKey;
     private int connectTimeoutMs = 6000;
     private int readTimeoutMs = 10000;
+    private Hedge hedge = new Hedge();
+    private Refresh refresh = new Refresh();
+
+    /**
+     * Hedged Place Details calls (off by default).
+     */
+    @Getter
+    @Setter
+    public static class Hedge {
+        private boolean enabled = false;
+        private double percentile = 95;   // hedge after this observed latency percentile
+        private int minSamples = 20;
+        private int window = 200;         // latencies kept per endpoint
+        private long minDelayMs = 50;
+        private long maxDelayMs = 2000;
+        private double budgetRatio = 0.05; // ≈5% extra requests at most
+    }
+
+    /**
+     * Background refresh of cached place reviews, scheduled by how often each listing is viewed.
+     */
+    @Getter
+    @Setter
+    public static class Refresh {
+        private boolean enabled = true;
+        private int requestsPerHour = 120;        // all Place Details calls, cache misses included
+        private long minIntervalMinutes = 10;     // the most viewed places
+        private long maxIntervalMinutes = 24 * 60; // places nobody looks at
+        private long halfLifeMinutes = 60;        // how quickly old views stop counting
+        private long tickSeconds = 60;
+    }
 }
@@ -1,6 +1,9 @@
 package flex.living.reviewsdashboard.config;
 
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.ConstructorBinding;
+
+import java.util.List;
 
 @ConfigurationProperties(prefix = "hostaway")
 public record HostawayConfig(
@@ -8,6 +11,40 @@ public record HostawayConfig(
         Integer accountId,
         String clientSecret,
         Integer connectTimeoutMs,
-        Integer readTimeoutMs
+        Integer readTimeoutMs,
+        List<Account> accounts   // several owners in one process; empty = the single accountId/clientSecret above
 ) {
-}
\ No newline at end of file
+
+    public static final String DEFAULT_ACCOUNT = "default";
+
+    /**
+     * @param key              name used in {@code ?account=} and metrics; defaults to the account id
+     * @param weight           share of background sync capacity relative to other accounts
+     * @param permitsPerSecond this account's Hostaway rate limit; defaults to {@code hostaway.rate-limit}
+     */
+    public record Account(String key, Integer accountId, String clientSecret, Integer weight, Double permitsPerSecond) {
+    }
+
+    @ConstructorBinding
+    public HostawayConfig {
+        accounts = accounts == null ? List.of() : List.copyOf(accounts);
+    }
+
+    public HostawayConfig(String baseUrl, Integer accountId, String clientSecret, Integer connectTimeoutMs, Integer readTimeoutMs) {
+        this(baseUrl, accountId, clientSecret, connectTimeoutMs, readTimeoutMs, List.of());
+    }
+
+    /**
+     * Configured accounts with keys and weights filled in; the first one serves requests without {@code ?account=}.
+     */
+    public List<Account> resolvedAccounts() {
+        if (accounts.isEmpty()) return List.of(new Account(DEFAULT_ACCOUNT, accountId, clientSecret, 1, null));
+        return accounts.stream()
+                .map(a -> new Account(
+                        a.key() == null || a.key().isBlank() ? String.valueOf(a.accountId()) : a.key(),
+                        a.accountId(), a.clientSecret(),
+                        a.weight() == null || a.weight() < 1 ? 1 : a.weight(),
+                        a.permitsPerSecond()))
+                .toList();
+    }
+}
@@ -0,0 +1,16 @@
+package flex.living.reviewsdashboard.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "hostaway.fetch")
+@Getter
+@Setter
+public class HostawayFetchConfig {
+    private int chunkSize = 100;              // larger pages are split into parallel sub-page requests of this size
+    private int chunkThreads = 8;             // shared workers for those sub-pages (each is still admitted by the rate limiter)
+    private int maxPageBytes = 2 * 1024 * 1024; // upper bound on one buffered upstream response body
+}
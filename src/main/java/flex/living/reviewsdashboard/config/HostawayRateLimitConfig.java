@@ -0,0 +1,32 @@
+package flex.living.reviewsdashboard.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "hostaway.rate-limit")
+@Getter
+@Setter
+public class HostawayRateLimitConfig {
+    // token bucket
+    private double permitsPerSecond = 5;
+    private int burst = 10;
+
+    // adaptive (AIMD) concurrency limit
+    private int initialConcurrency = 4;
+    private int minConcurrency = 1;
+    private int maxConcurrency = 16;
+
+    // waiting room
+    private int queueCapacity = 200;
+    private long acquireTimeoutMs = 5000;
+
+    // retries: jittered exponential backoff, bounded per call and by a global budget
+    private int maxRetries = 3;
+    private long baseBackoffMs = 200;
+    private long maxBackoffMs = 10_000;
+    private double retryBudgetRatio = 0.2; // retries allowed per first attempt
+    private int retryBudgetMax = 20;
+}
@@ -0,0 +1,18 @@
+package flex.living.reviewsdashboard.config;
+
+import flex.living.reviewsdashboard.web.ReviewFieldFilter;
+import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class JacksonCfg {
+
+    /**
+     * Review types carry {@code @JsonFilter("review")}; register the filter so the shared mapper can write them.
+     */
+    @Bean
+    Jackson2ObjectMapperBuilderCustomizer reviewFieldFilter() {
+        return builder -> builder.filters(ReviewFieldFilter.provider());
+    }
+}
@@ -0,0 +1,17 @@
+package flex.living.reviewsdashboard.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "reviews.kpi")
+@Getter
+@Setter
+public class KpiSketchConfig {
+    private double compression = 100;     // t-digest centroids (~1% quantile error in the middle, less at tails)
+    private int hllPrecision = 12;        // 4096 registers, ~1.6% distinct-count error
+    private int pendingResponses = 100_000; // unanswered reviews remembered for response-time pairing
+    private double rebuildStaleRatio = 0.02; // rebuild from the store once this share of reviews was edited
+}
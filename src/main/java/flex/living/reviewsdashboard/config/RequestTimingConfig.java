@@ -0,0 +1,22 @@
+package flex.living.reviewsdashboard.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Configuration
+@ConfigurationProperties(prefix = "request-timing")
+@Getter
+@Setter
+public class RequestTimingConfig {
+    private boolean enabled = true;
+    private boolean exposeHeader = true;   // Server-Timing on /api responses; turn off to hide upstream timings
+    private long slowThresholdMs = 1_000;  // slower requests are logged with their phases and kept for the endpoint
+    private int slowCapacity = 50;         // most recent slow requests kept for /actuator/slowrequests
+    private List<String> slowExcludePaths = new ArrayList<>(List.of(
+            "/api/manager/reviews/export", "/api/manager/reviews/stream")); // long by design
+}
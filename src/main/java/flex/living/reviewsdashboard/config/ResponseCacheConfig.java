@@ -0,0 +1,17 @@
+package flex.living.reviewsdashboard.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "response-cache")
+@Getter
+@Setter
+public class ResponseCacheConfig {
+    private boolean enabled = true;
+    private int ttlSeconds = 30;      // upper bound on upstream staleness for hot endpoints
+    private int maxEntries = 500;
+    private int gzipMinBytes = 1024;  // below this a gzip variant is not worth storing
+}
@@ -0,0 +1,29 @@
+package flex.living.reviewsdashboard.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Configuration
+@ConfigurationProperties(prefix = "reviews")
+@Getter
+@Setter
+public class ReviewSourcesConfig {
+    private Map<String, Source> sources = new LinkedHashMap<>(); // keyed by ReviewSource.name()
+
+    /**
+     * Overrides for one source; unset values keep the source's own defaults.
+     */
+    @Getter
+    @Setter
+    public static class Source {
+        private boolean enabled = true;
+        private Integer maxConcurrent;
+        private Integer queueCapacity;
+        private Long timeoutMs;
+    }
+}
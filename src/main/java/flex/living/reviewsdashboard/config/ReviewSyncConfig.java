@@ -0,0 +1,40 @@
+package flex.living.reviewsdashboard.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "hostaway.sync")
+@Getter
+@Setter
+public class ReviewSyncConfig {
+    private int seedLimit = 200;        // first page pulled into an empty store
+    private int refreshSeconds = 300;   // re-pull that page at most this often; webhooks cover the gap
+
+    private Backfill backfill = new Backfill();
+    private BulkImport bulkImport = new BulkImport();
+
+    @Getter
+    @Setter
+    public static class Backfill {
+        private boolean onStartup = true;   // load the full history once the app is ready
+        private int pageSize = 100;
+        private int parallelism = 4;        // concurrent page fetches (still admitted by the rate limiter)
+        private String checkpointPath = ""; // progress file for resuming; empty disables checkpoints
+    }
+
+    @Getter
+    @Setter
+    public static class BulkImport {
+        private String path = "";           // export to load once the app is ready (the command-line entry point)
+        private String account = "";        // store partition for that load; empty for the default account
+        private boolean overwrite;          // replace reviews already stored; by default the export only fills gaps
+        private String directory = "data/imports"; // the HTTP endpoint only reads files from here
+        private int batchSize = 1000;       // reviews per normalize/upsert task
+        private int parallelism = 4;        // normalize/upsert workers
+        private int maxPendingBatches = 8;  // parsed batches waiting for a worker before parsing pauses
+        private int windowMb = 256;         // size of each mapped region of the file
+    }
+}
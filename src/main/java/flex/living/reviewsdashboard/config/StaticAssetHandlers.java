@@ -0,0 +1,67 @@
+package flex.living.reviewsdashboard.config;
+
+import flex.living.reviewsdashboard.web.SendfileResourceConverter;
+import jakarta.servlet.ServletContext;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.http.CacheControl;
+import org.springframework.web.servlet.handler.SimpleUrlHandlerMapping;
+import org.springframework.web.servlet.resource.CachingResourceResolver;
+import org.springframework.web.servlet.resource.EncodedResourceResolver;
+import org.springframework.web.servlet.resource.PathResourceResolver;
+import org.springframework.web.servlet.resource.ResourceHttpRequestHandler;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Serves the built UI in place of Spring Boot's default static mapping ({@code spring.web.resources.add-mappings=false}).
+ * <ul>
+ *     <li>{@code .br}/{@code .gz} files produced by the UI build are chosen by {@code Accept-Encoding};
+ *     nothing is compressed at request time;</li>
+ *     <li>content-hashed files under {@code /assets} are cached for {@code immutable-max-age-days} and marked
+ *     immutable, everything else (index.html) is revalidated ({@code no-cache} with Last-Modified);</li>
+ *     <li>resolved resources are cached in memory, and file-backed ones are sent with sendfile
+ *     (see {@link SendfileResourceConverter});</li>
+ *     <li>these paths skip the security filter chain (see {@link CorsCfg}).</li>
+ * </ul>
+ */
+@Configuration
+public class StaticAssetHandlers {
+
+    public static final String[] PATHS = {"/", "/index.html", "/assets/**"};
+
+    @Bean
+    public SimpleUrlHandlerMapping staticAssetMapping(StaticAssetsConfig cfg, ApplicationContext ctx, ServletContext servletContext) throws Exception {
+        String location = cfg.getLocation().endsWith("/") ? cfg.getLocation() : cfg.getLocation() + "/";
+        var converter = new SendfileResourceConverter(cfg.getSendfileMinBytes());
+
+        Map<String, Object> handlers = new LinkedHashMap<>();
+        handlers.put("/assets/**", handler(ctx, servletContext, location + "assets/", converter,
+                CacheControl.maxAge(Duration.ofDays(cfg.getImmutableMaxAgeDays())).cachePublic().immutable()));
+        handlers.put("/**", handler(ctx, servletContext, location, converter, CacheControl.noCache()));
+
+        return new SimpleUrlHandlerMapping(handlers, Ordered.LOWEST_PRECEDENCE - 1); // after controllers
+    }
+
+    private static ResourceHttpRequestHandler handler(ApplicationContext ctx, ServletContext servletContext, String location,
+                                                      SendfileResourceConverter converter, CacheControl cacheControl) throws Exception {
+        var handler = new ResourceHttpRequestHandler();
+        handler.setApplicationContext(ctx);
+        handler.setServletContext(servletContext);
+        handler.setLocationValues(List.of(location));
+        handler.setResourceResolvers(List.of(
+                new CachingResourceResolver(new ConcurrentMapCache(location)),
+                new EncodedResourceResolver(),
+                new PathResourceResolver()));
+        handler.setCacheControl(cacheControl);
+        handler.setResourceHttpMessageConverter(converter);
+        handler.afterPropertiesSet();
+        return handler;
+    }
+}
@@ -0,0 +1,16 @@
+package flex.living.reviewsdashboard.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "static-assets")
+@Getter
+@Setter
+public class StaticAssetsConfig {
+    private String location = "classpath:/static/"; // a file: directory lets large assets go out via sendfile
+    private int immutableMaxAgeDays = 365;          // for content-hashed files under /assets
+    private int sendfileMinBytes = 48 * 1024;       // smaller files are cheaper to copy than to hand to the connector
+}
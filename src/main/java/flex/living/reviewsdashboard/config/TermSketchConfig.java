@@ -0,0 +1,16 @@
+package flex.living.reviewsdashboard.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "reviews.terms")
+@Getter
+@Setter
+public class TermSketchConfig {
+    private int width = 2048;       // count-min counters per row; error ~ 2.7 * reviews / width
+    private int depth = 4;          // rows; failure probability ~ e^-depth
+    private int trackedTerms = 64;  // heavy-hitter candidates kept per listing (upper bound for ?limit)
+}
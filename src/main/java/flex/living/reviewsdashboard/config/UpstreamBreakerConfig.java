@@ -0,0 +1,23 @@
+package flex.living.reviewsdashboard.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Circuit breaker settings shared by all upstreams (Hostaway auth/reviews, Google details/search).
+ */
+@Configuration
+@ConfigurationProperties(prefix = "upstream.breaker")
+@Getter
+@Setter
+public class UpstreamBreakerConfig {
+    private int windowSize = 20;              // last N calls
+    private int minimumCalls = 10;            // before rates are evaluated
+    private int failureRateThreshold = 50;    // percent
+    private int slowCallRateThreshold = 80;   // percent
+    private long slowCallDurationMs = 3000;
+    private long openDurationMs = 30_000;     // before a half-open probe
+    private int halfOpenProbes = 3;
+}
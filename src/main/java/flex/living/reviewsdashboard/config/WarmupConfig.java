@@ -0,0 +1,16 @@
+package flex.living.reviewsdashboard.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "reviews.warmup")
+@Getter
+@Setter
+public class WarmupConfig {
+    private boolean enabled = true;
+    private long timeoutMs = 15_000;   // report ready after this even if upstreams are still answering
+    private int parallelism = 4;
+}
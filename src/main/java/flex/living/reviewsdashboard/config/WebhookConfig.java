@@ -0,0 +1,19 @@
+package flex.living.reviewsdashboard.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "hostaway.webhook")
+@Getter
+@Setter
+public class WebhookConfig {
+    private String secret;              // X-Webhook-Secret must match; without one every call is rejected
+    private boolean allowUnauthenticated; // local use only: accept calls when no secret is configured
+    private int queueCapacity = 10_000;
+    private int batchSize = 200;
+    private long flushIntervalMs = 250; // max time an event waits for its batch
+    private int dedupMaxEntries = 100_000;
+}
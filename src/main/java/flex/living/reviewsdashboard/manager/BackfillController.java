@@ -0,0 +1,41 @@
+package flex.living.reviewsdashboard.manager;
+
+import flex.living.reviewsdashboard.service.HostawayBackfill;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/manager/backfill")
+public class BackfillController {
+
+    private final HostawayBackfill backfill;
+
+    public BackfillController(HostawayBackfill backfill) {
+        this.backfill = backfill;
+    }
+
+    /**
+     * Progress of the current (or last) full-history load, per account key.
+     */
+    @GetMapping
+    public Map<String, HostawayBackfill.Status> status() {
+        return backfill.status();
+    }
+
+    /**
+     * Start a full-history load of {@code account} (default account when absent; resumes from its checkpoint
+     * if one exists); 409 if one is already running for that account.
+     */
+    @PostMapping
+    public ResponseEntity<HostawayBackfill.Status> start(@RequestParam(required = false) String account) {
+        boolean started = backfill.startAsync(account);
+        return ResponseEntity.status(started ? HttpStatus.ACCEPTED : HttpStatus.CONFLICT).body(backfill.status(account));
+    }
+}
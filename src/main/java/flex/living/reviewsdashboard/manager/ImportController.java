@@ -0,0 +1,53 @@
+package flex.living.reviewsdashboard.manager;
+
+import flex.living.reviewsdashboard.service.HostawayBulkImport;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+@RestController
+@RequestMapping("/api/manager/import")
+public class ImportController {
+
+    private final HostawayBulkImport bulkImport;
+
+    public ImportController(HostawayBulkImport bulkImport) {
+        this.bulkImport = bulkImport;
+    }
+
+    /**
+     * Progress and throughput of the current (or last) bulk import.
+     */
+    @GetMapping
+    public HostawayBulkImport.Status status() {
+        return bulkImport.status();
+    }
+
+    /**
+     * Start importing the export {@code file} from the import directory into {@code account} (default account
+     * when absent); 404 if there is no such file, 409 if an import is already running. Reviews already stored
+     * are kept unless {@code overwrite=true}.
+     */
+    @PostMapping
+    public ResponseEntity<HostawayBulkImport.Status> start(@RequestParam String file,
+                                                           @RequestParam(required = false) String account,
+                                                           @RequestParam(defaultValue = "false") boolean overwrite) {
+        Path path;
+        try {
+            path = bulkImport.resolve(file);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+        if (!Files.isRegularFile(path)) throw new ResponseStatusException(HttpStatus.NOT_FOUND, "No import file: " + file);
+        boolean started = bulkImport.startAsync(path, account, overwrite);
+        return ResponseEntity.status(started ? HttpStatus.ACCEPTED : HttpStatus.CONFLICT).body(bulkImport.status());
+    }
+}
@@ -0,0 +1,41 @@
+package flex.living.reviewsdashboard.manager;
+
+import flex.living.reviewsdashboard.client.HostawayAccounts;
+import flex.living.reviewsdashboard.service.KpiSketches;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/manager/kpis")
+public class KpiController {
+
+    private final KpiSketches kpis;
+    private final HostawayAccounts accounts;
+
+    public KpiController(KpiSketches kpis, HostawayAccounts accounts) {
+        this.kpis = kpis;
+        this.accounts = accounts;
+    }
+
+    /**
+     * GET /api/manager/kpis?listing=A&listing=B&channel=airbnb&q=0.5,0.9,0.99 — approximate rating and
+     * host-response-time percentiles plus distinct guests for any group of listings/channels (empty = all)
+     * of one {@code account} (default account when absent).
+     */
+    @GetMapping
+    public ResponseEntity<KpiSketches.Kpis> kpis(@RequestParam(required = false) String account,
+                                                 @RequestParam(required = false) List<String> listing,
+                                                 @RequestParam(required = false) List<String> channel,
+                                                 @RequestParam(defaultValue = "0.5,0.9,0.99") double[] q) {
+        for (double v : q) {
+            if (v < 0 || v > 1) return ResponseEntity.badRequest().build();
+        }
+        String key = accounts.resolve(account).key();
+        return ResponseEntity.ok(kpis.query(key, listing == null ? List.of() : listing, channel == null ? List.of() : channel, q));
+    }
+}
@@ -1,12 +1,24 @@
 package flex.living.reviewsdashboard.manager;
 
+import flex.living.reviewsdashboard.model.ColumnarReviewPage;
 import flex.living.reviewsdashboard.model.NormalizedReview;
 import flex.living.reviewsdashboard.model.NormalizedReviewResponse;
 import flex.living.reviewsdashboard.service.HostawayReviewService;
+import flex.living.reviewsdashboard.service.ReviewIndex;
+import flex.living.reviewsdashboard.service.ReviewStats;
+import flex.living.reviewsdashboard.service.ReviewStore;
+import flex.living.reviewsdashboard.web.RequestTimings;
+import flex.living.reviewsdashboard.web.ResponseBytesCache;
+import flex.living.reviewsdashboard.web.ReviewProjection;
+import flex.living.reviewsdashboard.web.WireFormat;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.io.IOException;
 import java.time.OffsetDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -17,52 +29,74 @@ public class ManagerReviewController {
 
     private final HostawayReviewService svc;
     private final ReviewSelectionStore store;
+    private final ResponseBytesCache responseCache;
+    private final ReviewStore reviews;
+    private final ReviewStats stats;
+    private final ReviewIndex index;
 
-    public ManagerReviewController(HostawayReviewService svc, ReviewSelectionStore store) {
+    public ManagerReviewController(HostawayReviewService svc, ReviewSelectionStore store, ResponseBytesCache responseCache,
+                                   ReviewStore reviews, ReviewStats stats, ReviewIndex index) {
         this.svc = svc;
         this.store = store;
+        this.responseCache = responseCache;
+        this.reviews = reviews;
+        this.stats = stats;
+        this.index = index;
     }
 
     /**
-     * Filtered list for managers (server-side filtering mirrors the UI).
+     * Filtered list for managers (server-side filtering mirrors the UI), evaluated as a {@link QueryPlan}.
+     * Binary encodings are chosen via Accept; {@code layout=columnar} switches to the column-oriented page,
+     * {@code fields}/{@code snippet} trim each review while it is written.
      */
-    @GetMapping("/reviews")
-    public NormalizedReviewResponse list(
+    @GetMapping(value = "/reviews",
+            produces = {MediaType.APPLICATION_JSON_VALUE, WireFormat.SMILE_VALUE, MediaType.APPLICATION_CBOR_VALUE})
+    public ResponseEntity<byte[]> list(
+            @RequestParam(required = false) String account,
             @RequestParam(required = false) String q,
             @RequestParam(required = false) String channel,
             @RequestParam(required = false) String listing,
             @RequestParam(required = false) Integer ratingMin,
             @RequestParam(required = false) Integer ratingMax,
             @RequestParam(required = false) OffsetDateTime from,
-            @RequestParam(required = false) OffsetDateTime to
+            @RequestParam(required = false) OffsetDateTime to,
+            @RequestParam(required = false) String layout,
+            @RequestParam(required = false) String fields,
+            @RequestParam(required = false) Integer snippet,
+            HttpServletRequest request
     ) throws IOException {
-        var base = svc.getReviews(200, 0).reviews(); // pull a batch; expand/paginate if needed
+        String key = svc.refreshIfStale(account); // store: seeded page + pushed webhook events
 
-        var filtered = base.stream().filter(r -> {
-            if (q != null && !q.isBlank()) {
-                var needle = q.toLowerCase();
-                if (!safe(r.text()).contains(needle) &&
-                        !safe(r.guestName()).contains(needle) &&
-                        !safe(r.listingName()).contains(needle)) return false;
+        var filter = new ReviewFilter(q, channel, listing, ratingMin, ratingMax, from, to);
+        List<NormalizedReview> filtered = new ArrayList<>();
+        if (reviews.isEmpty(key)) {
+            svc.snapshot(account).stream().filter(filter::test).forEach(filtered::add); // demo reviews, not stored
+        } else {
+            var plan = filter.plan(stats.of(key), index.of(key));
+            try (var t = RequestTimings.start("query", plan.access() == null ? "scan" : "index " + plan.access())) {
+                plan.scan(reviews, key, null).forEachRemaining(filtered::add);
             }
-            if (channel != null && !channel.isBlank() && !"all".equalsIgnoreCase(channel)) {
-                if (!Objects.equals(r.channel(), channel)) return false;
-            }
-            if (listing != null && !listing.isBlank() && !"all".equalsIgnoreCase(listing)) {
-                if (!Objects.equals(r.listingName(), listing)) return false;
-            }
-            var rating = r.overallRating();
-            if (rating == null && r.categoryRatings() != null && !r.categoryRatings().isEmpty()) {
-                rating = (int) Math.round(r.categoryRatings().values().stream().mapToInt(Integer::intValue).average().orElse(Double.NaN));
-            }
-            if (ratingMin != null && rating != null && rating < ratingMin) return false;
-            if (ratingMax != null && rating != null && rating > ratingMax) return false;
+        }
+        try (var t = RequestTimings.start("sort")) {
+            filtered.sort(HostawayReviewService.NEWEST_FIRST);
+        }
 
-            if (from != null && r.submittedAt() != null && r.submittedAt().isBefore(from)) return false;
-            return to == null || r.submittedAt() == null || !r.submittedAt().isAfter(to);
-        }).toList();
+        var resp = new NormalizedReviewResponse("hostaway", filtered.size(), filtered);
+        Object payload = "columnar".equalsIgnoreCase(layout) ? ColumnarReviewPage.of(resp) : resp;
+        return responseCache.uncached(request, payload, ReviewProjection.of(fields, snippet));
+    }
 
-        return new NormalizedReviewResponse("hostaway", filtered.size(), filtered);
+    /**
+     * Full review by id, for lazily loading the body behind a snippet.
+     */
+    @GetMapping(value = "/reviews/{id}",
+            produces = {MediaType.APPLICATION_JSON_VALUE, WireFormat.SMILE_VALUE, MediaType.APPLICATION_CBOR_VALUE})
+    public ResponseEntity<byte[]> one(@PathVariable String id,
+                                      @RequestParam(required = false) String account,
+                                      HttpServletRequest request) throws IOException {
+        return svc.find(account, id)
+                .map(r -> responseCache.uncached(request, r))
+                .orElseGet(() -> ResponseEntity.notFound().build());
     }
 
     /**
@@ -74,16 +108,30 @@ public class ManagerReviewController {
         return Map.of("id", id, "selected", store.isSelected(id));
     }
 
-    @GetMapping(value = "/reviews/selected", produces = "application/json")
-    public List<NormalizedReview> selected() throws IOException {
+    /**
+     * Public, heavily polled list of approved reviews; served from the serialized-response cache.
+     */
+    @GetMapping(value = "/reviews/selected",
+            produces = {MediaType.APPLICATION_JSON_VALUE, WireFormat.SMILE_VALUE, MediaType.APPLICATION_CBOR_VALUE})
+    public ResponseEntity<byte[]> selected(@RequestParam(required = false) String account,
+                                           @RequestParam(required = false) String layout,
+                                           @RequestParam(required = false) String fields,
+                                           @RequestParam(required = false) Integer snippet,
+                                           HttpServletRequest request) throws Exception {
+        boolean columnar = "columnar".equalsIgnoreCase(layout);
+        var projection = ReviewProjection.of(fields, snippet);
+        var params = Map.of("account", Objects.requireNonNullElse(account, ""), "columnar", columnar);
+        return responseCache.respond(request, "selected", params, projection, () -> {
+            var reviews = selectedReviews(account);
+            return columnar ? ColumnarReviewPage.of("selected", reviews) : reviews;
+        });
+    }
+
+    private List<NormalizedReview> selectedReviews(String account) throws IOException {
         var ids = store.all();
-        return svc.getReviews(200, 0).reviews()
+        return svc.snapshot(account)
                 .stream()
                 .filter(r -> ids.contains(r.id()))
                 .toList(); // -> serializes to [] when empty
     }
-
-    private static String safe(String s) {
-        return s == null ? "" : s.toLowerCase();
-    }
 }
@@ -0,0 +1,159 @@
+package flex.living.reviewsdashboard.manager;
+
+import flex.living.reviewsdashboard.model.NormalizedReview;
+import flex.living.reviewsdashboard.service.ReviewStore;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.NoSuchElementException;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Conjunction of filter terms, evaluated in ascending {@code cost / (1 - selectivity)}: the order that
+ * minimizes the expected cost per review when each term is evaluated only if the previous ones passed.
+ * Selectivity is the estimated fraction of reviews a term lets through (see {@link ReviewFilter#plan}).
+ * <p>
+ * Terms backed by a secondary index can also drive a {@link #scan}: the most selective one (if below
+ * {@value #MAX_INDEX_SELECTIVITY}) supplies the candidate ids, the other live postings are probed to intersect
+ * them before a review is fetched, and every fetched review is checked against all terms. Otherwise the whole
+ * partition is scanned.
+ */
+public final class QueryPlan implements Predicate<NormalizedReview> {
+
+    /**
+     * Above this, fetching candidates one by one from an index costs more than a sequential scan.
+     */
+    static final double MAX_INDEX_SELECTIVITY = 0.5;
+
+    /**
+     * @param index ids that may satisfy the term, in {@link ReviewStore#ID_ORDER} (null = not indexed)
+     * @param probe whether {@code index} is a live posting that is cheap to build and probe
+     */
+    public record Term(String name, double cost, double selectivity, Predicate<NormalizedReview> predicate,
+                       Supplier<NavigableSet<String>> index, boolean probe) {
+
+        public Term(String name, double cost, double selectivity, Predicate<NormalizedReview> predicate) {
+            this(name, cost, selectivity, predicate, null, false);
+        }
+
+        double rank() {
+            return selectivity >= 1 ? Double.POSITIVE_INFINITY : cost / (1 - selectivity);
+        }
+    }
+
+    private final List<Term> terms;
+    private final Predicate<NormalizedReview>[] order;
+    private final Term driver;
+
+    @SuppressWarnings("unchecked")
+    QueryPlan(List<Term> terms) {
+        var sorted = new ArrayList<>(terms);
+        sorted.sort(Comparator.comparingDouble(Term::rank).thenComparingDouble(Term::cost));
+        this.terms = List.copyOf(sorted);
+        this.order = sorted.stream().map(Term::predicate).toArray(Predicate[]::new);
+        this.driver = sorted.stream()
+                .filter(t -> t.index() != null && t.selectivity() <= MAX_INDEX_SELECTIVITY)
+                .min(Comparator.comparingDouble(Term::selectivity))
+                .orElse(null);
+    }
+
+    /**
+     * Terms in evaluation order.
+     */
+    public List<Term> terms() {
+        return terms;
+    }
+
+    /**
+     * Name of the term whose index drives {@link #scan}, or null for a full scan.
+     */
+    public String access() {
+        return driver == null ? null : driver.name();
+    }
+
+    @Override
+    public boolean test(NormalizedReview r) {
+        for (Predicate<NormalizedReview> p : order) {
+            if (!p.test(r)) return false;
+        }
+        return true;
+    }
+
+    /**
+     * Matching reviews of {@code account} in {@link ReviewStore#ID_ORDER} after {@code afterId} (null = from the
+     * start). Weakly consistent like {@link ReviewStore#scan}.
+     */
+    public Iterator<NormalizedReview> scan(ReviewStore store, String account, String afterId) {
+        if (driver == null) {
+            Iterator<NormalizedReview> all = store.scan(account, afterId);
+            return new Matching(() -> {
+                while (all.hasNext()) {
+                    NormalizedReview r = all.next();
+                    if (r != null && test(r)) return r;
+                }
+                return null;
+            });
+        }
+
+        NavigableSet<String> candidates = driver.index().get();
+        Iterator<String> ids = (afterId == null ? candidates : candidates.tailSet(afterId, false)).iterator();
+        List<NavigableSet<String>> probes = new ArrayList<>();
+        for (Term t : terms) {
+            if (t != driver && t.probe() && t.index() != null) probes.add(t.index().get());
+        }
+        return new Matching(() -> {
+            next:
+            while (ids.hasNext()) {
+                String id = ids.next();
+                for (NavigableSet<String> p : probes) {
+                    if (!p.contains(id)) continue next;
+                }
+                NormalizedReview r = store.get(account, id).orElse(null);
+                if (r != null && test(r)) return r;
+            }
+            return null;
+        });
+    }
+
+    @Override
+    public String toString() {
+        return terms.stream()
+                .map(t -> String.format("%s(sel=%.3f, cost=%.0f)", t.name(), t.selectivity(), t.cost()))
+                .collect(Collectors.joining(" -> ", "QueryPlan[" + (driver == null ? "scan" : "index " + driver.name()) + ": ", "]"));
+    }
+
+    /**
+     * Iterator over the non-null results of {@code next}, which returns null when exhausted.
+     */
+    private static final class Matching implements Iterator<NormalizedReview> {
+        private final Supplier<NormalizedReview> next;
+        private NormalizedReview lookahead;
+        private boolean done;
+
+        Matching(Supplier<NormalizedReview> next) {
+            this.next = next;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (lookahead == null && !done) {
+                lookahead = next.get();
+                done = lookahead == null;
+            }
+            return lookahead != null;
+        }
+
+        @Override
+        public NormalizedReview next() {
+            if (!hasNext()) throw new NoSuchElementException();
+            NormalizedReview r = lookahead;
+            lookahead = null;
+            return r;
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package flex.living.reviewsdashboard.manager;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import flex.living.reviewsdashboard.model.NormalizedReview;
+import flex.living.reviewsdashboard.web.WireFormat;
+import flex.living.reviewsdashboard.web.WireMappers;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.Map;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Row-by-row review export. Reviews are pulled from an iterator and written straight to the output,
+ * so memory stays constant whatever the number of rows; the output is flushed every {@value #FLUSH_EVERY_ROWS}
+ * rows so the client sees progress.
+ */
+@Component
+public class ReviewExport {
+
+    public enum Format {
+        CSV("text/csv;charset=UTF-8", "csv"),
+        NDJSON("application/x-ndjson", "ndjson");
+
+        private final String contentType;
+        private final String extension;
+
+        Format(String contentType, String extension) {
+            this.contentType = contentType;
+            this.extension = extension;
+        }
+
+        public String contentType() {
+            return contentType;
+        }
+
+        public String extension() {
+            return extension;
+        }
+
+        /**
+         * {@code csv} or {@code ndjson} (case-insensitive); null for anything else.
+         */
+        public static Format of(String name) {
+            if (name == null) return null;
+            return switch (name.toLowerCase(Locale.ROOT)) {
+                case "csv" -> CSV;
+                case "ndjson", "jsonl" -> NDJSON;
+                default -> null;
+            };
+        }
+    }
+
+    static final int FLUSH_EVERY_ROWS = 500;
+
+    private static final String[] CSV_HEADER = {"id", "listingName", "guestName", "direction", "status",
+            "overallRating", "effectiveRating", "channel", "submittedAt", "categoryRatings", "text"};
+
+    private final ObjectWriter json;
+
+    public ReviewExport(WireMappers mappers) {
+        // the shared mapper (review filter, date handling); the servlet stream is closed by the container
+        this.json = mappers.writer(WireFormat.JSON, null)
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                .without(JsonGenerator.Feature.FLUSH_PASSED_TO_STREAM)
+                .withRootValueSeparator("\n");
+    }
+
+    /**
+     * Write up to {@code limit} (≤ 0 = all) reviews from {@code rows}; the caller's plan has already filtered them.
+     *
+     * @return number of rows written
+     */
+    public long write(Format format, Iterator<NormalizedReview> rows, long limit, OutputStream out) throws IOException {
+        return format == Format.CSV ? writeCsv(rows, limit, out) : writeNdjson(rows, limit, out);
+    }
+
+    private long writeNdjson(Iterator<NormalizedReview> rows, long limit, OutputStream out) throws IOException {
+        long n = 0;
+        SequenceWriter seq = json.writeValues(out);
+        while (rows.hasNext() && (limit <= 0 || n < limit)) {
+            seq.write(rows.next());
+            if (++n % FLUSH_EVERY_ROWS == 0) {
+                seq.flush();
+                out.flush();
+            }
+        }
+        seq.close(); // flushes; the target stays open
+        if (n > 0) out.write('\n');
+        out.flush();
+        return n;
+    }
+
+    private long writeCsv(Iterator<NormalizedReview> rows, long limit, OutputStream out) throws IOException {
+        Writer w = new BufferedWriter(new OutputStreamWriter(out, UTF_8), 16 * 1024);
+        writeCsvRow(w, CSV_HEADER);
+        long n = 0;
+        String[] cells = new String[CSV_HEADER.length];
+        while (rows.hasNext() && (limit <= 0 || n < limit)) {
+            NormalizedReview r = rows.next();
+            cells[0] = r.id();
+            cells[1] = r.listingName();
+            cells[2] = r.guestName();
+            cells[3] = r.direction();
+            cells[4] = r.status();
+            cells[5] = r.overallRating() == null ? null : r.overallRating().toString();
+            cells[6] = r.effectiveRating() == null ? null : r.effectiveRating().toString();
+            cells[7] = r.channel();
+            cells[8] = r.submittedAt() == null ? null : r.submittedAt().toString();
+            cells[9] = categories(r.categoryRatings());
+            cells[10] = r.text();
+            writeCsvRow(w, cells);
+            if (++n % FLUSH_EVERY_ROWS == 0) w.flush();
+        }
+        w.flush();
+        return n;
+    }
+
+    /**
+     * RFC 4180 row: cells with a comma, quote or line break are quoted, quotes doubled. Free-text cells that
+     * start like a spreadsheet formula get a leading apostrophe so opening the file cannot run it.
+     */
+    static void writeCsvRow(Writer w, String[] cells) throws IOException {
+        for (int i = 0; i < cells.length; i++) {
+            if (i > 0) w.write(',');
+            String v = cells[i];
+            if (v == null || v.isEmpty()) continue;
+            if ("=+-@\t\r".indexOf(v.charAt(0)) >= 0 && !isNumber(v)) v = "'" + v;
+            boolean quote = false;
+            for (int c = 0; c < v.length() && !quote; c++) {
+                char ch = v.charAt(c);
+                quote = ch == ',' || ch == '"' || ch == '\n' || ch == '\r';
+            }
+            if (!quote) {
+                w.write(v);
+                continue;
+            }
+            w.write('"');
+            for (int c = 0; c < v.length(); c++) {
+                char ch = v.charAt(c);
+                if (ch == '"') w.write('"');
+                w.write(ch);
+            }
+            w.write('"');
+        }
+        w.write("\r\n");
+    }
+
+    private static boolean isNumber(String v) {
+        for (int i = v.charAt(0) == '-' ? 1 : 0; i < v.length(); i++) {
+            if (!Character.isDigit(v.charAt(i))) return false;
+        }
+        return v.length() > 1 || Character.isDigit(v.charAt(0));
+    }
+
+    private static String categories(Map<String, Integer> ratings) {
+        if (ratings == null || ratings.isEmpty()) return null;
+        StringBuilder sb = new StringBuilder();
+        ratings.forEach((k, v) -> {
+            if (!sb.isEmpty()) sb.append(';');
+            sb.append(k).append('=').append(v);
+        });
+        return sb.toString();
+    }
+}
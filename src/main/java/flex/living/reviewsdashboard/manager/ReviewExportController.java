@@ -0,0 +1,90 @@
+package flex.living.reviewsdashboard.manager;
+
+import flex.living.reviewsdashboard.client.HostawayAccounts;
+import flex.living.reviewsdashboard.service.ReviewIndex;
+import flex.living.reviewsdashboard.service.ReviewStats;
+import flex.living.reviewsdashboard.service.ReviewStore;
+import flex.living.reviewsdashboard.web.ResponseBytesCache;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.OffsetDateTime;
+import java.util.zip.GZIPOutputStream;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/manager/reviews")
+public class ReviewExportController {
+
+    private final ReviewStore store;
+    private final HostawayAccounts accounts;
+    private final ReviewExport export;
+    private final ReviewStats stats;
+    private final ReviewIndex index;
+
+    public ReviewExportController(ReviewStore store, HostawayAccounts accounts, ReviewExport export, ReviewStats stats,
+                                  ReviewIndex index) {
+        this.store = store;
+        this.accounts = accounts;
+        this.export = export;
+        this.stats = stats;
+        this.index = index;
+    }
+
+    /**
+     * GET /api/manager/reviews/export?format=csv|ndjson[&account=][&after=id][&limit=n][&q=..&channel=..] —
+     * every stored review of the account that matches the manager filters, in id order, streamed row by row
+     * (gzip when the client accepts it). To resume an interrupted download pass the id of the last complete
+     * row as {@code after}; {@code limit} caps the rows of one response.
+     */
+    @GetMapping("/export")
+    public void export(
+            @RequestParam(defaultValue = "csv") String format,
+            @RequestParam(required = false) String account,
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "0") long limit,
+            @RequestParam(required = false) String q,
+            @RequestParam(required = false) String channel,
+            @RequestParam(required = false) String listing,
+            @RequestParam(required = false) Integer ratingMin,
+            @RequestParam(required = false) Integer ratingMax,
+            @RequestParam(required = false) OffsetDateTime from,
+            @RequestParam(required = false) OffsetDateTime to,
+            HttpServletRequest request,
+            HttpServletResponse response
+    ) throws IOException {
+        ReviewExport.Format fmt = ReviewExport.Format.of(format);
+        if (fmt == null) throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "format must be csv or ndjson");
+        String key = accounts.resolve(account).key();
+        var plan = new ReviewFilter(q, channel, listing, ratingMin, ratingMax, from, to).plan(stats.of(key), index.of(key));
+        boolean gzip = ResponseBytesCache.acceptsGzip(request.getHeader(HttpHeaders.ACCEPT_ENCODING));
+
+        response.setContentType(fmt.contentType());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"reviews-" + key + "." + fmt.extension() + "\"");
+        response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "no-store");
+        if (gzip) response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+
+        OutputStream out = response.getOutputStream();
+        if (gzip) out = new GZIPOutputStream(out, 8 * 1024, true); // sync flush: periodic flushes reach the client
+        // the plan's scan already yields only matching reviews
+        long rows = export.write(fmt, plan.scan(store, key, blankToNull(after)), limit, out);
+        if (out instanceof GZIPOutputStream gz) gz.finish();
+        out.flush();
+        log.debug("Exported {} {} rows for {} via {}", rows, fmt, key, plan);
+    }
+
+    private static String blankToNull(String s) {
+        return s == null || s.isBlank() ? null : s;
+    }
+}
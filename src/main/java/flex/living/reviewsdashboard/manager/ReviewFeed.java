@@ -0,0 +1,228 @@
+package flex.living.reviewsdashboard.manager;
+
+import flex.living.reviewsdashboard.client.HostawayAccounts;
+import flex.living.reviewsdashboard.config.FeedConfig;
+import flex.living.reviewsdashboard.model.NormalizedReview;
+import flex.living.reviewsdashboard.service.ReviewStore;
+import flex.living.reviewsdashboard.service.ReviewStoreListener;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Live feed of review and selection changes for manager dashboards (Server-Sent Events).
+ * <p>
+ * Each subscriber has its own account and {@link ReviewFilter}. Changes are queued per subscriber keyed by
+ * review id, so a review edited several times before it is written goes out once, with its latest state.
+ * A subscriber is drained by at most one sender thread at a time, {@code coalesce-ms} after its first pending
+ * change; a slow client therefore only delays itself and receives coalesced updates. If more than
+ * {@code max-pending} distinct changes pile up, they are dropped and a single {@code resync} event tells the
+ * client to reload.
+ * <p>
+ * Events: {@code review} (a review that matches the filter was added or changed), {@code review-removed}
+ * ({@code {id}}: an edit moved it out of the filter), {@code selection} ({@code {id, selected}}) and
+ * {@code resync}.
+ */
+@Slf4j
+@Component
+public class ReviewFeed implements ReviewStoreListener, ReviewSelectionStore.Listener {
+
+    record Event(String name, Object data) {
+    }
+
+    private final HostawayAccounts accounts;
+    private final FeedConfig cfg;
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final ScheduledExecutorService senders;
+
+    private final Counter sent;
+    private final Counter coalesced;
+    private final Counter resyncs;
+
+    public ReviewFeed(ReviewStore store, ReviewSelectionStore selections, HostawayAccounts accounts, FeedConfig cfg,
+                      MeterRegistry registry) {
+        this.accounts = accounts;
+        this.cfg = cfg;
+        AtomicInteger n = new AtomicInteger();
+        this.senders = Executors.newScheduledThreadPool(Math.max(1, cfg.getSenderThreads()), r -> {
+            Thread t = new Thread(r, "review-feed-" + n.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+        this.sent = registry.counter("review.feed.events", "result", "sent");
+        this.coalesced = registry.counter("review.feed.events", "result", "coalesced");
+        this.resyncs = registry.counter("review.feed.events", "result", "resync");
+        registry.gaugeCollectionSize("review.feed.subscribers", List.of(), subscribers);
+
+        long hb = Math.max(1, cfg.getHeartbeatSeconds());
+        senders.scheduleAtFixedRate(this::heartbeat, hb, hb, TimeUnit.SECONDS);
+        store.addListener(this);
+        selections.addListener(this);
+    }
+
+    /**
+     * Open a stream for {@code account} (null for the default) limited to reviews matching {@code filter}.
+     *
+     * @throws ResponseStatusException 503 when {@code max-subscribers} streams are already open
+     */
+    public SseEmitter subscribe(String account, ReviewFilter filter) {
+        String key = accounts.resolve(account).key();
+        if (subscribers.size() >= cfg.getMaxSubscribers()) {
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Too many live feed subscribers");
+        }
+        SseEmitter emitter = new SseEmitter(cfg.getTimeoutMs());
+        Subscriber s = new Subscriber(key, filter, emitter);
+        subscribers.add(s);
+        emitter.onCompletion(() -> subscribers.remove(s));
+        emitter.onTimeout(() -> subscribers.remove(s));
+        emitter.onError(e -> subscribers.remove(s));
+        enqueue(s, "ready", new Event("ready", Map.of("account", key)));
+        return emitter;
+    }
+
+    int subscribers() {
+        return subscribers.size();
+    }
+
+    // ======================= SOURCES =======================
+
+    @Override
+    public void onUpsert(String account, NormalizedReview previous, NormalizedReview current) {
+        for (Subscriber s : subscribers) {
+            if (!s.account.equals(account)) continue;
+            if (s.filter.test(current)) {
+                enqueue(s, current.id(), new Event("review", current));
+            } else if (previous != null && s.filter.test(previous)) {
+                enqueue(s, current.id(), new Event("review-removed", Map.of("id", current.id())));
+            }
+        }
+    }
+
+    @Override
+    public void onSelection(String id, boolean selected) {
+        for (Subscriber s : subscribers) {
+            enqueue(s, "selection:" + id, new Event("selection", Map.of("id", id, "selected", selected)));
+        }
+    }
+
+    // ======================= DELIVERY =======================
+
+    private void enqueue(Subscriber s, String key, Event event) {
+        synchronized (s) {
+            if (s.overflowed) {
+                coalesced.increment();
+                return;
+            }
+            if (s.pending.remove(key) != null) coalesced.increment(); // re-added at the end: latest state wins
+            if (s.pending.size() >= cfg.getMaxPending()) {
+                coalesced.increment(s.pending.size());
+                s.pending.clear();
+                s.overflowed = true;
+            } else {
+                s.pending.put(key, event);
+            }
+            if (s.scheduled) return;
+            s.scheduled = true;
+        }
+        senders.schedule(() -> drain(s), cfg.getCoalesceMs(), TimeUnit.MILLISECONDS);
+    }
+
+    private void heartbeat() {
+        for (Subscriber s : subscribers) {
+            synchronized (s) {
+                if (s.scheduled) continue; // a drain is queued or writing: the stream is not idle
+                s.scheduled = true;
+                s.heartbeat = true;
+            }
+            senders.execute(() -> drain(s));
+        }
+    }
+
+    /**
+     * Write everything pending for {@code s}; only one drain per subscriber is queued or running at a time.
+     * Changes that arrive during a (slow) write wait another {@code coalesce-ms} and go out in the next batch.
+     */
+    private void drain(Subscriber s) {
+        List<Event> batch;
+        boolean resync;
+        boolean heartbeat;
+        synchronized (s) {
+            batch = new ArrayList<>(s.pending.values());
+            s.pending.clear();
+            resync = s.overflowed;
+            s.overflowed = false;
+            heartbeat = s.heartbeat;
+            s.heartbeat = false;
+        }
+        try {
+            if (resync) {
+                s.emitter.send(SseEmitter.event().name("resync").data(Map.of("reason", "lagging")));
+                resyncs.increment();
+            }
+            for (Event e : batch) s.emitter.send(SseEmitter.event().name(e.name()).data(e.data()));
+            if (heartbeat && batch.isEmpty() && !resync) s.emitter.send(SseEmitter.event().comment("keepalive"));
+            sent.increment(batch.size());
+        } catch (Exception e) {
+            log.debug("Dropping live feed subscriber: {}", e.toString());
+            subscribers.remove(s);
+            s.emitter.completeWithError(e);
+            synchronized (s) {
+                s.pending.clear();
+                s.scheduled = false;
+            }
+            return;
+        }
+        synchronized (s) {
+            if (s.pending.isEmpty() && !s.overflowed) {
+                s.scheduled = false;
+                return;
+            }
+        }
+        senders.schedule(() -> drain(s), cfg.getCoalesceMs(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Close open streams before the web server's graceful shutdown, which would otherwise wait for them.
+     */
+    @EventListener(ContextClosedEvent.class)
+    void shutdown() {
+        for (Subscriber s : subscribers) s.emitter.complete();
+        subscribers.clear();
+        senders.shutdownNow();
+    }
+
+    private static final class Subscriber {
+        final String account;
+        final ReviewFilter filter;
+        final SseEmitter emitter;
+
+        // guarded by this
+        final LinkedHashMap<String, Event> pending = new LinkedHashMap<>();
+        boolean scheduled;
+        boolean overflowed;
+        boolean heartbeat;
+
+        Subscriber(String account, ReviewFilter filter, SseEmitter emitter) {
+            this.account = account;
+            this.filter = filter;
+            this.emitter = emitter;
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package flex.living.reviewsdashboard.manager;
+
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.OffsetDateTime;
+
+@RestController
+@RequestMapping("/api/manager/reviews")
+public class ReviewFeedController {
+
+    private final ReviewFeed feed;
+
+    public ReviewFeedController(ReviewFeed feed) {
+        this.feed = feed;
+    }
+
+    /**
+     * GET /api/manager/reviews/stream — Server-Sent Events for reviews matching the same filters as
+     * {@code /api/manager/reviews}, plus selection toggles. Load the list once, then apply the events.
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream(
+            @RequestParam(required = false) String account,
+            @RequestParam(required = false) String q,
+            @RequestParam(required = false) String channel,
+            @RequestParam(required = false) String listing,
+            @RequestParam(required = false) Integer ratingMin,
+            @RequestParam(required = false) Integer ratingMax,
+            @RequestParam(required = false) OffsetDateTime from,
+            @RequestParam(required = false) OffsetDateTime to
+    ) {
+        return feed.subscribe(account, new ReviewFilter(q, channel, listing, ratingMin, ratingMax, from, to));
+    }
+}
@@ -0,0 +1,121 @@
+package flex.living.reviewsdashboard.manager;
+
+import flex.living.reviewsdashboard.model.NormalizedReview;
+import flex.living.reviewsdashboard.service.ReviewIndex;
+import flex.living.reviewsdashboard.service.ReviewStats;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Predicate;
+
+/**
+ * Server-side manager filters (mirrors the dashboard): free text over text/guest/listing, channel and listing
+ * ({@code all} or blank = any), bounds on {@code effectiveRating} and a submission window. Reviews without a
+ * rating or date are not excluded by the corresponding bound.
+ * <p>
+ * {@link #test} checks the cheap terms first and the free text last; {@link #plan} also orders them by the
+ * account's statistics and lets listing, channel and date terms use the account's {@link ReviewIndex}.
+ */
+public record ReviewFilter(
+        String q,
+        String channel,
+        String listing,
+        Integer ratingMin,
+        Integer ratingMax,
+        OffsetDateTime from,
+        OffsetDateTime to
+) implements Predicate<NormalizedReview> {
+
+    // relative per-review cost of each kind of term
+    static final double EQUALS_COST = 1;
+    static final double RATING_COST = 1;
+    static final double DATE_COST = 2;
+    static final double TEXT_COST = 20;      // up to three case-insensitive substring scans
+    static final double TEXT_SELECTIVITY = 0.2; // no statistics on text; assume it is fairly selective
+
+    @Override
+    public boolean test(NormalizedReview r) {
+        return matchesChannel(r) && matchesListing(r) && matchesRating(r) && matchesSubmitted(r) && matchesText(r);
+    }
+
+    /**
+     * Compile the active terms into a {@link QueryPlan} using {@code stats} for their selectivity.
+     */
+    public QueryPlan plan(ReviewStats.Account stats) {
+        return plan(stats, null);
+    }
+
+    /**
+     * As above, with index access through {@code index} (null = always scan).
+     */
+    public QueryPlan plan(ReviewStats.Account stats, ReviewIndex.Account index) {
+        List<QueryPlan.Term> terms = new ArrayList<>(5);
+        boolean indexed = index != null;
+        if (isSet(channel)) {
+            terms.add(new QueryPlan.Term("channel", EQUALS_COST, stats.channel(channel), this::matchesChannel,
+                    indexed ? () -> index.channel(channel) : null, true));
+        }
+        if (isSet(listing)) {
+            terms.add(new QueryPlan.Term("listing", EQUALS_COST, stats.listing(listing), this::matchesListing,
+                    indexed ? () -> index.listing(listing) : null, true));
+        }
+        if (ratingMin != null || ratingMax != null) {
+            terms.add(new QueryPlan.Term("rating", RATING_COST, stats.rating(ratingMin, ratingMax), this::matchesRating));
+        }
+        if (from != null || to != null) {
+            // the range is materialized, so it only ever drives
+            terms.add(new QueryPlan.Term("submitted", DATE_COST, stats.submitted(from, to), this::matchesSubmitted,
+                    indexed ? () -> index.submitted(from, to) : null, false));
+        }
+        if (q != null && !q.isBlank()) {
+            terms.add(new QueryPlan.Term("text", TEXT_COST, TEXT_SELECTIVITY, this::matchesText));
+        }
+        return new QueryPlan(terms);
+    }
+
+    // ======================= TERMS (true when not set) =======================
+
+    private boolean matchesChannel(NormalizedReview r) {
+        return !isSet(channel) || Objects.equals(r.channel(), channel);
+    }
+
+    private boolean matchesListing(NormalizedReview r) {
+        return !isSet(listing) || Objects.equals(r.listingName(), listing);
+    }
+
+    private boolean matchesRating(NormalizedReview r) {
+        Integer rating = r.effectiveRating();
+        if (rating == null) return true;
+        return (ratingMin == null || rating >= ratingMin) && (ratingMax == null || rating <= ratingMax);
+    }
+
+    private boolean matchesSubmitted(NormalizedReview r) {
+        OffsetDateTime at = r.submittedAt();
+        if (at == null) return true;
+        return (from == null || !at.isBefore(from)) && (to == null || !at.isAfter(to));
+    }
+
+    private boolean matchesText(NormalizedReview r) {
+        if (q == null || q.isBlank()) return true;
+        return containsIgnoreCase(r.text(), q) || containsIgnoreCase(r.guestName(), q)
+                || containsIgnoreCase(r.listingName(), q);
+    }
+
+    private static boolean isSet(String value) {
+        return value != null && !value.isBlank() && !"all".equalsIgnoreCase(value);
+    }
+
+    /**
+     * Substring match without lower-casing copies of either string.
+     */
+    static boolean containsIgnoreCase(String haystack, String needle) {
+        if (haystack == null) return false;
+        int n = needle.length();
+        for (int i = 0, last = haystack.length() - n; i <= last; i++) {
+            if (haystack.regionMatches(true, i, needle, 0, n)) return true;
+        }
+        return false;
+    }
+}
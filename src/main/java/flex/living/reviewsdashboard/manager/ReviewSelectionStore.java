@@ -1,9 +1,12 @@
 package flex.living.reviewsdashboard.manager;
 
+import flex.living.reviewsdashboard.service.DatasetVersion;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 /**
  * Minimal in-memory selection store; swap with JPA later if needed.
@@ -11,14 +14,30 @@ import java.util.concurrent.ConcurrentHashMap;
 @Component
 public class ReviewSelectionStore {
     private final Set<String> selected = ConcurrentHashMap.newKeySet();
+    private final List<Listener> listeners = new CopyOnWriteArrayList<>();
+    private final DatasetVersion version;
+
+    public interface Listener {
+        void onSelection(String id, boolean selected);
+    }
+
+    public ReviewSelectionStore(DatasetVersion version) {
+        this.version = version;
+    }
+
+    public void addListener(Listener listener) {
+        listeners.add(listener);
+    }
 
     public boolean isSelected(String id) {
         return selected.contains(id);
     }
 
     public void setSelected(String id, boolean on) {
-        if (on) selected.add(id);
-        else selected.remove(id);
+        boolean changed = on ? selected.add(id) : selected.remove(id);
+        if (!changed) return;
+        version.bump();
+        for (Listener l : listeners) l.onSelection(id, on);
     }
 
     public Set<String> all() {
@@ -0,0 +1,36 @@
+package flex.living.reviewsdashboard.manager;
+
+import flex.living.reviewsdashboard.client.HostawayAccounts;
+import flex.living.reviewsdashboard.service.TermSketches;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/manager/terms")
+public class TermsController {
+
+    private final TermSketches terms;
+    private final HostawayAccounts accounts;
+
+    public TermsController(TermSketches terms, HostawayAccounts accounts) {
+        this.terms = terms;
+        this.accounts = accounts;
+    }
+
+    /**
+     * GET /api/manager/terms?listing=Hotel%20California&limit=10 — most-mentioned themes (reviews mentioning
+     * each term, estimated); without {@code listing}, one entry per listing of the {@code account}.
+     */
+    @GetMapping
+    public List<TermSketches.ListingTerms> top(@RequestParam(required = false) String account,
+                                               @RequestParam(required = false) String listing,
+                                               @RequestParam(defaultValue = "10") int limit) {
+        String key = accounts.resolve(account).key();
+        if (listing != null && !listing.isBlank()) return List.of(terms.top(key, listing, limit));
+        return terms.topForAll(key, limit);
+    }
+}
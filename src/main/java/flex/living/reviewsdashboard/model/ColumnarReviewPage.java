@@ -0,0 +1,105 @@
+package flex.living.reviewsdashboard.model;
+
+import com.fasterxml.jackson.annotation.JsonFilter;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Column-oriented layout of a review page ({@code ?layout=columnar}).
+ * <p>
+ * Each field is one array indexed by row. Listing, channel, direction and status are
+ * dictionary-encoded: the column holds an index into the matching dictionary (-1 for null).
+ * Timestamps are epoch millis (null when absent) instead of ISO strings.
+ */
+public record ColumnarReviewPage(
+        String source,
+        int count,
+        Dictionaries dictionaries,
+        Columns columns
+) {
+
+    public record Dictionaries(
+            List<String> listings,
+            List<String> channels,
+            List<String> directions,
+            List<String> statuses
+    ) {
+    }
+
+    @JsonFilter("review") // column names match NormalizedReview, so the same projection applies
+    public record Columns(
+            List<String> id,
+            int[] listingName,
+            List<String> guestName,
+            int[] direction,
+            int[] status,
+            List<Integer> overallRating,
+            List<Map<String, Integer>> categoryRatings,
+            int[] channel,
+            List<String> text,
+            List<Long> submittedAt,
+            List<Integer> effectiveRating
+    ) {
+    }
+
+    public static ColumnarReviewPage of(NormalizedReviewResponse resp) {
+        return of(resp.source(), resp.reviews());
+    }
+
+    public static ColumnarReviewPage of(String source, List<NormalizedReview> reviews) {
+        int n = reviews.size();
+        var listings = new Dictionary();
+        var channels = new Dictionary();
+        var directions = new Dictionary();
+        var statuses = new Dictionary();
+
+        List<String> id = new ArrayList<>(n);
+        int[] listing = new int[n];
+        List<String> guest = new ArrayList<>(n);
+        int[] direction = new int[n];
+        int[] status = new int[n];
+        List<Integer> rating = new ArrayList<>(n);
+        List<Map<String, Integer>> cats = new ArrayList<>(n);
+        int[] channel = new int[n];
+        List<String> text = new ArrayList<>(n);
+        List<Long> submitted = new ArrayList<>(n);
+        List<Integer> effective = new ArrayList<>(n);
+
+        for (int i = 0; i < n; i++) {
+            NormalizedReview r = reviews.get(i);
+            id.add(r.id());
+            listing[i] = listings.code(r.listingName());
+            guest.add(r.guestName());
+            direction[i] = directions.code(r.direction());
+            status[i] = statuses.code(r.status());
+            rating.add(r.overallRating());
+            cats.add(r.categoryRatings());
+            channel[i] = channels.code(r.channel());
+            text.add(r.text());
+            OffsetDateTime at = r.submittedAt();
+            submitted.add(at == null ? null : at.toInstant().toEpochMilli());
+            effective.add(r.effectiveRating());
+        }
+
+        return new ColumnarReviewPage(source, n,
+                new Dictionaries(listings.values, channels.values, directions.values, statuses.values),
+                new Columns(id, listing, guest, direction, status, rating, cats, channel, text, submitted, effective));
+    }
+
+    private static final class Dictionary {
+        private final List<String> values = new ArrayList<>();
+        private final Map<String, Integer> codes = new HashMap<>();
+
+        int code(String value) {
+            if (value == null) return -1;
+            return codes.computeIfAbsent(value, v -> {
+                values.add(v);
+                return values.size() - 1;
+            });
+        }
+    }
+}
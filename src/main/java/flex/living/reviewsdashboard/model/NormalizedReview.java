@@ -1,8 +1,11 @@
 package flex.living.reviewsdashboard.model;
 
+import com.fasterxml.jackson.annotation.JsonFilter;
+
 import java.time.OffsetDateTime;
 import java.util.Map;
 
+@JsonFilter("review") // sparse fieldsets / snippets, see web.ReviewFieldFilter
 public record NormalizedReview(
         String id,
         String listingName,
@@ -13,6 +16,40 @@ public record NormalizedReview(
         Map<String, Integer> categoryRatings, // e.g. cleanliness:10
         String channel,        // e.g. "airbnb", "vrbo", "booking", "hostaway", "unknown"
         String text,
-        OffsetDateTime submittedAt
+        OffsetDateTime submittedAt,
+        Integer effectiveRating // derived: overallRating, else the rounded category average; null if neither
 ) {
+
+    public NormalizedReview {
+        effectiveRating = effectiveRating(overallRating, categoryRatings); // never taken from the caller
+    }
+
+    public NormalizedReview(String id, String listingName, String guestName, String direction, String status,
+                            Integer overallRating, Map<String, Integer> categoryRatings, String channel,
+                            String text, OffsetDateTime submittedAt) {
+        this(id, listingName, guestName, direction, status, overallRating, categoryRatings, channel, text,
+                submittedAt, null);
+    }
+
+    public NormalizedReview withListingName(String listingName) {
+        return new NormalizedReview(id, listingName, guestName, direction, status, overallRating, categoryRatings,
+                channel, text, submittedAt);
+    }
+
+    /**
+     * The rating filters and sorts use: {@code overall} when present, otherwise the mean of the category
+     * ratings rounded to the nearest integer.
+     */
+    public static Integer effectiveRating(Integer overall, Map<String, Integer> categories) {
+        if (overall != null) return overall;
+        if (categories == null || categories.isEmpty()) return null;
+        long sum = 0;
+        int n = 0;
+        for (Integer v : categories.values()) {
+            if (v == null) continue;
+            sum += v;
+            n++;
+        }
+        return n == 0 ? null : (int) Math.round((double) sum / n);
+    }
 }
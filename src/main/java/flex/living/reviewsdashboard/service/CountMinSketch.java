@@ -0,0 +1,46 @@
+package flex.living.reviewsdashboard.service;
+
+/**
+ * Count-min sketch over strings: {@code depth} rows of {@code width} counters, each row indexed by its own
+ * hash. An estimate is the minimum over the rows and never undercounts while all updates are net positive.
+ * Decrements are supported (plain, not conservative, update) so a changed review can retract its terms.
+ * Not thread-safe.
+ */
+final class CountMinSketch {
+
+    private final int width;
+    private final int depth;
+    private final int[][] counts;
+
+    CountMinSketch(int width, int depth) {
+        this.width = Math.max(16, width);
+        this.depth = Math.max(1, depth);
+        this.counts = new int[this.depth][this.width];
+    }
+
+    /**
+     * Add {@code delta} (may be negative) and return the new estimate.
+     */
+    int add(String item, int delta) {
+        long h = MinHashIndex.fnv64(item);
+        int min = Integer.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            int[] r = counts[row];
+            int i = index(h, row);
+            r[i] = Math.max(0, r[i] + delta);
+            min = Math.min(min, r[i]);
+        }
+        return min;
+    }
+
+    int estimate(String item) {
+        long h = MinHashIndex.fnv64(item);
+        int min = Integer.MAX_VALUE;
+        for (int row = 0; row < depth; row++) min = Math.min(min, counts[row][index(h, row)]);
+        return min;
+    }
+
+    private int index(long h, int row) {
+        return (int) Math.floorMod(MinHashIndex.mix(h + row * 0x9E3779B97F4A7C15L), (long) width);
+    }
+}
@@ -0,0 +1,22 @@
+package flex.living.reviewsdashboard.service;
+
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Monotonic version of the data behind the review endpoints.
+ * Anything that changes what those endpoints return bumps it, which invalidates cached responses.
+ */
+@Component
+public class DatasetVersion {
+    private final AtomicLong version = new AtomicLong();
+
+    public long current() {
+        return version.get();
+    }
+
+    public long bump() {
+        return version.incrementAndGet();
+    }
+}
@@ -0,0 +1,136 @@
+package flex.living.reviewsdashboard.service;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+
+/**
+ * Weighted round-robin executor across tenants (Hostaway accounts).
+ * <p>
+ * Each tenant has its own FIFO queue; a fixed pool of workers serves the tenants with queued work in turn,
+ * taking up to {@code weight} tasks from one tenant before moving on. A tenant with ten thousand pages to
+ * sync therefore cannot delay a small tenant by more than one round.
+ */
+public final class FairScheduler implements AutoCloseable {
+
+    private final ToIntFunction<String> weight;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition ready = lock.newCondition();
+
+    // guarded by lock
+    private final Map<String, Deque<Runnable>> queues = new HashMap<>();
+    private final Deque<String> ring = new ArrayDeque<>(); // tenants with queued work, head is served next
+    private int credit;                                    // tasks the head tenant may still take this round
+    private boolean closed;
+
+    private final List<Thread> workers = new ArrayList<>();
+
+    public FairScheduler(String name, int threads, ToIntFunction<String> weight) {
+        this.weight = weight;
+        for (int i = 0; i < Math.max(1, threads); i++) {
+            Thread t = new Thread(this::work, name + "-" + (i + 1));
+            t.setDaemon(true);
+            t.start();
+            workers.add(t);
+        }
+    }
+
+    public <T> CompletableFuture<T> submit(String tenant, Supplier<T> task) {
+        CompletableFuture<T> f = new CompletableFuture<>();
+        Runnable r = () -> {
+            try {
+                f.complete(task.get());
+            } catch (Throwable e) {
+                f.completeExceptionally(e);
+            }
+        };
+        lock.lock();
+        try {
+            if (closed) throw new IllegalStateException("scheduler closed");
+            Deque<Runnable> q = queues.computeIfAbsent(tenant, k -> new ArrayDeque<>());
+            if (q.isEmpty()) {
+                if (ring.isEmpty()) credit = Math.max(1, weight.applyAsInt(tenant));
+                ring.addLast(tenant);
+            }
+            q.addLast(r);
+            ready.signal();
+        } finally {
+            lock.unlock();
+        }
+        return f;
+    }
+
+    /**
+     * Tasks queued (not yet started) for {@code tenant}.
+     */
+    public int queued(String tenant) {
+        lock.lock();
+        try {
+            Deque<Runnable> q = queues.get(tenant);
+            return q == null ? 0 : q.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private Runnable take() throws InterruptedException {
+        lock.lock();
+        try {
+            while (ring.isEmpty()) {
+                if (closed) return null;
+                ready.await();
+            }
+            String tenant = ring.peekFirst();
+            Deque<Runnable> q = queues.get(tenant);
+            Runnable r = q.pollFirst();
+            if (q.isEmpty()) {
+                queues.remove(tenant);
+                ring.pollFirst();
+                nextRound();
+            } else if (--credit <= 0) {
+                ring.addLast(ring.pollFirst());
+                nextRound();
+            }
+            return r;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void nextRound() {
+        String head = ring.peekFirst();
+        credit = head == null ? 0 : Math.max(1, weight.applyAsInt(head));
+    }
+
+    private void work() {
+        while (true) {
+            Runnable r;
+            try {
+                r = take();
+            } catch (InterruptedException e) {
+                return;
+            }
+            if (r == null) return;
+            r.run();
+        }
+    }
+
+    @Override
+    public void close() {
+        lock.lock();
+        try {
+            closed = true;
+            ready.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package flex.living.reviewsdashboard.service;
+
+import flex.living.reviewsdashboard.client.GoogleReviewClient;
+import flex.living.reviewsdashboard.client.HostawayAccount;
+import flex.living.reviewsdashboard.config.ListingsConfig;
+import flex.living.reviewsdashboard.model.NormalizedReview;
+import flex.living.reviewsdashboard.model.NormalizedReviewResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Public Google reviews of every mapped listing (mappings are shared by all accounts). Places that fail are
+ * skipped; the rest still contribute.
+ */
+@Component
+@Order(2) // merge order, which breaks ties between reviews submitted at the same time
+@RequiredArgsConstructor
+public class GoogleReviewSource implements ReviewSource<GoogleReviewSource.Placed> {
+
+    /**
+     * A place review together with the listing it is mapped to.
+     */
+    public record Placed(String listingName, NormalizedReview review) {
+    }
+
+    private final GoogleReviewClient google;
+    private final ListingsConfig listings;
+    private final CacheManager cacheManager;
+
+    @Override
+    public String name() {
+        return "google";
+    }
+
+    @Override
+    public List<Placed> fetch(Query query) {
+        List<Placed> out = new ArrayList<>();
+        if (listings.getGooglePlaceIds() == null) return out;
+        listings.getGooglePlaceIds().forEach((listingName, placeId) -> {
+            if (query.listing() != null && !query.listing().equals(listingName)) return;
+            try {
+                for (var r : google.fetchForPlace(placeId).reviews()) out.add(new Placed(listingName, r));
+            } catch (Exception ignored) {
+            }
+        });
+        return out;
+    }
+
+    @Override
+    public boolean owns(String id) {
+        return id.startsWith("google:");
+    }
+
+    /**
+     * Review {@code id} among the place reviews already in the {@code google-reviews} cache, mapped to its
+     * listing as {@link #normalize} does. Never calls Google.
+     */
+    @Override
+    public Optional<NormalizedReview> find(HostawayAccount account, String id) {
+        Cache cache = cacheManager.getCache("google-reviews");
+        if (cache == null || listings.getGooglePlaceIds() == null) return Optional.empty();
+        for (Map.Entry<String, String> place : listings.getGooglePlaceIds().entrySet()) {
+            NormalizedReviewResponse cached = cache.get(place.getValue(), NormalizedReviewResponse.class);
+            if (cached == null) continue;
+            for (NormalizedReview r : cached.reviews()) {
+                if (r.id().equals(id)) return Optional.of(r.withListingName(place.getKey()));
+            }
+        }
+        return Optional.empty();
+    }
+
+    @Override
+    public NormalizedReview normalize(Placed raw, Query query) {
+        return raw.review().withListingName(raw.listingName()); // so frontend grouping works
+    }
+
+    @Override
+    public Limits limits() {
+        return new Limits(4, 16, 5000); // mostly cache hits; misses are one Place Details call per listing
+    }
+}
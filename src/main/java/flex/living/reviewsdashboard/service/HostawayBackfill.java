@@ -0,0 +1,346 @@
+package flex.living.reviewsdashboard.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import flex.living.reviewsdashboard.client.HostawayAccount;
+import flex.living.reviewsdashboard.client.HostawayAccounts;
+import flex.living.reviewsdashboard.client.HostawayReviewClient;
+import flex.living.reviewsdashboard.client.HostawayReviewNormalizer;
+import flex.living.reviewsdashboard.client.RequestPriority;
+import flex.living.reviewsdashboard.config.ReviewSyncConfig;
+import flex.living.reviewsdashboard.model.NormalizedReview;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Loads the full Hostaway review history of each account into its {@link ReviewStore} partition.
+ * <p>
+ * The first page doubles as the probe for the total {@code count}; the remaining offsets are then fetched by
+ * {@code hostaway.sync.backfill.parallelism} workers at {@link RequestPriority#BACKGROUND} (interactive calls
+ * still go first through the rate limiter). The workers are shared by all accounts through a
+ * {@link FairScheduler}, so concurrent backfills take turns in proportion to the account {@code weight}. Each fetched page is handed to a single apply stage that
+ * normalizes, upserts and checkpoints it while the workers keep fetching. An interrupted run resumes from the
+ * checkpoint and only fetches the missing offsets; the file is removed once the history is complete.
+ * <p>
+ * Offsets can shift while new reviews arrive; upserts are idempotent by id and webhooks cover the newest end.
+ */
+@Slf4j
+@Component
+public class HostawayBackfill {
+
+    public enum State {IDLE, RUNNING, COMPLETED, FAILED}
+
+    public record Status(State state, Integer total, int pagesDone, int pagesTotal, int reviewsLoaded,
+                         Instant startedAt, Instant finishedAt, String error) {
+    }
+
+    /**
+     * Persisted progress: offsets already applied for a given page size.
+     */
+    record Checkpoint(int pageSize, Integer total, Set<Integer> completed) {
+    }
+
+    /**
+     * A fetched page and when its request started, to check against webhook pushes.
+     */
+    private record Fetched(HostawayReviewClient.Page page, long startedNanos) {
+    }
+
+    /**
+     * Backfill state of one account.
+     */
+    private static final class Run {
+        final HostawayAccount account;
+        final AtomicBoolean running = new AtomicBoolean();
+        volatile Status status = new Status(State.IDLE, null, 0, 0, 0, null, null, null);
+
+        Run(HostawayAccount account) {
+            this.account = account;
+        }
+    }
+
+    private final HostawayReviewClient client;
+    private final HostawayAccounts accounts;
+    private final ReviewStore store;
+    private final HostawayWebhookIngestor webhooks;
+    private final ReviewSyncConfig.Backfill cfg;
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final Map<String, Run> runs = new LinkedHashMap<>();
+    private final FairScheduler fetchers;
+
+    public HostawayBackfill(HostawayReviewClient client, HostawayAccounts accounts, ReviewStore store, ReviewSyncConfig sync,
+                            HostawayWebhookIngestor webhooks) {
+        this.client = client;
+        this.accounts = accounts;
+        this.store = store;
+        this.webhooks = webhooks;
+        this.cfg = sync.getBackfill();
+        for (HostawayAccount a : accounts.all()) runs.put(a.key(), new Run(a));
+        this.fetchers = new FairScheduler("hostaway-backfill-fetch", cfg.getParallelism(), key -> runs.get(key).account.weight());
+    }
+
+    /**
+     * Progress per account key.
+     */
+    public Map<String, Status> status() {
+        Map<String, Status> all = new LinkedHashMap<>();
+        runs.forEach((key, run) -> all.put(key, run.status));
+        return all;
+    }
+
+    public Status status(String account) {
+        return runFor(account).status;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    void onReady() {
+        if (cfg.isOnStartup()) startAllAsync();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        fetchers.close();
+    }
+
+    /**
+     * Start a backfill of every account not already running.
+     */
+    public void startAllAsync() {
+        for (String key : runs.keySet()) startAsync(key);
+    }
+
+    /**
+     * Start a backfill of {@code account} (null for the default) on a background thread.
+     *
+     * @return false if one is already running for that account
+     */
+    public boolean startAsync(String account) {
+        Run run = runFor(account);
+        if (!run.running.compareAndSet(false, true)) return false;
+        run.status = new Status(State.RUNNING, null, 0, 0, 0, Instant.now(), null, null);
+        Thread t = new Thread(() -> {
+            try {
+                execute(run);
+            } finally {
+                run.running.set(false);
+            }
+        }, "hostaway-backfill-" + run.account.key());
+        t.setDaemon(true);
+        t.start();
+        return true;
+    }
+
+    /**
+     * Run a backfill of {@code account} (null for the default) on the calling thread.
+     *
+     * @throws IllegalStateException if one is already running for that account
+     */
+    public Status run(String account) {
+        Run run = runFor(account);
+        if (!run.running.compareAndSet(false, true)) throw new IllegalStateException("Backfill already running");
+        try {
+            return execute(run);
+        } finally {
+            run.running.set(false);
+        }
+    }
+
+    private Run runFor(String account) {
+        return runs.get(accounts.resolve(account).key());
+    }
+
+    // ======================= PIPELINE =======================
+
+    private Status execute(Run run) {
+        Instant started = Instant.now();
+        int pageSize = Math.max(1, cfg.getPageSize());
+        Checkpoint cp = loadCheckpoint(run, pageSize);
+        Set<Integer> done = ConcurrentHashMap.newKeySet();
+        done.addAll(cp.completed());
+        AtomicInteger loaded = new AtomicInteger();
+        Integer total = cp.total();
+
+        run.status = new Status(State.RUNNING, total, done.size(), 0, 0, started, null, null);
+        ExecutorService applier = Executors.newSingleThreadExecutor(daemon("hostaway-backfill-apply-" + run.account.key()));
+        try {
+            if (total == null) {
+                // discovery: the first page carries the count
+                var first = fetch(run, pageSize, 0);
+                total = first.page().total();
+                apply(run, 0, first, new Checkpoint(pageSize, total, done), loaded, started);
+            }
+
+            if (total != null) {
+                List<Integer> offsets = new ArrayList<>();
+                for (int o = 0; o < total; o += pageSize) {
+                    if (!done.contains(o)) offsets.add(o);
+                }
+                fetchAll(run, offsets, pageSize, total, done, loaded, started, applier);
+            } else {
+                // no count reported: walk forward in waves of `parallelism` pages until a short page
+                int wave = Math.max(1, cfg.getParallelism());
+                AtomicBoolean exhausted = new AtomicBoolean(loaded.get() < pageSize);
+                for (int base = pageSize; !exhausted.get(); base += wave * pageSize) {
+                    List<Integer> offsets = new ArrayList<>();
+                    for (int i = 0; i < wave; i++) offsets.add(base + i * pageSize);
+                    fetchAll(run, offsets, pageSize, null, done, loaded, started, applier, exhausted);
+                }
+            }
+
+            deleteCheckpoint(run);
+            run.status = new Status(State.COMPLETED, total, done.size(), done.size(), loaded.get(), started, Instant.now(), null);
+            log.info("Hostaway backfill of {} loaded {} reviews in {} pages", run.account.key(), loaded.get(), done.size());
+        } catch (RuntimeException e) {
+            Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+            Status s = run.status;
+            run.status = new Status(State.FAILED, total, done.size(), s.pagesTotal(), loaded.get(), started, Instant.now(),
+                    cause.getClass().getSimpleName() + ": " + cause.getMessage());
+            log.warn("Hostaway backfill of {} stopped after {} pages: {}", run.account.key(), done.size(), cause.toString());
+        } finally {
+            applier.shutdownNow();
+        }
+        return run.status;
+    }
+
+    private void fetchAll(Run run, List<Integer> offsets, int pageSize, Integer total, Set<Integer> done, AtomicInteger loaded,
+                          Instant started, ExecutorService applier) {
+        fetchAll(run, offsets, pageSize, total, done, loaded, started, applier, null);
+    }
+
+    private void fetchAll(Run run, List<Integer> offsets, int pageSize, Integer total, Set<Integer> done, AtomicInteger loaded,
+                          Instant started, ExecutorService applier, AtomicBoolean exhausted) {
+        Checkpoint cp = new Checkpoint(pageSize, total, done);
+        run.status = new Status(State.RUNNING, total, done.size(), done.size() + offsets.size(), loaded.get(), started, null, null);
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+
+        List<CompletableFuture<Void>> pages = new ArrayList<>(offsets.size());
+        for (int offset : offsets) {
+            pages.add(fetchers
+                    .submit(run.account.key(), () -> {
+                        if (failure.get() != null) throw new CancellationException("backfill aborted");
+                        return fetch(run, pageSize, offset);
+                    })
+                    .whenComplete((p, e) -> {
+                        if (e != null) failure.compareAndSet(null, e);
+                    })
+                    .thenAcceptAsync(p -> {
+                        apply(run, offset, p, cp, loaded, started);
+                        if (exhausted != null && p.page().reviews().size() < pageSize) exhausted.set(true);
+                    }, applier));
+        }
+        CompletableFuture.allOf(pages.toArray(CompletableFuture[]::new)).join();
+    }
+
+    private Fetched fetch(Run run, int pageSize, int offset) {
+        long startedNanos = System.nanoTime();
+        return new Fetched(client.fetchPage(run.account, pageSize, offset, RequestPriority.BACKGROUND), startedNanos);
+    }
+
+    /**
+     * Normalize and store one page, then record it in the checkpoint. Reviews a webhook changed after the page
+     * was requested are left alone. Runs on the single apply thread (or the caller for the discovery page),
+     * so checkpoint writes never interleave.
+     */
+    private void apply(Run run, int offset, Fetched fetched, Checkpoint cp, AtomicInteger loaded, Instant started) {
+        var page = fetched.page();
+        List<NormalizedReview> normalized = new ArrayList<>(page.reviews().size());
+        for (var raw : page.reviews()) normalized.add(HostawayReviewNormalizer.normalizeOne(raw));
+        String key = run.account.key();
+        store.upsertAll(key, webhooks.withoutNewerPushes(key, normalized, fetched.startedNanos()));
+
+        cp.completed().add(offset);
+        loaded.addAndGet(normalized.size());
+        saveCheckpoint(run, cp);
+        Status s = run.status;
+        run.status = new Status(State.RUNNING, cp.total(), cp.completed().size(), s.pagesTotal(), loaded.get(), started, null, null);
+    }
+
+    // ======================= CHECKPOINT =======================
+
+    /**
+     * The configured path; with several accounts each gets its own file ({@code backfill-<key>.json}).
+     */
+    private Path checkpointPath(Run run) {
+        String p = cfg.getCheckpointPath();
+        if (p == null || p.isBlank()) return null;
+        Path path = Path.of(p);
+        if (runs.size() == 1) return path;
+        String name = path.getFileName().toString();
+        int dot = name.lastIndexOf('.');
+        String own = dot > 0
+                ? name.substring(0, dot) + "-" + run.account.key() + name.substring(dot)
+                : name + "-" + run.account.key();
+        return path.resolveSibling(own);
+    }
+
+    private Checkpoint loadCheckpoint(Run run, int pageSize) {
+        Path path = checkpointPath(run);
+        Checkpoint empty = new Checkpoint(pageSize, null, new TreeSet<>());
+        if (path == null || !Files.exists(path)) return empty;
+        try {
+            Checkpoint cp = mapper.readValue(path.toFile(), Checkpoint.class);
+            if (cp.pageSize() != pageSize || cp.completed() == null) return empty; // offsets don't line up
+            log.info("Resuming Hostaway backfill of {}: {} pages already loaded", run.account.key(), cp.completed().size());
+            return cp;
+        } catch (IOException e) {
+            log.warn("Ignoring unreadable backfill checkpoint {}: {}", path, e.getMessage());
+            return empty;
+        }
+    }
+
+    private void saveCheckpoint(Run run, Checkpoint cp) {
+        Path path = checkpointPath(run);
+        if (path == null) return;
+        try {
+            if (path.getParent() != null) Files.createDirectories(path.getParent());
+            Path tmp = path.resolveSibling(path.getFileName() + ".tmp");
+            mapper.writeValue(tmp.toFile(), new Checkpoint(cp.pageSize(), cp.total(), new TreeSet<>(cp.completed())));
+            Files.move(tmp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            log.warn("Could not write backfill checkpoint {}: {}", path, e.getMessage());
+        }
+    }
+
+    private void deleteCheckpoint(Run run) {
+        Path path = checkpointPath(run);
+        if (path == null) return;
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("Could not delete backfill checkpoint {}: {}", path, e.getMessage());
+        }
+    }
+
+    private static ThreadFactory daemon(String prefix) {
+        AtomicInteger n = new AtomicInteger();
+        return r -> {
+            Thread t = new Thread(r, prefix + "-" + n.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        };
+    }
+}
@@ -0,0 +1,358 @@
+package flex.living.reviewsdashboard.service;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import flex.living.reviewsdashboard.client.HostawayAccounts;
+import flex.living.reviewsdashboard.client.HostawayReviewNormalizer;
+import flex.living.reviewsdashboard.config.ReviewSyncConfig;
+import flex.living.reviewsdashboard.model.NormalizedReview;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Loads a Hostaway review export from disk into a {@link ReviewStore} partition, for onboarding an account or
+ * recovering after an outage without going through the API.
+ * <p>
+ * The file is memory-mapped in {@code window-mb} regions and stream-parsed, so only the reviews in flight are on
+ * the heap whatever the file size. The export has the API's shape: the array under {@code result} or
+ * {@code data} (whichever comes first), or a root array. Parsed reviews are handed out in {@code batch-size}
+ * batches to {@code parallelism} workers that normalize and upsert them; once {@code max-pending-batches} are
+ * waiting, parsing pauses until a worker frees a slot. Records that are not objects or fail to normalize are
+ * counted as skipped rather than aborting the load.
+ * <p>
+ * An export is older than live state, so by default it only fills gaps: reviews already in the partition are
+ * kept as stored. With {@code overwrite} the export replaces stored copies instead. Either way a review a webhook
+ * changed after the import started is never reverted. Both kinds of kept review are counted in {@code kept}.
+ * <p>
+ * Starts from {@code --hostaway.sync.bulk-import.path} once the app is ready, or from the manager endpoint.
+ * One import runs at a time; its progress and throughput are in {@link #status()}.
+ */
+@Slf4j
+@Component
+public class HostawayBulkImport {
+
+    private static final TypeReference<Map<String, Object>> RAW_REVIEW = new TypeReference<>() {
+    };
+
+    public enum State {IDLE, RUNNING, COMPLETED, FAILED}
+
+    public record Status(State state, String file, String account, long bytesTotal, long bytesRead,
+                         long reviewsParsed, long reviewsLoaded, long skipped, long kept,
+                         double reviewsPerSecond, double megabytesPerSecond,
+                         Instant startedAt, Instant finishedAt, String error) {
+    }
+
+    private final HostawayAccounts accounts;
+    private final ReviewStore store;
+    private final HostawayWebhookIngestor webhooks;
+    private final ReviewSyncConfig.BulkImport cfg;
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final AtomicBoolean running = new AtomicBoolean();
+    private volatile Status status = new Status(State.IDLE, null, null, 0, 0, 0, 0, 0, 0, 0, 0, null, null, null);
+
+    public HostawayBulkImport(HostawayAccounts accounts, ReviewStore store, ReviewSyncConfig sync, HostawayWebhookIngestor webhooks) {
+        this.accounts = accounts;
+        this.store = store;
+        this.webhooks = webhooks;
+        this.cfg = sync.getBulkImport();
+    }
+
+    public Status status() {
+        return status;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    void onReady() {
+        String path = cfg.getPath();
+        if (path == null || path.isBlank()) return;
+        if (!startAsync(Path.of(path), cfg.getAccount(), cfg.isOverwrite())) log.warn("Bulk import of {} not started: another import is running", path);
+    }
+
+    /**
+     * {@code name} inside the configured {@code directory}.
+     *
+     * @throws IllegalArgumentException if it points outside that directory
+     */
+    public Path resolve(String name) {
+        Path dir = Path.of(cfg.getDirectory()).toAbsolutePath().normalize();
+        Path file = dir.resolve(name).normalize();
+        if (!file.startsWith(dir) || file.equals(dir)) throw new IllegalArgumentException("Not an import file: " + name);
+        return file;
+    }
+
+    /**
+     * Import {@code file} into {@code account} (null or blank for the default) on a background thread;
+     * {@code overwrite} replaces reviews already stored.
+     *
+     * @return false if an import is already running
+     */
+    public boolean startAsync(Path file, String account, boolean overwrite) {
+        String key = accounts.resolve(blankToNull(account)).key();
+        if (!running.compareAndSet(false, true)) return false;
+        status = new Status(State.RUNNING, file.toString(), key, 0, 0, 0, 0, 0, 0, 0, 0, Instant.now(), null, null);
+        Thread t = new Thread(() -> {
+            try {
+                execute(file, key, overwrite);
+            } finally {
+                running.set(false);
+            }
+        }, "hostaway-import");
+        t.setDaemon(true);
+        t.start();
+        return true;
+    }
+
+    /**
+     * Import {@code file} into {@code account} (null or blank for the default) on the calling thread;
+     * {@code overwrite} replaces reviews already stored.
+     *
+     * @throws IllegalStateException if an import is already running
+     */
+    public Status run(Path file, String account, boolean overwrite) {
+        String key = accounts.resolve(blankToNull(account)).key();
+        if (!running.compareAndSet(false, true)) throw new IllegalStateException("Bulk import already running");
+        try {
+            return execute(file, key, overwrite);
+        } finally {
+            running.set(false);
+        }
+    }
+
+    // ======================= PIPELINE =======================
+
+    private Status execute(Path file, String account, boolean overwrite) {
+        Instant started = Instant.now();
+        Progress progress = new Progress(file.toString(), account, started, System.nanoTime(), overwrite);
+        status = progress.snapshot(State.RUNNING, null);
+
+        int batchSize = Math.max(1, cfg.getBatchSize());
+        int pending = Math.max(1, cfg.getMaxPendingBatches());
+        Semaphore slots = new Semaphore(pending);
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        ExecutorService workers = Executors.newFixedThreadPool(Math.max(1, cfg.getParallelism()), daemon("hostaway-import-apply"));
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+             MappedInput in = new MappedInput(channel, (long) Math.max(1, cfg.getWindowMb()) << 20);
+             JsonParser p = mapper.getFactory().createParser(in)) {
+            progress.bytesTotal = in.size;
+            if (!seekReviews(p)) throw new IOException("Export must be an array or have a 'result'/'data' array");
+
+            List<Map<String, Object>> batch = new ArrayList<>(batchSize);
+            int logged = 0; // tenths of the file reported so far
+            JsonToken t;
+            while ((t = p.nextToken()) != JsonToken.END_ARRAY && t != null && failure.get() == null) {
+                if (t != JsonToken.START_OBJECT) {
+                    p.skipChildren();
+                    progress.skipped.incrementAndGet();
+                    continue;
+                }
+                batch.add(mapper.readValue(p, RAW_REVIEW));
+                progress.parsed++;
+                if (batch.size() == batchSize) {
+                    submit(batch, account, slots, workers, failure, progress);
+                    batch = new ArrayList<>(batchSize);
+                    progress.bytesRead = in.position();
+                    status = progress.snapshot(State.RUNNING, null);
+                    int tenths = (int) (progress.bytesRead * 10 / Math.max(1, progress.bytesTotal));
+                    if (tenths > logged) {
+                        logged = tenths;
+                        Status s = status;
+                        log.info("Bulk import of {}: {}%, {} reviews, {} reviews/s, {} MB/s", file, tenths * 10,
+                                s.reviewsLoaded(), Math.round(s.reviewsPerSecond()), Math.round(s.megabytesPerSecond()));
+                    }
+                }
+            }
+            if (!batch.isEmpty() && failure.get() == null) submit(batch, account, slots, workers, failure, progress);
+            slots.acquire(pending); // every batch applied
+            if (failure.get() != null) throw failure.get();
+
+            progress.bytesRead = in.position();
+            status = progress.snapshot(State.COMPLETED, null);
+            log.info("Bulk import of {} loaded {} reviews into {} ({} skipped) in {} s", file, progress.loaded.get(),
+                    account, progress.skipped.get(), Duration.between(started, Instant.now()).toSeconds());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            status = progress.snapshot(State.FAILED, "Interrupted");
+        } catch (Throwable e) {
+            status = progress.snapshot(State.FAILED, e.getClass().getSimpleName() + ": " + e.getMessage());
+            log.warn("Bulk import of {} stopped after {} reviews: {}", file, progress.loaded.get(), e.toString());
+        } finally {
+            workers.shutdownNow();
+        }
+        return status;
+    }
+
+    /**
+     * Moves {@code p} onto the start of the reviews array.
+     */
+    private static boolean seekReviews(JsonParser p) throws IOException {
+        JsonToken root = p.nextToken();
+        if (root == JsonToken.START_ARRAY) return true;
+        if (root != JsonToken.START_OBJECT) return false;
+        while (p.nextToken() == JsonToken.FIELD_NAME) {
+            String field = p.currentName();
+            JsonToken value = p.nextToken();
+            if ((field.equals("result") || field.equals("data")) && value == JsonToken.START_ARRAY) return true;
+            p.skipChildren();
+        }
+        return false;
+    }
+
+    /**
+     * Hand {@code batch} to a worker, waiting for a free slot first (the backpressure on parsing).
+     */
+    private void submit(List<Map<String, Object>> batch, String account, Semaphore slots, ExecutorService workers,
+                        AtomicReference<Throwable> failure, Progress progress) throws InterruptedException {
+        slots.acquire();
+        workers.execute(() -> {
+            try {
+                List<NormalizedReview> normalized = new ArrayList<>(batch.size());
+                for (var raw : batch) {
+                    try {
+                        normalized.add(HostawayReviewNormalizer.normalizeOne(raw));
+                    } catch (RuntimeException bad) {
+                        progress.skipped.incrementAndGet();
+                    }
+                }
+                List<NormalizedReview> fresh = webhooks.withoutNewerPushes(account, normalized, progress.startedNanos);
+                if (!progress.overwrite) fresh = fresh.stream().filter(r -> store.get(account, r.id()).isEmpty()).toList();
+                store.upsertAll(account, fresh);
+                progress.loaded.addAndGet(fresh.size());
+                progress.kept.addAndGet(normalized.size() - fresh.size());
+            } catch (Throwable e) {
+                failure.compareAndSet(null, e);
+            } finally {
+                slots.release();
+            }
+        });
+    }
+
+    /**
+     * Counters of the running import; {@code parsed} and the byte counts are only written by the parsing thread.
+     */
+    private static final class Progress {
+        final String file;
+        final String account;
+        final Instant started;
+        final long startedNanos;
+        final boolean overwrite;
+        final AtomicLong loaded = new AtomicLong();
+        final AtomicLong skipped = new AtomicLong();
+        final AtomicLong kept = new AtomicLong();
+        volatile long bytesTotal;
+        volatile long bytesRead;
+        volatile long parsed;
+
+        Progress(String file, String account, Instant started, long startedNanos, boolean overwrite) {
+            this.file = file;
+            this.account = account;
+            this.started = started;
+            this.startedNanos = startedNanos;
+            this.overwrite = overwrite;
+        }
+
+        Status snapshot(State state, String error) {
+            Instant now = Instant.now();
+            double seconds = Math.max(1e-3, Duration.between(started, now).toNanos() / 1e9);
+            long loadedNow = loaded.get();
+            return new Status(state, file, account, bytesTotal, bytesRead, parsed, loadedNow, skipped.get(), kept.get(),
+                    loadedNow / seconds, bytesRead / 1e6 / seconds, started, state == State.RUNNING ? null : now, error);
+        }
+    }
+
+    // ======================= MAPPED INPUT =======================
+
+    /**
+     * Reads a file through successive read-only mappings of at most {@code window} bytes, so files beyond the 2 GB
+     * limit of one mapping can be read and the data stays off the heap. Earlier regions are unmapped once collected.
+     */
+    private static final class MappedInput extends InputStream {
+        private final FileChannel channel;
+        private final long window;
+        final long size;
+        private MappedByteBuffer buf;
+        private long base;
+
+        MappedInput(FileChannel channel, long window) throws IOException {
+            this.channel = channel;
+            this.window = Math.min(window, Integer.MAX_VALUE);
+            this.size = channel.size();
+        }
+
+        long position() {
+            return buf == null ? 0 : base + buf.position();
+        }
+
+        @Override
+        public int read() throws IOException {
+            return ensure() ? buf.get() & 0xff : -1;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (len == 0) return 0;
+            if (!ensure()) return -1;
+            int n = Math.min(len, buf.remaining());
+            buf.get(b, off, n);
+            return n;
+        }
+
+        @Override
+        public int available() {
+            return buf == null ? 0 : buf.remaining();
+        }
+
+        @Override
+        public void close() {
+            buf = null;
+        }
+
+        /**
+         * @return false at end of file
+         */
+        private boolean ensure() throws IOException {
+            if (buf != null && buf.hasRemaining()) return true;
+            long next = buf == null ? 0 : base + buf.capacity();
+            if (next >= size) return false;
+            base = next;
+            buf = channel.map(FileChannel.MapMode.READ_ONLY, base, Math.min(window, size - base));
+            return true;
+        }
+    }
+
+    private static String blankToNull(String s) {
+        return s == null || s.isBlank() ? null : s;
+    }
+
+    private static ThreadFactory daemon(String prefix) {
+        AtomicInteger n = new AtomicInteger();
+        return r -> {
+            Thread t = new Thread(r, prefix + "-" + n.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        };
+    }
+}
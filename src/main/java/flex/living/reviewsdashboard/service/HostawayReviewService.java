@@ -1,20 +1,109 @@
-package flex.living.reviewsdashboard.service;
-
-import flex.living.reviewsdashboard.client.HostawayReviewClient;
-import flex.living.reviewsdashboard.model.NormalizedReviewResponse;
-import org.springframework.stereotype.Service;
-
-import java.io.IOException;
-
-@Service
-public class HostawayReviewService {
-    private final HostawayReviewClient client;
-
-    public HostawayReviewService(HostawayReviewClient client) {
-        this.client = client;
-    }
-
-    public NormalizedReviewResponse getReviews(Integer limit, Integer offset) throws IOException {
-        return client.fetchAndNormalize(limit, offset);
-    }
-}
\ No newline at end of file
+package flex.living.reviewsdashboard.service;
+
+import flex.living.reviewsdashboard.client.HostawayAccount;
+import flex.living.reviewsdashboard.client.HostawayAccounts;
+import flex.living.reviewsdashboard.client.HostawayReviewClient;
+import flex.living.reviewsdashboard.client.RequestPriority;
+import flex.living.reviewsdashboard.config.ReviewSyncConfig;
+import flex.living.reviewsdashboard.model.NormalizedReview;
+import flex.living.reviewsdashboard.model.NormalizedReviewResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.time.OffsetDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Slf4j
+@Service
+public class HostawayReviewService {
+
+    /**
+     * Newest first; reviews without a date last.
+     */
+    public static final Comparator<NormalizedReview> NEWEST_FIRST = Comparator.comparing(
+            NormalizedReview::submittedAt, Comparator.nullsFirst(Comparator.comparing(OffsetDateTime::toInstant))).reversed();
+
+    private final HostawayReviewClient client;
+    private final HostawayAccounts accounts;
+    private final ReviewStore store;
+    private final ReviewSyncConfig sync;
+    private final HostawayWebhookIngestor webhooks;
+    private final Map<String, Long> lastRefreshNanos = new ConcurrentHashMap<>();
+
+    public HostawayReviewService(HostawayReviewClient client, HostawayAccounts accounts, ReviewStore store, ReviewSyncConfig sync,
+                                 HostawayWebhookIngestor webhooks) {
+        this.client = client;
+        this.accounts = accounts;
+        this.store = store;
+        this.sync = sync;
+        this.webhooks = webhooks;
+    }
+
+    /**
+     * Fetch a page for {@code account} (null for the default) from Hostaway; the normalized reviews are also
+     * upserted into that account's {@link ReviewStore} partition. When Hostaway fails or has nothing, the demo
+     * reviews are returned instead, and only in this response.
+     */
+    public NormalizedReviewResponse getReviews(String account, Integer limit, Integer offset) throws IOException {
+        HostawayAccount a = accounts.resolve(account);
+        List<NormalizedReview> reviews;
+        long started = System.nanoTime();
+        try {
+            reviews = client.fetchReviews(a, limit, offset, RequestPriority.INTERACTIVE);
+        } catch (RuntimeException e) {
+            log.debug("Hostaway page for {} failed: {}", a.key(), e.toString());
+            reviews = List.of();
+        }
+        if (reviews.isEmpty()) return client.mockResponse();
+        store.upsertAll(a.key(), webhooks.withoutNewerPushes(a.key(), reviews, started));
+        return new NormalizedReviewResponse("hostaway", reviews.size(), reviews);
+    }
+
+    /**
+     * All stored reviews of {@code account}, newest first. A partition is seeded from the first page and that
+     * page is re-pulled every {@code hostaway.sync.refresh-seconds}; pushed webhook events show up in between.
+     * A pull never overwrites a review that a webhook changed while it was in flight. While the partition is
+     * still empty (sandbox account, Hostaway down) the demo reviews are returned, without storing them.
+     */
+    public List<NormalizedReview> snapshot(String account) throws IOException {
+        String key = refreshIfStale(account);
+        if (store.isEmpty(key)) return client.mockResponse().reviews().stream().sorted(NEWEST_FIRST).toList();
+        var all = store.all(key);
+        all.sort(NEWEST_FIRST);
+        return all;
+    }
+
+    /**
+     * Seed or re-pull the first page of {@code account} as {@link #snapshot} does, for callers that read the
+     * {@link ReviewStore} partition themselves. A failed or empty seed is retried on the same
+     * {@code refresh-seconds} schedule, so an empty partition does not send every request upstream.
+     *
+     * @return the account key of the partition
+     */
+    public String refreshIfStale(String account) throws IOException {
+        String key = accounts.resolve(account).key();
+        long now = System.nanoTime();
+        Long last = lastRefreshNanos.get(key);
+        if (last == null || now - last > sync.getRefreshSeconds() * 1_000_000_000L) {
+            lastRefreshNanos.put(key, now);
+            try {
+                var page = client.fetchReviews(accounts.resolve(key), sync.getSeedLimit(), 0, RequestPriority.INTERACTIVE);
+                store.upsertAll(key, webhooks.withoutNewerPushes(key, page, now));
+            } catch (RuntimeException e) {
+                // keep serving what is stored until the next re-pull
+                log.debug("Hostaway refresh of {} failed: {}", key, e.toString());
+            }
+        }
+        return key;
+    }
+
+    public Optional<NormalizedReview> find(String account, String id) throws IOException {
+        var hit = store.get(accounts.resolve(account).key(), id);
+        return hit.isPresent() ? hit : snapshot(account).stream().filter(r -> r.id().equals(id)).findFirst();
+    }
+}
@@ -0,0 +1,59 @@
+package flex.living.reviewsdashboard.service;
+
+import flex.living.reviewsdashboard.client.HostawayAccount;
+import flex.living.reviewsdashboard.client.HostawayReviewClient;
+import flex.living.reviewsdashboard.client.RequestPriority;
+import flex.living.reviewsdashboard.model.NormalizedReview;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Hostaway reviews of the requested account. The client already normalizes each chunk as it arrives
+ * (see {@link HostawayReviewClient}), so records come out in the common model and only the listing filter is left.
+ */
+@Component
+@Order(1) // merge order, which breaks ties between reviews submitted at the same time
+@RequiredArgsConstructor
+public class HostawayReviewSource implements ReviewSource<NormalizedReview> {
+
+    private final HostawayReviewClient client;
+    private final HostawayReviewService reviews;
+
+    @Override
+    public String name() {
+        return "hostaway";
+    }
+
+    @Override
+    public List<NormalizedReview> fetch(Query query) throws Exception {
+        return client.fetchAndNormalize(query.account(), query.limit(), query.offset(), RequestPriority.INTERACTIVE).reviews();
+    }
+
+    @Override
+    public NormalizedReview normalize(NormalizedReview raw, Query query) {
+        return query.listing() == null || query.listing().equals(raw.listingName()) ? raw : null;
+    }
+
+    /**
+     * Channel reviews keep Hostaway's plain ids; other sources prefix theirs ({@code google:}).
+     */
+    @Override
+    public boolean owns(String id) {
+        return id.indexOf(':') < 0;
+    }
+
+    @Override
+    public Optional<NormalizedReview> find(HostawayAccount account, String id) throws IOException {
+        return reviews.find(account.key(), id);
+    }
+
+    @Override
+    public Limits limits() {
+        return new Limits(8, 32, 10_000); // waits behind the account rate limiter
+    }
+}
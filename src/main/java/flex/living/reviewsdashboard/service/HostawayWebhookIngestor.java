@@ -0,0 +1,262 @@
+package flex.living.reviewsdashboard.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import flex.living.reviewsdashboard.client.HostawayAccount;
+import flex.living.reviewsdashboard.client.HostawayAccounts;
+import flex.living.reviewsdashboard.client.HostawayReviewNormalizer;
+import flex.living.reviewsdashboard.config.WebhookConfig;
+import flex.living.reviewsdashboard.model.NormalizedReview;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Queues pushed Hostaway review events and applies them to the {@link ReviewStore} in batches.
+ * <p>
+ * {@link #offer} only validates and enqueues, so the webhook can acknowledge immediately. A single worker
+ * drains the queue every {@code flush-interval-ms} (or as soon as a batch is full), keeps the newest event
+ * per review id, normalizes with {@link HostawayReviewNormalizer} and upserts the batch. Events with an
+ * explicit update version ({@code version}, {@code updatedOn}, {@code updatedAt}) that is not newer than the one
+ * already applied are dropped; events without one are always applied, and an unchanged review is a no-op
+ * in the store.
+ * <p>
+ * Each event belongs to one account: the {@code ?account=} key of the delivery if given, else the
+ * {@code accountId} in the body or review, else the default account. Events for an {@code accountId} that is
+ * not configured are ignored.
+ */
+@Slf4j
+@Component
+public class HostawayWebhookIngestor {
+
+    private final ReviewStore store;
+    private final HostawayAccounts accounts;
+    private final WebhookConfig cfg;
+    private final BlockingQueue<Event> queue;
+    private final Cache<String, Long> applied; // account + review id → last applied version
+    private final Cache<String, Long> appliedAtNanos; // account + review id → when an event last changed it
+
+    private final Counter received;
+    private final Counter duplicates;
+    private final Counter ignored;
+    private final Counter rejected;
+
+    private volatile boolean running;
+    private Thread worker;
+
+    public HostawayWebhookIngestor(ReviewStore store, HostawayAccounts accounts, WebhookConfig cfg, MeterRegistry registry) {
+        this.store = store;
+        this.accounts = accounts;
+        this.cfg = cfg;
+        this.queue = new ArrayBlockingQueue<>(cfg.getQueueCapacity());
+        this.applied = Caffeine.newBuilder().maximumSize(cfg.getDedupMaxEntries()).build();
+        this.appliedAtNanos = Caffeine.newBuilder().maximumSize(cfg.getDedupMaxEntries()).build();
+        this.received = registry.counter("webhook.events", "result", "queued");
+        this.duplicates = registry.counter("webhook.events", "result", "duplicate");
+        this.ignored = registry.counter("webhook.events", "result", "ignored");
+        this.rejected = registry.counter("webhook.events", "result", "rejected");
+        registry.gauge("webhook.queue.depth", queue, BlockingQueue::size);
+    }
+
+    /**
+     * Event with the raw Hostaway review, its update version (null when the payload has none) and the account
+     * it was resolved to (null until {@link #offer} resolves it).
+     */
+    record Event(String account, String reviewId, Long version, Map<String, Object> review) {
+
+        String dedupKey() {
+            return account + '/' + reviewId;
+        }
+    }
+
+    /**
+     * Validate and enqueue raw webhook bodies for the account they name (or the default account).
+     *
+     * @return false if the queue is full (caller should ask the sender to retry)
+     */
+    public boolean offer(List<Map<String, Object>> bodies) {
+        return offer(null, bodies);
+    }
+
+    /**
+     * As above, with every body assigned to {@code account} (null to resolve per body).
+     *
+     * @throws flex.living.reviewsdashboard.client.UnknownAccountException if {@code account} is not configured
+     */
+    public boolean offer(String account, List<Map<String, Object>> bodies) {
+        HostawayAccount forced = account == null || account.isBlank() ? null : accounts.resolve(account);
+        for (Map<String, Object> body : bodies) {
+            Event parsed = parse(body);
+            Optional<HostawayAccount> owner = parsed == null ? Optional.empty()
+                    : forced != null ? Optional.of(forced) : owner(body, parsed.review());
+            if (owner.isEmpty()) {
+                ignored.increment();
+                continue;
+            }
+            Event e = new Event(owner.get().key(), parsed.reviewId(), parsed.version(), parsed.review());
+            if (!queue.offer(e)) {
+                rejected.increment();
+                return false;
+            }
+            received.increment();
+        }
+        return true;
+    }
+
+    /**
+     * {@code polled} without the reviews an event changed after {@code startedNanos}: a poll that was already
+     * under way would overwrite them with an older state.
+     */
+    public List<NormalizedReview> withoutNewerPushes(String account, List<NormalizedReview> polled, long startedNanos) {
+        List<NormalizedReview> out = new ArrayList<>(polled.size());
+        for (NormalizedReview r : polled) {
+            Long at = appliedAtNanos.getIfPresent(account + '/' + r.id());
+            if (at == null || at - startedNanos < 0) out.add(r);
+        }
+        return out;
+    }
+
+    /**
+     * Apply everything queued so far on the calling thread (event replay, tests, shutdown).
+     */
+    public synchronized int flush() {
+        List<Event> batch = new ArrayList<>();
+        queue.drainTo(batch);
+        return apply(batch);
+    }
+
+    @PostConstruct
+    void start() {
+        running = true;
+        worker = new Thread(this::run, "hostaway-webhook-ingest");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        running = false;
+        worker.interrupt();
+        worker.join(2000);
+        flush();
+    }
+
+    private void run() {
+        List<Event> batch = new ArrayList<>(cfg.getBatchSize());
+        while (running) {
+            try {
+                Event first = queue.poll(cfg.getFlushIntervalMs(), TimeUnit.MILLISECONDS);
+                if (first == null) continue;
+                batch.add(first);
+                queue.drainTo(batch, cfg.getBatchSize() - 1);
+                synchronized (this) {
+                    apply(batch);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                log.warn("Webhook batch of {} failed", batch.size(), e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private int apply(List<Event> batch) {
+        if (batch.isEmpty()) return 0;
+
+        // newest event per account and id within the batch: by version when both have one, else the later arrival
+        Map<String, Event> latest = new LinkedHashMap<>();
+        for (Event e : batch) {
+            latest.merge(e.dedupKey(), e, (a, b) -> a.version() == null || b.version() == null || b.version() >= a.version() ? b : a);
+        }
+
+        Map<String, List<NormalizedReview>> normalized = new LinkedHashMap<>();
+        List<Event> accepted = new ArrayList<>(latest.size());
+        for (Event e : latest.values()) {
+            Long seen = applied.getIfPresent(e.dedupKey());
+            if (seen != null && e.version() != null && e.version() <= seen) {
+                duplicates.increment();
+                continue;
+            }
+            normalized.computeIfAbsent(e.account(), k -> new ArrayList<>())
+                    .add(HostawayReviewNormalizer.normalizeOne(e.review()));
+            accepted.add(e);
+        }
+        duplicates.increment(batch.size() - latest.size());
+
+        int changed = 0;
+        for (var partition : normalized.entrySet()) changed += store.upsertAll(partition.getKey(), partition.getValue());
+        long now = System.nanoTime();
+        for (Event e : accepted) {
+            if (e.version() != null) applied.put(e.dedupKey(), e.version());
+            appliedAtNanos.put(e.dedupKey(), now);
+        }
+        return changed;
+    }
+
+    // ======================= PARSING =======================
+
+    /**
+     * Accepts {"event": "review.created" | "review.updated" | "reviewCreated" | ..., "data": {review}}
+     * (also "payload"/"review" for the body). Returns null for anything that is not a review event.
+     */
+    @SuppressWarnings("unchecked")
+    static Event parse(Map<String, Object> body) {
+        if (body == null) return null;
+        String event = String.valueOf(body.getOrDefault("event", body.getOrDefault("type", "")))
+                .toLowerCase(Locale.ROOT).replace("_", "").replace(".", "");
+        if (!event.equals("reviewcreated") && !event.equals("reviewupdated")) return null;
+
+        Object data = body.getOrDefault("data", body.getOrDefault("payload", body.get("review")));
+        if (!(data instanceof Map<?, ?> m) || m.get("id") == null) return null;
+        Map<String, Object> review = (Map<String, Object>) m;
+
+        return new Event(null, String.valueOf(review.get("id")), version(body, review), review);
+    }
+
+    /**
+     * Account named by {@code accountId} in the body or the review; the default account if neither has one.
+     */
+    private Optional<HostawayAccount> owner(Map<String, Object> body, Map<String, Object> review) {
+        Object id = body.getOrDefault("accountId", review.get("accountId"));
+        if (id == null) return Optional.of(accounts.defaultAccount());
+        try {
+            return accounts.byAccountId(Integer.valueOf(String.valueOf(id).trim()));
+        } catch (NumberFormatException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Explicit update version of the event, or null: {@code submittedAt} does not change when a review is
+     * edited or answered, so it can't order updates.
+     */
+    private static Long version(Map<String, Object> body, Map<String, Object> review) {
+        if (body.get("version") instanceof Number n) return n.longValue();
+        if (review.get("version") instanceof Number n) return n.longValue();
+        for (String f : new String[]{"updatedOn", "updatedAt"}) {
+            Object v = review.get(f);
+            if (v instanceof String s && !s.isBlank()) {
+                OffsetDateTime t = HostawayReviewNormalizer.parseDateTime(s);
+                if (t != null) return t.toInstant().toEpochMilli();
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,46 @@
+package flex.living.reviewsdashboard.service;
+
+/**
+ * HyperLogLog distinct counter with 2^{@code precision} one-byte registers (standard error ~1.04/sqrt(m)),
+ * using linear counting for small cardinalities. Sketches with the same precision merge by register max.
+ * Not thread-safe.
+ */
+final class HyperLogLog {
+
+    private final int precision;
+    private final byte[] registers;
+
+    HyperLogLog(int precision) {
+        this.precision = Math.max(4, Math.min(16, precision));
+        this.registers = new byte[1 << this.precision];
+    }
+
+    void add(String value) {
+        if (value == null || value.isEmpty()) return;
+        long h = MinHashIndex.mix(MinHashIndex.fnv64(value));
+        int idx = (int) (h >>> (64 - precision));
+        long rest = (h << precision) | (1L << (precision - 1)); // sentinel bounds the rank
+        byte rank = (byte) (Long.numberOfLeadingZeros(rest) + 1);
+        if (rank > registers[idx]) registers[idx] = rank;
+    }
+
+    void add(HyperLogLog other) {
+        for (int i = 0; i < registers.length; i++) {
+            if (other.registers[i] > registers[i]) registers[i] = other.registers[i];
+        }
+    }
+
+    long estimate() {
+        int m = registers.length;
+        double sum = 0;
+        int zeros = 0;
+        for (byte r : registers) {
+            sum += 1.0 / (1L << r);
+            if (r == 0) zeros++;
+        }
+        double alpha = 0.7213 / (1 + 1.079 / m);
+        double e = alpha * m * m / sum;
+        if (e <= 2.5 * m && zeros > 0) e = m * Math.log((double) m / zeros);
+        return Math.round(e);
+    }
+}
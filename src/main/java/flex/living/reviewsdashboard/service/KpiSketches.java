@@ -0,0 +1,284 @@
+package flex.living.reviewsdashboard.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import flex.living.reviewsdashboard.config.KpiSketchConfig;
+import flex.living.reviewsdashboard.model.NormalizedReview;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Dashboard KPIs from mergeable sketches, one cell per (account, listing, channel), maintained as reviews enter the
+ * {@link ReviewStore}:
+ * <ul>
+ *     <li>guest rating distribution ({@link TDigest} over {@code overallRating} of guest-to-host reviews);</li>
+ *     <li>host response time: hours between a guest's review and the host's review of that guest on the same
+ *     listing ({@link TDigest});</li>
+ *     <li>distinct guests ({@link HyperLogLog}).</li>
+ * </ul>
+ * A query merges the account's cells for the requested listings and channels, so memory is fixed per cell and latency
+ * depends only on the number of cells. Sketches cannot retract values; edits are counted and, once
+ * {@code reviews.kpi.rebuild-stale-ratio} of the reviews have changed, the cells are rebuilt from the store on a
+ * background thread. Queries keep reading the current cells until the rebuilt ones are swapped in; upserts during
+ * the rebuild are logged and replayed onto the new cells.
+ */
+@Component
+public class KpiSketches implements ReviewStoreListener {
+
+    public record Kpis(List<String> listings, List<String> channels, long reviews,
+                       Map<String, Double> ratingPercentiles, Map<String, Double> responseHoursPercentiles,
+                       long distinctGuests) {
+    }
+
+    private record CellKey(String account, String listing, String channel) {
+    }
+
+    private record Pending(String direction, OffsetDateTime at, CellKey guestCell) {
+    }
+
+    private record Upsert(String account, NormalizedReview review) {
+    }
+
+    private final KpiSketchConfig cfg;
+    private final ReviewStore store;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private volatile Map<CellKey, Cell> cells = new ConcurrentHashMap<>();
+    private volatile Cache<String, Pending> pending;
+    private final AtomicLong stale = new AtomicLong();
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+    private volatile ConcurrentLinkedQueue<Upsert> replay; // non-null while a rebuild scans the store
+    private final ExecutorService rebuilder = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "kpi-rebuild");
+        t.setDaemon(true);
+        return t;
+    });
+
+    public KpiSketches(KpiSketchConfig cfg, ReviewStore store) {
+        this.cfg = cfg;
+        this.store = store;
+        this.pending = newPending();
+        store.addListener(this);
+    }
+
+    @Override
+    public void onUpsert(String account, NormalizedReview previous, NormalizedReview current) {
+        if (previous != null && sameContribution(previous, current)) return;
+        boolean rebuild = false;
+        lock.readLock().lock();
+        try {
+            if (previous != null) {
+                long s = stale.incrementAndGet(); // old values stay in the sketches until a rebuild
+                rebuild = needsRebuild(s) && rebuilding.compareAndSet(false, true);
+            }
+            if (rebuild) replay = new ConcurrentLinkedQueue<>(); // log this upsert too: the store does not show it yet
+            ingest(account, current, cells, pending);
+            var log = replay;
+            if (log != null) log.add(new Upsert(account, current));
+        } finally {
+            lock.readLock().unlock();
+        }
+        if (rebuild) startRebuild();
+    }
+
+    /**
+     * KPIs of {@code account} over the given listings and channels (empty = all).
+     *
+     * @param quantiles e.g. 0.5, 0.9, 0.99
+     */
+    public Kpis query(String account, Collection<String> listings, Collection<String> channels, double... quantiles) {
+        var rating = new TDigest(cfg.getCompression());
+        var response = new TDigest(cfg.getCompression());
+        var guests = new HyperLogLog(cfg.getHllPrecision());
+        var seenListings = new TreeSet<String>();
+        var seenChannels = new TreeSet<String>();
+        long reviews = 0;
+
+        for (var e : cells.entrySet()) {
+            CellKey k = e.getKey();
+            if (!k.account().equals(account)) continue;
+            if (!listings.isEmpty() && !listings.contains(k.listing())) continue;
+            if (!channels.isEmpty() && !channels.contains(k.channel())) continue;
+            reviews += e.getValue().mergeInto(rating, response, guests);
+            seenListings.add(k.listing());
+            seenChannels.add(k.channel());
+        }
+        return new Kpis(List.copyOf(seenListings), List.copyOf(seenChannels), reviews,
+                percentiles(rating, quantiles), percentiles(response, quantiles), guests.estimate());
+    }
+
+    // ======================= INGEST =======================
+
+    private void ingest(String account, NormalizedReview r, Map<CellKey, Cell> into, Cache<String, Pending> waiting) {
+        CellKey key = new CellKey(account, nz(r.listingName()), nz(r.channel()));
+        boolean byGuest = "guest_to_host".equals(r.direction());
+        if (byGuest) into.computeIfAbsent(key, k -> new Cell(cfg)).addGuestReview(r);
+        pairResponse(account, r, byGuest ? key : null, into, waiting);
+    }
+
+    /**
+     * Match the guest's review with the host's review of the same guest/listing, in whichever order they arrive.
+     */
+    private void pairResponse(String account, NormalizedReview r, CellKey guestCell, Map<CellKey, Cell> into,
+                              Cache<String, Pending> waiting) {
+        if (r.submittedAt() == null || r.guestName() == null || r.listingName() == null) return;
+        String pairKey = account + '\u0000' + r.listingName() + '\u0000' + r.guestName().trim().toLowerCase();
+        Pending mine = new Pending(r.direction(), r.submittedAt(), guestCell);
+        Pending[] matched = {null};
+
+        waiting.asMap().compute(pairKey, (k, other) -> {
+            if (other != null && !other.direction().equals(mine.direction())) {
+                matched[0] = other;
+                return null;
+            }
+            return mine;
+        });
+
+        Pending other = matched[0];
+        if (other == null) return;
+        CellKey target = guestCell != null ? guestCell : other.guestCell();
+        if (target == null) return;
+        double hours = Duration.between(other.at(), mine.at()).abs().toMinutes() / 60.0;
+        into.computeIfAbsent(target, k -> new Cell(cfg)).addResponse(hours);
+    }
+
+    private static boolean sameContribution(NormalizedReview a, NormalizedReview b) {
+        return Objects.equals(a.overallRating(), b.overallRating())
+                && Objects.equals(a.guestName(), b.guestName())
+                && Objects.equals(a.listingName(), b.listingName())
+                && Objects.equals(a.channel(), b.channel())
+                && Objects.equals(a.direction(), b.direction())
+                && Objects.equals(a.submittedAt(), b.submittedAt());
+    }
+
+    // ======================= REBUILD =======================
+
+    private boolean needsRebuild(long s) {
+        return s >= Math.max(10, cfg.getRebuildStaleRatio() * store.size());
+    }
+
+    private void startRebuild() {
+        try {
+            rebuilder.execute(this::rebuild);
+        } catch (RuntimeException e) { // shut down
+            replay = null;
+            rebuilding.set(false);
+        }
+    }
+
+    /**
+     * Rebuild the cells off the request path. The store scan is overlaid with the upserts logged so far before
+     * anything is ingested; those arriving during ingestion are replayed under the write lock at the swap and,
+     * when they replace a version already ingested, counted as stale like any other edit.
+     */
+    private void rebuild() {
+        try {
+            Map<String, Upsert> latest = new LinkedHashMap<>();
+            for (String account : store.accounts()) {
+                for (NormalizedReview r : store.all(account)) latest.put(key(account, r), new Upsert(account, r));
+            }
+            var log = replay;
+            for (Upsert u; (u = log.poll()) != null; ) latest.put(key(u.account(), u.review()), u);
+
+            Map<CellKey, Cell> fresh = new ConcurrentHashMap<>();
+            Cache<String, Pending> freshPending = newPending();
+            for (Upsert u : latest.values()) ingest(u.account(), u.review(), fresh, freshPending);
+
+            lock.writeLock().lock();
+            try {
+                long freshStale = 0;
+                for (Upsert u; (u = log.poll()) != null; ) {
+                    Upsert seen = latest.put(key(u.account(), u.review()), u);
+                    if (seen != null && sameContribution(seen.review(), u.review())) continue;
+                    if (seen != null) freshStale++;
+                    ingest(u.account(), u.review(), fresh, freshPending);
+                }
+                cells = fresh;
+                pending = freshPending;
+                stale.set(freshStale);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        } finally {
+            replay = null;
+            rebuilding.set(false);
+        }
+    }
+
+    private static String key(String account, NormalizedReview r) {
+        return account + '\u0000' + r.id();
+    }
+
+    @EventListener(ContextClosedEvent.class)
+    void shutdown() {
+        rebuilder.shutdownNow();
+    }
+
+    private Cache<String, Pending> newPending() {
+        return Caffeine.newBuilder().maximumSize(cfg.getPendingResponses()).build();
+    }
+
+    // ======================= HELPERS =======================
+
+    private static Map<String, Double> percentiles(TDigest d, double[] quantiles) {
+        Map<String, Double> out = new LinkedHashMap<>();
+        for (double q : quantiles) {
+            double v = d.quantile(q);
+            out.put("p" + BigDecimal.valueOf(q * 100).stripTrailingZeros().toPlainString(),
+                    Double.isNaN(v) ? null : Math.round(v * 100) / 100.0);
+        }
+        return out;
+    }
+
+    private static String nz(String s) {
+        return s == null ? "unknown" : s;
+    }
+
+    private static final class Cell {
+        private final TDigest rating;
+        private final TDigest response;
+        private final HyperLogLog guests;
+        private long reviews;
+
+        Cell(KpiSketchConfig cfg) {
+            rating = new TDigest(cfg.getCompression());
+            response = new TDigest(cfg.getCompression());
+            guests = new HyperLogLog(cfg.getHllPrecision());
+        }
+
+        synchronized void addGuestReview(NormalizedReview r) {
+            reviews++;
+            if (r.overallRating() != null) rating.add(r.overallRating());
+            if (r.guestName() != null) guests.add(r.guestName().trim().toLowerCase());
+        }
+
+        synchronized void addResponse(double hours) {
+            response.add(hours);
+        }
+
+        synchronized long mergeInto(TDigest r, TDigest resp, HyperLogLog g) {
+            r.add(rating);
+            resp.add(response);
+            g.add(guests);
+            return reviews;
+        }
+    }
+}
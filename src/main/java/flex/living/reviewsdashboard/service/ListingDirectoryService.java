@@ -12,6 +12,8 @@ import java.util.Map;
 @RequiredArgsConstructor
 public class ListingDirectoryService {
     private final ListingsConfig cfg;
+    private final DatasetVersion version;
+    private final PlaceRefreshScheduler refresh;
 
     public List<Listing> all() {
         Map<String, String> map = cfg.getGooglePlaceIds();
@@ -26,6 +28,23 @@ public class ListingDirectoryService {
      */
     public void put(String name, String placeId) {
         cfg.getGooglePlaceIds().put(name, placeId);
+        version.bump();
+    }
+
+    /**
+     * Count a view of {@code listing} towards how often its Google reviews are refreshed.
+     * A null listing is a view of the whole portfolio, split evenly across places.
+     */
+    public void recordView(String listing) {
+        Map<String, String> map = cfg.getGooglePlaceIds();
+        if (map == null || map.isEmpty()) return;
+        if (listing == null) {
+            double share = 1.0 / map.size();
+            map.values().forEach(placeId -> refresh.recordAccess(placeId, share));
+        } else {
+            String placeId = map.get(listing);
+            if (placeId != null) refresh.recordAccess(placeId, 1);
+        }
     }
 
     public String placeIdOf(String name) {
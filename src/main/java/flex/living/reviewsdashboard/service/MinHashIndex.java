@@ -0,0 +1,169 @@
+package flex.living.reviewsdashboard.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+/**
+ * MinHash signatures with a banded LSH index.
+ * <p>
+ * A signature holds {@code bands * rows} minimum hash values of a feature set; two sets agree in a given
+ * position with probability equal to their Jaccard similarity. Signatures are split into bands and every band
+ * is a bucket key, so sets that agree on all rows of at least one band become candidates without comparing
+ * everything pairwise. Entries are added incrementally and re-added only when their feature fingerprint
+ * changes; they are kept in access order so {@link #trimTo} drops the least recently used. Not thread-safe;
+ * callers synchronize.
+ */
+final class MinHashIndex {
+
+    private final int bands;
+    private final int rows;
+    private final long[] seeds;
+
+    private final Map<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final Map<Long, List<String>> buckets = new HashMap<>();
+
+    private record Entry(long fingerprint, int[] signature) {
+    }
+
+    MinHashIndex(int bands, int rows) {
+        this.bands = Math.max(1, bands);
+        this.rows = Math.max(1, rows);
+        this.seeds = new long[this.bands * this.rows];
+        SplittableRandom rnd = new SplittableRandom(0x5EED_D0DEL); // fixed: signatures must be stable across runs
+        for (int i = 0; i < seeds.length; i++) seeds[i] = rnd.nextLong();
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    /**
+     * Whether {@code key} is indexed with this fingerprint; a hit counts as a use for {@link #trimTo}.
+     */
+    boolean holds(String key, long fingerprint) {
+        Entry e = entries.get(key);
+        return e != null && e.fingerprint() == fingerprint;
+    }
+
+    /**
+     * Index {@code key} under the given features unless it is already indexed with the same fingerprint.
+     * Empty features record the fingerprint only: the key is never a candidate, but is not re-examined.
+     *
+     * @return true if a signature was (re)computed
+     */
+    boolean put(String key, long fingerprint, Collection<String> features) {
+        Entry old = entries.get(key);
+        if (old != null && old.fingerprint() == fingerprint) return false;
+        if (old != null) unbucket(key, old.signature());
+
+        if (features.isEmpty()) {
+            entries.put(key, new Entry(fingerprint, null));
+            return true;
+        }
+        int[] sig = signature(features);
+        entries.put(key, new Entry(fingerprint, sig));
+        for (int b = 0; b < bands; b++) {
+            buckets.computeIfAbsent(bandKey(sig, b), k -> new ArrayList<>(2)).add(key);
+        }
+        return true;
+    }
+
+    /**
+     * Evict least recently used entries until at most {@code max} remain.
+     */
+    void trimTo(int max) {
+        Iterator<Map.Entry<String, Entry>> it = entries.entrySet().iterator();
+        while (entries.size() > max && it.hasNext()) {
+            Map.Entry<String, Entry> eldest = it.next();
+            unbucket(eldest.getKey(), eldest.getValue().signature());
+            it.remove();
+        }
+    }
+
+    /**
+     * Keys sharing at least one band with {@code key} (excluding itself).
+     */
+    Set<String> candidates(String key) {
+        Entry e = entries.get(key);
+        if (e == null || e.signature() == null) return Set.of();
+        Set<String> out = new HashSet<>();
+        for (int b = 0; b < bands; b++) {
+            List<String> bucket = buckets.get(bandKey(e.signature(), b));
+            if (bucket != null) out.addAll(bucket);
+        }
+        out.remove(key);
+        return out;
+    }
+
+    /**
+     * Fraction of agreeing signature positions, an unbiased estimate of the Jaccard similarity.
+     */
+    double similarity(String a, String b) {
+        Entry ea = entries.get(a), eb = entries.get(b);
+        if (ea == null || eb == null || ea.signature() == null || eb.signature() == null) return 0;
+        int same = 0;
+        for (int i = 0; i < seeds.length; i++) {
+            if (ea.signature()[i] == eb.signature()[i]) same++;
+        }
+        return (double) same / seeds.length;
+    }
+
+    // -------- internals --------
+
+    private int[] signature(Collection<String> features) {
+        int[] sig = new int[seeds.length];
+        Arrays.fill(sig, Integer.MAX_VALUE);
+        for (String f : features) {
+            long h = fnv64(f);
+            for (int i = 0; i < seeds.length; i++) {
+                int v = (int) (mix(h ^ seeds[i]) >>> 33);
+                if (v < sig[i]) sig[i] = v;
+            }
+        }
+        return sig;
+    }
+
+    private long bandKey(int[] sig, int band) {
+        long h = band * 0x9E3779B97F4A7C15L;
+        for (int r = 0; r < rows; r++) h = mix(h ^ sig[band * rows + r]);
+        return h;
+    }
+
+    private void unbucket(String key, int[] sig) {
+        if (sig == null) return;
+        for (int b = 0; b < bands; b++) {
+            long k = bandKey(sig, b);
+            List<String> bucket = buckets.get(k);
+            if (bucket == null) continue;
+            bucket.remove(key);
+            if (bucket.isEmpty()) buckets.remove(k);
+        }
+    }
+
+    static long fnv64(String s) {
+        long h = 0xcbf29ce484222325L;
+        for (int i = 0; i < s.length(); i++) {
+            h ^= s.charAt(i);
+            h *= 0x100000001b3L;
+        }
+        return h;
+    }
+
+    /**
+     * SplitMix64 finalizer.
+     */
+    static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+}
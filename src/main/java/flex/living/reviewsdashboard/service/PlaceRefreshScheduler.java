@@ -0,0 +1,298 @@
+package flex.living.reviewsdashboard.service;
+
+import flex.living.reviewsdashboard.client.CallNotPermittedException;
+import flex.living.reviewsdashboard.client.GoogleReviewClient;
+import flex.living.reviewsdashboard.config.GooglePlacesConfig;
+import flex.living.reviewsdashboard.config.ListingsConfig;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keeps cached Google reviews fresh where people look.
+ * <p>
+ * Views recorded through {@link ListingDirectoryService#recordView} feed an exponentially decayed access rate per
+ * place ({@code half-life-minutes}), so the schedule follows traffic as it shifts. Every tick the hourly budget
+ * ({@code requests-per-hour}) is split across the configured places: each gets the {@code max-interval-minutes}
+ * floor, and the rest goes out in proportion to the square root of its access rate, which minimises the expected
+ * staleness a viewer sees for a fixed number of refreshes. No place is refreshed more often than
+ * {@code min-interval-minutes}, and budget that idle places don't earn is left unspent.
+ * <p>
+ * Refreshes are paced by a token bucket over the same budget. Cache misses served on demand draw on it too
+ * (see {@link GoogleReviewClient.FetchListener}). The current plan is at {@code /actuator/refreshschedule}.
+ */
+@Slf4j
+@Component
+@Endpoint(id = "refreshschedule")
+public class PlaceRefreshScheduler {
+
+    private static final double LN2 = Math.log(2);
+
+    /**
+     * One place in the current plan; {@code ageMinutes} is null until it has been fetched once.
+     */
+    public record Entry(String placeId, List<String> listings, double viewsPerHour, double intervalMinutes,
+                        Long ageMinutes, boolean due) {
+    }
+
+    private static final class Place {
+        double views;            // decayed count, guarded by this
+        long decayedAtMillis;
+        volatile long refreshedAtMillis;
+    }
+
+    private static final ThreadLocal<Boolean> SCHEDULED = ThreadLocal.withInitial(() -> false);
+
+    private final GoogleReviewClient google;
+    private final ListingsConfig listings;
+    private final GooglePlacesConfig.Refresh cfg;
+    private final Map<String, Place> places = new ConcurrentHashMap<>();
+    private final Counter scheduledFetches;
+    private final Counter onDemandFetches;
+
+    // guarded by this
+    private double tokens;
+    private long tokensAtMillis;
+
+    private ScheduledExecutorService timer;
+
+    public PlaceRefreshScheduler(GoogleReviewClient google, ListingsConfig listings, GooglePlacesConfig googleCfg,
+                                 MeterRegistry registry) {
+        this.google = google;
+        this.listings = listings;
+        this.cfg = googleCfg.getRefresh();
+        this.tokens = capacity();
+        this.tokensAtMillis = System.currentTimeMillis();
+        this.scheduledFetches = registry.counter("google.refresh.fetches", "trigger", "scheduled");
+        this.onDemandFetches = registry.counter("google.refresh.fetches", "trigger", "on_demand");
+        Gauge.builder("google.refresh.tokens", this, PlaceRefreshScheduler::tokens).register(registry);
+        google.addFetchListener(this::onFetch);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    void start() {
+        if (!cfg.isEnabled()) return;
+        timer = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "google-refresh");
+            t.setDaemon(true);
+            return t;
+        });
+        long tick = Math.max(1, cfg.getTickSeconds());
+        timer.scheduleWithFixedDelay(() -> {
+            try {
+                runOnce();
+            } catch (RuntimeException e) {
+                log.warn("Google refresh tick failed", e);
+            }
+        }, tick, tick, TimeUnit.SECONDS);
+    }
+
+    @PreDestroy
+    void stop() {
+        if (timer != null) timer.shutdownNow();
+    }
+
+    // ======================= SIGNALS =======================
+
+    /**
+     * Count {@code weight} views of {@code placeId}.
+     */
+    public void recordAccess(String placeId, double weight) {
+        Place p = places.computeIfAbsent(placeId, k -> new Place());
+        synchronized (p) {
+            decay(p, System.currentTimeMillis());
+            p.views += weight;
+        }
+    }
+
+    private void onFetch(String placeId, boolean succeeded) {
+        if (SCHEDULED.get()) return; // already paid for in runOnce
+        onDemandFetches.increment();
+        spend();
+        if (succeeded) places.computeIfAbsent(placeId, k -> new Place()).refreshedAtMillis = System.currentTimeMillis();
+    }
+
+    // ======================= PLAN =======================
+
+    /**
+     * Refresh the most overdue places the budget allows right now.
+     *
+     * @return how many places were refreshed
+     */
+    public int runOnce() {
+        long now = System.currentTimeMillis();
+        List<Entry> due = new ArrayList<>();
+        for (Entry e : plan(now)) if (e.due()) due.add(e);
+        due.sort(Comparator.comparingDouble((Entry e) -> overdue(e)).reversed());
+
+        int refreshed = 0;
+        for (Entry e : due) {
+            if (!tryAcquire()) break;
+            scheduledFetches.increment();
+            SCHEDULED.set(true);
+            try {
+                google.refresh(e.placeId());
+                places.computeIfAbsent(e.placeId(), k -> new Place()).refreshedAtMillis = System.currentTimeMillis();
+                refreshed++;
+            } catch (CallNotPermittedException open) {
+                refund();
+                break; // breaker is open, try again next tick
+            } catch (RuntimeException ex) {
+                log.debug("Scheduled refresh of {} failed: {}", e.placeId(), ex.toString());
+            } finally {
+                SCHEDULED.set(false);
+            }
+        }
+        return refreshed;
+    }
+
+    @ReadOperation
+    public List<Entry> schedule() {
+        List<Entry> plan = plan(System.currentTimeMillis());
+        plan.sort(Comparator.comparingDouble(Entry::viewsPerHour).reversed());
+        return plan;
+    }
+
+    private List<Entry> plan(long now) {
+        Map<String, List<String>> byPlace = new LinkedHashMap<>();
+        if (listings.getGooglePlaceIds() != null) {
+            listings.getGooglePlaceIds().forEach((name, placeId) ->
+                    byPlace.computeIfAbsent(placeId, k -> new ArrayList<>()).add(name));
+        }
+        int n = byPlace.size();
+        if (n == 0) return new ArrayList<>();
+
+        List<String> ids = new ArrayList<>(byPlace.keySet());
+        double[] rates = new double[n];
+        double[] weights = new double[n];
+        for (int i = 0; i < n; i++) {
+            rates[i] = viewsPerHour(ids.get(i), now);
+            weights[i] = Math.sqrt(rates[i]);
+        }
+        double[] perHour = allocate(weights, cfg.getRequestsPerHour(),
+                60.0 / Math.max(1, cfg.getMaxIntervalMinutes()), 60.0 / Math.max(1, cfg.getMinIntervalMinutes()));
+
+        List<Entry> entries = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            double interval = 60.0 / perHour[i];
+            Place p = places.get(ids.get(i));
+            long refreshedAt = p == null ? 0 : p.refreshedAtMillis;
+            Long age = refreshedAt == 0 ? null : (now - refreshedAt) / 60_000;
+            boolean due = refreshedAt == 0 || now - refreshedAt >= interval * 60_000;
+            entries.add(new Entry(ids.get(i), List.copyOf(byPlace.get(ids.get(i))), rates[i], interval, age, due));
+        }
+        return entries;
+    }
+
+    /**
+     * Refreshes per hour for each place: the {@code floor} for everyone, then what is left of {@code budget}
+     * in proportion to {@code weights}, capped at {@code ceiling} with the excess handed on to the others.
+     */
+    static double[] allocate(double[] weights, double budget, double floor, double ceiling) {
+        int n = weights.length;
+        double[] out = new double[n];
+        if (floor * n >= budget) {
+            Arrays.fill(out, budget / n);
+            return out;
+        }
+        Arrays.fill(out, floor);
+        double left = budget - floor * n;
+        boolean[] capped = new boolean[n];
+        while (left > 1e-9) {
+            double total = 0;
+            for (int i = 0; i < n; i++) if (!capped[i]) total += weights[i];
+            if (total <= 0) break; // nobody else is viewed: keep the rest of the budget
+            double spent = 0;
+            boolean capNow = false;
+            for (int i = 0; i < n; i++) {
+                if (capped[i]) continue;
+                double share = left * weights[i] / total;
+                if (out[i] + share >= ceiling) {
+                    spent += ceiling - out[i];
+                    out[i] = ceiling;
+                    capped[i] = true;
+                    capNow = true;
+                }
+            }
+            if (capNow) {
+                left -= spent; // redistribute among the rest
+                continue;
+            }
+            for (int i = 0; i < n; i++) if (!capped[i]) out[i] += left * weights[i] / total;
+            break;
+        }
+        return out;
+    }
+
+    private static double overdue(Entry e) {
+        return e.ageMinutes() == null ? Double.MAX_VALUE : e.ageMinutes() / e.intervalMinutes();
+    }
+
+    private double viewsPerHour(String placeId, long now) {
+        Place p = places.get(placeId);
+        if (p == null) return 0;
+        synchronized (p) {
+            decay(p, now);
+            // a decayed counter settles at rate × half-life / ln 2
+            return p.views * LN2 / (Math.max(1, cfg.getHalfLifeMinutes()) / 60.0);
+        }
+    }
+
+    private void decay(Place p, long now) {
+        if (p.decayedAtMillis != 0 && now > p.decayedAtMillis) {
+            double halfLifeMillis = Math.max(1, cfg.getHalfLifeMinutes()) * 60_000.0;
+            p.views *= Math.pow(0.5, (now - p.decayedAtMillis) / halfLifeMillis);
+        }
+        p.decayedAtMillis = now;
+    }
+
+    // ======================= BUDGET =======================
+
+    private double capacity() {
+        return Math.max(1, cfg.getRequestsPerHour() / 12.0); // five minutes of budget
+    }
+
+    private synchronized void refill() {
+        long now = System.currentTimeMillis();
+        tokens = Math.min(capacity(), tokens + (now - tokensAtMillis) / 3_600_000.0 * cfg.getRequestsPerHour());
+        tokensAtMillis = now;
+    }
+
+    private synchronized boolean tryAcquire() {
+        refill();
+        if (tokens < 1) return false;
+        tokens -= 1;
+        return true;
+    }
+
+    private synchronized void spend() {
+        refill();
+        tokens -= 1; // on-demand misses can't wait, so they may overdraw
+    }
+
+    private synchronized void refund() {
+        tokens = Math.min(capacity(), tokens + 1);
+    }
+
+    private synchronized double tokens() {
+        return tokens;
+    }
+}
@@ -0,0 +1,188 @@
+package flex.living.reviewsdashboard.service;
+
+import flex.living.reviewsdashboard.config.DedupConfig;
+import flex.living.reviewsdashboard.model.NormalizedReview;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Collapses the same stay reviewed on two sources (a Hostaway channel and Google).
+ * <p>
+ * Each review is reduced to word bigrams of its normalized text plus the guest's first name, MinHashed and
+ * filed in LSH buckets ({@link MinHashIndex}); only reviews sharing a bucket are compared. A candidate pair
+ * is a duplicate when it comes from different sources, the listings agree (or one is unknown), the dates
+ * are at most {@code reviews.dedup.max-days-apart} apart and the estimated similarity reaches
+ * {@code reviews.dedup.similarity-threshold}. Matches are grouped transitively and each group keeps one
+ * review chosen by a fixed preference, so the result does not depend on input order.
+ * <p>
+ * Signatures are cached by review id under a fingerprint of text and guest, which is checked before any
+ * tokenizing, so an unchanged review costs one hash per request. Reviews entering the {@link ReviewStore}
+ * are indexed as they arrive; beyond {@code reviews.dedup.max-entries} the least recently used signatures
+ * are evicted, never those of the set being collapsed.
+ */
+@Component
+public class ReviewDeduplicator implements ReviewStoreListener {
+
+    private static final int MIN_TOKENS = 3; // shorter texts ("Great!") carry too little evidence
+
+    /**
+     * Survivor of a duplicate group: channel review over Google (it has category ratings), then the
+     * earliest, then the smallest id.
+     */
+    static final Comparator<NormalizedReview> PREFERENCE = Comparator
+            .comparing(ReviewDeduplicator::isGoogle)
+            .thenComparing(r -> r.categoryRatings() == null || r.categoryRatings().isEmpty())
+            .thenComparing(NormalizedReview::submittedAt, Comparator.nullsLast(Comparator.naturalOrder()))
+            .thenComparing(NormalizedReview::id);
+
+    private final DedupConfig cfg;
+    private final MinHashIndex index;
+    private final Counter collapsed;
+
+    public ReviewDeduplicator(DedupConfig cfg, ReviewStore store, MeterRegistry registry) {
+        this.cfg = cfg;
+        this.index = new MinHashIndex(cfg.getBands(), cfg.getRows());
+        this.collapsed = registry.counter("reviews.dedup.collapsed");
+        store.addListener(this);
+    }
+
+    @Override
+    public void onUpsert(String account, NormalizedReview previous, NormalizedReview current) {
+        if (cfg.isEnabled()) index(current);
+    }
+
+    /**
+     * Drop cross-source duplicates from {@code reviews}; survivors keep their relative order.
+     */
+    public List<NormalizedReview> collapse(List<NormalizedReview> reviews) {
+        if (!cfg.isEnabled() || reviews.size() < 2) return reviews;
+
+        Map<String, NormalizedReview> byId = new HashMap<>(reviews.size() * 2);
+        Map<String, Long> fingerprints = new HashMap<>(reviews.size() * 2);
+        for (NormalizedReview r : reviews) {
+            if (byId.putIfAbsent(r.id(), r) == null) fingerprints.put(r.id(), fingerprint(r));
+        }
+        List<NormalizedReview> stale = new ArrayList<>();
+        synchronized (index) {
+            for (NormalizedReview r : byId.values()) {
+                if (!index.holds(r.id(), fingerprints.get(r.id()))) stale.add(r);
+            }
+        }
+        Map<String, List<String>> features = new HashMap<>(stale.size() * 2);
+        for (NormalizedReview r : stale) features.put(r.id(), features(r)); // tokenize outside the lock
+
+        Map<String, String> parent = new HashMap<>();
+        synchronized (index) {
+            // touch every member in this block so trimming can only evict reviews outside the set
+            for (NormalizedReview r : byId.values()) {
+                long fingerprint = fingerprints.get(r.id());
+                if (!index.holds(r.id(), fingerprint)) {
+                    index.put(r.id(), fingerprint, features.computeIfAbsent(r.id(), k -> features(r)));
+                }
+            }
+            index.trimTo(Math.max(cfg.getMaxEntries(), byId.size()));
+            for (NormalizedReview r : byId.values()) {
+                for (String other : index.candidates(r.id())) {
+                    NormalizedReview o = byId.get(other);
+                    if (o == null || r.id().compareTo(other) >= 0) continue; // absent, or pair seen from the other side
+                    if (isDuplicate(r, o, index.similarity(r.id(), other))) union(parent, r.id(), other);
+                }
+            }
+        }
+        if (parent.isEmpty()) return reviews;
+
+        Map<String, NormalizedReview> survivor = new HashMap<>();
+        for (String id : parent.keySet()) {
+            NormalizedReview r = byId.get(id);
+            survivor.merge(find(parent, id), r, (a, b) -> PREFERENCE.compare(a, b) <= 0 ? a : b);
+        }
+        List<NormalizedReview> out = new ArrayList<>(reviews.size());
+        for (NormalizedReview r : reviews) {
+            if (!parent.containsKey(r.id()) || survivor.get(find(parent, r.id())) == r) out.add(r);
+        }
+        collapsed.increment(reviews.size() - out.size());
+        return out;
+    }
+
+    // ======================= MATCHING =======================
+
+    private boolean isDuplicate(NormalizedReview a, NormalizedReview b, double similarity) {
+        if (isGoogle(a) == isGoogle(b)) return false;
+        if (a.listingName() != null && b.listingName() != null && !a.listingName().equalsIgnoreCase(b.listingName())) {
+            return false;
+        }
+        if (a.submittedAt() != null && b.submittedAt() != null
+                && Duration.between(a.submittedAt(), b.submittedAt()).abs().toDays() > cfg.getMaxDaysApart()) {
+            return false;
+        }
+        return similarity >= cfg.getSimilarityThreshold();
+    }
+
+    private static boolean isGoogle(NormalizedReview r) {
+        return "google".equals(r.channel());
+    }
+
+    private void index(NormalizedReview r) {
+        long fingerprint = fingerprint(r);
+        synchronized (index) {
+            if (index.holds(r.id(), fingerprint)) return;
+        }
+        List<String> features = features(r);
+        synchronized (index) {
+            index.put(r.id(), fingerprint, features);
+            index.trimTo(cfg.getMaxEntries());
+        }
+    }
+
+    private static long fingerprint(NormalizedReview r) {
+        return MinHashIndex.fnv64(r.text() + '\u0000' + r.guestName());
+    }
+
+    /**
+     * Word bigrams plus the guest's first name; empty when the text is too short to compare.
+     */
+    private static List<String> features(NormalizedReview r) {
+        List<String> tokens = ReviewText.tokens(r.text());
+        if (tokens.size() < MIN_TOKENS) return List.of();
+
+        String guest = firstName(r.guestName());
+        Set<String> features = new LinkedHashSet<>();
+        for (int i = 0; i + 1 < tokens.size(); i++) features.add(tokens.get(i) + ' ' + tokens.get(i + 1));
+        if (!guest.isEmpty()) features.add("g:" + guest);
+        return List.copyOf(features);
+    }
+
+    private static String firstName(String guest) {
+        List<String> t = ReviewText.tokens(guest);
+        return t.isEmpty() ? "" : t.get(0);
+    }
+
+    // -------- union-find --------
+
+    private static String find(Map<String, String> parent, String x) {
+        String p = parent.getOrDefault(x, x);
+        if (p.equals(x)) return x;
+        String root = find(parent, p);
+        parent.put(x, root);
+        return root;
+    }
+
+    private static void union(Map<String, String> parent, String a, String b) {
+        parent.putIfAbsent(a, a);
+        parent.putIfAbsent(b, b);
+        String ra = find(parent, a), rb = find(parent, b);
+        if (ra.equals(rb)) return;
+        if (ra.compareTo(rb) < 0) parent.put(rb, ra); // deterministic root
+        else parent.put(ra, rb);
+    }
+}
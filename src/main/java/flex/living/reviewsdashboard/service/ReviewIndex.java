@@ -0,0 +1,124 @@
+package flex.living.reviewsdashboard.service;
+
+import flex.living.reviewsdashboard.model.NormalizedReview;
+import org.springframework.stereotype.Component;
+
+import java.time.OffsetDateTime;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Objects;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * Secondary indexes over each account's {@link ReviewStore} partition, maintained as reviews are upserted:
+ * <ul>
+ *     <li>listing and channel: hash from value to the review ids with that value, kept in
+ *     {@link ReviewStore#ID_ORDER} so postings can be merged with a cursor and probed in O(log n);</li>
+ *     <li>{@code submittedAt}: a navigable set of (epoch millis, id) for range lookups, plus the undated ids
+ *     (date bounds never exclude those).</li>
+ * </ul>
+ * An edit only touches the postings whose value changed. Ids are visible here slightly before the review is in
+ * the store, so callers re-check the fetched review; the sets are supersets of the matches, never subsets.
+ */
+@Component
+public class ReviewIndex implements ReviewStoreListener {
+
+    private final Map<String, Account> accounts = new ConcurrentHashMap<>();
+
+    public ReviewIndex(ReviewStore store) {
+        store.addListener(this);
+    }
+
+    @Override
+    public void onUpsert(String account, NormalizedReview previous, NormalizedReview current) {
+        accounts.computeIfAbsent(account, k -> new Account()).update(previous, current);
+    }
+
+    public Account of(String account) {
+        return accounts.computeIfAbsent(account, k -> new Account());
+    }
+
+    public static final class Account {
+
+        private record Dated(long at, String id) {
+        }
+
+        private static final Comparator<Dated> DATE_ORDER = Comparator.comparingLong(Dated::at)
+                .thenComparing(Dated::id, ReviewStore.ID_ORDER);
+
+        private final Map<String, NavigableSet<String>> byListing = new ConcurrentHashMap<>();
+        private final Map<String, NavigableSet<String>> byChannel = new ConcurrentHashMap<>();
+        private final NavigableSet<Dated> bySubmitted = new ConcurrentSkipListSet<>(DATE_ORDER);
+        private final NavigableSet<String> undated = new ConcurrentSkipListSet<>(ReviewStore.ID_ORDER);
+
+        private void update(NormalizedReview prev, NormalizedReview cur) {
+            String id = cur.id();
+            if (prev == null || !Objects.equals(prev.listingName(), cur.listingName())) {
+                move(byListing, prev == null ? null : prev.listingName(), cur.listingName(), prev != null, id);
+            }
+            if (prev == null || !Objects.equals(prev.channel(), cur.channel())) {
+                move(byChannel, prev == null ? null : prev.channel(), cur.channel(), prev != null, id);
+            }
+            Long before = prev == null ? null : millis(prev.submittedAt());
+            Long after = millis(cur.submittedAt());
+            if (prev == null || !Objects.equals(before, after)) {
+                if (after == null) undated.add(id);
+                else bySubmitted.add(new Dated(after, id));
+                if (prev != null) {
+                    if (before == null) undated.remove(id);
+                    else bySubmitted.remove(new Dated(before, id));
+                }
+            }
+        }
+
+        // add before remove: a concurrent reader may see the id under both values, never under neither
+        private static void move(Map<String, NavigableSet<String>> index, String from, String to, boolean existed, String id) {
+            if (to != null) index.computeIfAbsent(to, k -> new ConcurrentSkipListSet<>(ReviewStore.ID_ORDER)).add(id);
+            if (existed && from != null) {
+                NavigableSet<String> old = index.get(from);
+                if (old != null) old.remove(id);
+            }
+        }
+
+        /**
+         * Live, ID-ordered ids with {@code listingName} equal to {@code listing}.
+         */
+        public NavigableSet<String> listing(String listing) {
+            return posting(byListing, listing);
+        }
+
+        /**
+         * Live, ID-ordered ids with {@code channel} equal to {@code channel}.
+         */
+        public NavigableSet<String> channel(String channel) {
+            return posting(byChannel, channel);
+        }
+
+        /**
+         * Ids submitted within [from, to] (either may be null) or undated, copied into {@link ReviewStore#ID_ORDER};
+         * costs O(k log k) in the number of ids returned.
+         */
+        public NavigableSet<String> submitted(OffsetDateTime from, OffsetDateTime to) {
+            NavigableSet<Dated> range = bySubmitted;
+            if (from != null) range = range.tailSet(new Dated(from.toInstant().toEpochMilli(), ""), true);
+            if (to != null) range = range.headSet(new Dated(to.toInstant().toEpochMilli() + 1, ""), false);
+            NavigableSet<String> ids = new TreeSet<>(ReviewStore.ID_ORDER);
+            for (Dated d : range) ids.add(d.id());
+            ids.addAll(undated);
+            return ids;
+        }
+
+        private static NavigableSet<String> posting(Map<String, NavigableSet<String>> index, String value) {
+            NavigableSet<String> ids = value == null ? null : index.get(value);
+            return ids == null ? Collections.emptyNavigableSet() : Collections.unmodifiableNavigableSet(ids);
+        }
+
+        private static Long millis(OffsetDateTime at) {
+            return at == null ? null : at.toInstant().toEpochMilli();
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package flex.living.reviewsdashboard.service;
+
+import flex.living.reviewsdashboard.client.HostawayAccount;
+import flex.living.reviewsdashboard.model.NormalizedReview;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * A channel that contributes reviews to the combined feed.
+ * <p>
+ * Implementations are picked up as beans by {@link ReviewSources}, which runs each one on its own threads behind
+ * its own bulkhead and timeout ({@link #limits()}, overridable under {@code reviews.sources.<name>}). A source
+ * that is slow, failing or saturated is left out of the response instead of holding up the others.
+ *
+ * @param <R> the source's raw record type
+ */
+public interface ReviewSource<R> {
+
+    /**
+     * Stable name used for threads, metrics and {@code reviews.sources.<name>}.
+     */
+    String name();
+
+    /**
+     * Raw records for {@code query}. Runs on this source's executor and may block; exceptions drop the source
+     * from this one response.
+     */
+    List<R> fetch(Query query) throws Exception;
+
+    /**
+     * Map one raw record into the common model, or return null to drop it.
+     */
+    NormalizedReview normalize(R raw, Query query);
+
+    /**
+     * Whether review {@code id} was issued by this source; {@link ReviewSources#find} routes a lookup to the
+     * first enabled source that owns the id. Ids of other sources must not match.
+     */
+    default boolean owns(String id) {
+        return false;
+    }
+
+    /**
+     * Review {@code id} of {@code account} without fetching a page, or empty if this source does not hold it.
+     * Only called for ids this source {@link #owns}, on the caller's thread.
+     */
+    default Optional<NormalizedReview> find(HostawayAccount account, String id) throws IOException {
+        return Optional.empty();
+    }
+
+    default Limits limits() {
+        return new Limits(4, 16, 5000);
+    }
+
+    /**
+     * @param listing only this listing's reviews when non-null
+     */
+    record Query(HostawayAccount account, String listing, int limit, int offset) {
+    }
+
+    /**
+     * @param maxConcurrent fetches in flight at once (and threads in the source's pool)
+     * @param queueCapacity fetches waiting for a thread before new ones are rejected
+     * @param timeoutMs     how long a combined request waits for this source
+     */
+    record Limits(int maxConcurrent, int queueCapacity, long timeoutMs) {
+    }
+}
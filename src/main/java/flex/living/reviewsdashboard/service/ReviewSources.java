@@ -0,0 +1,166 @@
+package flex.living.reviewsdashboard.service;
+
+import flex.living.reviewsdashboard.client.HostawayAccount;
+import flex.living.reviewsdashboard.config.ReviewSourcesConfig;
+import flex.living.reviewsdashboard.model.NormalizedReview;
+import flex.living.reviewsdashboard.web.RequestTimings;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Every {@link ReviewSource} bean, each behind its own bulkhead: a fixed pool of {@code max-concurrent} threads
+ * with a {@code queue-capacity} backlog, and a {@code timeout-ms} the caller waits before giving up on it.
+ * A source that times out, fails or is saturated is left out of that response and counted in
+ * {@code review.source.fetch{source,outcome}}; the other sources are unaffected.
+ */
+@Slf4j
+@Component
+public class ReviewSources {
+
+    private final List<Bulkhead<?>> bulkheads = new ArrayList<>();
+
+    public ReviewSources(List<ReviewSource<?>> sources, ReviewSourcesConfig cfg, MeterRegistry registry) {
+        for (ReviewSource<?> source : sources) {
+            var override = cfg.getSources().get(source.name());
+            if (override != null && !override.isEnabled()) {
+                log.info("Review source '{}' is disabled", source.name());
+                continue;
+            }
+            bulkheads.add(new Bulkhead<>(source, limits(source.limits(), override), registry));
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        bulkheads.forEach(b -> b.pool.shutdownNow());
+    }
+
+    public List<String> names() {
+        return bulkheads.stream().map(b -> b.source.name()).toList();
+    }
+
+    /**
+     * Fetch and normalize {@code query} from all sources in parallel, in bean order, leaving out any that
+     * don't answer within their own timeout.
+     */
+    public List<NormalizedReview> fetchAll(ReviewSource.Query query) {
+        long start = System.nanoTime();
+        List<Future<List<NormalizedReview>>> pending = new ArrayList<>(bulkheads.size());
+        for (Bulkhead<?> b : bulkheads) pending.add(b.submit(query));
+
+        List<NormalizedReview> merged = new ArrayList<>();
+        for (int i = 0; i < bulkheads.size(); i++) {
+            Bulkhead<?> b = bulkheads.get(i);
+            Future<List<NormalizedReview>> f = pending.get(i);
+            if (f == null) {
+                b.record("rejected", start);
+                continue;
+            }
+            long waitNanos = start + TimeUnit.MILLISECONDS.toNanos(b.limits.timeoutMs()) - System.nanoTime();
+            try {
+                merged.addAll(f.get(Math.max(0, waitNanos), TimeUnit.NANOSECONDS));
+                b.record("success", start);
+            } catch (TimeoutException e) {
+                f.cancel(true);
+                b.record("timeout", start);
+                log.debug("Review source '{}' timed out after {} ms", b.source.name(), b.limits.timeoutMs());
+            } catch (ExecutionException e) {
+                b.record("failed", start);
+                log.debug("Review source '{}' failed: {}", b.source.name(), e.getCause().toString());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                f.cancel(true);
+                break;
+            }
+        }
+        return merged;
+    }
+
+    /**
+     * Review {@code id} from the first enabled source that {@link ReviewSource#owns owns} it, on the caller's
+     * thread; empty when no source claims the id.
+     */
+    public Optional<NormalizedReview> find(HostawayAccount account, String id) throws IOException {
+        for (Bulkhead<?> b : bulkheads) {
+            if (b.source.owns(id)) return b.source.find(account, id);
+        }
+        return Optional.empty();
+    }
+
+    private static ReviewSource.Limits limits(ReviewSource.Limits defaults, ReviewSourcesConfig.Source override) {
+        if (override == null) return defaults;
+        return new ReviewSource.Limits(
+                override.getMaxConcurrent() != null ? override.getMaxConcurrent() : defaults.maxConcurrent(),
+                override.getQueueCapacity() != null ? override.getQueueCapacity() : defaults.queueCapacity(),
+                override.getTimeoutMs() != null ? override.getTimeoutMs() : defaults.timeoutMs());
+    }
+
+    private static final class Bulkhead<R> {
+        final ReviewSource<R> source;
+        final ReviewSource.Limits limits;
+        final ThreadPoolExecutor pool;
+        final MeterRegistry registry;
+
+        Bulkhead(ReviewSource<R> source, ReviewSource.Limits limits, MeterRegistry registry) {
+            this.source = source;
+            this.limits = limits;
+            this.registry = registry;
+            int threads = Math.max(1, limits.maxConcurrent());
+            AtomicInteger n = new AtomicInteger();
+            this.pool = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+                    new ArrayBlockingQueue<>(Math.max(1, limits.queueCapacity())), r -> {
+                Thread t = new Thread(r, "source-" + source.name() + "-" + n.incrementAndGet());
+                t.setDaemon(true);
+                return t;
+            });
+            pool.allowCoreThreadTimeOut(true);
+            Gauge.builder("review.source.active", pool, ThreadPoolExecutor::getActiveCount)
+                    .tag("source", source.name()).register(registry);
+            Gauge.builder("review.source.queued", pool, p -> p.getQueue().size())
+                    .tag("source", source.name()).register(registry);
+        }
+
+        /**
+         * @return null when the bulkhead is full
+         */
+        Future<List<NormalizedReview>> submit(ReviewSource.Query query) {
+            try {
+                return pool.submit(RequestTimings.propagate(() -> {
+                    try (var t = RequestTimings.start("source", source.name())) {
+                        List<R> raw = source.fetch(query);
+                        List<NormalizedReview> out = new ArrayList<>(raw.size());
+                        for (R r : raw) {
+                            NormalizedReview n = source.normalize(r, query);
+                            if (n != null) out.add(n);
+                        }
+                        return out;
+                    }
+                }));
+            } catch (RejectedExecutionException full) {
+                return null;
+            }
+        }
+
+        void record(String outcome, long startNanos) {
+            Timer.builder("review.source.fetch").tag("source", source.name()).tag("outcome", outcome)
+                    .register(registry).record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package flex.living.reviewsdashboard.service;
+
+import flex.living.reviewsdashboard.model.NormalizedReview;
+import org.springframework.stereotype.Component;
+
+import java.time.OffsetDateTime;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Cardinality statistics per account for ordering filter predicates (see {@code manager.QueryPlan}): review
+ * counts per channel and per listing, a histogram of {@code effectiveRating} and the span of {@code submittedAt}.
+ * Maintained from the {@link ReviewStore} as reviews arrive; an edit moves the review from its old buckets to
+ * its new ones. Estimates are fractions of the account's reviews that pass a predicate. Reviews without a
+ * rating or date pass the corresponding bound, as in the filters themselves.
+ */
+@Component
+public class ReviewStats implements ReviewStoreListener {
+
+    static final int MAX_RATING = 10; // Hostaway's scale; Google's 1-5 fits inside
+
+    private final Map<String, Account> accounts = new ConcurrentHashMap<>();
+
+    public ReviewStats(ReviewStore store) {
+        store.addListener(this);
+    }
+
+    @Override
+    public void onUpsert(String account, NormalizedReview previous, NormalizedReview current) {
+        Account a = accounts.computeIfAbsent(account, k -> new Account());
+        if (previous != null) a.add(previous, -1);
+        a.add(current, 1);
+    }
+
+    /**
+     * Live statistics of {@code account} (an empty set if nothing was stored for it yet).
+     */
+    public Account of(String account) {
+        return accounts.computeIfAbsent(account, k -> new Account());
+    }
+
+    public static final class Account {
+        private final LongAdder total = new LongAdder();
+        private final Map<String, LongAdder> channels = new ConcurrentHashMap<>();
+        private final Map<String, LongAdder> listings = new ConcurrentHashMap<>();
+        private final AtomicLongArray ratings = new AtomicLongArray(MAX_RATING + 1);
+        private final LongAdder unrated = new LongAdder();
+        private final LongAdder undated = new LongAdder();
+        private final AtomicLong minSubmitted = new AtomicLong(Long.MAX_VALUE); // epoch millis; only widens
+        private final AtomicLong maxSubmitted = new AtomicLong(Long.MIN_VALUE);
+
+        private void add(NormalizedReview r, int delta) {
+            total.add(delta);
+            channels.computeIfAbsent(key(r.channel()), k -> new LongAdder()).add(delta);
+            listings.computeIfAbsent(key(r.listingName()), k -> new LongAdder()).add(delta);
+            Integer rating = r.effectiveRating();
+            if (rating == null) unrated.add(delta);
+            else ratings.addAndGet(bucket(rating), delta);
+            if (r.submittedAt() == null) {
+                undated.add(delta);
+            } else if (delta > 0) {
+                long at = r.submittedAt().toInstant().toEpochMilli();
+                minSubmitted.accumulateAndGet(at, Math::min);
+                maxSubmitted.accumulateAndGet(at, Math::max);
+            }
+        }
+
+        public long total() {
+            return total.sum();
+        }
+
+        public double channel(String channel) {
+            return fraction(count(channels, channel));
+        }
+
+        public double listing(String listing) {
+            return fraction(count(listings, listing));
+        }
+
+        /**
+         * Fraction with an effective rating in [min, max] (either bound may be null) or no rating at all.
+         */
+        public double rating(Integer min, Integer max) {
+            int lo = min == null ? 0 : bucket(min);
+            int hi = max == null ? MAX_RATING : bucket(max);
+            long n = unrated.sum();
+            for (int i = lo; i <= hi; i++) n += ratings.get(i);
+            return fraction(n);
+        }
+
+        /**
+         * Fraction submitted within [from, to] (either bound may be null) or undated, assuming submissions are
+         * spread evenly over the observed span.
+         */
+        public double submitted(OffsetDateTime from, OffsetDateTime to) {
+            long t = total();
+            if (t <= 0) return 1;
+            long lo = minSubmitted.get(), hi = maxSubmitted.get();
+            double dated = 0;
+            if (lo <= hi) {
+                long a = from == null ? lo : Math.max(lo, from.toInstant().toEpochMilli());
+                long b = to == null ? hi : Math.min(hi, to.toInstant().toEpochMilli());
+                if (a <= b) dated = hi == lo ? 1 : (double) (b - a) / (hi - lo);
+            }
+            double undatedShare = Math.min(1, (double) undated.sum() / t);
+            return undatedShare + (1 - undatedShare) * dated;
+        }
+
+        private double fraction(long n) {
+            long t = total();
+            return t <= 0 ? 1 : Math.max(0, Math.min(1, (double) n / t));
+        }
+
+        private static long count(Map<String, LongAdder> counts, String value) {
+            LongAdder c = counts.get(key(value));
+            return c == null ? 0 : c.sum();
+        }
+
+        private static String key(String value) {
+            return Objects.requireNonNullElse(value, "");
+        }
+
+        private static int bucket(int rating) {
+            return Math.max(0, Math.min(MAX_RATING, rating));
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package flex.living.reviewsdashboard.service;
+
+import flex.living.reviewsdashboard.model.NormalizedReview;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * In-memory set of normalized Hostaway reviews, partitioned by account key and keyed by review id.
+ * Filled by upstream fetches and pushed webhook events; unchanged upserts are no-ops. Each partition also keeps
+ * its ids in {@link #ID_ORDER} so it can be {@linkplain #scan scanned} from a cursor without copying.
+ */
+@Component
+public class ReviewStore {
+
+    /**
+     * Numeric order for Hostaway's integer ids (shorter first), lexicographic among equal lengths.
+     */
+    public static final Comparator<String> ID_ORDER = Comparator.comparingInt(String::length).thenComparing(Comparator.naturalOrder());
+
+    private final Map<String, Partition> partitions = new ConcurrentHashMap<>();
+    private final List<ReviewStoreListener> listeners = new CopyOnWriteArrayList<>();
+    private final DatasetVersion version;
+
+    public ReviewStore(DatasetVersion version) {
+        this.version = version;
+    }
+
+    public void addListener(ReviewStoreListener listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * @return true if the review was new or different
+     */
+    public boolean upsert(String account, NormalizedReview review) {
+        boolean changed = apply(account, partition(account), review);
+        if (changed) version.bump();
+        return changed;
+    }
+
+    /**
+     * @return number of reviews that were new or different
+     */
+    public int upsertAll(String account, Collection<NormalizedReview> batch) {
+        Partition reviews = partition(account);
+        int changed = 0;
+        for (NormalizedReview r : batch) {
+            if (apply(account, reviews, r)) changed++;
+        }
+        if (changed > 0) version.bump(); // one bump per batch
+        return changed;
+    }
+
+    public Optional<NormalizedReview> get(String account, String id) {
+        var p = partitions.get(account);
+        return p == null ? Optional.empty() : Optional.ofNullable(p.byId.get(id));
+    }
+
+    public List<NormalizedReview> all(String account) {
+        var p = partitions.get(account);
+        return p == null ? new ArrayList<>() : new ArrayList<>(p.byId.values());
+    }
+
+    /**
+     * Reviews of {@code account} in {@link #ID_ORDER}, starting after {@code afterId} (null = from the start).
+     * Weakly consistent and nothing is copied, so a partition of any size can be streamed; reviews upserted
+     * during the scan may or may not be seen.
+     */
+    public Iterator<NormalizedReview> scan(String account, String afterId) {
+        var p = partitions.get(account);
+        if (p == null) return Collections.emptyIterator();
+        Iterator<String> ids = (afterId == null ? p.ids : p.ids.tailSet(afterId, false)).iterator();
+        return new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return ids.hasNext();
+            }
+
+            @Override
+            public NormalizedReview next() {
+                return p.byId.get(ids.next()); // ids are never removed, so always present
+            }
+        };
+    }
+
+    public Set<String> accounts() {
+        return Set.copyOf(partitions.keySet());
+    }
+
+    public int size(String account) {
+        var p = partitions.get(account);
+        return p == null ? 0 : p.byId.size();
+    }
+
+    public int size() {
+        int n = 0;
+        for (var p : partitions.values()) n += p.byId.size();
+        return n;
+    }
+
+    public boolean isEmpty(String account) {
+        return size(account) == 0;
+    }
+
+    private Partition partition(String account) {
+        return partitions.computeIfAbsent(account, k -> new Partition());
+    }
+
+    private boolean apply(String account, Partition p, NormalizedReview review) {
+        // per-id atomicity so listeners see a consistent previous/current pair
+        boolean[] changed = {false};
+        p.byId.compute(review.id(), (id, prev) -> {
+            if (Objects.equals(prev, review)) return prev;
+            changed[0] = true;
+            for (ReviewStoreListener l : listeners) l.onUpsert(account, prev, review);
+            return review;
+        });
+        if (changed[0]) p.ids.add(review.id()); // after the put, so a scan never sees an id without its review
+        return changed[0];
+    }
+
+    private static final class Partition {
+        final Map<String, NormalizedReview> byId = new ConcurrentHashMap<>();
+        final ConcurrentSkipListSet<String> ids = new ConcurrentSkipListSet<>(ID_ORDER);
+    }
+}
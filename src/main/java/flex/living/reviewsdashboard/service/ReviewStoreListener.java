@@ -0,0 +1,17 @@
+package flex.living.reviewsdashboard.service;
+
+import flex.living.reviewsdashboard.model.NormalizedReview;
+
+/**
+ * Notified synchronously for every review that is added or changes in the {@link ReviewStore};
+ * used to maintain indexes and aggregates incrementally. Runs while the review's entry is locked,
+ * so implementations must be quick and must not call back into the store.
+ */
+public interface ReviewStoreListener {
+
+    /**
+     * @param account  partition (Hostaway account key) the review belongs to
+     * @param previous the replaced review, or null when {@code current} is new
+     */
+    void onUpsert(String account, NormalizedReview previous, NormalizedReview current);
+}
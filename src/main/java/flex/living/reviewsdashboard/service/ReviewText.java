@@ -0,0 +1,50 @@
+package flex.living.reviewsdashboard.service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Tokenization shared by the text-derived structures (dedup signatures, term sketches).
+ */
+public final class ReviewText {
+
+    private static final Set<String> STOPWORDS = Set.of(
+            "a", "about", "after", "again", "all", "also", "am", "an", "and", "any", "are", "as", "at", "be",
+            "because", "been", "before", "being", "but", "by", "can", "could", "did", "do", "does", "during", "each",
+            "even", "every", "for", "from", "had", "has", "have", "he", "her", "here", "him", "his", "how", "i", "if",
+            "in", "into", "is", "it", "its", "just", "me", "more", "most", "my", "no", "not", "of", "on", "once",
+            "one", "only", "or", "other", "our", "out", "over", "really", "she", "so", "some", "such", "than", "that",
+            "the", "their", "them", "then", "there", "these", "they", "this", "those", "through", "to", "too", "us",
+            "very", "was", "we", "were", "what", "when", "where", "which", "while", "who", "will", "with", "would",
+            "you", "your", "stay", "stayed", "place", "apartment", "flat", "definitely");
+
+    private ReviewText() {
+    }
+
+    /**
+     * Lower-cased letter/digit runs, in order.
+     */
+    public static List<String> tokens(String text) {
+        if (text == null || text.isBlank()) return List.of();
+        List<String> out = new ArrayList<>();
+        for (String t : text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+")) {
+            if (!t.isEmpty()) out.add(t);
+        }
+        return out;
+    }
+
+    /**
+     * Distinct content words of a review (stopwords, numbers and words under 3 letters removed), so a theme
+     * counts once per review however often it is repeated.
+     */
+    public static Set<String> terms(String text) {
+        Set<String> out = new LinkedHashSet<>();
+        for (String t : tokens(text)) {
+            if (t.length() >= 3 && !STOPWORDS.contains(t) && !Character.isDigit(t.charAt(0))) out.add(t);
+        }
+        return out;
+    }
+}
@@ -1,65 +1,62 @@
 package flex.living.reviewsdashboard.service;
 
-import flex.living.reviewsdashboard.client.GoogleReviewClient;
-import flex.living.reviewsdashboard.client.HostawayReviewClient;
-import flex.living.reviewsdashboard.config.ListingsConfig;
+import flex.living.reviewsdashboard.client.HostawayAccounts;
 import flex.living.reviewsdashboard.model.NormalizedReview;
 import flex.living.reviewsdashboard.model.NormalizedReviewResponse;
+import flex.living.reviewsdashboard.web.RequestTimings;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
+import java.io.IOException;
 import java.time.OffsetDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 
 @Service
 @RequiredArgsConstructor
 public class ReviewsAggregationService {
 
-    private final HostawayReviewClient hostaway;
-    private final GoogleReviewClient google;
-    private final ListingsConfig listingsCfg;
+    private final ReviewSources sources;
+    private final HostawayAccounts accounts;
+    private final ReviewDeduplicator dedup;
 
     /**
-     * Merge Hostaway + Google, set listingName on Google reviews via mapping, sort desc, slice.
+     * Merge every {@link ReviewSource} for {@code account} (null for the default), drop cross-source duplicates,
+     * sort desc, slice. A non-null {@code listing} keeps only that listing's reviews.
      */
-    public NormalizedReviewResponse combined(int limit, int offset) {
-        List<NormalizedReview> merged = new ArrayList<>();
+    public NormalizedReviewResponse combined(String account, String listing, int limit, int offset) {
+        var query = new ReviewSource.Query(accounts.resolve(account), listing, limit, offset);
+        List<NormalizedReview> merged = sources.fetchAll(query);
 
-        try {
-            merged.addAll(hostaway.fetchAndNormalize(limit, offset).reviews());
-        } catch (Exception ignored) {
+        List<NormalizedReview> unique;
+        try (var t = RequestTimings.start("dedup")) {
+            unique = new ArrayList<>(dedup.collapse(merged));
         }
 
-        if (listingsCfg.getGooglePlaceIds() != null) {
-            listingsCfg.getGooglePlaceIds().forEach((listingName, placeId) -> {
-                try {
-                    var resp = google.fetchForPlace(placeId);
-                    for (var r : resp.reviews()) {
-                        // attach the listing name so frontend grouping works
-                        merged.add(new NormalizedReview(
-                                r.id(), listingName, r.guestName(), r.direction(), r.status(),
-                                r.overallRating(), r.categoryRatings(), r.channel(), r.text(), r.submittedAt()
-                        ));
-                    }
-                } catch (Exception ignored) {
-                }
+        // sort newest first, then slice
+        try (var t = RequestTimings.start("sort")) {
+            unique.sort((a, b) -> {
+                OffsetDateTime da = a.submittedAt();
+                OffsetDateTime db = b.submittedAt();
+                long ca = da == null ? Long.MIN_VALUE : da.toInstant().toEpochMilli();
+                long cb = db == null ? Long.MIN_VALUE : db.toInstant().toEpochMilli();
+                return Long.compare(cb, ca);
             });
         }
 
-        // sort newest first, then slice
-        merged.sort((a, b) -> {
-            OffsetDateTime da = a.submittedAt();
-            OffsetDateTime db = b.submittedAt();
-            long ca = da == null ? Long.MIN_VALUE : da.toInstant().toEpochMilli();
-            long cb = db == null ? Long.MIN_VALUE : db.toInstant().toEpochMilli();
-            return Long.compare(cb, ca);
-        });
-
-        int from = Math.max(0, Math.min(offset, merged.size()));
-        int to = Math.max(from, Math.min(from + limit, merged.size()));
-        List<NormalizedReview> page = merged.subList(from, to);
+        int from = Math.max(0, Math.min(offset, unique.size()));
+        int to = Math.max(from, Math.min(from + limit, unique.size()));
+        List<NormalizedReview> page = unique.subList(from, to);
 
         return new NormalizedReviewResponse("combined", page.size(), page);
     }
+
+    /**
+     * Look up a single review by id without merging the sources: only the source that owns the id is asked
+     * (see {@link ReviewSource#owns}).
+     */
+    public Optional<NormalizedReview> find(String account, String id) throws IOException {
+        return sources.find(accounts.resolve(account), id);
+    }
 }
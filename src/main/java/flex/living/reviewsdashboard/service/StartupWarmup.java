@@ -0,0 +1,161 @@
+package flex.living.reviewsdashboard.service;
+
+import flex.living.reviewsdashboard.client.GoogleReviewClient;
+import flex.living.reviewsdashboard.client.HostawayAccount;
+import flex.living.reviewsdashboard.client.HostawayAccounts;
+import flex.living.reviewsdashboard.config.ListingsConfig;
+import flex.living.reviewsdashboard.config.WarmupConfig;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Fetches what the first dashboard requests need before the instance reports ready.
+ * <p>
+ * Starts on {@link ApplicationStartedEvent} on a background thread: the Hostaway snapshot of every account and
+ * the Google reviews of every place in {@code listings.googlePlaceIds} are loaded by
+ * {@code reviews.warmup.parallelism} workers. Until they finish, or {@code reviews.warmup.timeout-ms} passes,
+ * this indicator is OUT_OF_SERVICE and keeps the readiness group down. Upstream errors don't: those requests
+ * are served from the degraded path either way. Tasks still running at the timeout are left to finish.
+ */
+@Slf4j
+@Component("warmup")
+public class StartupWarmup implements HealthIndicator {
+
+    public enum State {PENDING, RUNNING, COMPLETED, TIMED_OUT, DISABLED}
+
+    private final HostawayReviewService hostaway;
+    private final HostawayAccounts accounts;
+    private final GoogleReviewClient google;
+    private final ListingsConfig listings;
+    private final WarmupConfig cfg;
+    private final MeterRegistry registry;
+
+    private final AtomicReference<State> state = new AtomicReference<>(State.PENDING);
+    private final Map<String, String> failures = new ConcurrentHashMap<>();
+    private volatile long tookMs = -1;
+    private volatile long readyAtUptimeMs = -1;
+
+    public StartupWarmup(HostawayReviewService hostaway, HostawayAccounts accounts, GoogleReviewClient google,
+                         ListingsConfig listings, WarmupConfig cfg, MeterRegistry registry) {
+        this.hostaway = hostaway;
+        this.accounts = accounts;
+        this.google = google;
+        this.listings = listings;
+        this.cfg = cfg;
+        this.registry = registry;
+    }
+
+    public State state() {
+        return state.get();
+    }
+
+    @EventListener(ApplicationStartedEvent.class)
+    void onStarted() {
+        startAsync();
+    }
+
+    /**
+     * Start the warm-up on a background thread; does nothing if it already ran or is disabled.
+     */
+    public void startAsync() {
+        if (!cfg.isEnabled()) {
+            state.compareAndSet(State.PENDING, State.DISABLED);
+            return;
+        }
+        if (!state.compareAndSet(State.PENDING, State.RUNNING)) return;
+        Thread t = new Thread(this::run, "startup-warmup");
+        t.setDaemon(true);
+        t.start();
+    }
+
+    private void run() {
+        long start = System.nanoTime();
+        AtomicInteger n = new AtomicInteger();
+        ExecutorService workers = Executors.newFixedThreadPool(Math.max(1, cfg.getParallelism()), r -> {
+            Thread t = new Thread(r, "startup-warmup-" + n.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+
+        List<CompletableFuture<Void>> tasks = new ArrayList<>();
+        for (HostawayAccount a : accounts.all()) {
+            tasks.add(task(workers, "hostaway:" + a.key(), () -> hostaway.snapshot(a.key())));
+        }
+        if (listings.getGooglePlaceIds() != null) {
+            listings.getGooglePlaceIds().forEach((name, placeId) ->
+                    tasks.add(task(workers, "google:" + name, () -> google.fetchForPlace(placeId))));
+        }
+
+        State result = State.COMPLETED;
+        try {
+            CompletableFuture.allOf(tasks.toArray(CompletableFuture[]::new)).get(cfg.getTimeoutMs(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            result = State.TIMED_OUT;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            result = State.TIMED_OUT;
+        } catch (ExecutionException ignored) {
+            // tasks record their own failures
+        } finally {
+            workers.shutdown(); // no interrupt: late results still fill the caches
+        }
+
+        tookMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        readyAtUptimeMs = ManagementFactory.getRuntimeMXBean().getUptime();
+        Timer.builder("startup.warmup").tag("result", result.name().toLowerCase())
+                .register(registry).record(tookMs, TimeUnit.MILLISECONDS);
+        TimeGauge.builder("application.warmed.time", this, TimeUnit.MILLISECONDS, w -> w.readyAtUptimeMs)
+                .description("Time from JVM start until the warm-up finished and readiness was released")
+                .register(registry);
+        state.set(result);
+
+        log.info("Warm-up {} in {} ms ({} tasks, {} failed); ready {} ms after JVM start",
+                result.name().toLowerCase(), tookMs, tasks.size(), failures.size(), readyAtUptimeMs);
+    }
+
+    private CompletableFuture<Void> task(ExecutorService workers, String name, Callable<?> call) {
+        return CompletableFuture.runAsync(() -> {
+            try {
+                call.call();
+            } catch (Exception e) {
+                failures.put(name, String.valueOf(e.getMessage()));
+                log.warn("Warm-up of {} failed: {}", name, e.toString());
+            }
+        }, workers);
+    }
+
+    @Override
+    public Health health() {
+        State s = state.get();
+        if (s == State.PENDING || s == State.RUNNING) {
+            return Health.outOfService().withDetail("state", s).build();
+        }
+        var b = Health.up().withDetail("state", s);
+        if (tookMs >= 0) b.withDetail("tookMs", tookMs).withDetail("readyAtUptimeMs", readyAtUptimeMs);
+        if (!failures.isEmpty()) b.withDetail("failed", new TreeMap<>(failures));
+        return b.build();
+    }
+}
@@ -0,0 +1,144 @@
+package flex.living.reviewsdashboard.service;
+
+import java.util.Arrays;
+
+/**
+ * Merging t-digest (Dunning) for streaming quantiles.
+ * <p>
+ * Values are buffered and periodically merged into at most ~{@code compression} centroids whose size is
+ * bounded by the arcsine scale function, so they stay small near the tails and quantile error is smallest
+ * at p1/p99. Digests with the same compression can be merged. Not thread-safe.
+ */
+final class TDigest {
+
+    private final double compression;
+    private double[] mean;
+    private double[] weight;
+    private int centroids;
+
+    private final double[] bufMean;
+    private final double[] bufWeight;
+    private int buffered;
+
+    private double total;
+    private double min = Double.POSITIVE_INFINITY;
+    private double max = Double.NEGATIVE_INFINITY;
+
+    TDigest(double compression) {
+        this.compression = Math.max(20, compression);
+        int cap = (int) Math.ceil(this.compression) * 2 + 10;
+        this.mean = new double[cap];
+        this.weight = new double[cap];
+        this.bufMean = new double[cap * 4];
+        this.bufWeight = new double[cap * 4];
+    }
+
+    long count() {
+        return (long) total;
+    }
+
+    void add(double x) {
+        add(x, 1);
+    }
+
+    void add(double x, double w) {
+        if (Double.isNaN(x) || w <= 0) return;
+        if (buffered == bufMean.length) flush();
+        bufMean[buffered] = x;
+        bufWeight[buffered] = w;
+        buffered++;
+        total += w;
+        min = Math.min(min, x);
+        max = Math.max(max, x);
+    }
+
+    void add(TDigest other) {
+        other.flush();
+        for (int i = 0; i < other.centroids; i++) add(other.mean[i], other.weight[i]);
+        min = Math.min(min, other.min);
+        max = Math.max(max, other.max);
+    }
+
+    /**
+     * Estimated value at quantile {@code q} in [0, 1]; NaN when empty.
+     */
+    double quantile(double q) {
+        flush();
+        if (centroids == 0) return Double.NaN;
+        if (q <= 0) return min;
+        if (q >= 1) return max;
+        if (centroids == 1) return mean[0];
+
+        double target = q * total;
+        double cum = 0;
+        for (int i = 0; i < centroids; i++) {
+            double center = cum + weight[i] / 2;
+            if (target < center) {
+                if (i == 0) {
+                    return interpolate(min, mean[0], target / center);
+                }
+                double prevCenter = cum - weight[i - 1] / 2;
+                return interpolate(mean[i - 1], mean[i], (target - prevCenter) / (center - prevCenter));
+            }
+            cum += weight[i];
+        }
+        double lastCenter = total - weight[centroids - 1] / 2;
+        return interpolate(mean[centroids - 1], max, (target - lastCenter) / (total - lastCenter));
+    }
+
+    private static double interpolate(double a, double b, double f) {
+        return a + (b - a) * Math.max(0, Math.min(1, f));
+    }
+
+    private void flush() {
+        if (buffered == 0) return;
+        int n = centroids + buffered;
+        double[] m = Arrays.copyOf(mean, n);
+        double[] w = Arrays.copyOf(weight, n);
+        System.arraycopy(bufMean, 0, m, centroids, buffered);
+        System.arraycopy(bufWeight, 0, w, centroids, buffered);
+        buffered = 0;
+
+        Integer[] order = new Integer[n];
+        for (int i = 0; i < n; i++) order[i] = i;
+        Arrays.sort(order, (a, b) -> Double.compare(m[a], m[b]));
+
+        double[] outMean = new double[n];
+        double[] outWeight = new double[n];
+        int out = 0;
+        double soFar = 0;
+        double kLow = k(0);
+        double curMean = m[order[0]], curWeight = w[order[0]];
+        for (int j = 1; j < n; j++) {
+            int i = order[j];
+            if (k((soFar + curWeight + w[i]) / total) - kLow <= 1) {
+                curWeight += w[i];
+                curMean += (m[i] - curMean) * w[i] / curWeight;
+            } else {
+                outMean[out] = curMean;
+                outWeight[out++] = curWeight;
+                soFar += curWeight;
+                kLow = k(soFar / total);
+                curMean = m[i];
+                curWeight = w[i];
+            }
+        }
+        outMean[out] = curMean;
+        outWeight[out++] = curWeight;
+
+        if (out > mean.length) {
+            mean = new double[out];
+            weight = new double[out];
+        }
+        System.arraycopy(outMean, 0, mean, 0, out);
+        System.arraycopy(outWeight, 0, weight, 0, out);
+        centroids = out;
+    }
+
+    /**
+     * Arcsine scale: one unit of k is one centroid's worth of quantile range.
+     */
+    private double k(double q) {
+        return compression / (2 * Math.PI) * Math.asin(2 * Math.min(1, Math.max(0, q)) - 1);
+    }
+}
@@ -0,0 +1,130 @@
+package flex.living.reviewsdashboard.service;
+
+import flex.living.reviewsdashboard.config.TermSketchConfig;
+import flex.living.reviewsdashboard.model.NormalizedReview;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Most-mentioned terms per account and listing, maintained as reviews enter the {@link ReviewStore}.
+ * <p>
+ * Every listing has a {@link CountMinSketch} of review counts per term plus a bounded set of heavy-hitter
+ * candidates ({@code reviews.terms.tracked-terms}): a term whose estimate beats the weakest candidate replaces
+ * it. A changed review first retracts its old terms. Memory per listing is fixed and a top-terms query only
+ * looks at the candidates, independent of how many reviews have been seen.
+ */
+@Component
+public class TermSketches implements ReviewStoreListener {
+
+    public record TermCount(String term, int reviews) {
+    }
+
+    public record ListingTerms(String listing, int reviews, List<TermCount> terms) {
+    }
+
+    private final TermSketchConfig cfg;
+    private final Map<Key, Sketch> byListing = new ConcurrentHashMap<>();
+
+    private record Key(String account, String listing) {
+    }
+
+    public TermSketches(TermSketchConfig cfg, ReviewStore store) {
+        this.cfg = cfg;
+        store.addListener(this);
+    }
+
+    @Override
+    public void onUpsert(String account, NormalizedReview previous, NormalizedReview current) {
+        if (previous != null && Objects.equals(previous.listingName(), current.listingName())
+                && Objects.equals(previous.text(), current.text())) {
+            return; // rating/status change: terms unaffected
+        }
+        if (previous != null) sketch(account, previous.listingName()).update(ReviewText.terms(previous.text()), -1);
+        sketch(account, current.listingName()).update(ReviewText.terms(current.text()), +1);
+    }
+
+    /**
+     * Top {@code limit} terms for {@code listing} (at most {@code tracked-terms}); empty if the listing is unknown.
+     */
+    public ListingTerms top(String account, String listing, int limit) {
+        Sketch s = byListing.get(new Key(account, nz(listing)));
+        if (s == null) return new ListingTerms(listing, 0, List.of());
+        return s.top(listing, Math.max(0, Math.min(limit, cfg.getTrackedTerms())));
+    }
+
+    public List<ListingTerms> topForAll(String account, int limit) {
+        List<ListingTerms> out = new ArrayList<>();
+        for (Key k : byListing.keySet()) {
+            if (k.account().equals(account)) out.add(top(account, k.listing(), limit));
+        }
+        out.sort(Comparator.comparing(ListingTerms::listing));
+        return out;
+    }
+
+    private Sketch sketch(String account, String listing) {
+        return byListing.computeIfAbsent(new Key(account, nz(listing)), k -> new Sketch(cfg));
+    }
+
+    private static String nz(String listing) {
+        return listing == null ? "" : listing;
+    }
+
+    private static final class Sketch {
+        private final CountMinSketch cms;
+        private final int capacity;
+        private final Map<String, Integer> candidates = new HashMap<>();
+        private int reviews;
+
+        Sketch(TermSketchConfig cfg) {
+            this.cms = new CountMinSketch(cfg.getWidth(), cfg.getDepth());
+            this.capacity = Math.max(1, cfg.getTrackedTerms());
+        }
+
+        synchronized void update(Set<String> terms, int delta) {
+            reviews = Math.max(0, reviews + delta);
+            for (String t : terms) {
+                int est = cms.add(t, delta);
+                if (candidates.containsKey(t) || candidates.size() < capacity) {
+                    candidates.put(t, est);
+                } else if (delta > 0) {
+                    String weakest = weakest();
+                    if (est > candidates.get(weakest)) {
+                        candidates.remove(weakest);
+                        candidates.put(t, est);
+                    }
+                }
+            }
+        }
+
+        synchronized ListingTerms top(String listing, int limit) {
+            List<TermCount> all = new ArrayList<>(candidates.size());
+            for (var e : candidates.entrySet()) {
+                int est = cms.estimate(e.getKey()); // refresh: other terms may have moved shared counters
+                e.setValue(est);
+                if (est > 0) all.add(new TermCount(e.getKey(), est));
+            }
+            all.sort(Comparator.comparingInt(TermCount::reviews).reversed().thenComparing(TermCount::term));
+            return new ListingTerms(listing, reviews, List.copyOf(all.subList(0, Math.min(limit, all.size()))));
+        }
+
+        private String weakest() {
+            String w = null;
+            int min = Integer.MAX_VALUE;
+            for (var e : candidates.entrySet()) {
+                if (w == null || e.getValue() < min || (e.getValue() == min && e.getKey().compareTo(w) > 0)) {
+                    min = e.getValue();
+                    w = e.getKey();
+                }
+            }
+            return w;
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package flex.living.reviewsdashboard.web;
+
+import flex.living.reviewsdashboard.config.AdmissionConfig;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Admission control by endpoint class ({@code admission.classes}), so a slow upstream behind one class of
+ * endpoints can only tie up that class's share of the server threads. Each class has its own adaptive
+ * {@link AdmissionLimiter}; a request it sheds gets a fast 503 with {@code Retry-After}, or, for classes with
+ * {@code stale-on-shed}, the last cached response from {@link ResponseBytesCache#stale}.
+ * Paths outside every class are not limited.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1) // inside ServerTimingFilter so queueing shows up in Server-Timing
+public class AdmissionFilter extends OncePerRequestFilter {
+
+    private record EndpointClass(AdmissionConfig.EndpointClass cfg, AdmissionLimiter limiter) {
+    }
+
+    private final AdmissionConfig cfg;
+    private final ResponseBytesCache responseCache;
+    private final AntPathMatcher matcher = new AntPathMatcher();
+    private final List<EndpointClass> classes = new ArrayList<>();
+
+    public AdmissionFilter(AdmissionConfig cfg, ResponseBytesCache responseCache, MeterRegistry registry) {
+        this.cfg = cfg;
+        this.responseCache = responseCache;
+        cfg.getClasses().forEach((name, c) -> classes.add(new EndpointClass(c, new AdmissionLimiter(name, c, cfg, registry))));
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !cfg.isEnabled() || classOf(request.getRequestURI()) == null;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        EndpointClass c = classOf(request.getRequestURI());
+        AdmissionLimiter.Permit permit;
+        try (var t = RequestTimings.start("admission", c.limiter().name())) {
+            permit = c.limiter().acquire();
+        }
+        if (permit == null) {
+            shed(c, request, response);
+            return;
+        }
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            permit.release();
+        }
+    }
+
+    private void shed(EndpointClass c, HttpServletRequest request, HttpServletResponse response) throws IOException {
+        if (c.cfg().isStaleOnShed() && "GET".equals(request.getMethod())) {
+            ResponseEntity<byte[]> stale = responseCache.stale(request);
+            if (stale != null) {
+                response.setStatus(stale.getStatusCode().value());
+                stale.getHeaders().forEach((name, values) -> values.forEach(v -> response.addHeader(name, v)));
+                if (stale.getBody() != null) response.getOutputStream().write(stale.getBody());
+                return;
+            }
+        }
+        response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(c.cfg().getRetryAfterSeconds()));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.getOutputStream().write(("{\"status\":503,\"error\":\"Service Unavailable\",\"class\":\""
+                + c.limiter().name() + "\"}").getBytes(StandardCharsets.UTF_8));
+    }
+
+    private EndpointClass classOf(String uri) {
+        for (EndpointClass c : classes) {
+            if (matchesAny(c.cfg().getExcludePaths(), uri)) continue;
+            if (matchesAny(c.cfg().getPaths(), uri)) return c;
+        }
+        return null;
+    }
+
+    private boolean matchesAny(List<String> patterns, String uri) {
+        for (String p : patterns) {
+            if (matcher.match(p, uri)) return true;
+        }
+        return false;
+    }
+}
@@ -0,0 +1,174 @@
+package flex.living.reviewsdashboard.web;
+
+import flex.living.reviewsdashboard.config.AdmissionConfig;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Concurrency limit and bounded FIFO queue for one endpoint class (see {@link AdmissionFilter}).
+ * <p>
+ * The limit follows latency: every window ({@code admission.window-ms}, at least {@code min-samples} requests)
+ * the average service time is compared with a baseline, the lowest window average seen, which slowly drifts up so
+ * it can follow a lasting change. Within {@code tolerance} × baseline the limit grows by √limit if it was
+ * actually used; beyond it the limit shrinks in proportion (at most halving per window). Requests over the limit
+ * wait in line up to {@code max-queue-ms}; with {@code queue-capacity} already waiting they are shed at once.
+ */
+public class AdmissionLimiter {
+
+    private static final double BASELINE_DRIFT = 0.01; // per window
+    private static final double SMOOTHING = 0.5;
+
+    private final String name;
+    private final AdmissionConfig.EndpointClass cfg;
+    private final long windowNanos;
+    private final int minSamples;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition changed = lock.newCondition();
+    private final Deque<Object> waiting = new ArrayDeque<>();
+
+    // guarded by lock
+    private double limit;
+    private int inFlight;
+    private double baselineNanos;
+    private long windowStart = System.nanoTime();
+    private long windowSum;
+    private int windowCount;
+    private int windowPeak;
+
+    private final Counter queueFull;
+    private final Counter timedOut;
+
+    public AdmissionLimiter(String name, AdmissionConfig.EndpointClass cfg, AdmissionConfig admission, MeterRegistry registry) {
+        this.name = name;
+        this.cfg = cfg;
+        this.windowNanos = TimeUnit.MILLISECONDS.toNanos(admission.getWindowMs());
+        this.minSamples = Math.max(1, admission.getMinSamples());
+        this.limit = clamp(cfg.getInitialLimit());
+
+        Gauge.builder("admission.limit", this, AdmissionLimiter::limit).tag("class", name).register(registry);
+        Gauge.builder("admission.inflight", this, l -> l.inFlight).tag("class", name).register(registry);
+        Gauge.builder("admission.queued", this, l -> l.waiting.size()).tag("class", name).register(registry);
+        queueFull = registry.counter("admission.shed", "class", name, "reason", "queue_full");
+        timedOut = registry.counter("admission.shed", "class", name, "reason", "timeout");
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public int limit() {
+        lock.lock();
+        try {
+            return (int) limit;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Wait for a slot, in arrival order.
+     *
+     * @return null when the request is shed: the queue is full or the wait exceeded {@code max-queue-ms}
+     */
+    public Permit acquire() {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(cfg.getMaxQueueMs());
+        lock.lock();
+        try {
+            if (waiting.isEmpty() && inFlight < (int) limit) return admit();
+            if (waiting.size() >= cfg.getQueueCapacity()) {
+                queueFull.increment();
+                return null;
+            }
+            Object ticket = new Object();
+            waiting.addLast(ticket);
+            try {
+                while (true) {
+                    if (waiting.peekFirst() == ticket && inFlight < (int) limit) return admit();
+                    long remaining = deadline - System.nanoTime();
+                    if (remaining <= 0) {
+                        timedOut.increment();
+                        return null;
+                    }
+                    changed.awaitNanos(remaining);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                timedOut.increment();
+                return null;
+            } finally {
+                waiting.remove(ticket);
+                changed.signalAll(); // let the next head re-check
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private Permit admit() {
+        inFlight++;
+        windowPeak = Math.max(windowPeak, inFlight);
+        return new Permit(System.nanoTime());
+    }
+
+    private void complete(long latencyNanos) {
+        lock.lock();
+        try {
+            inFlight--;
+            windowSum += latencyNanos;
+            windowCount++;
+            long now = System.nanoTime();
+            if (windowCount >= minSamples && now - windowStart >= windowNanos) {
+                adapt((double) windowSum / windowCount);
+                windowStart = now;
+                windowSum = 0;
+                windowCount = 0;
+                windowPeak = inFlight;
+            }
+            changed.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Gradient update from one window's average latency.
+     */
+    private void adapt(double avgNanos) {
+        baselineNanos = baselineNanos == 0 ? avgNanos : Math.min(avgNanos, baselineNanos * (1 + BASELINE_DRIFT));
+        double gradient = Math.max(0.5, Math.min(1.0, cfg.getTolerance() * baselineNanos / Math.max(1, avgNanos)));
+        double next = limit * gradient;
+        if (gradient == 1.0 && windowPeak >= (int) limit / 2) next += Math.sqrt(limit); // probe up only when in use
+        limit = clamp(SMOOTHING * next + (1 - SMOOTHING) * limit);
+    }
+
+    private double clamp(double v) {
+        int min = Math.max(1, cfg.getMinLimit());
+        return Math.max(min, Math.min(Math.max(min, cfg.getMaxLimit()), v));
+    }
+
+    /**
+     * One admitted request; release exactly once when it completes.
+     */
+    public final class Permit {
+        private final long startNanos;
+        private boolean released;
+
+        private Permit(long startNanos) {
+            this.startNanos = startNanos;
+        }
+
+        public void release() {
+            if (released) return;
+            released = true;
+            complete(System.nanoTime() - startNanos);
+        }
+    }
+}
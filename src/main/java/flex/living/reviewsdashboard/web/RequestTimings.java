@@ -0,0 +1,127 @@
+package flex.living.reviewsdashboard.web;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.Callable;
+
+/**
+ * Phase timings of the request being served on the current thread, reported as a {@code Server-Timing} header
+ * by {@link ServerTimingFilter}.
+ * <p>
+ * Code on the request path wraps a phase in {@code try (var t = RequestTimings.start("hostaway-auth")) {...}}.
+ * Off a request (warm-up, backfill, webhook workers) {@link #start} returns a no-op span, so callers need not
+ * care. Phases may nest (auth runs inside a reviews fetch) and repeat (one {@code google} entry per place).
+ * Work handed to another thread records into the same request when wrapped with {@link #propagate}.
+ */
+public final class RequestTimings {
+
+    public static final String HEADER = "Server-Timing";
+
+    static final int MAX_ENTRIES = 32; // keeps the header small; later phases are only counted
+
+    private static final ThreadLocal<RequestTimings> CURRENT = new ThreadLocal<>();
+    private static final Span NOOP = () -> {
+    };
+
+    /**
+     * Closing ends the phase; does not throw.
+     */
+    @FunctionalInterface
+    public interface Span extends AutoCloseable {
+        @Override
+        void close();
+    }
+
+    public record Entry(String name, String desc, long nanos) {
+
+        public double millis() {
+            return nanos / 1e6;
+        }
+    }
+
+    private final long startNanos = System.nanoTime();
+    private final List<Entry> entries = new ArrayList<>();
+    private int dropped;
+
+    /**
+     * Start recording for the current thread; pair with {@link #end()}.
+     */
+    static RequestTimings begin() {
+        RequestTimings t = new RequestTimings();
+        CURRENT.set(t);
+        return t;
+    }
+
+    static void end() {
+        CURRENT.remove();
+    }
+
+    public static Span start(String name) {
+        return start(name, null);
+    }
+
+    /**
+     * @param desc shown next to the phase, e.g. the place id of one Google fetch (may be null)
+     */
+    public static Span start(String name, String desc) {
+        RequestTimings t = CURRENT.get();
+        if (t == null) return NOOP;
+        long start = System.nanoTime();
+        return () -> t.add(name, desc, System.nanoTime() - start);
+    }
+
+    /**
+     * Wrap {@code task} so phases it records on another thread count towards the current request
+     * (returned unchanged off a request).
+     */
+    public static <T> Callable<T> propagate(Callable<T> task) {
+        RequestTimings t = CURRENT.get();
+        if (t == null) return task;
+        return () -> {
+            RequestTimings previous = CURRENT.get();
+            CURRENT.set(t);
+            try {
+                return task.call();
+            } finally {
+                if (previous == null) CURRENT.remove();
+                else CURRENT.set(previous);
+            }
+        };
+    }
+
+    private synchronized void add(String name, String desc, long nanos) {
+        if (entries.size() < MAX_ENTRIES) entries.add(new Entry(name, desc, nanos));
+        else dropped++;
+    }
+
+    public long elapsedNanos() {
+        return System.nanoTime() - startNanos;
+    }
+
+    public synchronized List<Entry> entries() {
+        return List.copyOf(entries);
+    }
+
+    /**
+     * {@code name;desc="..";dur=ms} per phase, then {@code total;dur=ms} up to now.
+     */
+    public synchronized String header() {
+        StringBuilder sb = new StringBuilder();
+        for (Entry e : entries) {
+            sb.append(e.name());
+            if (e.desc() != null) sb.append(";desc=").append(quote(e.desc()));
+            sb.append(";dur=").append(ms(e.nanos())).append(", ");
+        }
+        if (dropped > 0) sb.append("dropped;desc=\"").append(dropped).append(" more phases\", ");
+        return sb.append("total;dur=").append(ms(elapsedNanos())).toString();
+    }
+
+    private static String ms(long nanos) {
+        return String.format(Locale.ROOT, "%.1f", nanos / 1e6);
+    }
+
+    private static String quote(String s) {
+        return '"' + s.replace("\\", "\\\\").replace("\"", "\\\"") + '"';
+    }
+}
@@ -0,0 +1,216 @@
+package flex.living.reviewsdashboard.web;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import flex.living.reviewsdashboard.config.ResponseCacheConfig;
+import flex.living.reviewsdashboard.service.DatasetVersion;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.Callable;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Serialize-once cache for hot read endpoints.
+ * <p>
+ * Payloads are encoded (in the negotiated {@link WireFormat}, plus an optional gzip variant) the first time
+ * a key is requested and then written straight from the stored bytes. Keys are the endpoint, its normalized
+ * query parameters, the wire format and the current {@link DatasetVersion}; entries also expire after {@code response-cache.ttl-seconds} so upstream
+ * changes are picked up. Every response carries a strong ETag and {@code If-None-Match} short-circuits to 304.
+ * <p>
+ * The last body served for each request URI is also kept past expiry, so an overloaded endpoint can answer
+ * with {@link #stale} instead of failing (see {@link AdmissionFilter}).
+ */
+@Component
+public class ResponseBytesCache {
+
+    private final WireMappers mappers;
+    private final DatasetVersion version;
+    private final ResponseCacheConfig cfg;
+    private final Cache<String, CachedBody> cache;
+    private final Cache<String, CachedBody> lastServed;
+
+    public ResponseBytesCache(WireMappers mappers, DatasetVersion version, ResponseCacheConfig cfg) {
+        this.mappers = mappers;
+        this.version = version;
+        this.cfg = cfg;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(cfg.getMaxEntries())
+                .expireAfterWrite(Duration.ofSeconds(cfg.getTtlSeconds()))
+                .build();
+        this.lastServed = Caffeine.newBuilder().maximumSize(cfg.getMaxEntries()).build();
+    }
+
+    /**
+     * Serve {@code endpoint} with {@code params} from cache, producing and encoding the payload on a miss.
+     * Exceptions from {@code producer} are rethrown so callers keep their own fallback handling.
+     */
+    public ResponseEntity<byte[]> respond(HttpServletRequest request,
+                                          String endpoint,
+                                          Map<String, ?> params,
+                                          Callable<?> producer) throws Exception {
+        return respond(request, endpoint, params, null, producer);
+    }
+
+    /**
+     * As above, additionally applying a sparse fieldset / snippet {@code projection} (may be null).
+     */
+    public ResponseEntity<byte[]> respond(HttpServletRequest request,
+                                          String endpoint,
+                                          Map<String, ?> params,
+                                          ReviewProjection projection,
+                                          Callable<?> producer) throws Exception {
+        WireFormat format = WireFormat.negotiate(request.getHeader(HttpHeaders.ACCEPT));
+        if (!cfg.isEnabled()) {
+            return write(request, encode(producer.call(), format, projection));
+        }
+        String key = key(endpoint, params, format, projection);
+        CachedBody body;
+        try {
+            body = cache.get(key, k -> {
+                try {
+                    return encode(producer.call(), format, projection);
+                } catch (Exception e) {
+                    throw new ProducerFailure(e);
+                }
+            });
+        } catch (ProducerFailure f) {
+            throw f.cause;
+        }
+        lastServed.put(staleKey(request, format), body);
+        return write(request, body);
+    }
+
+    /**
+     * The last cached response for this request URI and format, however old; null if there is none.
+     * It is marked with {@code Warning: 110}.
+     */
+    public ResponseEntity<byte[]> stale(HttpServletRequest request) {
+        if (!cfg.isEnabled()) return null;
+        CachedBody body = lastServed.getIfPresent(staleKey(request, WireFormat.negotiate(request.getHeader(HttpHeaders.ACCEPT))));
+        if (body == null) return null;
+        var fresh = write(request, body);
+        return ResponseEntity.status(fresh.getStatusCode())
+                .headers(fresh.getHeaders())
+                .header(HttpHeaders.WARNING, "110 - \"Response is Stale\"")
+                .body(fresh.getBody());
+    }
+
+    /**
+     * Encode and write a one-off payload (e.g. a fallback) without caching it.
+     */
+    public ResponseEntity<byte[]> uncached(HttpServletRequest request, Object payload) {
+        return uncached(request, payload, null);
+    }
+
+    public ResponseEntity<byte[]> uncached(HttpServletRequest request, Object payload, ReviewProjection projection) {
+        return write(request, encode(payload, WireFormat.negotiate(request.getHeader(HttpHeaders.ACCEPT)), projection));
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    // -------- helpers --------
+
+    String key(String endpoint, Map<String, ?> params, WireFormat format, ReviewProjection projection) {
+        StringBuilder sb = new StringBuilder(endpoint).append('?');
+        new TreeMap<>(params).forEach((k, v) -> {
+            if (v != null) sb.append(k).append('=').append(v).append('&');
+        });
+        if (projection != null) sb.append("projection=").append(projection.key());
+        return sb.append('#').append(format).append("#v").append(version.current()).toString();
+    }
+
+    private static String staleKey(HttpServletRequest request, WireFormat format) {
+        String q = request.getQueryString();
+        return request.getRequestURI() + (q == null ? "" : "?" + q) + '#' + format;
+    }
+
+    private CachedBody encode(Object payload, WireFormat format, ReviewProjection projection) {
+        try (var t = RequestTimings.start("serialize", format.name().toLowerCase())) {
+            byte[] identity = mappers.writer(format, projection).writeValueAsBytes(payload);
+            byte[] gzip = identity.length >= cfg.getGzipMinBytes() ? gzip(identity) : null;
+            String etag = DigestUtils.md5DigestAsHex(identity);
+            return new CachedBody(format, identity, gzip, "\"" + etag + "\"", "\"" + etag + "-gzip\"");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static ResponseEntity<byte[]> write(HttpServletRequest request, CachedBody body) {
+        boolean useGzip = body.gzip() != null && acceptsGzip(request.getHeader(HttpHeaders.ACCEPT_ENCODING));
+        String etag = useGzip ? body.gzipEtag() : body.etag();
+
+        boolean notModified = matches(request.getHeader(HttpHeaders.IF_NONE_MATCH), etag);
+        var builder = ResponseEntity.status(notModified ? HttpStatus.NOT_MODIFIED : HttpStatus.OK)
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache())
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT, HttpHeaders.ACCEPT_ENCODING);
+
+        if (notModified) {
+            return builder.build();
+        }
+        if (useGzip) {
+            return builder.header(HttpHeaders.CONTENT_ENCODING, "gzip")
+                    .contentType(body.format().mediaType())
+                    .body(body.gzip());
+        }
+        return builder.contentType(body.format().mediaType()).body(body.identity());
+    }
+
+    private static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) return false;
+        for (String candidate : ifNoneMatch.split(",")) {
+            String c = candidate.trim();
+            if (c.equals("*")) return true;
+            if (c.startsWith("W/")) c = c.substring(2); // If-None-Match uses weak comparison
+            if (c.equals(etag)) return true;
+        }
+        return false;
+    }
+
+    /**
+     * Whether an {@code Accept-Encoding} header admits gzip (absent, or with a non-zero q-value).
+     */
+    public static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) return false;
+        for (String part : acceptEncoding.split(",")) {
+            String[] kv = part.trim().split(";");
+            if (!kv[0].trim().equalsIgnoreCase("gzip")) continue;
+            return kv.length < 2 || !kv[1].replace(" ", "").equals("q=0");
+        }
+        return false;
+    }
+
+    private static byte[] gzip(byte[] raw) throws IOException {
+        var out = new ByteArrayOutputStream(raw.length / 4 + 64);
+        try (var gz = new GZIPOutputStream(out)) {
+            gz.write(raw);
+        }
+        return out.toByteArray();
+    }
+
+    record CachedBody(WireFormat format, byte[] identity, byte[] gzip, String etag, String gzipEtag) {
+    }
+
+    private static final class ProducerFailure extends RuntimeException {
+        private final Exception cause;
+
+        ProducerFailure(Exception cause) {
+            super(cause);
+            this.cause = cause;
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package flex.living.reviewsdashboard.web;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.FilterProvider;
+import com.fasterxml.jackson.databind.ser.PropertyWriter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import flex.living.reviewsdashboard.model.ColumnarReviewPage;
+import flex.living.reviewsdashboard.model.NormalizedReview;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Jackson property filter behind {@code @JsonFilter("review")} on review types.
+ * <p>
+ * Reads the {@link ReviewProjection} from the writer attributes and skips or truncates properties as they
+ * are written, so projected pages are produced without building trimmed copies. Without a projection every
+ * property is written unchanged.
+ */
+public class ReviewFieldFilter extends SimpleBeanPropertyFilter {
+
+    public static final String ID = "review";
+
+    public static FilterProvider provider() {
+        return new SimpleFilterProvider().addFilter(ID, new ReviewFieldFilter());
+    }
+
+    @Override
+    public void serializeAsField(Object pojo, JsonGenerator gen, SerializerProvider prov, PropertyWriter writer)
+            throws Exception {
+        ReviewProjection p = (ReviewProjection) prov.getAttribute(ReviewProjection.class);
+        if (p == null) {
+            writer.serializeAsField(pojo, gen, prov);
+            return;
+        }
+
+        String name = writer.getName();
+        if (!p.includes(name)) return;
+
+        if ("text".equals(name) && p.snippetLength() != null) {
+            if (pojo instanceof NormalizedReview r) {
+                gen.writeFieldName(name);
+                writeNullable(gen, p.snippet(r.text()));
+                return;
+            }
+            if (pojo instanceof ColumnarReviewPage.Columns c) {
+                gen.writeFieldName(name);
+                List<String> texts = c.text();
+                gen.writeStartArray(texts, texts.size());
+                for (String t : texts) writeNullable(gen, p.snippet(t));
+                gen.writeEndArray();
+                return;
+            }
+        }
+        writer.serializeAsField(pojo, gen, prov);
+    }
+
+    private static void writeNullable(JsonGenerator gen, String s) throws IOException {
+        if (s == null) gen.writeNull();
+        else gen.writeString(s);
+    }
+}
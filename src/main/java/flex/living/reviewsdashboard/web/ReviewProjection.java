@@ -0,0 +1,55 @@
+package flex.living.reviewsdashboard.web;
+
+import java.util.Arrays;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+/**
+ * Sparse fieldset ({@code ?fields=guestName,overallRating}) and text snippet length ({@code ?snippet=120})
+ * for review payloads. Applied by {@link ReviewFieldFilter} while serializing; {@code id} is always kept.
+ */
+public record ReviewProjection(Set<String> fields, Integer snippetLength) {
+
+    public static final Set<String> REVIEW_FIELDS = Set.of(
+            "id", "listingName", "guestName", "direction", "status",
+            "overallRating", "categoryRatings", "channel", "text", "submittedAt", "effectiveRating");
+
+    private static final int MAX_SNIPPET = 2000;
+
+    /**
+     * @return the projection, or {@code null} when neither parameter narrows the payload
+     */
+    public static ReviewProjection of(String fields, Integer snippet) {
+        Set<String> selected = null;
+        if (fields != null && !fields.isBlank()) {
+            selected = Arrays.stream(fields.split(","))
+                    .map(String::trim)
+                    .filter(REVIEW_FIELDS::contains) // unknown names are ignored
+                    .collect(Collectors.toCollection(TreeSet::new));
+            selected.add("id");
+        }
+        Integer len = snippet == null || snippet < 1 ? null : Math.min(snippet, MAX_SNIPPET);
+        return selected == null && len == null ? null : new ReviewProjection(selected, len);
+    }
+
+    public boolean includes(String field) {
+        return fields == null || fields.contains(field) || !REVIEW_FIELDS.contains(field);
+    }
+
+    public String snippet(String text) {
+        if (text == null || snippetLength == null || text.length() <= snippetLength) return text;
+        int end = snippetLength;
+        if (Character.isHighSurrogate(text.charAt(end - 1))) end--; // don't split a surrogate pair
+        int space = text.lastIndexOf(' ', end);
+        if (space > end / 2) end = space; // prefer a word boundary when one is close
+        return text.substring(0, end).stripTrailing() + "…";
+    }
+
+    /**
+     * Stable representation for cache keys.
+     */
+    public String key() {
+        return (fields == null ? "*" : String.join(",", fields)) + "|" + (snippetLength == null ? "" : snippetLength);
+    }
+}
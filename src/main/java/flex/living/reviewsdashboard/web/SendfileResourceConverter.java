@@ -0,0 +1,49 @@
+package flex.living.reviewsdashboard.web;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.ResourceHttpMessageConverter;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.io.File;
+import java.io.IOException;
+
+/**
+ * Writes file-backed static resources through Tomcat's sendfile when the connector offers it, so the body goes
+ * from the page cache to the socket without passing through the JVM. Resources inside a jar, small files and
+ * other containers fall back to a regular stream copy.
+ */
+public class SendfileResourceConverter extends ResourceHttpMessageConverter {
+
+    static final String SUPPORT = "org.apache.tomcat.sendfile.support";
+    static final String FILENAME = "org.apache.tomcat.sendfile.filename";
+    static final String START = "org.apache.tomcat.sendfile.start";
+    static final String END = "org.apache.tomcat.sendfile.end";
+
+    private final long minBytes;
+
+    public SendfileResourceConverter(long minBytes) {
+        super(true);
+        this.minBytes = minBytes;
+    }
+
+    @Override
+    protected void writeContent(Resource resource, HttpOutputMessage outputMessage) throws IOException {
+        HttpServletRequest request = RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes a
+                ? a.getRequest() : null;
+        if (request != null && Boolean.TRUE.equals(request.getAttribute(SUPPORT)) && resource.isFile()) {
+            File file = resource.getFile();
+            long length = file.length();
+            if (length >= minBytes) {
+                // Content-Length is already set; the connector sends the file once the response is committed
+                request.setAttribute(FILENAME, file.getAbsolutePath());
+                request.setAttribute(START, 0L);
+                request.setAttribute(END, length);
+                return;
+            }
+        }
+        super.writeContent(resource, outputMessage);
+    }
+}
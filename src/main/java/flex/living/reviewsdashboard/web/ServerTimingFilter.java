@@ -0,0 +1,129 @@
+package flex.living.reviewsdashboard.web;
+
+import flex.living.reviewsdashboard.config.RequestTimingConfig;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.time.Instant;
+
+/**
+ * Times {@code /api} requests through {@link RequestTimings}. The {@code Server-Timing} header is added just
+ * before the body is first written, so it covers everything up to serialization, also for streamed responses.
+ * Requests slower than {@code request-timing.slow-threshold-ms} are logged with their breakdown and kept in the
+ * {@link SlowRequestLog}.
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE) // outermost, so the total includes security and the header survives its errors
+public class ServerTimingFilter extends OncePerRequestFilter {
+
+    private final RequestTimingConfig cfg;
+    private final SlowRequestLog slow;
+
+    public ServerTimingFilter(RequestTimingConfig cfg, SlowRequestLog slow) {
+        this.cfg = cfg;
+        this.slow = slow;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !cfg.isEnabled() || !request.getRequestURI().startsWith("/api/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        RequestTimings timings = RequestTimings.begin();
+        var timed = new TimedResponse(response, timings, cfg.isExposeHeader());
+        try {
+            chain.doFilter(request, timed);
+        } finally {
+            RequestTimings.end();
+            timed.stamp(); // bodiless responses
+            long nanos = timings.elapsedNanos();
+            if (nanos >= cfg.getSlowThresholdMs() * 1_000_000L && !request.isAsyncStarted()
+                    && !cfg.getSlowExcludePaths().contains(request.getRequestURI())) {
+                recordSlow(request, response.getStatus(), nanos, timings);
+            }
+        }
+    }
+
+    private void recordSlow(HttpServletRequest request, int status, long nanos, RequestTimings timings) {
+        String uri = request.getQueryString() == null ? request.getRequestURI()
+                : request.getRequestURI() + '?' + request.getQueryString();
+        log.warn("Slow request {} {} -> {} in {} ms: {}", request.getMethod(), uri, status, nanos / 1_000_000,
+                timings.header());
+        slow.record(new SlowRequestLog.SlowRequest(Instant.now(), request.getMethod(), uri, status, nanos / 1e6,
+                timings.entries().stream()
+                        .map(e -> new SlowRequestLog.Phase(e.name(), e.desc(), e.millis()))
+                        .toList()));
+    }
+
+    /**
+     * Sets the header once, before anything can commit the response.
+     */
+    private static final class TimedResponse extends HttpServletResponseWrapper {
+        private final RequestTimings timings;
+        private final boolean expose;
+        private boolean stamped;
+
+        TimedResponse(HttpServletResponse response, RequestTimings timings, boolean expose) {
+            super(response);
+            this.timings = timings;
+            this.expose = expose;
+        }
+
+        void stamp() {
+            if (stamped) return;
+            stamped = true;
+            if (expose && !isCommitted()) setHeader(RequestTimings.HEADER, timings.header());
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            stamp();
+            return super.getOutputStream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            stamp();
+            return super.getWriter();
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            stamp();
+            super.flushBuffer();
+        }
+
+        @Override
+        public void sendError(int sc, String msg) throws IOException {
+            stamp();
+            super.sendError(sc, msg);
+        }
+
+        @Override
+        public void sendError(int sc) throws IOException {
+            stamp();
+            super.sendError(sc);
+        }
+
+        @Override
+        public void sendRedirect(String location) throws IOException {
+            stamp();
+            super.sendRedirect(location);
+        }
+    }
+}
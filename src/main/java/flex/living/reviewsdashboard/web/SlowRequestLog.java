@@ -0,0 +1,47 @@
+package flex.living.reviewsdashboard.web;
+
+import flex.living.reviewsdashboard.config.RequestTimingConfig;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Ring buffer of the most recent requests over {@code request-timing.slow-threshold-ms}, with their phase
+ * breakdown; {@code /actuator/slowrequests} lists them slowest first.
+ */
+@Component
+@Endpoint(id = "slowrequests")
+public class SlowRequestLog {
+
+    public record Phase(String name, String desc, double ms) {
+    }
+
+    public record SlowRequest(Instant at, String method, String uri, int status, double ms, List<Phase> phases) {
+    }
+
+    private final SlowRequest[] ring;
+    private int next, size;
+
+    public SlowRequestLog(RequestTimingConfig cfg) {
+        this.ring = new SlowRequest[Math.max(1, cfg.getSlowCapacity())];
+    }
+
+    public synchronized void record(SlowRequest request) {
+        ring[next] = request;
+        next = (next + 1) % ring.length;
+        if (size < ring.length) size++;
+    }
+
+    @ReadOperation
+    public synchronized List<SlowRequest> slowest() {
+        List<SlowRequest> all = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) all.add(ring[i]);
+        all.sort(Comparator.comparingDouble(SlowRequest::ms).reversed());
+        return all;
+    }
+}
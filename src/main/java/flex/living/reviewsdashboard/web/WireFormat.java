@@ -0,0 +1,55 @@
+package flex.living.reviewsdashboard.web;
+
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+
+import java.util.List;
+
+/**
+ * Encodings the review endpoints can produce. JSON stays the default; Smile and CBOR are
+ * offered to clients that ask for them explicitly in {@code Accept}.
+ */
+public enum WireFormat {
+    JSON(MediaType.APPLICATION_JSON),
+    SMILE(new MediaType("application", "x-jackson-smile")),
+    CBOR(MediaType.APPLICATION_CBOR);
+
+    public static final String SMILE_VALUE = "application/x-jackson-smile";
+
+    private final MediaType mediaType;
+
+    WireFormat(MediaType mediaType) {
+        this.mediaType = mediaType;
+    }
+
+    public MediaType mediaType() {
+        return mediaType;
+    }
+
+    /**
+     * Pick the supported format with the highest quality in {@code accept}; wildcards and anything
+     * unparseable fall back to JSON.
+     */
+    public static WireFormat negotiate(String accept) {
+        if (accept == null || accept.isBlank()) return JSON;
+        List<MediaType> requested;
+        try {
+            requested = MediaType.parseMediaTypes(accept);
+        } catch (InvalidMediaTypeException e) {
+            return JSON;
+        }
+
+        WireFormat best = null;
+        double bestQ = -1;
+        for (MediaType m : requested) {
+            if (m.isWildcardType() || m.isWildcardSubtype()) continue;
+            for (WireFormat f : values()) {
+                if (f.mediaType.isCompatibleWith(m) && m.getQualityValue() > bestQ) {
+                    best = f;
+                    bestQ = m.getQualityValue();
+                }
+            }
+        }
+        return best == null || bestQ <= 0 ? JSON : best;
+    }
+}
@@ -0,0 +1,48 @@
+package flex.living.reviewsdashboard.web;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * One mapper per {@link WireFormat}, all sharing the application's Jackson configuration
+ * (modules, date handling) so the formats differ only in encoding.
+ */
+@Component
+public class WireMappers {
+
+    private final Map<WireFormat, ObjectMapper> mappers = new EnumMap<>(WireFormat.class);
+    private final Map<WireFormat, ObjectWriter> writers = new EnumMap<>(WireFormat.class);
+
+    public WireMappers(ObjectMapper json) {
+        // Smile back-references repeated field names and short string values (channels, listing names),
+        // which acts as a per-payload dictionary for large pages.
+        SmileFactory smile = SmileFactory.builder()
+                .enable(SmileGenerator.Feature.CHECK_SHARED_NAMES)
+                .enable(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES)
+                .build();
+
+        mappers.put(WireFormat.JSON, json);
+        mappers.put(WireFormat.SMILE, json.copyWith(smile));
+        mappers.put(WireFormat.CBOR, json.copyWith(new CBORFactory()));
+        mappers.forEach((f, m) -> writers.put(f, m.writer(ReviewFieldFilter.provider())));
+    }
+
+    public ObjectMapper forFormat(WireFormat format) {
+        return mappers.get(format);
+    }
+
+    /**
+     * Writer for {@code format} that applies {@code projection} (may be null) while serializing.
+     */
+    public ObjectWriter writer(WireFormat format, ReviewProjection projection) {
+        ObjectWriter w = writers.get(format);
+        return projection == null ? w : w.withAttribute(ReviewProjection.class, projection);
+    }
+}
@@ -1,40 +0,0 @@
-(function(){const t=document.createElement("link").relList;if(t&&t.supports&&t.supports("modulepreload"))return;for(const l of document.querySelectorAll('link[rel="modulepreload"]'))r(l);new MutationObserver(l=>{for(const i of l)if(i.type==="childList")for(const u of i.addedNodes)u.tagName==="LINK"&&u.rel==="modulepreload"&&r(u)}).observe(document,{childList:!0,subtree:!0});function n(l){const i={};return l.integrity&&(i.integrity=l.integrity),l.referrerPolicy&&(i.referrerPolicy=l.referrerPolicy),l.crossOrigin==="use-credentials"?i.credentials="include":l.crossOrigin==="anonymous"?i.credentials="omit":i.credentials="same-origin",i}function r(l){if(l.ep)return;l.ep=!0;const i=n(l);fetch(l.href,i)}})();var ns={exports:{}},sl={},rs={exports:{}},R={};/**
- * @license React
- * react.production.min.js
- *
- * Copyright (c) Facebook, Inc. and its affiliates.
- *
- * This source code is licensed under the MIT license found in the
- * LICENSE file in the root directory of this source tree.
- */var tr=Symbol.for("react.element"),vc=Symbol.for("react.portal"),gc=Symbol.for("react.fragment"),yc=Symbol.for("react.strict_mode"),wc=Symbol.for("react.profiler"),Sc=Symbol.for("react.provider"),kc=Symbol.for("react.context"),xc=Symbol.for("react.forward_ref"),Ec=Symbol.for("react.suspense"),Cc=Symbol.for("react.memo"),_c=Symbol.for("react.lazy"),Wu=Symbol.iterator;function Nc(e){return e===null||typeof e!="object"?null:(e=Wu&&e[Wu]||e["@@iterator"],typeof e=="function"?e:null)}var ls={isMounted:function(){return!1},enqueueForceUpdate:function(){},enqueueReplaceState:function(){},enqueueSetState:function(){}},is=Object.assign,us={};function dn(e,t,n){this.props=e,this.context=t,this.refs=us,this.updater=n||ls}dn.prototype.isReactComponent={};dn.prototype.setState=function(e,t){if(typeof e!="object"&&typeof e!="function"&&e!=null)throw Error("setState(...): takes an object of state variables to update or a function which returns an object of state variables.");this.updater.enqueueSetState(this,e,t,"setState")};dn.prototype.forceUpdate=function(e){this.updater.enqueueForceUpdate(this,e,"forceUpdate")};function os(){}os.prototype=dn.prototype;function Gi(e,t,n){this.props=e,this.context=t,this.refs=us,this.updater=n||ls}var Zi=Gi.prototype=new os;Zi.constructor=Gi;is(Zi,dn.prototype);Zi.isPureReactComponent=!0;var Hu=Array.isArray,ss=Object.prototype.hasOwnProperty,Ji={current:null},as={key:!0,ref:!0,__self:!0,__source:!0};function cs(e,t,n){var r,l={},i=null,u=null;if(t!=null)for(r in t.ref!==void 0&&(u=t.ref),t.key!==void 0&&(i=""+t.key),t)ss.call(t,r)&&!as.hasOwnProperty(r)&&(l[r]=t[r]);var o=arguments.length-2;if(o===1)l.children=n;else if(1<o){for(var s=Array(o),c=0;c<o;c++)s[c]=arguments[c+2];l.children=s}if(e&&e.defaultProps)for(r in o=e.defaultProps,o)l[r]===void 0&&(l[r]=o[r]);return{$$typeof:tr,type:e,key:i,ref:u,props:l,_owner:Ji.current}}function Pc(e,t){return{$$typeof:tr,type:e.type,key:t,ref:e.ref,props:e.props,_owner:e._owner}}function qi(e){return typeof e=="object"&&e!==null&&e.$$typeof===tr}function jc(e){var t={"=":"=0",":":"=2"};return"$"+e.replace(/[=:]/g,function(n){return t[n]})}var Qu=/\/+/g;function Nl(e,t){return typeof e=="object"&&e!==null&&e.key!=null?jc(""+e.key):t.toString(36)}function Nr(e,t,n,r,l){var i=typeof e;(i==="undefined"||i==="boolean")&&(e=null);var u=!1;if(e===null)u=!0;else switch(i){case"string":case"number":u=!0;break;case"object":switch(e.$$typeof){case tr:case vc:u=!0}}if(u)return u=e,l=l(u),e=r===""?"."+Nl(u,0):r,Hu(l)?(n="",e!=null&&(n=e.replace(Qu,"$&/")+"/"),Nr(l,t,n,"",function(c){return c})):l!=null&&(qi(l)&&(l=Pc(l,n+(!l.key||u&&u.key===l.key?"":(""+l.key).replace(Qu,"$&/")+"/")+e)),t.push(l)),1;if(u=0,r=r===""?".":r+":",Hu(e))for(var o=0;o<e.length;o++){i=e[o];var s=r+Nl(i,o);u+=Nr(i,t,n,s,l)}else if(s=Nc(e),typeof s=="function")for(e=s.call(e),o=0;!(i=e.next()).done;)i=i.value,s=r+Nl(i,o++),u+=Nr(i,t,n,s,l);else if(i==="object")throw t=String(e),Error("Objects are not valid as a React child (found: "+(t==="[object Object]"?"object with keys {"+Object.keys(e).join(", ")+"}":t)+"). If you meant to render a collection of children, use an array instead.");return u}function sr(e,t,n){if(e==null)return e;var r=[],l=0;return Nr(e,r,"","",function(i){return t.call(n,i,l++)}),r}function zc(e){if(e._status===-1){var t=e._result;t=t(),t.then(function(n){(e._status===0||e._status===-1)&&(e._status=1,e._result=n)},function(n){(e._status===0||e._status===-1)&&(e._status=2,e._result=n)}),e._status===-1&&(e._status=0,e._result=t)}if(e._status===1)return e._result.default;throw e._result}var ce={current:null},Pr={transition:null},Lc={ReactCurrentDispatcher:ce,ReactCurrentBatchConfig:Pr,ReactCurrentOwner:Ji};function fs(){throw Error("act(...) is not supported in production builds of React.")}R.Children={map:sr,forEach:function(e,t,n){sr(e,function(){t.apply(this,arguments)},n)},count:function(e){var t=0;return sr(e,function(){t++}),t},toArray:function(e){return sr(e,function(t){return t})||[]},only:function(e){if(!qi(e))throw Error("React.Children.only expected to receive a single React element child.");return e}};R.Component=dn;R.Fragment=gc;R.Profiler=wc;R.PureComponent=Gi;R.StrictMode=yc;R.Suspense=Ec;R.__SECRET_INTERNALS_DO_NOT_USE_OR_YOU_WILL_BE_FIRED=Lc;R.act=fs;R.cloneElement=function(e,t,n){if(e==null)throw Error("React.cloneElement(...): The argument must be a React element, but you passed "+e+".");var r=is({},e.props),l=e.key,i=e.ref,u=e._owner;if(t!=null){if(t.ref!==void 0&&(i=t.ref,u=Ji.current),t.key!==void 0&&(l=""+t.key),e.type&&e.type.defaultProps)var o=e.type.defaultProps;for(s in t)ss.call(t,s)&&!as.hasOwnProperty(s)&&(r[s]=t[s]===void 0&&o!==void 0?o[s]:t[s])}var s=arguments.length-2;if(s===1)r.children=n;else if(1<s){o=Array(s);for(var c=0;c<s;c++)o[c]=arguments[c+2];r.children=o}return{$$typeof:tr,type:e.type,key:l,ref:i,props:r,_owner:u}};R.createContext=function(e){return e={$$typeof:kc,_currentValue:e,_currentValue2:e,_threadCount:0,Provider:null,Consumer:null,_defaultValue:null,_globalName:null},e.Provider={$$typeof:Sc,_context:e},e.Consumer=e};R.createElement=cs;R.createFactory=function(e){var t=cs.bind(null,e);return t.type=e,t};R.createRef=function(){return{current:null}};R.forwardRef=function(e){return{$$typeof:xc,render:e}};R.isValidElement=qi;R.lazy=function(e){return{$$typeof:_c,_payload:{_status:-1,_result:e},_init:zc}};R.memo=function(e,t){return{$$typeof:Cc,type:e,compare:t===void 0?null:t}};R.startTransition=function(e){var t=Pr.transition;Pr.transition={};try{e()}finally{Pr.transition=t}};R.unstable_act=fs;R.useCallback=function(e,t){return ce.current.useCallback(e,t)};R.useContext=function(e){return ce.current.useContext(e)};R.useDebugValue=function(){};R.useDeferredValue=function(e){return ce.current.useDeferredValue(e)};R.useEffect=function(e,t){return ce.current.useEffect(e,t)};R.useId=function(){return ce.current.useId()};R.useImperativeHandle=function(e,t,n){return ce.current.useImperativeHandle(e,t,n)};R.useInsertionEffect=function(e,t){return ce.current.useInsertionEffect(e,t)};R.useLayoutEffect=function(e,t){return ce.current.useLayoutEffect(e,t)};R.useMemo=function(e,t){return ce.current.useMemo(e,t)};R.useReducer=function(e,t,n){return ce.current.useReducer(e,t,n)};R.useRef=function(e){return ce.current.useRef(e)};R.useState=function(e){return ce.current.useState(e)};R.useSyncExternalStore=function(e,t,n){return ce.current.useSyncExternalStore(e,t,n)};R.useTransition=function(){return ce.current.useTransition()};R.version="18.3.1";rs.exports=R;var O=rs.exports;/**
- * @license React
- * react-jsx-runtime.production.min.js
- *
- * Copyright (c) Facebook, Inc. and its affiliates.
- *
- * This source code is licensed under the MIT license found in the
- * LICENSE file in the root directory of this source tree.
- */var Tc=O,Rc=Symbol.for("react.element"),Dc=Symbol.for("react.fragment"),Oc=Object.prototype.hasOwnProperty,Mc=Tc.__SECRET_INTERNALS_DO_NOT_USE_OR_YOU_WILL_BE_FIRED.ReactCurrentOwner,Fc={key:!0,ref:!0,__self:!0,__source:!0};function ds(e,t,n){var r,l={},i=null,u=null;n!==void 0&&(i=""+n),t.key!==void 0&&(i=""+t.key),t.ref!==void 0&&(u=t.ref);for(r in t)Oc.call(t,r)&&!Fc.hasOwnProperty(r)&&(l[r]=t[r]);if(e&&e.defaultProps)for(r in t=e.defaultProps,t)l[r]===void 0&&(l[r]=t[r]);return{$$typeof:Rc,type:e,key:i,ref:u,props:l,_owner:Mc.current}}sl.Fragment=Dc;sl.jsx=ds;sl.jsxs=ds;ns.exports=sl;var v=ns.exports,ps={exports:{}},xe={},hs={exports:{}},ms={};/**
- * @license React
- * scheduler.production.min.js
- *
- * Copyright (c) Facebook, Inc. and its affiliates.
- *
- * This source code is licensed under the MIT license found in the
- * LICENSE file in the root directory of this source tree.
- */(function(e){function t(p,k){var P=p.length;p.push(k);e:for(;0<P;){var D=P-1>>>1,T=p[D];if(0<l(T,k))p[D]=k,p[P]=T,P=D;else break e}}function n(p){return p.length===0?null:p[0]}function r(p){if(p.length===0)return null;var k=p[0],P=p.pop();if(P!==k){p[0]=P;e:for(var D=0,T=p.length,re=T>>>1;D<re;){var xt=2*(D+1)-1,_l=p[xt],Et=xt+1,or=p[Et];if(0>l(_l,P))Et<T&&0>l(or,_l)?(p[D]=or,p[Et]=P,D=Et):(p[D]=_l,p[xt]=P,D=xt);else if(Et<T&&0>l(or,P))p[D]=or,p[Et]=P,D=Et;else break e}}return k}function l(p,k){var P=p.sortIndex-k.sortIndex;return P!==0?P:p.id-k.id}if(typeof performance=="object"&&typeof performance.now=="function"){var i=performance;e.unstable_now=function(){return i.now()}}else{var u=Date,o=u.now();e.unstable_now=function(){return u.now()-o}}var s=[],c=[],g=1,h=null,m=3,w=!1,E=!1,x=!1,U=typeof setTimeout=="function"?setTimeout:null,f=typeof clearTimeout=="function"?clearTimeout:null,a=typeof setImmediate<"u"?setImmediate:null;typeof navigator<"u"&&navigator.scheduling!==void 0&&navigator.scheduling.isInputPending!==void 0&&navigator.scheduling.isInputPending.bind(navigator.scheduling);function d(p){for(var k=n(c);k!==null;){if(k.callback===null)r(c);else if(k.startTime<=p)r(c),k.sortIndex=k.expirationTime,t(s,k);else break;k=n(c)}}function y(p){if(x=!1,d(p),!E)if(n(s)!==null)E=!0,Le(C);else{var k=n(c);k!==null&&mn(y,k.startTime-p)}}function C(p,k){E=!1,x&&(x=!1,f(z),z=-1),w=!0;var P=m;try{for(d(k),h=n(s);h!==null&&(!(h.expirationTime>k)||p&&!de());){var D=h.callback;if(typeof D=="function"){h.callback=null,m=h.priorityLevel;var T=D(h.expirationTime<=k);k=e.unstable_now(),typeof T=="function"?h.callback=T:h===n(s)&&r(s),d(k)}else r(s);h=n(s)}if(h!==null)var re=!0;else{var xt=n(c);xt!==null&&mn(y,xt.startTime-k),re=!1}return re}finally{h=null,m=P,w=!1}}var j=!1,N=null,z=-1,V=5,L=-1;function de(){return!(e.unstable_now()-L<V)}function et(){if(N!==null){var p=e.unstable_now();L=p;var k=!0;try{k=N(!0,p)}finally{k?tt():(j=!1,N=null)}}else j=!1}var tt;if(typeof a=="function")tt=function(){a(et)};else if(typeof MessageChannel<"u"){var ur=new MessageChannel,Cl=ur.port2;ur.port1.onmessage=et,tt=function(){Cl.postMessage(null)}}else tt=function(){U(et,0)};function Le(p){N=p,j||(j=!0,tt())}function mn(p,k){z=U(function(){p(e.unstable_now())},k)}e.unstable_IdlePriority=5,e.unstable_ImmediatePriority=1,e.unstable_LowPriority=4,e.unstable_NormalPriority=3,e.unstable_Profiling=null,e.unstable_UserBlockingPriority=2,e.unstable_cancelCallback=function(p){p.callback=null},e.unstable_continueExecution=function(){E||w||(E=!0,Le(C))},e.unstable_forceFrameRate=function(p){0>p||125<p?console.error("forceFrameRate takes a positive int between 0 and 125, forcing frame rates higher than 125 fps is not supported"):V=0<p?Math.floor(1e3/p):5},e.unstable_getCurrentPriorityLevel=function(){return m},e.unstable_getFirstCallbackNode=function(){return n(s)},e.unstable_next=function(p){switch(m){case 1:case 2:case 3:var k=3;break;default:k=m}var P=m;m=k;try{return p()}finally{m=P}},e.unstable_pauseExecution=function(){},e.unstable_requestPaint=function(){},e.unstable_runWithPriority=function(p,k){switch(p){case 1:case 2:case 3:case 4:case 5:break;default:p=3}var P=m;m=p;try{return k()}finally{m=P}},e.unstable_scheduleCallback=function(p,k,P){var D=e.unstable_now();switch(typeof P=="object"&&P!==null?(P=P.delay,P=typeof P=="number"&&0<P?D+P:D):P=D,p){case 1:var T=-1;break;case 2:T=250;break;case 5:T=1073741823;break;case 4:T=1e4;break;default:T=5e3}return T=P+T,p={id:g++,callback:k,priorityLevel:p,startTime:P,expirationTime:T,sortIndex:-1},P>D?(p.sortIndex=P,t(c,p),n(s)===null&&p===n(c)&&(x?(f(z),z=-1):x=!0,mn(y,P-D))):(p.sortIndex=T,t(s,p),E||w||(E=!0,Le(C))),p},e.unstable_shouldYield=de,e.unstable_wrapCallback=function(p){var k=m;return function(){var P=m;m=k;try{return p.apply(this,arguments)}finally{m=P}}}})(ms);hs.exports=ms;var Ic=hs.exports;/**
- * @license React
- * react-dom.production.min.js
- *
- * Copyright (c) Facebook, Inc. and its affiliates.
- *
- * This source code is licensed under the MIT license found in the
- * LICENSE file in the root directory of this source tree.
- */var Uc=O,ke=Ic;function S(e){for(var t="https://reactjs.org/docs/error-decoder.html?invariant="+e,n=1;n<arguments.length;n++)t+="&args[]="+encodeURIComponent(arguments[n]);return"Minified React error #"+e+"; visit "+t+" for the full message or use the non-minified dev environment for full errors and additional helpful warnings."}var vs=new Set,Un={};function It(e,t){ln(e,t),ln(e+"Capture",t)}function ln(e,t){for(Un[e]=t,e=0;e<t.length;e++)vs.add(t[e])}var Ge=!(typeof window>"u"||typeof window.document>"u"||typeof window.document.createElement>"u"),ti=Object.prototype.hasOwnProperty,$c=/^[:A-Z_a-z\u00C0-\u00D6\u00D8-\u00F6\u00F8-\u02FF\u0370-\u037D\u037F-\u1FFF\u200C-\u200D\u2070-\u218F\u2C00-\u2FEF\u3001-\uD7FF\uF900-\uFDCF\uFDF0-\uFFFD][:A-Z_a-z\u00C0-\u00D6\u00D8-\u00F6\u00F8-\u02FF\u0370-\u037D\u037F-\u1FFF\u200C-\u200D\u2070-\u218F\u2C00-\u2FEF\u3001-\uD7FF\uF900-\uFDCF\uFDF0-\uFFFD\-.0-9\u00B7\u0300-\u036F\u203F-\u2040]*$/,Ku={},Yu={};function Ac(e){return ti.call(Yu,e)?!0:ti.call(Ku,e)?!1:$c.test(e)?Yu[e]=!0:(Ku[e]=!0,!1)}function Bc(e,t,n,r){if(n!==null&&n.type===0)return!1;switch(typeof t){case"function":case"symbol":return!0;case"boolean":return r?!1:n!==null?!n.acceptsBooleans:(e=e.toLowerCase().slice(0,5),e!=="data-"&&e!=="aria-");default:return!1}}function Vc(e,t,n,r){if(t===null||typeof t>"u"||Bc(e,t,n,r))return!0;if(r)return!1;if(n!==null)switch(n.type){case 3:return!t;case 4:return t===!1;case 5:return isNaN(t);case 6:return isNaN(t)||1>t}return!1}function fe(e,t,n,r,l,i,u){this.acceptsBooleans=t===2||t===3||t===4,this.attributeName=r,this.attributeNamespace=l,this.mustUseProperty=n,this.propertyName=e,this.type=t,this.sanitizeURL=i,this.removeEmptyString=u}var ne={};"children dangerouslySetInnerHTML defaultValue defaultChecked innerHTML suppressContentEditableWarning suppressHydrationWarning style".split(" ").forEach(function(e){ne[e]=new fe(e,0,!1,e,null,!1,!1)});[["acceptCharset","accept-charset"],["className","class"],["htmlFor","for"],["httpEquiv","http-equiv"]].forEach(function(e){var t=e[0];ne[t]=new fe(t,1,!1,e[1],null,!1,!1)});["contentEditable","draggable","spellCheck","value"].forEach(function(e){ne[e]=new fe(e,2,!1,e.toLowerCase(),null,!1,!1)});["autoReverse","externalResourcesRequired","focusable","preserveAlpha"].forEach(function(e){ne[e]=new fe(e,2,!1,e,null,!1,!1)});"allowFullScreen async autoFocus autoPlay controls default defer disabled disablePictureInPicture disableRemotePlayback formNoValidate hidden loop noModule noValidate open playsInline readOnly required reversed scoped seamless itemScope".split(" ").forEach(function(e){ne[e]=new fe(e,3,!1,e.toLowerCase(),null,!1,!1)});["checked","multiple","muted","selected"].forEach(function(e){ne[e]=new fe(e,3,!0,e,null,!1,!1)});["capture","download"].forEach(function(e){ne[e]=new fe(e,4,!1,e,null,!1,!1)});["cols","rows","size","span"].forEach(function(e){ne[e]=new fe(e,6,!1,e,null,!1,!1)});["rowSpan","start"].forEach(function(e){ne[e]=new fe(e,5,!1,e.toLowerCase(),null,!1,!1)});var bi=/[\-:]([a-z])/g;function eu(e){return e[1].toUpperCase()}"accent-height alignment-baseline arabic-form baseline-shift cap-height clip-path clip-rule color-interpolation color-interpolation-filters color-profile color-rendering dominant-baseline enable-background fill-opacity fill-rule flood-color flood-opacity font-family font-size font-size-adjust font-stretch font-style font-variant font-weight glyph-name glyph-orientation-horizontal glyph-orientation-vertical horiz-adv-x horiz-origin-x image-rendering letter-spacing lighting-color marker-end marker-mid marker-start overline-position overline-thickness paint-order panose-1 pointer-events rendering-intent shape-rendering stop-color stop-opacity strikethrough-position strikethrough-thickness stroke-dasharray stroke-dashoffset stroke-linecap stroke-linejoin stroke-miterlimit stroke-opacity stroke-width text-anchor text-decoration text-rendering underline-position underline-thickness unicode-bidi unicode-range units-per-em v-alphabetic v-hanging v-ideographic v-mathematical vector-effect vert-adv-y vert-origin-x vert-origin-y word-spacing writing-mode xmlns:xlink x-height".split(" ").forEach(function(e){var t=e.replace(bi,eu);ne[t]=new fe(t,1,!1,e,null,!1,!1)});"xlink:actuate xlink:arcrole xlink:role xlink:show xlink:title xlink:type".split(" ").forEach(function(e){var t=e.replace(bi,eu);ne[t]=new fe(t,1,!1,e,"http://www.w3.org/1999/xlink",!1,!1)});["xml:base","xml:lang","xml:space"].forEach(function(e){var t=e.replace(bi,eu);ne[t]=new fe(t,1,!1,e,"http://www.w3.org/XML/1998/namespace",!1,!1)});["tabIndex","crossOrigin"].forEach(function(e){ne[e]=new fe(e,1,!1,e.toLowerCase(),null,!1,!1)});ne.xlinkHref=new fe("xlinkHref",1,!1,"xlink:href","http://www.w3.org/1999/xlink",!0,!1);["src","href","action","formAction"].forEach(function(e){ne[e]=new fe(e,1,!1,e.toLowerCase(),null,!0,!0)});function tu(e,t,n,r){var l=ne.hasOwnProperty(t)?ne[t]:null;(l!==null?l.type!==0:r||!(2<t.length)||t[0]!=="o"&&t[0]!=="O"||t[1]!=="n"&&t[1]!=="N")&&(Vc(t,n,l,r)&&(n=null),r||l===null?Ac(t)&&(n===null?e.removeAttribute(t):e.setAttribute(t,""+n)):l.mustUseProperty?e[l.propertyName]=n===null?l.type===3?!1:"":n:(t=l.attributeName,r=l.attributeNamespace,n===null?e.removeAttribute(t):(l=l.type,n=l===3||l===4&&n===!0?"":""+n,r?e.setAttributeNS(r,t,n):e.setAttribute(t,n))))}var be=Uc.__SECRET_INTERNALS_DO_NOT_USE_OR_YOU_WILL_BE_FIRED,ar=Symbol.for("react.element"),At=Symbol.for("react.portal"),Bt=Symbol.for("react.fragment"),nu=Symbol.for("react.strict_mode"),ni=Symbol.for("react.profiler"),gs=Symbol.for("react.provider"),ys=Symbol.for("react.context"),ru=Symbol.for("react.forward_ref"),ri=Symbol.for("react.suspense"),li=Symbol.for("react.suspense_list"),lu=Symbol.for("react.memo"),rt=Symbol.for("react.lazy"),ws=Symbol.for("react.offscreen"),Xu=Symbol.iterator;function vn(e){return e===null||typeof e!="object"?null:(e=Xu&&e[Xu]||e["@@iterator"],typeof e=="function"?e:null)}var K=Object.assign,Pl;function _n(e){if(Pl===void 0)try{throw Error()}catch(n){var t=n.stack.trim().match(/\n( *(at )?)/);Pl=t&&t[1]||""}return`
-`+Pl+e}var jl=!1;function zl(e,t){if(!e||jl)return"";jl=!0;var n=Error.prepareStackTrace;Error.prepareStackTrace=void 0;try{if(t)if(t=function(){throw Error()},Object.defineProperty(t.prototype,"props",{set:function(){throw Error()}}),typeof Reflect=="object"&&Reflect.construct){try{Reflect.construct(t,[])}catch(c){var r=c}Reflect.construct(e,[],t)}else{try{t.call()}catch(c){r=c}e.call(t.prototype)}else{try{throw Error()}catch(c){r=c}e()}}catch(c){if(c&&r&&typeof c.stack=="string"){for(var l=c.stack.split(`
-`),i=r.stack.split(`
-`),u=l.length-1,o=i.length-1;1<=u&&0<=o&&l[u]!==i[o];)o--;for(;1<=u&&0<=o;u--,o--)if(l[u]!==i[o]){if(u!==1||o!==1)do if(u--,o--,0>o||l[u]!==i[o]){var s=`
-`+l[u].replace(" at new "," at ");return e.displayName&&s.includes("<anonymous>")&&(s=s.replace("<anonymous>",e.displayName)),s}while(1<=u&&0<=o);break}}}finally{jl=!1,Error.prepareStackTrace=n}return(e=e?e.displayName||e.name:"")?_n(e):""}function Wc(e){switch(e.tag){case 5:return _n(e.type);case 16:return _n("Lazy");case 13:return _n("Suspense");case 19:return _n("SuspenseList");case 0:case 2:case 15:return e=zl(e.type,!1),e;case 11:return e=zl(e.type.render,!1),e;case 1:return e=zl(e.type,!0),e;default:return""}}function ii(e){if(e==null)return null;if(typeof e=="function")return e.displayName||e.name||null;if(typeof e=="string")return e;switch(e){case Bt:return"Fragment";case At:return"Portal";case ni:return"Profiler";case nu:return"StrictMode";case ri:return"Suspense";case li:return"SuspenseList"}if(typeof e=="object")switch(e.$$typeof){case ys:return(e.displayName||"Context")+".Consumer";case gs:return(e._context.displayName||"Context")+".Provider";case ru:var t=e.render;return e=e.displayName,e||(e=t.displayName||t.name||"",e=e!==""?"ForwardRef("+e+")":"ForwardRef"),e;case lu:return t=e.displayName||null,t!==null?t:ii(e.type)||"Memo";case rt:t=e._payload,e=e._init;try{return ii(e(t))}catch{}}return null}function Hc(e){var t=e.type;switch(e.tag){case 24:return"Cache";case 9:return(t.displayName||"Context")+".Consumer";case 10:return(t._context.displayName||"Context")+".Provider";case 18:return"DehydratedFragment";case 11:return e=t.render,e=e.displayName||e.name||"",t.displayName||(e!==""?"ForwardRef("+e+")":"ForwardRef");case 7:return"Fragment";case 5:return t;case 4:return"Portal";case 3:return"Root";case 6:return"Text";case 16:return ii(t);case 8:return t===nu?"StrictMode":"Mode";case 22:return"Offscreen";case 12:return"Profiler";case 21:return"Scope";case 13:return"Suspense";case 19:return"SuspenseList";case 25:return"TracingMarker";case 1:case 0:case 17:case 2:case 14:case 15:if(typeof t=="function")return t.displayName||t.name||null;if(typeof t=="string")return t}return null}function gt(e){switch(typeof e){case"boolean":case"number":case"string":case"undefined":return e;case"object":return e;default:return""}}function Ss(e){var t=e.type;return(e=e.nodeName)&&e.toLowerCase()==="input"&&(t==="checkbox"||t==="radio")}function Qc(e){var t=Ss(e)?"checked":"value",n=Object.getOwnPropertyDescriptor(e.constructor.prototype,t),r=""+e[t];if(!e.hasOwnProperty(t)&&typeof n<"u"&&typeof n.get=="function"&&typeof n.set=="function"){var l=n.get,i=n.set;return Object.defineProperty(e,t,{configurable:!0,get:function(){return l.call(this)},set:function(u){r=""+u,i.call(this,u)}}),Object.defineProperty(e,t,{enumerable:n.enumerable}),{getValue:function(){return r},setValue:function(u){r=""+u},stopTracking:function(){e._valueTracker=null,delete e[t]}}}}function cr(e){e._valueTracker||(e._valueTracker=Qc(e))}function ks(e){if(!e)return!1;var t=e._valueTracker;if(!t)return!0;var n=t.getValue(),r="";return e&&(r=Ss(e)?e.checked?"true":"false":e.value),e=r,e!==n?(t.setValue(e),!0):!1}function Ur(e){if(e=e||(typeof document<"u"?document:void 0),typeof e>"u")return null;try{return e.activeElement||e.body}catch{return e.body}}function ui(e,t){var n=t.checked;return K({},t,{defaultChecked:void 0,defaultValue:void 0,value:void 0,checked:n??e._wrapperState.initialChecked})}function Gu(e,t){var n=t.defaultValue==null?"":t.defaultValue,r=t.checked!=null?t.checked:t.defaultChecked;n=gt(t.value!=null?t.value:n),e._wrapperState={initialChecked:r,initialValue:n,controlled:t.type==="checkbox"||t.type==="radio"?t.checked!=null:t.value!=null}}function xs(e,t){t=t.checked,t!=null&&tu(e,"checked",t,!1)}function oi(e,t){xs(e,t);var n=gt(t.value),r=t.type;if(n!=null)r==="number"?(n===0&&e.value===""||e.value!=n)&&(e.value=""+n):e.value!==""+n&&(e.value=""+n);else if(r==="submit"||r==="reset"){e.removeAttribute("value");return}t.hasOwnProperty("value")?si(e,t.type,n):t.hasOwnProperty("defaultValue")&&si(e,t.type,gt(t.defaultValue)),t.checked==null&&t.defaultChecked!=null&&(e.defaultChecked=!!t.defaultChecked)}function Zu(e,t,n){if(t.hasOwnProperty("value")||t.hasOwnProperty("defaultValue")){var r=t.type;if(!(r!=="submit"&&r!=="reset"||t.value!==void 0&&t.value!==null))return;t=""+e._wrapperState.initialValue,n||t===e.value||(e.value=t),e.defaultValue=t}n=e.name,n!==""&&(e.name=""),e.defaultChecked=!!e._wrapperState.initialChecked,n!==""&&(e.name=n)}function si(e,t,n){(t!=="number"||Ur(e.ownerDocument)!==e)&&(n==null?e.defaultValue=""+e._wrapperState.initialValue:e.defaultValue!==""+n&&(e.defaultValue=""+n))}var Nn=Array.isArray;function qt(e,t,n,r){if(e=e.options,t){t={};for(var l=0;l<n.length;l++)t["$"+n[l]]=!0;for(n=0;n<e.length;n++)l=t.hasOwnProperty("$"+e[n].value),e[n].selected!==l&&(e[n].selected=l),l&&r&&(e[n].defaultSelected=!0)}else{for(n=""+gt(n),t=null,l=0;l<e.length;l++){if(e[l].value===n){e[l].selected=!0,r&&(e[l].defaultSelected=!0);return}t!==null||e[l].disabled||(t=e[l])}t!==null&&(t.selected=!0)}}function ai(e,t){if(t.dangerouslySetInnerHTML!=null)throw Error(S(91));return K({},t,{value:void 0,defaultValue:void 0,children:""+e._wrapperState.initialValue})}function Ju(e,t){var n=t.value;if(n==null){if(n=t.children,t=t.defaultValue,n!=null){if(t!=null)throw Error(S(92));if(Nn(n)){if(1<n.length)throw Error(S(93));n=n[0]}t=n}t==null&&(t=""),n=t}e._wrapperState={initialValue:gt(n)}}function Es(e,t){var n=gt(t.value),r=gt(t.defaultValue);n!=null&&(n=""+n,n!==e.value&&(e.value=n),t.defaultValue==null&&e.defaultValue!==n&&(e.defaultValue=n)),r!=null&&(e.defaultValue=""+r)}function qu(e){var t=e.textContent;t===e._wrapperState.initialValue&&t!==""&&t!==null&&(e.value=t)}function Cs(e){switch(e){case"svg":return"http://www.w3.org/2000/svg";case"math":return"http://www.w3.org/1998/Math/MathML";default:return"http://www.w3.org/1999/xhtml"}}function ci(e,t){return e==null||e==="http://www.w3.org/1999/xhtml"?Cs(t):e==="http://www.w3.org/2000/svg"&&t==="foreignObject"?"http://www.w3.org/1999/xhtml":e}var fr,_s=function(e){return typeof MSApp<"u"&&MSApp.execUnsafeLocalFunction?function(t,n,r,l){MSApp.execUnsafeLocalFunction(function(){return e(t,n,r,l)})}:e}(function(e,t){if(e.namespaceURI!=="http://www.w3.org/2000/svg"||"innerHTML"in e)e.innerHTML=t;else{for(fr=fr||document.createElement("div"),fr.innerHTML="<svg>"+t.valueOf().toString()+"</svg>",t=fr.firstChild;e.firstChild;)e.removeChild(e.firstChild);for(;t.firstChild;)e.appendChild(t.firstChild)}});function $n(e,t){if(t){var n=e.firstChild;if(n&&n===e.lastChild&&n.nodeType===3){n.nodeValue=t;return}}e.textContent=t}var zn={animationIterationCount:!0,aspectRatio:!0,borderImageOutset:!0,borderImageSlice:!0,borderImageWidth:!0,boxFlex:!0,boxFlexGroup:!0,boxOrdinalGroup:!0,columnCount:!0,columns:!0,flex:!0,flexGrow:!0,flexPositive:!0,flexShrink:!0,flexNegative:!0,flexOrder:!0,gridArea:!0,gridRow:!0,gridRowEnd:!0,gridRowSpan:!0,gridRowStart:!0,gridColumn:!0,gridColumnEnd:!0,gridColumnSpan:!0,gridColumnStart:!0,fontWeight:!0,lineClamp:!0,lineHeight:!0,opacity:!0,order:!0,orphans:!0,tabSize:!0,widows:!0,zIndex:!0,zoom:!0,fillOpacity:!0,floodOpacity:!0,stopOpacity:!0,strokeDasharray:!0,strokeDashoffset:!0,strokeMiterlimit:!0,strokeOpacity:!0,strokeWidth:!0},Kc=["Webkit","ms","Moz","O"];Object.keys(zn).forEach(function(e){Kc.forEach(function(t){t=t+e.charAt(0).toUpperCase()+e.substring(1),zn[t]=zn[e]})});function Ns(e,t,n){return t==null||typeof t=="boolean"||t===""?"":n||typeof t!="number"||t===0||zn.hasOwnProperty(e)&&zn[e]?(""+t).trim():t+"px"}function Ps(e,t){e=e.style;for(var n in t)if(t.hasOwnProperty(n)){var r=n.indexOf("--")===0,l=Ns(n,t[n],r);n==="float"&&(n="cssFloat"),r?e.setProperty(n,l):e[n]=l}}var Yc=K({menuitem:!0},{area:!0,base:!0,br:!0,col:!0,embed:!0,hr:!0,img:!0,input:!0,keygen:!0,link:!0,meta:!0,param:!0,source:!0,track:!0,wbr:!0});function fi(e,t){if(t){if(Yc[e]&&(t.children!=null||t.dangerouslySetInnerHTML!=null))throw Error(S(137,e));if(t.dangerouslySetInnerHTML!=null){if(t.children!=null)throw Error(S(60));if(typeof t.dangerouslySetInnerHTML!="object"||!("__html"in t.dangerouslySetInnerHTML))throw Error(S(61))}if(t.style!=null&&typeof t.style!="object")throw Error(S(62))}}function di(e,t){if(e.indexOf("-")===-1)return typeof t.is=="string";switch(e){case"annotation-xml":case"color-profile":case"font-face":case"font-face-src":case"font-face-uri":case"font-face-format":case"font-face-name":case"missing-glyph":return!1;default:return!0}}var pi=null;function iu(e){return e=e.target||e.srcElement||window,e.correspondingUseElement&&(e=e.correspondingUseElement),e.nodeType===3?e.parentNode:e}var hi=null,bt=null,en=null;function bu(e){if(e=lr(e)){if(typeof hi!="function")throw Error(S(280));var t=e.stateNode;t&&(t=pl(t),hi(e.stateNode,e.type,t))}}function js(e){bt?en?en.push(e):en=[e]:bt=e}function zs(){if(bt){var e=bt,t=en;if(en=bt=null,bu(e),t)for(e=0;e<t.length;e++)bu(t[e])}}function Ls(e,t){return e(t)}function Ts(){}var Ll=!1;function Rs(e,t,n){if(Ll)return e(t,n);Ll=!0;try{return Ls(e,t,n)}finally{Ll=!1,(bt!==null||en!==null)&&(Ts(),zs())}}function An(e,t){var n=e.stateNode;if(n===null)return null;var r=pl(n);if(r===null)return null;n=r[t];e:switch(t){case"onClick":case"onClickCapture":case"onDoubleClick":case"onDoubleClickCapture":case"onMouseDown":case"onMouseDownCapture":case"onMouseMove":case"onMouseMoveCapture":case"onMouseUp":case"onMouseUpCapture":case"onMouseEnter":(r=!r.disabled)||(e=e.type,r=!(e==="button"||e==="input"||e==="select"||e==="textarea")),e=!r;break e;default:e=!1}if(e)return null;if(n&&typeof n!="function")throw Error(S(231,t,typeof n));return n}var mi=!1;if(Ge)try{var gn={};Object.defineProperty(gn,"passive",{get:function(){mi=!0}}),window.addEventListener("test",gn,gn),window.removeEventListener("test",gn,gn)}catch{mi=!1}function Xc(e,t,n,r,l,i,u,o,s){var c=Array.prototype.slice.call(arguments,3);try{t.apply(n,c)}catch(g){this.onError(g)}}var Ln=!1,$r=null,Ar=!1,vi=null,Gc={onError:function(e){Ln=!0,$r=e}};function Zc(e,t,n,r,l,i,u,o,s){Ln=!1,$r=null,Xc.apply(Gc,arguments)}function Jc(e,t,n,r,l,i,u,o,s){if(Zc.apply(this,arguments),Ln){if(Ln){var c=$r;Ln=!1,$r=null}else throw Error(S(198));Ar||(Ar=!0,vi=c)}}function Ut(e){var t=e,n=e;if(e.alternate)for(;t.return;)t=t.return;else{e=t;do t=e,t.flags&4098&&(n=t.return),e=t.return;while(e)}return t.tag===3?n:null}function Ds(e){if(e.tag===13){var t=e.memoizedState;if(t===null&&(e=e.alternate,e!==null&&(t=e.memoizedState)),t!==null)return t.dehydrated}return null}function eo(e){if(Ut(e)!==e)throw Error(S(188))}function qc(e){var t=e.alternate;if(!t){if(t=Ut(e),t===null)throw Error(S(188));return t!==e?null:e}for(var n=e,r=t;;){var l=n.return;if(l===null)break;var i=l.alternate;if(i===null){if(r=l.return,r!==null){n=r;continue}break}if(l.child===i.child){for(i=l.child;i;){if(i===n)return eo(l),e;if(i===r)return eo(l),t;i=i.sibling}throw Error(S(188))}if(n.return!==r.return)n=l,r=i;else{for(var u=!1,o=l.child;o;){if(o===n){u=!0,n=l,r=i;break}if(o===r){u=!0,r=l,n=i;break}o=o.sibling}if(!u){for(o=i.child;o;){if(o===n){u=!0,n=i,r=l;break}if(o===r){u=!0,r=i,n=l;break}o=o.sibling}if(!u)throw Error(S(189))}}if(n.alternate!==r)throw Error(S(190))}if(n.tag!==3)throw Error(S(188));return n.stateNode.current===n?e:t}function Os(e){return e=qc(e),e!==null?Ms(e):null}function Ms(e){if(e.tag===5||e.tag===6)return e;for(e=e.child;e!==null;){var t=Ms(e);if(t!==null)return t;e=e.sibling}return null}var Fs=ke.unstable_scheduleCallback,to=ke.unstable_cancelCallback,bc=ke.unstable_shouldYield,ef=ke.unstable_requestPaint,X=ke.unstable_now,tf=ke.unstable_getCurrentPriorityLevel,uu=ke.unstable_ImmediatePriority,Is=ke.unstable_UserBlockingPriority,Br=ke.unstable_NormalPriority,nf=ke.unstable_LowPriority,Us=ke.unstable_IdlePriority,al=null,Ve=null;function rf(e){if(Ve&&typeof Ve.onCommitFiberRoot=="function")try{Ve.onCommitFiberRoot(al,e,void 0,(e.current.flags&128)===128)}catch{}}var Fe=Math.clz32?Math.clz32:of,lf=Math.log,uf=Math.LN2;function of(e){return e>>>=0,e===0?32:31-(lf(e)/uf|0)|0}var dr=64,pr=4194304;function Pn(e){switch(e&-e){case 1:return 1;case 2:return 2;case 4:return 4;case 8:return 8;case 16:return 16;case 32:return 32;case 64:case 128:case 256:case 512:case 1024:case 2048:case 4096:case 8192:case 16384:case 32768:case 65536:case 131072:case 262144:case 524288:case 1048576:case 2097152:return e&4194240;case 4194304:case 8388608:case 16777216:case 33554432:case 67108864:return e&130023424;case 134217728:return 134217728;case 268435456:return 268435456;case 536870912:return 536870912;case 1073741824:return 1073741824;default:return e}}function Vr(e,t){var n=e.pendingLanes;if(n===0)return 0;var r=0,l=e.suspendedLanes,i=e.pingedLanes,u=n&268435455;if(u!==0){var o=u&~l;o!==0?r=Pn(o):(i&=u,i!==0&&(r=Pn(i)))}else u=n&~l,u!==0?r=Pn(u):i!==0&&(r=Pn(i));if(r===0)return 0;if(t!==0&&t!==r&&!(t&l)&&(l=r&-r,i=t&-t,l>=i||l===16&&(i&4194240)!==0))return t;if(r&4&&(r|=n&16),t=e.entangledLanes,t!==0)for(e=e.entanglements,t&=r;0<t;)n=31-Fe(t),l=1<<n,r|=e[n],t&=~l;return r}function sf(e,t){switch(e){case 1:case 2:case 4:return t+250;case 8:case 16:case 32:case 64:case 128:case 256:case 512:case 1024:case 2048:case 4096:case 8192:case 16384:case 32768:case 65536:case 131072:case 262144:case 524288:case 1048576:case 2097152:return t+5e3;case 4194304:case 8388608:case 16777216:case 33554432:case 67108864:return-1;case 134217728:case 268435456:case 536870912:case 1073741824:return-1;default:return-1}}function af(e,t){for(var n=e.suspendedLanes,r=e.pingedLanes,l=e.expirationTimes,i=e.pendingLanes;0<i;){var u=31-Fe(i),o=1<<u,s=l[u];s===-1?(!(o&n)||o&r)&&(l[u]=sf(o,t)):s<=t&&(e.expiredLanes|=o),i&=~o}}function gi(e){return e=e.pendingLanes&-1073741825,e!==0?e:e&1073741824?1073741824:0}function $s(){var e=dr;return dr<<=1,!(dr&4194240)&&(dr=64),e}function Tl(e){for(var t=[],n=0;31>n;n++)t.push(e);return t}function nr(e,t,n){e.pendingLanes|=t,t!==536870912&&(e.suspendedLanes=0,e.pingedLanes=0),e=e.eventTimes,t=31-Fe(t),e[t]=n}function cf(e,t){var n=e.pendingLanes&~t;e.pendingLanes=t,e.suspendedLanes=0,e.pingedLanes=0,e.expiredLanes&=t,e.mutableReadLanes&=t,e.entangledLanes&=t,t=e.entanglements;var r=e.eventTimes;for(e=e.expirationTimes;0<n;){var l=31-Fe(n),i=1<<l;t[l]=0,r[l]=-1,e[l]=-1,n&=~i}}function ou(e,t){var n=e.entangledLanes|=t;for(e=e.entanglements;n;){var r=31-Fe(n),l=1<<r;l&t|e[r]&t&&(e[r]|=t),n&=~l}}var I=0;function As(e){return e&=-e,1<e?4<e?e&268435455?16:536870912:4:1}var Bs,su,Vs,Ws,Hs,yi=!1,hr=[],at=null,ct=null,ft=null,Bn=new Map,Vn=new Map,it=[],ff="mousedown mouseup touchcancel touchend touchstart auxclick dblclick pointercancel pointerdown pointerup dragend dragstart drop compositionend compositionstart keydown keypress keyup input textInput copy cut paste click change contextmenu reset submit".split(" ");function no(e,t){switch(e){case"focusin":case"focusout":at=null;break;case"dragenter":case"dragleave":ct=null;break;case"mouseover":case"mouseout":ft=null;break;case"pointerover":case"pointerout":Bn.delete(t.pointerId);break;case"gotpointercapture":case"lostpointercapture":Vn.delete(t.pointerId)}}function yn(e,t,n,r,l,i){return e===null||e.nativeEvent!==i?(e={blockedOn:t,domEventName:n,eventSystemFlags:r,nativeEvent:i,targetContainers:[l]},t!==null&&(t=lr(t),t!==null&&su(t)),e):(e.eventSystemFlags|=r,t=e.targetContainers,l!==null&&t.indexOf(l)===-1&&t.push(l),e)}function df(e,t,n,r,l){switch(t){case"focusin":return at=yn(at,e,t,n,r,l),!0;case"dragenter":return ct=yn(ct,e,t,n,r,l),!0;case"mouseover":return ft=yn(ft,e,t,n,r,l),!0;case"pointerover":var i=l.pointerId;return Bn.set(i,yn(Bn.get(i)||null,e,t,n,r,l)),!0;case"gotpointercapture":return i=l.pointerId,Vn.set(i,yn(Vn.get(i)||null,e,t,n,r,l)),!0}return!1}function Qs(e){var t=Pt(e.target);if(t!==null){var n=Ut(t);if(n!==null){if(t=n.tag,t===13){if(t=Ds(n),t!==null){e.blockedOn=t,Hs(e.priority,function(){Vs(n)});return}}else if(t===3&&n.stateNode.current.memoizedState.isDehydrated){e.blockedOn=n.tag===3?n.stateNode.containerInfo:null;return}}}e.blockedOn=null}function jr(e){if(e.blockedOn!==null)return!1;for(var t=e.targetContainers;0<t.length;){var n=wi(e.domEventName,e.eventSystemFlags,t[0],e.nativeEvent);if(n===null){n=e.nativeEvent;var r=new n.constructor(n.type,n);pi=r,n.target.dispatchEvent(r),pi=null}else return t=lr(n),t!==null&&su(t),e.blockedOn=n,!1;t.shift()}return!0}function ro(e,t,n){jr(e)&&n.delete(t)}function pf(){yi=!1,at!==null&&jr(at)&&(at=null),ct!==null&&jr(ct)&&(ct=null),ft!==null&&jr(ft)&&(ft=null),Bn.forEach(ro),Vn.forEach(ro)}function wn(e,t){e.blockedOn===t&&(e.blockedOn=null,yi||(yi=!0,ke.unstable_scheduleCallback(ke.unstable_NormalPriority,pf)))}function Wn(e){function t(l){return wn(l,e)}if(0<hr.length){wn(hr[0],e);for(var n=1;n<hr.length;n++){var r=hr[n];r.blockedOn===e&&(r.blockedOn=null)}}for(at!==null&&wn(at,e),ct!==null&&wn(ct,e),ft!==null&&wn(ft,e),Bn.forEach(t),Vn.forEach(t),n=0;n<it.length;n++)r=it[n],r.blockedOn===e&&(r.blockedOn=null);for(;0<it.length&&(n=it[0],n.blockedOn===null);)Qs(n),n.blockedOn===null&&it.shift()}var tn=be.ReactCurrentBatchConfig,Wr=!0;function hf(e,t,n,r){var l=I,i=tn.transition;tn.transition=null;try{I=1,au(e,t,n,r)}finally{I=l,tn.transition=i}}function mf(e,t,n,r){var l=I,i=tn.transition;tn.transition=null;try{I=4,au(e,t,n,r)}finally{I=l,tn.transition=i}}function au(e,t,n,r){if(Wr){var l=wi(e,t,n,r);if(l===null)Bl(e,t,r,Hr,n),no(e,r);else if(df(l,e,t,n,r))r.stopPropagation();else if(no(e,r),t&4&&-1<ff.indexOf(e)){for(;l!==null;){var i=lr(l);if(i!==null&&Bs(i),i=wi(e,t,n,r),i===null&&Bl(e,t,r,Hr,n),i===l)break;l=i}l!==null&&r.stopPropagation()}else Bl(e,t,r,null,n)}}var Hr=null;function wi(e,t,n,r){if(Hr=null,e=iu(r),e=Pt(e),e!==null)if(t=Ut(e),t===null)e=null;else if(n=t.tag,n===13){if(e=Ds(t),e!==null)return e;e=null}else if(n===3){if(t.stateNode.current.memoizedState.isDehydrated)return t.tag===3?t.stateNode.containerInfo:null;e=null}else t!==e&&(e=null);return Hr=e,null}function Ks(e){switch(e){case"cancel":case"click":case"close":case"contextmenu":case"copy":case"cut":case"auxclick":case"dblclick":case"dragend":case"dragstart":case"drop":case"focusin":case"focusout":case"input":case"invalid":case"keydown":case"keypress":case"keyup":case"mousedown":case"mouseup":case"paste":case"pause":case"play":case"pointercancel":case"pointerdown":case"pointerup":case"ratechange":case"reset":case"resize":case"seeked":case"submit":case"touchcancel":case"touchend":case"touchstart":case"volumechange":case"change":case"selectionchange":case"textInput":case"compositionstart":case"compositionend":case"compositionupdate":case"beforeblur":case"afterblur":case"beforeinput":case"blur":case"fullscreenchange":case"focus":case"hashchange":case"popstate":case"select":case"selectstart":return 1;case"drag":case"dragenter":case"dragexit":case"dragleave":case"dragover":case"mousemove":case"mouseout":case"mouseover":case"pointermove":case"pointerout":case"pointerover":case"scroll":case"toggle":case"touchmove":case"wheel":case"mouseenter":case"mouseleave":case"pointerenter":case"pointerleave":return 4;case"message":switch(tf()){case uu:return 1;case Is:return 4;case Br:case nf:return 16;case Us:return 536870912;default:return 16}default:return 16}}var ot=null,cu=null,zr=null;function Ys(){if(zr)return zr;var e,t=cu,n=t.length,r,l="value"in ot?ot.value:ot.textContent,i=l.length;for(e=0;e<n&&t[e]===l[e];e++);var u=n-e;for(r=1;r<=u&&t[n-r]===l[i-r];r++);return zr=l.slice(e,1<r?1-r:void 0)}function Lr(e){var t=e.keyCode;return"charCode"in e?(e=e.charCode,e===0&&t===13&&(e=13)):e=t,e===10&&(e=13),32<=e||e===13?e:0}function mr(){return!0}function lo(){return!1}function Ee(e){function t(n,r,l,i,u){this._reactName=n,this._targetInst=l,this.type=r,this.nativeEvent=i,this.target=u,this.currentTarget=null;for(var o in e)e.hasOwnProperty(o)&&(n=e[o],this[o]=n?n(i):i[o]);return this.isDefaultPrevented=(i.defaultPrevented!=null?i.defaultPrevented:i.returnValue===!1)?mr:lo,this.isPropagationStopped=lo,this}return K(t.prototype,{preventDefault:function(){this.defaultPrevented=!0;var n=this.nativeEvent;n&&(n.preventDefault?n.preventDefault():typeof n.returnValue!="unknown"&&(n.returnValue=!1),this.isDefaultPrevented=mr)},stopPropagation:function(){var n=this.nativeEvent;n&&(n.stopPropagation?n.stopPropagation():typeof n.cancelBubble!="unknown"&&(n.cancelBubble=!0),this.isPropagationStopped=mr)},persist:function(){},isPersistent:mr}),t}var pn={eventPhase:0,bubbles:0,cancelable:0,timeStamp:function(e){return e.timeStamp||Date.now()},defaultPrevented:0,isTrusted:0},fu=Ee(pn),rr=K({},pn,{view:0,detail:0}),vf=Ee(rr),Rl,Dl,Sn,cl=K({},rr,{screenX:0,screenY:0,clientX:0,clientY:0,pageX:0,pageY:0,ctrlKey:0,shiftKey:0,altKey:0,metaKey:0,getModifierState:du,button:0,buttons:0,relatedTarget:function(e){return e.relatedTarget===void 0?e.fromElement===e.srcElement?e.toElement:e.fromElement:e.relatedTarget},movementX:function(e){return"movementX"in e?e.movementX:(e!==Sn&&(Sn&&e.type==="mousemove"?(Rl=e.screenX-Sn.screenX,Dl=e.screenY-Sn.screenY):Dl=Rl=0,Sn=e),Rl)},movementY:function(e){return"movementY"in e?e.movementY:Dl}}),io=Ee(cl),gf=K({},cl,{dataTransfer:0}),yf=Ee(gf),wf=K({},rr,{relatedTarget:0}),Ol=Ee(wf),Sf=K({},pn,{animationName:0,elapsedTime:0,pseudoElement:0}),kf=Ee(Sf),xf=K({},pn,{clipboardData:function(e){return"clipboardData"in e?e.clipboardData:window.clipboardData}}),Ef=Ee(xf),Cf=K({},pn,{data:0}),uo=Ee(Cf),_f={Esc:"Escape",Spacebar:" ",Left:"ArrowLeft",Up:"ArrowUp",Right:"ArrowRight",Down:"ArrowDown",Del:"Delete",Win:"OS",Menu:"ContextMenu",Apps:"ContextMenu",Scroll:"ScrollLock",MozPrintableKey:"Unidentified"},Nf={8:"Backspace",9:"Tab",12:"Clear",13:"Enter",16:"Shift",17:"Control",18:"Alt",19:"Pause",20:"CapsLock",27:"Escape",32:" ",33:"PageUp",34:"PageDown",35:"End",36:"Home",37:"ArrowLeft",38:"ArrowUp",39:"ArrowRight",40:"ArrowDown",45:"Insert",46:"Delete",112:"F1",113:"F2",114:"F3",115:"F4",116:"F5",117:"F6",118:"F7",119:"F8",120:"F9",121:"F10",122:"F11",123:"F12",144:"NumLock",145:"ScrollLock",224:"Meta"},Pf={Alt:"altKey",Control:"ctrlKey",Meta:"metaKey",Shift:"shiftKey"};function jf(e){var t=this.nativeEvent;return t.getModifierState?t.getModifierState(e):(e=Pf[e])?!!t[e]:!1}function du(){return jf}var zf=K({},rr,{key:function(e){if(e.key){var t=_f[e.key]||e.key;if(t!=="Unidentified")return t}return e.type==="keypress"?(e=Lr(e),e===13?"Enter":String.fromCharCode(e)):e.type==="keydown"||e.type==="keyup"?Nf[e.keyCode]||"Unidentified":""},code:0,location:0,ctrlKey:0,shiftKey:0,altKey:0,metaKey:0,repeat:0,locale:0,getModifierState:du,charCode:function(e){return e.type==="keypress"?Lr(e):0},keyCode:function(e){return e.type==="keydown"||e.type==="keyup"?e.keyCode:0},which:function(e){return e.type==="keypress"?Lr(e):e.type==="keydown"||e.type==="keyup"?e.keyCode:0}}),Lf=Ee(zf),Tf=K({},cl,{pointerId:0,width:0,height:0,pressure:0,tangentialPressure:0,tiltX:0,tiltY:0,twist:0,pointerType:0,isPrimary:0}),oo=Ee(Tf),Rf=K({},rr,{touches:0,targetTouches:0,changedTouches:0,altKey:0,metaKey:0,ctrlKey:0,shiftKey:0,getModifierState:du}),Df=Ee(Rf),Of=K({},pn,{propertyName:0,elapsedTime:0,pseudoElement:0}),Mf=Ee(Of),Ff=K({},cl,{deltaX:function(e){return"deltaX"in e?e.deltaX:"wheelDeltaX"in e?-e.wheelDeltaX:0},deltaY:function(e){return"deltaY"in e?e.deltaY:"wheelDeltaY"in e?-e.wheelDeltaY:"wheelDelta"in e?-e.wheelDelta:0},deltaZ:0,deltaMode:0}),If=Ee(Ff),Uf=[9,13,27,32],pu=Ge&&"CompositionEvent"in window,Tn=null;Ge&&"documentMode"in document&&(Tn=document.documentMode);var $f=Ge&&"TextEvent"in window&&!Tn,Xs=Ge&&(!pu||Tn&&8<Tn&&11>=Tn),so=" ",ao=!1;function Gs(e,t){switch(e){case"keyup":return Uf.indexOf(t.keyCode)!==-1;case"keydown":return t.keyCode!==229;case"keypress":case"mousedown":case"focusout":return!0;default:return!1}}function Zs(e){return e=e.detail,typeof e=="object"&&"data"in e?e.data:null}var Vt=!1;function Af(e,t){switch(e){case"compositionend":return Zs(t);case"keypress":return t.which!==32?null:(ao=!0,so);case"textInput":return e=t.data,e===so&&ao?null:e;default:return null}}function Bf(e,t){if(Vt)return e==="compositionend"||!pu&&Gs(e,t)?(e=Ys(),zr=cu=ot=null,Vt=!1,e):null;switch(e){case"paste":return null;case"keypress":if(!(t.ctrlKey||t.altKey||t.metaKey)||t.ctrlKey&&t.altKey){if(t.char&&1<t.char.length)return t.char;if(t.which)return String.fromCharCode(t.which)}return null;case"compositionend":return Xs&&t.locale!=="ko"?null:t.data;default:return null}}var Vf={color:!0,date:!0,datetime:!0,"datetime-local":!0,email:!0,month:!0,number:!0,password:!0,range:!0,search:!0,tel:!0,text:!0,time:!0,url:!0,week:!0};function co(e){var t=e&&e.nodeName&&e.nodeName.toLowerCase();return t==="input"?!!Vf[e.type]:t==="textarea"}function Js(e,t,n,r){js(r),t=Qr(t,"onChange"),0<t.length&&(n=new fu("onChange","change",null,n,r),e.push({event:n,listeners:t}))}var Rn=null,Hn=null;function Wf(e){sa(e,0)}function fl(e){var t=Qt(e);if(ks(t))return e}function Hf(e,t){if(e==="change")return t}var qs=!1;if(Ge){var Ml;if(Ge){var Fl="oninput"in document;if(!Fl){var fo=document.createElement("div");fo.setAttribute("oninput","return;"),Fl=typeof fo.oninput=="function"}Ml=Fl}else Ml=!1;qs=Ml&&(!document.documentMode||9<document.documentMode)}function po(){Rn&&(Rn.detachEvent("onpropertychange",bs),Hn=Rn=null)}function bs(e){if(e.propertyName==="value"&&fl(Hn)){var t=[];Js(t,Hn,e,iu(e)),Rs(Wf,t)}}function Qf(e,t,n){e==="focusin"?(po(),Rn=t,Hn=n,Rn.attachEvent("onpropertychange",bs)):e==="focusout"&&po()}function Kf(e){if(e==="selectionchange"||e==="keyup"||e==="keydown")return fl(Hn)}function Yf(e,t){if(e==="click")return fl(t)}function Xf(e,t){if(e==="input"||e==="change")return fl(t)}function Gf(e,t){return e===t&&(e!==0||1/e===1/t)||e!==e&&t!==t}var Ue=typeof Object.is=="function"?Object.is:Gf;function Qn(e,t){if(Ue(e,t))return!0;if(typeof e!="object"||e===null||typeof t!="object"||t===null)return!1;var n=Object.keys(e),r=Object.keys(t);if(n.length!==r.length)return!1;for(r=0;r<n.length;r++){var l=n[r];if(!ti.call(t,l)||!Ue(e[l],t[l]))return!1}return!0}function ho(e){for(;e&&e.firstChild;)e=e.firstChild;return e}function mo(e,t){var n=ho(e);e=0;for(var r;n;){if(n.nodeType===3){if(r=e+n.textContent.length,e<=t&&r>=t)return{node:n,offset:t-e};e=r}e:{for(;n;){if(n.nextSibling){n=n.nextSibling;break e}n=n.parentNode}n=void 0}n=ho(n)}}function ea(e,t){return e&&t?e===t?!0:e&&e.nodeType===3?!1:t&&t.nodeType===3?ea(e,t.parentNode):"contains"in e?e.contains(t):e.compareDocumentPosition?!!(e.compareDocumentPosition(t)&16):!1:!1}function ta(){for(var e=window,t=Ur();t instanceof e.HTMLIFrameElement;){try{var n=typeof t.contentWindow.location.href=="string"}catch{n=!1}if(n)e=t.contentWindow;else break;t=Ur(e.document)}return t}function hu(e){var t=e&&e.nodeName&&e.nodeName.toLowerCase();return t&&(t==="input"&&(e.type==="text"||e.type==="search"||e.type==="tel"||e.type==="url"||e.type==="password")||t==="textarea"||e.contentEditable==="true")}function Zf(e){var t=ta(),n=e.focusedElem,r=e.selectionRange;if(t!==n&&n&&n.ownerDocument&&ea(n.ownerDocument.documentElement,n)){if(r!==null&&hu(n)){if(t=r.start,e=r.end,e===void 0&&(e=t),"selectionStart"in n)n.selectionStart=t,n.selectionEnd=Math.min(e,n.value.length);else if(e=(t=n.ownerDocument||document)&&t.defaultView||window,e.getSelection){e=e.getSelection();var l=n.textContent.length,i=Math.min(r.start,l);r=r.end===void 0?i:Math.min(r.end,l),!e.extend&&i>r&&(l=r,r=i,i=l),l=mo(n,i);var u=mo(n,r);l&&u&&(e.rangeCount!==1||e.anchorNode!==l.node||e.anchorOffset!==l.offset||e.focusNode!==u.node||e.focusOffset!==u.offset)&&(t=t.createRange(),t.setStart(l.node,l.offset),e.removeAllRanges(),i>r?(e.addRange(t),e.extend(u.node,u.offset)):(t.setEnd(u.node,u.offset),e.addRange(t)))}}for(t=[],e=n;e=e.parentNode;)e.nodeType===1&&t.push({element:e,left:e.scrollLeft,top:e.scrollTop});for(typeof n.focus=="function"&&n.focus(),n=0;n<t.length;n++)e=t[n],e.element.scrollLeft=e.left,e.element.scrollTop=e.top}}var Jf=Ge&&"documentMode"in document&&11>=document.documentMode,Wt=null,Si=null,Dn=null,ki=!1;function vo(e,t,n){var r=n.window===n?n.document:n.nodeType===9?n:n.ownerDocument;ki||Wt==null||Wt!==Ur(r)||(r=Wt,"selectionStart"in r&&hu(r)?r={start:r.selectionStart,end:r.selectionEnd}:(r=(r.ownerDocument&&r.ownerDocument.defaultView||window).getSelection(),r={anchorNode:r.anchorNode,anchorOffset:r.anchorOffset,focusNode:r.focusNode,focusOffset:r.focusOffset}),Dn&&Qn(Dn,r)||(Dn=r,r=Qr(Si,"onSelect"),0<r.length&&(t=new fu("onSelect","select",null,t,n),e.push({event:t,listeners:r}),t.target=Wt)))}function vr(e,t){var n={};return n[e.toLowerCase()]=t.toLowerCase(),n["Webkit"+e]="webkit"+t,n["Moz"+e]="moz"+t,n}var Ht={animationend:vr("Animation","AnimationEnd"),animationiteration:vr("Animation","AnimationIteration"),animationstart:vr("Animation","AnimationStart"),transitionend:vr("Transition","TransitionEnd")},Il={},na={};Ge&&(na=document.createElement("div").style,"AnimationEvent"in window||(delete Ht.animationend.animation,delete Ht.animationiteration.animation,delete Ht.animationstart.animation),"TransitionEvent"in window||delete Ht.transitionend.transition);function dl(e){if(Il[e])return Il[e];if(!Ht[e])return e;var t=Ht[e],n;for(n in t)if(t.hasOwnProperty(n)&&n in na)return Il[e]=t[n];return e}var ra=dl("animationend"),la=dl("animationiteration"),ia=dl("animationstart"),ua=dl("transitionend"),oa=new Map,go="abort auxClick cancel canPlay canPlayThrough click close contextMenu copy cut drag dragEnd dragEnter dragExit dragLeave dragOver dragStart drop durationChange emptied encrypted ended error gotPointerCapture input invalid keyDown keyPress keyUp load loadedData loadedMetadata loadStart lostPointerCapture mouseDown mouseMove mouseOut mouseOver mouseUp paste pause play playing pointerCancel pointerDown pointerMove pointerOut pointerOver pointerUp progress rateChange reset resize seeked seeking stalled submit suspend timeUpdate touchCancel touchEnd touchStart volumeChange scroll toggle touchMove waiting wheel".split(" ");function wt(e,t){oa.set(e,t),It(t,[e])}for(var Ul=0;Ul<go.length;Ul++){var $l=go[Ul],qf=$l.toLowerCase(),bf=$l[0].toUpperCase()+$l.slice(1);wt(qf,"on"+bf)}wt(ra,"onAnimationEnd");wt(la,"onAnimationIteration");wt(ia,"onAnimationStart");wt("dblclick","onDoubleClick");wt("focusin","onFocus");wt("focusout","onBlur");wt(ua,"onTransitionEnd");ln("onMouseEnter",["mouseout","mouseover"]);ln("onMouseLeave",["mouseout","mouseover"]);ln("onPointerEnter",["pointerout","pointerover"]);ln("onPointerLeave",["pointerout","pointerover"]);It("onChange","change click focusin focusout input keydown keyup selectionchange".split(" "));It("onSelect","focusout contextmenu dragend focusin keydown keyup mousedown mouseup selectionchange".split(" "));It("onBeforeInput",["compositionend","keypress","textInput","paste"]);It("onCompositionEnd","compositionend focusout keydown keypress keyup mousedown".split(" "));It("onCompositionStart","compositionstart focusout keydown keypress keyup mousedown".split(" "));It("onCompositionUpdate","compositionupdate focusout keydown keypress keyup mousedown".split(" "));var jn="abort canplay canplaythrough durationchange emptied encrypted ended error loadeddata loadedmetadata loadstart pause play playing progress ratechange resize seeked seeking stalled suspend timeupdate volumechange waiting".split(" "),ed=new Set("cancel close invalid load scroll toggle".split(" ").concat(jn));function yo(e,t,n){var r=e.type||"unknown-event";e.currentTarget=n,Jc(r,t,void 0,e),e.currentTarget=null}function sa(e,t){t=(t&4)!==0;for(var n=0;n<e.length;n++){var r=e[n],l=r.event;r=r.listeners;e:{var i=void 0;if(t)for(var u=r.length-1;0<=u;u--){var o=r[u],s=o.instance,c=o.currentTarget;if(o=o.listener,s!==i&&l.isPropagationStopped())break e;yo(l,o,c),i=s}else for(u=0;u<r.length;u++){if(o=r[u],s=o.instance,c=o.currentTarget,o=o.listener,s!==i&&l.isPropagationStopped())break e;yo(l,o,c),i=s}}}if(Ar)throw e=vi,Ar=!1,vi=null,e}function A(e,t){var n=t[Ni];n===void 0&&(n=t[Ni]=new Set);var r=e+"__bubble";n.has(r)||(aa(t,e,2,!1),n.add(r))}function Al(e,t,n){var r=0;t&&(r|=4),aa(n,e,r,t)}var gr="_reactListening"+Math.random().toString(36).slice(2);function Kn(e){if(!e[gr]){e[gr]=!0,vs.forEach(function(n){n!=="selectionchange"&&(ed.has(n)||Al(n,!1,e),Al(n,!0,e))});var t=e.nodeType===9?e:e.ownerDocument;t===null||t[gr]||(t[gr]=!0,Al("selectionchange",!1,t))}}function aa(e,t,n,r){switch(Ks(t)){case 1:var l=hf;break;case 4:l=mf;break;default:l=au}n=l.bind(null,t,n,e),l=void 0,!mi||t!=="touchstart"&&t!=="touchmove"&&t!=="wheel"||(l=!0),r?l!==void 0?e.addEventListener(t,n,{capture:!0,passive:l}):e.addEventListener(t,n,!0):l!==void 0?e.addEventListener(t,n,{passive:l}):e.addEventListener(t,n,!1)}function Bl(e,t,n,r,l){var i=r;if(!(t&1)&&!(t&2)&&r!==null)e:for(;;){if(r===null)return;var u=r.tag;if(u===3||u===4){var o=r.stateNode.containerInfo;if(o===l||o.nodeType===8&&o.parentNode===l)break;if(u===4)for(u=r.return;u!==null;){var s=u.tag;if((s===3||s===4)&&(s=u.stateNode.containerInfo,s===l||s.nodeType===8&&s.parentNode===l))return;u=u.return}for(;o!==null;){if(u=Pt(o),u===null)return;if(s=u.tag,s===5||s===6){r=i=u;continue e}o=o.parentNode}}r=r.return}Rs(function(){var c=i,g=iu(n),h=[];e:{var m=oa.get(e);if(m!==void 0){var w=fu,E=e;switch(e){case"keypress":if(Lr(n)===0)break e;case"keydown":case"keyup":w=Lf;break;case"focusin":E="focus",w=Ol;break;case"focusout":E="blur",w=Ol;break;case"beforeblur":case"afterblur":w=Ol;break;case"click":if(n.button===2)break e;case"auxclick":case"dblclick":case"mousedown":case"mousemove":case"mouseup":case"mouseout":case"mouseover":case"contextmenu":w=io;break;case"drag":case"dragend":case"dragenter":case"dragexit":case"dragleave":case"dragover":case"dragstart":case"drop":w=yf;break;case"touchcancel":case"touchend":case"touchmove":case"touchstart":w=Df;break;case ra:case la:case ia:w=kf;break;case ua:w=Mf;break;case"scroll":w=vf;break;case"wheel":w=If;break;case"copy":case"cut":case"paste":w=Ef;break;case"gotpointercapture":case"lostpointercapture":case"pointercancel":case"pointerdown":case"pointermove":case"pointerout":case"pointerover":case"pointerup":w=oo}var x=(t&4)!==0,U=!x&&e==="scroll",f=x?m!==null?m+"Capture":null:m;x=[];for(var a=c,d;a!==null;){d=a;var y=d.stateNode;if(d.tag===5&&y!==null&&(d=y,f!==null&&(y=An(a,f),y!=null&&x.push(Yn(a,y,d)))),U)break;a=a.return}0<x.length&&(m=new w(m,E,null,n,g),h.push({event:m,listeners:x}))}}if(!(t&7)){e:{if(m=e==="mouseover"||e==="pointerover",w=e==="mouseout"||e==="pointerout",m&&n!==pi&&(E=n.relatedTarget||n.fromElement)&&(Pt(E)||E[Ze]))break e;if((w||m)&&(m=g.window===g?g:(m=g.ownerDocument)?m.defaultView||m.parentWindow:window,w?(E=n.relatedTarget||n.toElement,w=c,E=E?Pt(E):null,E!==null&&(U=Ut(E),E!==U||E.tag!==5&&E.tag!==6)&&(E=null)):(w=null,E=c),w!==E)){if(x=io,y="onMouseLeave",f="onMouseEnter",a="mouse",(e==="pointerout"||e==="pointerover")&&(x=oo,y="onPointerLeave",f="onPointerEnter",a="pointer"),U=w==null?m:Qt(w),d=E==null?m:Qt(E),m=new x(y,a+"leave",w,n,g),m.target=U,m.relatedTarget=d,y=null,Pt(g)===c&&(x=new x(f,a+"enter",E,n,g),x.target=d,x.relatedTarget=U,y=x),U=y,w&&E)t:{for(x=w,f=E,a=0,d=x;d;d=$t(d))a++;for(d=0,y=f;y;y=$t(y))d++;for(;0<a-d;)x=$t(x),a--;for(;0<d-a;)f=$t(f),d--;for(;a--;){if(x===f||f!==null&&x===f.alternate)break t;x=$t(x),f=$t(f)}x=null}else x=null;w!==null&&wo(h,m,w,x,!1),E!==null&&U!==null&&wo(h,U,E,x,!0)}}e:{if(m=c?Qt(c):window,w=m.nodeName&&m.nodeName.toLowerCase(),w==="select"||w==="input"&&m.type==="file")var C=Hf;else if(co(m))if(qs)C=Xf;else{C=Kf;var j=Qf}else(w=m.nodeName)&&w.toLowerCase()==="input"&&(m.type==="checkbox"||m.type==="radio")&&(C=Yf);if(C&&(C=C(e,c))){Js(h,C,n,g);break e}j&&j(e,m,c),e==="focusout"&&(j=m._wrapperState)&&j.controlled&&m.type==="number"&&si(m,"number",m.value)}switch(j=c?Qt(c):window,e){case"focusin":(co(j)||j.contentEditable==="true")&&(Wt=j,Si=c,Dn=null);break;case"focusout":Dn=Si=Wt=null;break;case"mousedown":ki=!0;break;case"contextmenu":case"mouseup":case"dragend":ki=!1,vo(h,n,g);break;case"selectionchange":if(Jf)break;case"keydown":case"keyup":vo(h,n,g)}var N;if(pu)e:{switch(e){case"compositionstart":var z="onCompositionStart";break e;case"compositionend":z="onCompositionEnd";break e;case"compositionupdate":z="onCompositionUpdate";break e}z=void 0}else Vt?Gs(e,n)&&(z="onCompositionEnd"):e==="keydown"&&n.keyCode===229&&(z="onCompositionStart");z&&(Xs&&n.locale!=="ko"&&(Vt||z!=="onCompositionStart"?z==="onCompositionEnd"&&Vt&&(N=Ys()):(ot=g,cu="value"in ot?ot.value:ot.textContent,Vt=!0)),j=Qr(c,z),0<j.length&&(z=new uo(z,e,null,n,g),h.push({event:z,listeners:j}),N?z.data=N:(N=Zs(n),N!==null&&(z.data=N)))),(N=$f?Af(e,n):Bf(e,n))&&(c=Qr(c,"onBeforeInput"),0<c.length&&(g=new uo("onBeforeInput","beforeinput",null,n,g),h.push({event:g,listeners:c}),g.data=N))}sa(h,t)})}function Yn(e,t,n){return{instance:e,listener:t,currentTarget:n}}function Qr(e,t){for(var n=t+"Capture",r=[];e!==null;){var l=e,i=l.stateNode;l.tag===5&&i!==null&&(l=i,i=An(e,n),i!=null&&r.unshift(Yn(e,i,l)),i=An(e,t),i!=null&&r.push(Yn(e,i,l))),e=e.return}return r}function $t(e){if(e===null)return null;do e=e.return;while(e&&e.tag!==5);return e||null}function wo(e,t,n,r,l){for(var i=t._reactName,u=[];n!==null&&n!==r;){var o=n,s=o.alternate,c=o.stateNode;if(s!==null&&s===r)break;o.tag===5&&c!==null&&(o=c,l?(s=An(n,i),s!=null&&u.unshift(Yn(n,s,o))):l||(s=An(n,i),s!=null&&u.push(Yn(n,s,o)))),n=n.return}u.length!==0&&e.push({event:t,listeners:u})}var td=/\r\n?/g,nd=/\u0000|\uFFFD/g;function So(e){return(typeof e=="string"?e:""+e).replace(td,`
-`).replace(nd,"")}function yr(e,t,n){if(t=So(t),So(e)!==t&&n)throw Error(S(425))}function Kr(){}var xi=null,Ei=null;function Ci(e,t){return e==="textarea"||e==="noscript"||typeof t.children=="string"||typeof t.children=="number"||typeof t.dangerouslySetInnerHTML=="object"&&t.dangerouslySetInnerHTML!==null&&t.dangerouslySetInnerHTML.__html!=null}var _i=typeof setTimeout=="function"?setTimeout:void 0,rd=typeof clearTimeout=="function"?clearTimeout:void 0,ko=typeof Promise=="function"?Promise:void 0,ld=typeof queueMicrotask=="function"?queueMicrotask:typeof ko<"u"?function(e){return ko.resolve(null).then(e).catch(id)}:_i;function id(e){setTimeout(function(){throw e})}function Vl(e,t){var n=t,r=0;do{var l=n.nextSibling;if(e.removeChild(n),l&&l.nodeType===8)if(n=l.data,n==="/$"){if(r===0){e.removeChild(l),Wn(t);return}r--}else n!=="$"&&n!=="$?"&&n!=="$!"||r++;n=l}while(n);Wn(t)}function dt(e){for(;e!=null;e=e.nextSibling){var t=e.nodeType;if(t===1||t===3)break;if(t===8){if(t=e.data,t==="$"||t==="$!"||t==="$?")break;if(t==="/$")return null}}return e}function xo(e){e=e.previousSibling;for(var t=0;e;){if(e.nodeType===8){var n=e.data;if(n==="$"||n==="$!"||n==="$?"){if(t===0)return e;t--}else n==="/$"&&t++}e=e.previousSibling}return null}var hn=Math.random().toString(36).slice(2),Be="__reactFiber$"+hn,Xn="__reactProps$"+hn,Ze="__reactContainer$"+hn,Ni="__reactEvents$"+hn,ud="__reactListeners$"+hn,od="__reactHandles$"+hn;function Pt(e){var t=e[Be];if(t)return t;for(var n=e.parentNode;n;){if(t=n[Ze]||n[Be]){if(n=t.alternate,t.child!==null||n!==null&&n.child!==null)for(e=xo(e);e!==null;){if(n=e[Be])return n;e=xo(e)}return t}e=n,n=e.parentNode}return null}function lr(e){return e=e[Be]||e[Ze],!e||e.tag!==5&&e.tag!==6&&e.tag!==13&&e.tag!==3?null:e}function Qt(e){if(e.tag===5||e.tag===6)return e.stateNode;throw Error(S(33))}function pl(e){return e[Xn]||null}var Pi=[],Kt=-1;function St(e){return{current:e}}function B(e){0>Kt||(e.current=Pi[Kt],Pi[Kt]=null,Kt--)}function $(e,t){Kt++,Pi[Kt]=e.current,e.current=t}var yt={},oe=St(yt),me=St(!1),Rt=yt;function un(e,t){var n=e.type.contextTypes;if(!n)return yt;var r=e.stateNode;if(r&&r.__reactInternalMemoizedUnmaskedChildContext===t)return r.__reactInternalMemoizedMaskedChildContext;var l={},i;for(i in n)l[i]=t[i];return r&&(e=e.stateNode,e.__reactInternalMemoizedUnmaskedChildContext=t,e.__reactInternalMemoizedMaskedChildContext=l),l}function ve(e){return e=e.childContextTypes,e!=null}function Yr(){B(me),B(oe)}function Eo(e,t,n){if(oe.current!==yt)throw Error(S(168));$(oe,t),$(me,n)}function ca(e,t,n){var r=e.stateNode;if(t=t.childContextTypes,typeof r.getChildContext!="function")return n;r=r.getChildContext();for(var l in r)if(!(l in t))throw Error(S(108,Hc(e)||"Unknown",l));return K({},n,r)}function Xr(e){return e=(e=e.stateNode)&&e.__reactInternalMemoizedMergedChildContext||yt,Rt=oe.current,$(oe,e),$(me,me.current),!0}function Co(e,t,n){var r=e.stateNode;if(!r)throw Error(S(169));n?(e=ca(e,t,Rt),r.__reactInternalMemoizedMergedChildContext=e,B(me),B(oe),$(oe,e)):B(me),$(me,n)}var Qe=null,hl=!1,Wl=!1;function fa(e){Qe===null?Qe=[e]:Qe.push(e)}function sd(e){hl=!0,fa(e)}function kt(){if(!Wl&&Qe!==null){Wl=!0;var e=0,t=I;try{var n=Qe;for(I=1;e<n.length;e++){var r=n[e];do r=r(!0);while(r!==null)}Qe=null,hl=!1}catch(l){throw Qe!==null&&(Qe=Qe.slice(e+1)),Fs(uu,kt),l}finally{I=t,Wl=!1}}return null}var Yt=[],Xt=0,Gr=null,Zr=0,Ce=[],_e=0,Dt=null,Ke=1,Ye="";function _t(e,t){Yt[Xt++]=Zr,Yt[Xt++]=Gr,Gr=e,Zr=t}function da(e,t,n){Ce[_e++]=Ke,Ce[_e++]=Ye,Ce[_e++]=Dt,Dt=e;var r=Ke;e=Ye;var l=32-Fe(r)-1;r&=~(1<<l),n+=1;var i=32-Fe(t)+l;if(30<i){var u=l-l%5;i=(r&(1<<u)-1).toString(32),r>>=u,l-=u,Ke=1<<32-Fe(t)+l|n<<l|r,Ye=i+e}else Ke=1<<i|n<<l|r,Ye=e}function mu(e){e.return!==null&&(_t(e,1),da(e,1,0))}function vu(e){for(;e===Gr;)Gr=Yt[--Xt],Yt[Xt]=null,Zr=Yt[--Xt],Yt[Xt]=null;for(;e===Dt;)Dt=Ce[--_e],Ce[_e]=null,Ye=Ce[--_e],Ce[_e]=null,Ke=Ce[--_e],Ce[_e]=null}var Se=null,we=null,W=!1,Me=null;function pa(e,t){var n=Ne(5,null,null,0);n.elementType="DELETED",n.stateNode=t,n.return=e,t=e.deletions,t===null?(e.deletions=[n],e.flags|=16):t.push(n)}function _o(e,t){switch(e.tag){case 5:var n=e.type;return t=t.nodeType!==1||n.toLowerCase()!==t.nodeName.toLowerCase()?null:t,t!==null?(e.stateNode=t,Se=e,we=dt(t.firstChild),!0):!1;case 6:return t=e.pendingProps===""||t.nodeType!==3?null:t,t!==null?(e.stateNode=t,Se=e,we=null,!0):!1;case 13:return t=t.nodeType!==8?null:t,t!==null?(n=Dt!==null?{id:Ke,overflow:Ye}:null,e.memoizedState={dehydrated:t,treeContext:n,retryLane:1073741824},n=Ne(18,null,null,0),n.stateNode=t,n.return=e,e.child=n,Se=e,we=null,!0):!1;default:return!1}}function ji(e){return(e.mode&1)!==0&&(e.flags&128)===0}function zi(e){if(W){var t=we;if(t){var n=t;if(!_o(e,t)){if(ji(e))throw Error(S(418));t=dt(n.nextSibling);var r=Se;t&&_o(e,t)?pa(r,n):(e.flags=e.flags&-4097|2,W=!1,Se=e)}}else{if(ji(e))throw Error(S(418));e.flags=e.flags&-4097|2,W=!1,Se=e}}}function No(e){for(e=e.return;e!==null&&e.tag!==5&&e.tag!==3&&e.tag!==13;)e=e.return;Se=e}function wr(e){if(e!==Se)return!1;if(!W)return No(e),W=!0,!1;var t;if((t=e.tag!==3)&&!(t=e.tag!==5)&&(t=e.type,t=t!=="head"&&t!=="body"&&!Ci(e.type,e.memoizedProps)),t&&(t=we)){if(ji(e))throw ha(),Error(S(418));for(;t;)pa(e,t),t=dt(t.nextSibling)}if(No(e),e.tag===13){if(e=e.memoizedState,e=e!==null?e.dehydrated:null,!e)throw Error(S(317));e:{for(e=e.nextSibling,t=0;e;){if(e.nodeType===8){var n=e.data;if(n==="/$"){if(t===0){we=dt(e.nextSibling);break e}t--}else n!=="$"&&n!=="$!"&&n!=="$?"||t++}e=e.nextSibling}we=null}}else we=Se?dt(e.stateNode.nextSibling):null;return!0}function ha(){for(var e=we;e;)e=dt(e.nextSibling)}function on(){we=Se=null,W=!1}function gu(e){Me===null?Me=[e]:Me.push(e)}var ad=be.ReactCurrentBatchConfig;function kn(e,t,n){if(e=n.ref,e!==null&&typeof e!="function"&&typeof e!="object"){if(n._owner){if(n=n._owner,n){if(n.tag!==1)throw Error(S(309));var r=n.stateNode}if(!r)throw Error(S(147,e));var l=r,i=""+e;return t!==null&&t.ref!==null&&typeof t.ref=="function"&&t.ref._stringRef===i?t.ref:(t=function(u){var o=l.refs;u===null?delete o[i]:o[i]=u},t._stringRef=i,t)}if(typeof e!="string")throw Error(S(284));if(!n._owner)throw Error(S(290,e))}return e}function Sr(e,t){throw e=Object.prototype.toString.call(t),Error(S(31,e==="[object Object]"?"object with keys {"+Object.keys(t).join(", ")+"}":e))}function Po(e){var t=e._init;return t(e._payload)}function ma(e){function t(f,a){if(e){var d=f.deletions;d===null?(f.deletions=[a],f.flags|=16):d.push(a)}}function n(f,a){if(!e)return null;for(;a!==null;)t(f,a),a=a.sibling;return null}function r(f,a){for(f=new Map;a!==null;)a.key!==null?f.set(a.key,a):f.set(a.index,a),a=a.sibling;return f}function l(f,a){return f=vt(f,a),f.index=0,f.sibling=null,f}function i(f,a,d){return f.index=d,e?(d=f.alternate,d!==null?(d=d.index,d<a?(f.flags|=2,a):d):(f.flags|=2,a)):(f.flags|=1048576,a)}function u(f){return e&&f.alternate===null&&(f.flags|=2),f}function o(f,a,d,y){return a===null||a.tag!==6?(a=Zl(d,f.mode,y),a.return=f,a):(a=l(a,d),a.return=f,a)}function s(f,a,d,y){var C=d.type;return C===Bt?g(f,a,d.props.children,y,d.key):a!==null&&(a.elementType===C||typeof C=="object"&&C!==null&&C.$$typeof===rt&&Po(C)===a.type)?(y=l(a,d.props),y.ref=kn(f,a,d),y.return=f,y):(y=Ir(d.type,d.key,d.props,null,f.mode,y),y.ref=kn(f,a,d),y.return=f,y)}function c(f,a,d,y){return a===null||a.tag!==4||a.stateNode.containerInfo!==d.containerInfo||a.stateNode.implementation!==d.implementation?(a=Jl(d,f.mode,y),a.return=f,a):(a=l(a,d.children||[]),a.return=f,a)}function g(f,a,d,y,C){return a===null||a.tag!==7?(a=Tt(d,f.mode,y,C),a.return=f,a):(a=l(a,d),a.return=f,a)}function h(f,a,d){if(typeof a=="string"&&a!==""||typeof a=="number")return a=Zl(""+a,f.mode,d),a.return=f,a;if(typeof a=="object"&&a!==null){switch(a.$$typeof){case ar:return d=Ir(a.type,a.key,a.props,null,f.mode,d),d.ref=kn(f,null,a),d.return=f,d;case At:return a=Jl(a,f.mode,d),a.return=f,a;case rt:var y=a._init;return h(f,y(a._payload),d)}if(Nn(a)||vn(a))return a=Tt(a,f.mode,d,null),a.return=f,a;Sr(f,a)}return null}function m(f,a,d,y){var C=a!==null?a.key:null;if(typeof d=="string"&&d!==""||typeof d=="number")return C!==null?null:o(f,a,""+d,y);if(typeof d=="object"&&d!==null){switch(d.$$typeof){case ar:return d.key===C?s(f,a,d,y):null;case At:return d.key===C?c(f,a,d,y):null;case rt:return C=d._init,m(f,a,C(d._payload),y)}if(Nn(d)||vn(d))return C!==null?null:g(f,a,d,y,null);Sr(f,d)}return null}function w(f,a,d,y,C){if(typeof y=="string"&&y!==""||typeof y=="number")return f=f.get(d)||null,o(a,f,""+y,C);if(typeof y=="object"&&y!==null){switch(y.$$typeof){case ar:return f=f.get(y.key===null?d:y.key)||null,s(a,f,y,C);case At:return f=f.get(y.key===null?d:y.key)||null,c(a,f,y,C);case rt:var j=y._init;return w(f,a,d,j(y._payload),C)}if(Nn(y)||vn(y))return f=f.get(d)||null,g(a,f,y,C,null);Sr(a,y)}return null}function E(f,a,d,y){for(var C=null,j=null,N=a,z=a=0,V=null;N!==null&&z<d.length;z++){N.index>z?(V=N,N=null):V=N.sibling;var L=m(f,N,d[z],y);if(L===null){N===null&&(N=V);break}e&&N&&L.alternate===null&&t(f,N),a=i(L,a,z),j===null?C=L:j.sibling=L,j=L,N=V}if(z===d.length)return n(f,N),W&&_t(f,z),C;if(N===null){for(;z<d.length;z++)N=h(f,d[z],y),N!==null&&(a=i(N,a,z),j===null?C=N:j.sibling=N,j=N);return W&&_t(f,z),C}for(N=r(f,N);z<d.length;z++)V=w(N,f,z,d[z],y),V!==null&&(e&&V.alternate!==null&&N.delete(V.key===null?z:V.key),a=i(V,a,z),j===null?C=V:j.sibling=V,j=V);return e&&N.forEach(function(de){return t(f,de)}),W&&_t(f,z),C}function x(f,a,d,y){var C=vn(d);if(typeof C!="function")throw Error(S(150));if(d=C.call(d),d==null)throw Error(S(151));for(var j=C=null,N=a,z=a=0,V=null,L=d.next();N!==null&&!L.done;z++,L=d.next()){N.index>z?(V=N,N=null):V=N.sibling;var de=m(f,N,L.value,y);if(de===null){N===null&&(N=V);break}e&&N&&de.alternate===null&&t(f,N),a=i(de,a,z),j===null?C=de:j.sibling=de,j=de,N=V}if(L.done)return n(f,N),W&&_t(f,z),C;if(N===null){for(;!L.done;z++,L=d.next())L=h(f,L.value,y),L!==null&&(a=i(L,a,z),j===null?C=L:j.sibling=L,j=L);return W&&_t(f,z),C}for(N=r(f,N);!L.done;z++,L=d.next())L=w(N,f,z,L.value,y),L!==null&&(e&&L.alternate!==null&&N.delete(L.key===null?z:L.key),a=i(L,a,z),j===null?C=L:j.sibling=L,j=L);return e&&N.forEach(function(et){return t(f,et)}),W&&_t(f,z),C}function U(f,a,d,y){if(typeof d=="object"&&d!==null&&d.type===Bt&&d.key===null&&(d=d.props.children),typeof d=="object"&&d!==null){switch(d.$$typeof){case ar:e:{for(var C=d.key,j=a;j!==null;){if(j.key===C){if(C=d.type,C===Bt){if(j.tag===7){n(f,j.sibling),a=l(j,d.props.children),a.return=f,f=a;break e}}else if(j.elementType===C||typeof C=="object"&&C!==null&&C.$$typeof===rt&&Po(C)===j.type){n(f,j.sibling),a=l(j,d.props),a.ref=kn(f,j,d),a.return=f,f=a;break e}n(f,j);break}else t(f,j);j=j.sibling}d.type===Bt?(a=Tt(d.props.children,f.mode,y,d.key),a.return=f,f=a):(y=Ir(d.type,d.key,d.props,null,f.mode,y),y.ref=kn(f,a,d),y.return=f,f=y)}return u(f);case At:e:{for(j=d.key;a!==null;){if(a.key===j)if(a.tag===4&&a.stateNode.containerInfo===d.containerInfo&&a.stateNode.implementation===d.implementation){n(f,a.sibling),a=l(a,d.children||[]),a.return=f,f=a;break e}else{n(f,a);break}else t(f,a);a=a.sibling}a=Jl(d,f.mode,y),a.return=f,f=a}return u(f);case rt:return j=d._init,U(f,a,j(d._payload),y)}if(Nn(d))return E(f,a,d,y);if(vn(d))return x(f,a,d,y);Sr(f,d)}return typeof d=="string"&&d!==""||typeof d=="number"?(d=""+d,a!==null&&a.tag===6?(n(f,a.sibling),a=l(a,d),a.return=f,f=a):(n(f,a),a=Zl(d,f.mode,y),a.return=f,f=a),u(f)):n(f,a)}return U}var sn=ma(!0),va=ma(!1),Jr=St(null),qr=null,Gt=null,yu=null;function wu(){yu=Gt=qr=null}function Su(e){var t=Jr.current;B(Jr),e._currentValue=t}function Li(e,t,n){for(;e!==null;){var r=e.alternate;if((e.childLanes&t)!==t?(e.childLanes|=t,r!==null&&(r.childLanes|=t)):r!==null&&(r.childLanes&t)!==t&&(r.childLanes|=t),e===n)break;e=e.return}}function nn(e,t){qr=e,yu=Gt=null,e=e.dependencies,e!==null&&e.firstContext!==null&&(e.lanes&t&&(he=!0),e.firstContext=null)}function je(e){var t=e._currentValue;if(yu!==e)if(e={context:e,memoizedValue:t,next:null},Gt===null){if(qr===null)throw Error(S(308));Gt=e,qr.dependencies={lanes:0,firstContext:e}}else Gt=Gt.next=e;return t}var jt=null;function ku(e){jt===null?jt=[e]:jt.push(e)}function ga(e,t,n,r){var l=t.interleaved;return l===null?(n.next=n,ku(t)):(n.next=l.next,l.next=n),t.interleaved=n,Je(e,r)}function Je(e,t){e.lanes|=t;var n=e.alternate;for(n!==null&&(n.lanes|=t),n=e,e=e.return;e!==null;)e.childLanes|=t,n=e.alternate,n!==null&&(n.childLanes|=t),n=e,e=e.return;return n.tag===3?n.stateNode:null}var lt=!1;function xu(e){e.updateQueue={baseState:e.memoizedState,firstBaseUpdate:null,lastBaseUpdate:null,shared:{pending:null,interleaved:null,lanes:0},effects:null}}function ya(e,t){e=e.updateQueue,t.updateQueue===e&&(t.updateQueue={baseState:e.baseState,firstBaseUpdate:e.firstBaseUpdate,lastBaseUpdate:e.lastBaseUpdate,shared:e.shared,effects:e.effects})}function Xe(e,t){return{eventTime:e,lane:t,tag:0,payload:null,callback:null,next:null}}function pt(e,t,n){var r=e.updateQueue;if(r===null)return null;if(r=r.shared,M&2){var l=r.pending;return l===null?t.next=t:(t.next=l.next,l.next=t),r.pending=t,Je(e,n)}return l=r.interleaved,l===null?(t.next=t,ku(r)):(t.next=l.next,l.next=t),r.interleaved=t,Je(e,n)}function Tr(e,t,n){if(t=t.updateQueue,t!==null&&(t=t.shared,(n&4194240)!==0)){var r=t.lanes;r&=e.pendingLanes,n|=r,t.lanes=n,ou(e,n)}}function jo(e,t){var n=e.updateQueue,r=e.alternate;if(r!==null&&(r=r.updateQueue,n===r)){var l=null,i=null;if(n=n.firstBaseUpdate,n!==null){do{var u={eventTime:n.eventTime,lane:n.lane,tag:n.tag,payload:n.payload,callback:n.callback,next:null};i===null?l=i=u:i=i.next=u,n=n.next}while(n!==null);i===null?l=i=t:i=i.next=t}else l=i=t;n={baseState:r.baseState,firstBaseUpdate:l,lastBaseUpdate:i,shared:r.shared,effects:r.effects},e.updateQueue=n;return}e=n.lastBaseUpdate,e===null?n.firstBaseUpdate=t:e.next=t,n.lastBaseUpdate=t}function br(e,t,n,r){var l=e.updateQueue;lt=!1;var i=l.firstBaseUpdate,u=l.lastBaseUpdate,o=l.shared.pending;if(o!==null){l.shared.pending=null;var s=o,c=s.next;s.next=null,u===null?i=c:u.next=c,u=s;var g=e.alternate;g!==null&&(g=g.updateQueue,o=g.lastBaseUpdate,o!==u&&(o===null?g.firstBaseUpdate=c:o.next=c,g.lastBaseUpdate=s))}if(i!==null){var h=l.baseState;u=0,g=c=s=null,o=i;do{var m=o.lane,w=o.eventTime;if((r&m)===m){g!==null&&(g=g.next={eventTime:w,lane:0,tag:o.tag,payload:o.payload,callback:o.callback,next:null});e:{var E=e,x=o;switch(m=t,w=n,x.tag){case 1:if(E=x.payload,typeof E=="function"){h=E.call(w,h,m);break e}h=E;break e;case 3:E.flags=E.flags&-65537|128;case 0:if(E=x.payload,m=typeof E=="function"?E.call(w,h,m):E,m==null)break e;h=K({},h,m);break e;case 2:lt=!0}}o.callback!==null&&o.lane!==0&&(e.flags|=64,m=l.effects,m===null?l.effects=[o]:m.push(o))}else w={eventTime:w,lane:m,tag:o.tag,payload:o.payload,callback:o.callback,next:null},g===null?(c=g=w,s=h):g=g.next=w,u|=m;if(o=o.next,o===null){if(o=l.shared.pending,o===null)break;m=o,o=m.next,m.next=null,l.lastBaseUpdate=m,l.shared.pending=null}}while(!0);if(g===null&&(s=h),l.baseState=s,l.firstBaseUpdate=c,l.lastBaseUpdate=g,t=l.shared.interleaved,t!==null){l=t;do u|=l.lane,l=l.next;while(l!==t)}else i===null&&(l.shared.lanes=0);Mt|=u,e.lanes=u,e.memoizedState=h}}function zo(e,t,n){if(e=t.effects,t.effects=null,e!==null)for(t=0;t<e.length;t++){var r=e[t],l=r.callback;if(l!==null){if(r.callback=null,r=n,typeof l!="function")throw Error(S(191,l));l.call(r)}}}var ir={},We=St(ir),Gn=St(ir),Zn=St(ir);function zt(e){if(e===ir)throw Error(S(174));return e}function Eu(e,t){switch($(Zn,t),$(Gn,e),$(We,ir),e=t.nodeType,e){case 9:case 11:t=(t=t.documentElement)?t.namespaceURI:ci(null,"");break;default:e=e===8?t.parentNode:t,t=e.namespaceURI||null,e=e.tagName,t=ci(t,e)}B(We),$(We,t)}function an(){B(We),B(Gn),B(Zn)}function wa(e){zt(Zn.current);var t=zt(We.current),n=ci(t,e.type);t!==n&&($(Gn,e),$(We,n))}function Cu(e){Gn.current===e&&(B(We),B(Gn))}var H=St(0);function el(e){for(var t=e;t!==null;){if(t.tag===13){var n=t.memoizedState;if(n!==null&&(n=n.dehydrated,n===null||n.data==="$?"||n.data==="$!"))return t}else if(t.tag===19&&t.memoizedProps.revealOrder!==void 0){if(t.flags&128)return t}else if(t.child!==null){t.child.return=t,t=t.child;continue}if(t===e)break;for(;t.sibling===null;){if(t.return===null||t.return===e)return null;t=t.return}t.sibling.return=t.return,t=t.sibling}return null}var Hl=[];function _u(){for(var e=0;e<Hl.length;e++)Hl[e]._workInProgressVersionPrimary=null;Hl.length=0}var Rr=be.ReactCurrentDispatcher,Ql=be.ReactCurrentBatchConfig,Ot=0,Q=null,Z=null,q=null,tl=!1,On=!1,Jn=0,cd=0;function le(){throw Error(S(321))}function Nu(e,t){if(t===null)return!1;for(var n=0;n<t.length&&n<e.length;n++)if(!Ue(e[n],t[n]))return!1;return!0}function Pu(e,t,n,r,l,i){if(Ot=i,Q=t,t.memoizedState=null,t.updateQueue=null,t.lanes=0,Rr.current=e===null||e.memoizedState===null?hd:md,e=n(r,l),On){i=0;do{if(On=!1,Jn=0,25<=i)throw Error(S(301));i+=1,q=Z=null,t.updateQueue=null,Rr.current=vd,e=n(r,l)}while(On)}if(Rr.current=nl,t=Z!==null&&Z.next!==null,Ot=0,q=Z=Q=null,tl=!1,t)throw Error(S(300));return e}function ju(){var e=Jn!==0;return Jn=0,e}function Ae(){var e={memoizedState:null,baseState:null,baseQueue:null,queue:null,next:null};return q===null?Q.memoizedState=q=e:q=q.next=e,q}function ze(){if(Z===null){var e=Q.alternate;e=e!==null?e.memoizedState:null}else e=Z.next;var t=q===null?Q.memoizedState:q.next;if(t!==null)q=t,Z=e;else{if(e===null)throw Error(S(310));Z=e,e={memoizedState:Z.memoizedState,baseState:Z.baseState,baseQueue:Z.baseQueue,queue:Z.queue,next:null},q===null?Q.memoizedState=q=e:q=q.next=e}return q}function qn(e,t){return typeof t=="function"?t(e):t}function Kl(e){var t=ze(),n=t.queue;if(n===null)throw Error(S(311));n.lastRenderedReducer=e;var r=Z,l=r.baseQueue,i=n.pending;if(i!==null){if(l!==null){var u=l.next;l.next=i.next,i.next=u}r.baseQueue=l=i,n.pending=null}if(l!==null){i=l.next,r=r.baseState;var o=u=null,s=null,c=i;do{var g=c.lane;if((Ot&g)===g)s!==null&&(s=s.next={lane:0,action:c.action,hasEagerState:c.hasEagerState,eagerState:c.eagerState,next:null}),r=c.hasEagerState?c.eagerState:e(r,c.action);else{var h={lane:g,action:c.action,hasEagerState:c.hasEagerState,eagerState:c.eagerState,next:null};s===null?(o=s=h,u=r):s=s.next=h,Q.lanes|=g,Mt|=g}c=c.next}while(c!==null&&c!==i);s===null?u=r:s.next=o,Ue(r,t.memoizedState)||(he=!0),t.memoizedState=r,t.baseState=u,t.baseQueue=s,n.lastRenderedState=r}if(e=n.interleaved,e!==null){l=e;do i=l.lane,Q.lanes|=i,Mt|=i,l=l.next;while(l!==e)}else l===null&&(n.lanes=0);return[t.memoizedState,n.dispatch]}function Yl(e){var t=ze(),n=t.queue;if(n===null)throw Error(S(311));n.lastRenderedReducer=e;var r=n.dispatch,l=n.pending,i=t.memoizedState;if(l!==null){n.pending=null;var u=l=l.next;do i=e(i,u.action),u=u.next;while(u!==l);Ue(i,t.memoizedState)||(he=!0),t.memoizedState=i,t.baseQueue===null&&(t.baseState=i),n.lastRenderedState=i}return[i,r]}function Sa(){}function ka(e,t){var n=Q,r=ze(),l=t(),i=!Ue(r.memoizedState,l);if(i&&(r.memoizedState=l,he=!0),r=r.queue,zu(Ca.bind(null,n,r,e),[e]),r.getSnapshot!==t||i||q!==null&&q.memoizedState.tag&1){if(n.flags|=2048,bn(9,Ea.bind(null,n,r,l,t),void 0,null),b===null)throw Error(S(349));Ot&30||xa(n,t,l)}return l}function xa(e,t,n){e.flags|=16384,e={getSnapshot:t,value:n},t=Q.updateQueue,t===null?(t={lastEffect:null,stores:null},Q.updateQueue=t,t.stores=[e]):(n=t.stores,n===null?t.stores=[e]:n.push(e))}function Ea(e,t,n,r){t.value=n,t.getSnapshot=r,_a(t)&&Na(e)}function Ca(e,t,n){return n(function(){_a(t)&&Na(e)})}function _a(e){var t=e.getSnapshot;e=e.value;try{var n=t();return!Ue(e,n)}catch{return!0}}function Na(e){var t=Je(e,1);t!==null&&Ie(t,e,1,-1)}function Lo(e){var t=Ae();return typeof e=="function"&&(e=e()),t.memoizedState=t.baseState=e,e={pending:null,interleaved:null,lanes:0,dispatch:null,lastRenderedReducer:qn,lastRenderedState:e},t.queue=e,e=e.dispatch=pd.bind(null,Q,e),[t.memoizedState,e]}function bn(e,t,n,r){return e={tag:e,create:t,destroy:n,deps:r,next:null},t=Q.updateQueue,t===null?(t={lastEffect:null,stores:null},Q.updateQueue=t,t.lastEffect=e.next=e):(n=t.lastEffect,n===null?t.lastEffect=e.next=e:(r=n.next,n.next=e,e.next=r,t.lastEffect=e)),e}function Pa(){return ze().memoizedState}function Dr(e,t,n,r){var l=Ae();Q.flags|=e,l.memoizedState=bn(1|t,n,void 0,r===void 0?null:r)}function ml(e,t,n,r){var l=ze();r=r===void 0?null:r;var i=void 0;if(Z!==null){var u=Z.memoizedState;if(i=u.destroy,r!==null&&Nu(r,u.deps)){l.memoizedState=bn(t,n,i,r);return}}Q.flags|=e,l.memoizedState=bn(1|t,n,i,r)}function To(e,t){return Dr(8390656,8,e,t)}function zu(e,t){return ml(2048,8,e,t)}function ja(e,t){return ml(4,2,e,t)}function za(e,t){return ml(4,4,e,t)}function La(e,t){if(typeof t=="function")return e=e(),t(e),function(){t(null)};if(t!=null)return e=e(),t.current=e,function(){t.current=null}}function Ta(e,t,n){return n=n!=null?n.concat([e]):null,ml(4,4,La.bind(null,t,e),n)}function Lu(){}function Ra(e,t){var n=ze();t=t===void 0?null:t;var r=n.memoizedState;return r!==null&&t!==null&&Nu(t,r[1])?r[0]:(n.memoizedState=[e,t],e)}function Da(e,t){var n=ze();t=t===void 0?null:t;var r=n.memoizedState;return r!==null&&t!==null&&Nu(t,r[1])?r[0]:(e=e(),n.memoizedState=[e,t],e)}function Oa(e,t,n){return Ot&21?(Ue(n,t)||(n=$s(),Q.lanes|=n,Mt|=n,e.baseState=!0),t):(e.baseState&&(e.baseState=!1,he=!0),e.memoizedState=n)}function fd(e,t){var n=I;I=n!==0&&4>n?n:4,e(!0);var r=Ql.transition;Ql.transition={};try{e(!1),t()}finally{I=n,Ql.transition=r}}function Ma(){return ze().memoizedState}function dd(e,t,n){var r=mt(e);if(n={lane:r,action:n,hasEagerState:!1,eagerState:null,next:null},Fa(e))Ia(t,n);else if(n=ga(e,t,n,r),n!==null){var l=ae();Ie(n,e,r,l),Ua(n,t,r)}}function pd(e,t,n){var r=mt(e),l={lane:r,action:n,hasEagerState:!1,eagerState:null,next:null};if(Fa(e))Ia(t,l);else{var i=e.alternate;if(e.lanes===0&&(i===null||i.lanes===0)&&(i=t.lastRenderedReducer,i!==null))try{var u=t.lastRenderedState,o=i(u,n);if(l.hasEagerState=!0,l.eagerState=o,Ue(o,u)){var s=t.interleaved;s===null?(l.next=l,ku(t)):(l.next=s.next,s.next=l),t.interleaved=l;return}}catch{}finally{}n=ga(e,t,l,r),n!==null&&(l=ae(),Ie(n,e,r,l),Ua(n,t,r))}}function Fa(e){var t=e.alternate;return e===Q||t!==null&&t===Q}function Ia(e,t){On=tl=!0;var n=e.pending;n===null?t.next=t:(t.next=n.next,n.next=t),e.pending=t}function Ua(e,t,n){if(n&4194240){var r=t.lanes;r&=e.pendingLanes,n|=r,t.lanes=n,ou(e,n)}}var nl={readContext:je,useCallback:le,useContext:le,useEffect:le,useImperativeHandle:le,useInsertionEffect:le,useLayoutEffect:le,useMemo:le,useReducer:le,useRef:le,useState:le,useDebugValue:le,useDeferredValue:le,useTransition:le,useMutableSource:le,useSyncExternalStore:le,useId:le,unstable_isNewReconciler:!1},hd={readContext:je,useCallback:function(e,t){return Ae().memoizedState=[e,t===void 0?null:t],e},useContext:je,useEffect:To,useImperativeHandle:function(e,t,n){return n=n!=null?n.concat([e]):null,Dr(4194308,4,La.bind(null,t,e),n)},useLayoutEffect:function(e,t){return Dr(4194308,4,e,t)},useInsertionEffect:function(e,t){return Dr(4,2,e,t)},useMemo:function(e,t){var n=Ae();return t=t===void 0?null:t,e=e(),n.memoizedState=[e,t],e},useReducer:function(e,t,n){var r=Ae();return t=n!==void 0?n(t):t,r.memoizedState=r.baseState=t,e={pending:null,interleaved:null,lanes:0,dispatch:null,lastRenderedReducer:e,lastRenderedState:t},r.queue=e,e=e.dispatch=dd.bind(null,Q,e),[r.memoizedState,e]},useRef:function(e){var t=Ae();return e={current:e},t.memoizedState=e},useState:Lo,useDebugValue:Lu,useDeferredValue:function(e){return Ae().memoizedState=e},useTransition:function(){var e=Lo(!1),t=e[0];return e=fd.bind(null,e[1]),Ae().memoizedState=e,[t,e]},useMutableSource:function(){},useSyncExternalStore:function(e,t,n){var r=Q,l=Ae();if(W){if(n===void 0)throw Error(S(407));n=n()}else{if(n=t(),b===null)throw Error(S(349));Ot&30||xa(r,t,n)}l.memoizedState=n;var i={value:n,getSnapshot:t};return l.queue=i,To(Ca.bind(null,r,i,e),[e]),r.flags|=2048,bn(9,Ea.bind(null,r,i,n,t),void 0,null),n},useId:function(){var e=Ae(),t=b.identifierPrefix;if(W){var n=Ye,r=Ke;n=(r&~(1<<32-Fe(r)-1)).toString(32)+n,t=":"+t+"R"+n,n=Jn++,0<n&&(t+="H"+n.toString(32)),t+=":"}else n=cd++,t=":"+t+"r"+n.toString(32)+":";return e.memoizedState=t},unstable_isNewReconciler:!1},md={readContext:je,useCallback:Ra,useContext:je,useEffect:zu,useImperativeHandle:Ta,useInsertionEffect:ja,useLayoutEffect:za,useMemo:Da,useReducer:Kl,useRef:Pa,useState:function(){return Kl(qn)},useDebugValue:Lu,useDeferredValue:function(e){var t=ze();return Oa(t,Z.memoizedState,e)},useTransition:function(){var e=Kl(qn)[0],t=ze().memoizedState;return[e,t]},useMutableSource:Sa,useSyncExternalStore:ka,useId:Ma,unstable_isNewReconciler:!1},vd={readContext:je,useCallback:Ra,useContext:je,useEffect:zu,useImperativeHandle:Ta,useInsertionEffect:ja,useLayoutEffect:za,useMemo:Da,useReducer:Yl,useRef:Pa,useState:function(){return Yl(qn)},useDebugValue:Lu,useDeferredValue:function(e){var t=ze();return Z===null?t.memoizedState=e:Oa(t,Z.memoizedState,e)},useTransition:function(){var e=Yl(qn)[0],t=ze().memoizedState;return[e,t]},useMutableSource:Sa,useSyncExternalStore:ka,useId:Ma,unstable_isNewReconciler:!1};function Re(e,t){if(e&&e.defaultProps){t=K({},t),e=e.defaultProps;for(var n in e)t[n]===void 0&&(t[n]=e[n]);return t}return t}function Ti(e,t,n,r){t=e.memoizedState,n=n(r,t),n=n==null?t:K({},t,n),e.memoizedState=n,e.lanes===0&&(e.updateQueue.baseState=n)}var vl={isMounted:function(e){return(e=e._reactInternals)?Ut(e)===e:!1},enqueueSetState:function(e,t,n){e=e._reactInternals;var r=ae(),l=mt(e),i=Xe(r,l);i.payload=t,n!=null&&(i.callback=n),t=pt(e,i,l),t!==null&&(Ie(t,e,l,r),Tr(t,e,l))},enqueueReplaceState:function(e,t,n){e=e._reactInternals;var r=ae(),l=mt(e),i=Xe(r,l);i.tag=1,i.payload=t,n!=null&&(i.callback=n),t=pt(e,i,l),t!==null&&(Ie(t,e,l,r),Tr(t,e,l))},enqueueForceUpdate:function(e,t){e=e._reactInternals;var n=ae(),r=mt(e),l=Xe(n,r);l.tag=2,t!=null&&(l.callback=t),t=pt(e,l,r),t!==null&&(Ie(t,e,r,n),Tr(t,e,r))}};function Ro(e,t,n,r,l,i,u){return e=e.stateNode,typeof e.shouldComponentUpdate=="function"?e.shouldComponentUpdate(r,i,u):t.prototype&&t.prototype.isPureReactComponent?!Qn(n,r)||!Qn(l,i):!0}function $a(e,t,n){var r=!1,l=yt,i=t.contextType;return typeof i=="object"&&i!==null?i=je(i):(l=ve(t)?Rt:oe.current,r=t.contextTypes,i=(r=r!=null)?un(e,l):yt),t=new t(n,i),e.memoizedState=t.state!==null&&t.state!==void 0?t.state:null,t.updater=vl,e.stateNode=t,t._reactInternals=e,r&&(e=e.stateNode,e.__reactInternalMemoizedUnmaskedChildContext=l,e.__reactInternalMemoizedMaskedChildContext=i),t}function Do(e,t,n,r){e=t.state,typeof t.componentWillReceiveProps=="function"&&t.componentWillReceiveProps(n,r),typeof t.UNSAFE_componentWillReceiveProps=="function"&&t.UNSAFE_componentWillReceiveProps(n,r),t.state!==e&&vl.enqueueReplaceState(t,t.state,null)}function Ri(e,t,n,r){var l=e.stateNode;l.props=n,l.state=e.memoizedState,l.refs={},xu(e);var i=t.contextType;typeof i=="object"&&i!==null?l.context=je(i):(i=ve(t)?Rt:oe.current,l.context=un(e,i)),l.state=e.memoizedState,i=t.getDerivedStateFromProps,typeof i=="function"&&(Ti(e,t,i,n),l.state=e.memoizedState),typeof t.getDerivedStateFromProps=="function"||typeof l.getSnapshotBeforeUpdate=="function"||typeof l.UNSAFE_componentWillMount!="function"&&typeof l.componentWillMount!="function"||(t=l.state,typeof l.componentWillMount=="function"&&l.componentWillMount(),typeof l.UNSAFE_componentWillMount=="function"&&l.UNSAFE_componentWillMount(),t!==l.state&&vl.enqueueReplaceState(l,l.state,null),br(e,n,l,r),l.state=e.memoizedState),typeof l.componentDidMount=="function"&&(e.flags|=4194308)}function cn(e,t){try{var n="",r=t;do n+=Wc(r),r=r.return;while(r);var l=n}catch(i){l=`
-Error generating stack: `+i.message+`
-`+i.stack}return{value:e,source:t,stack:l,digest:null}}function Xl(e,t,n){return{value:e,source:null,stack:n??null,digest:t??null}}function Di(e,t){try{console.error(t.value)}catch(n){setTimeout(function(){throw n})}}var gd=typeof WeakMap=="function"?WeakMap:Map;function Aa(e,t,n){n=Xe(-1,n),n.tag=3,n.payload={element:null};var r=t.value;return n.callback=function(){ll||(ll=!0,Wi=r),Di(e,t)},n}function Ba(e,t,n){n=Xe(-1,n),n.tag=3;var r=e.type.getDerivedStateFromError;if(typeof r=="function"){var l=t.value;n.payload=function(){return r(l)},n.callback=function(){Di(e,t)}}var i=e.stateNode;return i!==null&&typeof i.componentDidCatch=="function"&&(n.callback=function(){Di(e,t),typeof r!="function"&&(ht===null?ht=new Set([this]):ht.add(this));var u=t.stack;this.componentDidCatch(t.value,{componentStack:u!==null?u:""})}),n}function Oo(e,t,n){var r=e.pingCache;if(r===null){r=e.pingCache=new gd;var l=new Set;r.set(t,l)}else l=r.get(t),l===void 0&&(l=new Set,r.set(t,l));l.has(n)||(l.add(n),e=Td.bind(null,e,t,n),t.then(e,e))}function Mo(e){do{var t;if((t=e.tag===13)&&(t=e.memoizedState,t=t!==null?t.dehydrated!==null:!0),t)return e;e=e.return}while(e!==null);return null}function Fo(e,t,n,r,l){return e.mode&1?(e.flags|=65536,e.lanes=l,e):(e===t?e.flags|=65536:(e.flags|=128,n.flags|=131072,n.flags&=-52805,n.tag===1&&(n.alternate===null?n.tag=17:(t=Xe(-1,1),t.tag=2,pt(n,t,1))),n.lanes|=1),e)}var yd=be.ReactCurrentOwner,he=!1;function se(e,t,n,r){t.child=e===null?va(t,null,n,r):sn(t,e.child,n,r)}function Io(e,t,n,r,l){n=n.render;var i=t.ref;return nn(t,l),r=Pu(e,t,n,r,i,l),n=ju(),e!==null&&!he?(t.updateQueue=e.updateQueue,t.flags&=-2053,e.lanes&=~l,qe(e,t,l)):(W&&n&&mu(t),t.flags|=1,se(e,t,r,l),t.child)}function Uo(e,t,n,r,l){if(e===null){var i=n.type;return typeof i=="function"&&!Uu(i)&&i.defaultProps===void 0&&n.compare===null&&n.defaultProps===void 0?(t.tag=15,t.type=i,Va(e,t,i,r,l)):(e=Ir(n.type,null,r,t,t.mode,l),e.ref=t.ref,e.return=t,t.child=e)}if(i=e.child,!(e.lanes&l)){var u=i.memoizedProps;if(n=n.compare,n=n!==null?n:Qn,n(u,r)&&e.ref===t.ref)return qe(e,t,l)}return t.flags|=1,e=vt(i,r),e.ref=t.ref,e.return=t,t.child=e}function Va(e,t,n,r,l){if(e!==null){var i=e.memoizedProps;if(Qn(i,r)&&e.ref===t.ref)if(he=!1,t.pendingProps=r=i,(e.lanes&l)!==0)e.flags&131072&&(he=!0);else return t.lanes=e.lanes,qe(e,t,l)}return Oi(e,t,n,r,l)}function Wa(e,t,n){var r=t.pendingProps,l=r.children,i=e!==null?e.memoizedState:null;if(r.mode==="hidden")if(!(t.mode&1))t.memoizedState={baseLanes:0,cachePool:null,transitions:null},$(Jt,ye),ye|=n;else{if(!(n&1073741824))return e=i!==null?i.baseLanes|n:n,t.lanes=t.childLanes=1073741824,t.memoizedState={baseLanes:e,cachePool:null,transitions:null},t.updateQueue=null,$(Jt,ye),ye|=e,null;t.memoizedState={baseLanes:0,cachePool:null,transitions:null},r=i!==null?i.baseLanes:n,$(Jt,ye),ye|=r}else i!==null?(r=i.baseLanes|n,t.memoizedState=null):r=n,$(Jt,ye),ye|=r;return se(e,t,l,n),t.child}function Ha(e,t){var n=t.ref;(e===null&&n!==null||e!==null&&e.ref!==n)&&(t.flags|=512,t.flags|=2097152)}function Oi(e,t,n,r,l){var i=ve(n)?Rt:oe.current;return i=un(t,i),nn(t,l),n=Pu(e,t,n,r,i,l),r=ju(),e!==null&&!he?(t.updateQueue=e.updateQueue,t.flags&=-2053,e.lanes&=~l,qe(e,t,l)):(W&&r&&mu(t),t.flags|=1,se(e,t,n,l),t.child)}function $o(e,t,n,r,l){if(ve(n)){var i=!0;Xr(t)}else i=!1;if(nn(t,l),t.stateNode===null)Or(e,t),$a(t,n,r),Ri(t,n,r,l),r=!0;else if(e===null){var u=t.stateNode,o=t.memoizedProps;u.props=o;var s=u.context,c=n.contextType;typeof c=="object"&&c!==null?c=je(c):(c=ve(n)?Rt:oe.current,c=un(t,c));var g=n.getDerivedStateFromProps,h=typeof g=="function"||typeof u.getSnapshotBeforeUpdate=="function";h||typeof u.UNSAFE_componentWillReceiveProps!="function"&&typeof u.componentWillReceiveProps!="function"||(o!==r||s!==c)&&Do(t,u,r,c),lt=!1;var m=t.memoizedState;u.state=m,br(t,r,u,l),s=t.memoizedState,o!==r||m!==s||me.current||lt?(typeof g=="function"&&(Ti(t,n,g,r),s=t.memoizedState),(o=lt||Ro(t,n,o,r,m,s,c))?(h||typeof u.UNSAFE_componentWillMount!="function"&&typeof u.componentWillMount!="function"||(typeof u.componentWillMount=="function"&&u.componentWillMount(),typeof u.UNSAFE_componentWillMount=="function"&&u.UNSAFE_componentWillMount()),typeof u.componentDidMount=="function"&&(t.flags|=4194308)):(typeof u.componentDidMount=="function"&&(t.flags|=4194308),t.memoizedProps=r,t.memoizedState=s),u.props=r,u.state=s,u.context=c,r=o):(typeof u.componentDidMount=="function"&&(t.flags|=4194308),r=!1)}else{u=t.stateNode,ya(e,t),o=t.memoizedProps,c=t.type===t.elementType?o:Re(t.type,o),u.props=c,h=t.pendingProps,m=u.context,s=n.contextType,typeof s=="object"&&s!==null?s=je(s):(s=ve(n)?Rt:oe.current,s=un(t,s));var w=n.getDerivedStateFromProps;(g=typeof w=="function"||typeof u.getSnapshotBeforeUpdate=="function")||typeof u.UNSAFE_componentWillReceiveProps!="function"&&typeof u.componentWillReceiveProps!="function"||(o!==h||m!==s)&&Do(t,u,r,s),lt=!1,m=t.memoizedState,u.state=m,br(t,r,u,l);var E=t.memoizedState;o!==h||m!==E||me.current||lt?(typeof w=="function"&&(Ti(t,n,w,r),E=t.memoizedState),(c=lt||Ro(t,n,c,r,m,E,s)||!1)?(g||typeof u.UNSAFE_componentWillUpdate!="function"&&typeof u.componentWillUpdate!="function"||(typeof u.componentWillUpdate=="function"&&u.componentWillUpdate(r,E,s),typeof u.UNSAFE_componentWillUpdate=="function"&&u.UNSAFE_componentWillUpdate(r,E,s)),typeof u.componentDidUpdate=="function"&&(t.flags|=4),typeof u.getSnapshotBeforeUpdate=="function"&&(t.flags|=1024)):(typeof u.componentDidUpdate!="function"||o===e.memoizedProps&&m===e.memoizedState||(t.flags|=4),typeof u.getSnapshotBeforeUpdate!="function"||o===e.memoizedProps&&m===e.memoizedState||(t.flags|=1024),t.memoizedProps=r,t.memoizedState=E),u.props=r,u.state=E,u.context=s,r=c):(typeof u.componentDidUpdate!="function"||o===e.memoizedProps&&m===e.memoizedState||(t.flags|=4),typeof u.getSnapshotBeforeUpdate!="function"||o===e.memoizedProps&&m===e.memoizedState||(t.flags|=1024),r=!1)}return Mi(e,t,n,r,i,l)}function Mi(e,t,n,r,l,i){Ha(e,t);var u=(t.flags&128)!==0;if(!r&&!u)return l&&Co(t,n,!1),qe(e,t,i);r=t.stateNode,yd.current=t;var o=u&&typeof n.getDerivedStateFromError!="function"?null:r.render();return t.flags|=1,e!==null&&u?(t.child=sn(t,e.child,null,i),t.child=sn(t,null,o,i)):se(e,t,o,i),t.memoizedState=r.state,l&&Co(t,n,!0),t.child}function Qa(e){var t=e.stateNode;t.pendingContext?Eo(e,t.pendingContext,t.pendingContext!==t.context):t.context&&Eo(e,t.context,!1),Eu(e,t.containerInfo)}function Ao(e,t,n,r,l){return on(),gu(l),t.flags|=256,se(e,t,n,r),t.child}var Fi={dehydrated:null,treeContext:null,retryLane:0};function Ii(e){return{baseLanes:e,cachePool:null,transitions:null}}function Ka(e,t,n){var r=t.pendingProps,l=H.current,i=!1,u=(t.flags&128)!==0,o;if((o=u)||(o=e!==null&&e.memoizedState===null?!1:(l&2)!==0),o?(i=!0,t.flags&=-129):(e===null||e.memoizedState!==null)&&(l|=1),$(H,l&1),e===null)return zi(t),e=t.memoizedState,e!==null&&(e=e.dehydrated,e!==null)?(t.mode&1?e.data==="$!"?t.lanes=8:t.lanes=1073741824:t.lanes=1,null):(u=r.children,e=r.fallback,i?(r=t.mode,i=t.child,u={mode:"hidden",children:u},!(r&1)&&i!==null?(i.childLanes=0,i.pendingProps=u):i=wl(u,r,0,null),e=Tt(e,r,n,null),i.return=t,e.return=t,i.sibling=e,t.child=i,t.child.memoizedState=Ii(n),t.memoizedState=Fi,e):Tu(t,u));if(l=e.memoizedState,l!==null&&(o=l.dehydrated,o!==null))return wd(e,t,u,r,o,l,n);if(i){i=r.fallback,u=t.mode,l=e.child,o=l.sibling;var s={mode:"hidden",children:r.children};return!(u&1)&&t.child!==l?(r=t.child,r.childLanes=0,r.pendingProps=s,t.deletions=null):(r=vt(l,s),r.subtreeFlags=l.subtreeFlags&14680064),o!==null?i=vt(o,i):(i=Tt(i,u,n,null),i.flags|=2),i.return=t,r.return=t,r.sibling=i,t.child=r,r=i,i=t.child,u=e.child.memoizedState,u=u===null?Ii(n):{baseLanes:u.baseLanes|n,cachePool:null,transitions:u.transitions},i.memoizedState=u,i.childLanes=e.childLanes&~n,t.memoizedState=Fi,r}return i=e.child,e=i.sibling,r=vt(i,{mode:"visible",children:r.children}),!(t.mode&1)&&(r.lanes=n),r.return=t,r.sibling=null,e!==null&&(n=t.deletions,n===null?(t.deletions=[e],t.flags|=16):n.push(e)),t.child=r,t.memoizedState=null,r}function Tu(e,t){return t=wl({mode:"visible",children:t},e.mode,0,null),t.return=e,e.child=t}function kr(e,t,n,r){return r!==null&&gu(r),sn(t,e.child,null,n),e=Tu(t,t.pendingProps.children),e.flags|=2,t.memoizedState=null,e}function wd(e,t,n,r,l,i,u){if(n)return t.flags&256?(t.flags&=-257,r=Xl(Error(S(422))),kr(e,t,u,r)):t.memoizedState!==null?(t.child=e.child,t.flags|=128,null):(i=r.fallback,l=t.mode,r=wl({mode:"visible",children:r.children},l,0,null),i=Tt(i,l,u,null),i.flags|=2,r.return=t,i.return=t,r.sibling=i,t.child=r,t.mode&1&&sn(t,e.child,null,u),t.child.memoizedState=Ii(u),t.memoizedState=Fi,i);if(!(t.mode&1))return kr(e,t,u,null);if(l.data==="$!"){if(r=l.nextSibling&&l.nextSibling.dataset,r)var o=r.dgst;return r=o,i=Error(S(419)),r=Xl(i,r,void 0),kr(e,t,u,r)}if(o=(u&e.childLanes)!==0,he||o){if(r=b,r!==null){switch(u&-u){case 4:l=2;break;case 16:l=8;break;case 64:case 128:case 256:case 512:case 1024:case 2048:case 4096:case 8192:case 16384:case 32768:case 65536:case 131072:case 262144:case 524288:case 1048576:case 2097152:case 4194304:case 8388608:case 16777216:case 33554432:case 67108864:l=32;break;case 536870912:l=268435456;break;default:l=0}l=l&(r.suspendedLanes|u)?0:l,l!==0&&l!==i.retryLane&&(i.retryLane=l,Je(e,l),Ie(r,e,l,-1))}return Iu(),r=Xl(Error(S(421))),kr(e,t,u,r)}return l.data==="$?"?(t.flags|=128,t.child=e.child,t=Rd.bind(null,e),l._reactRetry=t,null):(e=i.treeContext,we=dt(l.nextSibling),Se=t,W=!0,Me=null,e!==null&&(Ce[_e++]=Ke,Ce[_e++]=Ye,Ce[_e++]=Dt,Ke=e.id,Ye=e.overflow,Dt=t),t=Tu(t,r.children),t.flags|=4096,t)}function Bo(e,t,n){e.lanes|=t;var r=e.alternate;r!==null&&(r.lanes|=t),Li(e.return,t,n)}function Gl(e,t,n,r,l){var i=e.memoizedState;i===null?e.memoizedState={isBackwards:t,rendering:null,renderingStartTime:0,last:r,tail:n,tailMode:l}:(i.isBackwards=t,i.rendering=null,i.renderingStartTime=0,i.last=r,i.tail=n,i.tailMode=l)}function Ya(e,t,n){var r=t.pendingProps,l=r.revealOrder,i=r.tail;if(se(e,t,r.children,n),r=H.current,r&2)r=r&1|2,t.flags|=128;else{if(e!==null&&e.flags&128)e:for(e=t.child;e!==null;){if(e.tag===13)e.memoizedState!==null&&Bo(e,n,t);else if(e.tag===19)Bo(e,n,t);else if(e.child!==null){e.child.return=e,e=e.child;continue}if(e===t)break e;for(;e.sibling===null;){if(e.return===null||e.return===t)break e;e=e.return}e.sibling.return=e.return,e=e.sibling}r&=1}if($(H,r),!(t.mode&1))t.memoizedState=null;else switch(l){case"forwards":for(n=t.child,l=null;n!==null;)e=n.alternate,e!==null&&el(e)===null&&(l=n),n=n.sibling;n=l,n===null?(l=t.child,t.child=null):(l=n.sibling,n.sibling=null),Gl(t,!1,l,n,i);break;case"backwards":for(n=null,l=t.child,t.child=null;l!==null;){if(e=l.alternate,e!==null&&el(e)===null){t.child=l;break}e=l.sibling,l.sibling=n,n=l,l=e}Gl(t,!0,n,null,i);break;case"together":Gl(t,!1,null,null,void 0);break;default:t.memoizedState=null}return t.child}function Or(e,t){!(t.mode&1)&&e!==null&&(e.alternate=null,t.alternate=null,t.flags|=2)}function qe(e,t,n){if(e!==null&&(t.dependencies=e.dependencies),Mt|=t.lanes,!(n&t.childLanes))return null;if(e!==null&&t.child!==e.child)throw Error(S(153));if(t.child!==null){for(e=t.child,n=vt(e,e.pendingProps),t.child=n,n.return=t;e.sibling!==null;)e=e.sibling,n=n.sibling=vt(e,e.pendingProps),n.return=t;n.sibling=null}return t.child}function Sd(e,t,n){switch(t.tag){case 3:Qa(t),on();break;case 5:wa(t);break;case 1:ve(t.type)&&Xr(t);break;case 4:Eu(t,t.stateNode.containerInfo);break;case 10:var r=t.type._context,l=t.memoizedProps.value;$(Jr,r._currentValue),r._currentValue=l;break;case 13:if(r=t.memoizedState,r!==null)return r.dehydrated!==null?($(H,H.current&1),t.flags|=128,null):n&t.child.childLanes?Ka(e,t,n):($(H,H.current&1),e=qe(e,t,n),e!==null?e.sibling:null);$(H,H.current&1);break;case 19:if(r=(n&t.childLanes)!==0,e.flags&128){if(r)return Ya(e,t,n);t.flags|=128}if(l=t.memoizedState,l!==null&&(l.rendering=null,l.tail=null,l.lastEffect=null),$(H,H.current),r)break;return null;case 22:case 23:return t.lanes=0,Wa(e,t,n)}return qe(e,t,n)}var Xa,Ui,Ga,Za;Xa=function(e,t){for(var n=t.child;n!==null;){if(n.tag===5||n.tag===6)e.appendChild(n.stateNode);else if(n.tag!==4&&n.child!==null){n.child.return=n,n=n.child;continue}if(n===t)break;for(;n.sibling===null;){if(n.return===null||n.return===t)return;n=n.return}n.sibling.return=n.return,n=n.sibling}};Ui=function(){};Ga=function(e,t,n,r){var l=e.memoizedProps;if(l!==r){e=t.stateNode,zt(We.current);var i=null;switch(n){case"input":l=ui(e,l),r=ui(e,r),i=[];break;case"select":l=K({},l,{value:void 0}),r=K({},r,{value:void 0}),i=[];break;case"textarea":l=ai(e,l),r=ai(e,r),i=[];break;default:typeof l.onClick!="function"&&typeof r.onClick=="function"&&(e.onclick=Kr)}fi(n,r);var u;n=null;for(c in l)if(!r.hasOwnProperty(c)&&l.hasOwnProperty(c)&&l[c]!=null)if(c==="style"){var o=l[c];for(u in o)o.hasOwnProperty(u)&&(n||(n={}),n[u]="")}else c!=="dangerouslySetInnerHTML"&&c!=="children"&&c!=="suppressContentEditableWarning"&&c!=="suppressHydrationWarning"&&c!=="autoFocus"&&(Un.hasOwnProperty(c)?i||(i=[]):(i=i||[]).push(c,null));for(c in r){var s=r[c];if(o=l!=null?l[c]:void 0,r.hasOwnProperty(c)&&s!==o&&(s!=null||o!=null))if(c==="style")if(o){for(u in o)!o.hasOwnProperty(u)||s&&s.hasOwnProperty(u)||(n||(n={}),n[u]="");for(u in s)s.hasOwnProperty(u)&&o[u]!==s[u]&&(n||(n={}),n[u]=s[u])}else n||(i||(i=[]),i.push(c,n)),n=s;else c==="dangerouslySetInnerHTML"?(s=s?s.__html:void 0,o=o?o.__html:void 0,s!=null&&o!==s&&(i=i||[]).push(c,s)):c==="children"?typeof s!="string"&&typeof s!="number"||(i=i||[]).push(c,""+s):c!=="suppressContentEditableWarning"&&c!=="suppressHydrationWarning"&&(Un.hasOwnProperty(c)?(s!=null&&c==="onScroll"&&A("scroll",e),i||o===s||(i=[])):(i=i||[]).push(c,s))}n&&(i=i||[]).push("style",n);var c=i;(t.updateQueue=c)&&(t.flags|=4)}};Za=function(e,t,n,r){n!==r&&(t.flags|=4)};function xn(e,t){if(!W)switch(e.tailMode){case"hidden":t=e.tail;for(var n=null;t!==null;)t.alternate!==null&&(n=t),t=t.sibling;n===null?e.tail=null:n.sibling=null;break;case"collapsed":n=e.tail;for(var r=null;n!==null;)n.alternate!==null&&(r=n),n=n.sibling;r===null?t||e.tail===null?e.tail=null:e.tail.sibling=null:r.sibling=null}}function ie(e){var t=e.alternate!==null&&e.alternate.child===e.child,n=0,r=0;if(t)for(var l=e.child;l!==null;)n|=l.lanes|l.childLanes,r|=l.subtreeFlags&14680064,r|=l.flags&14680064,l.return=e,l=l.sibling;else for(l=e.child;l!==null;)n|=l.lanes|l.childLanes,r|=l.subtreeFlags,r|=l.flags,l.return=e,l=l.sibling;return e.subtreeFlags|=r,e.childLanes=n,t}function kd(e,t,n){var r=t.pendingProps;switch(vu(t),t.tag){case 2:case 16:case 15:case 0:case 11:case 7:case 8:case 12:case 9:case 14:return ie(t),null;case 1:return ve(t.type)&&Yr(),ie(t),null;case 3:return r=t.stateNode,an(),B(me),B(oe),_u(),r.pendingContext&&(r.context=r.pendingContext,r.pendingContext=null),(e===null||e.child===null)&&(wr(t)?t.flags|=4:e===null||e.memoizedState.isDehydrated&&!(t.flags&256)||(t.flags|=1024,Me!==null&&(Ki(Me),Me=null))),Ui(e,t),ie(t),null;case 5:Cu(t);var l=zt(Zn.current);if(n=t.type,e!==null&&t.stateNode!=null)Ga(e,t,n,r,l),e.ref!==t.ref&&(t.flags|=512,t.flags|=2097152);else{if(!r){if(t.stateNode===null)throw Error(S(166));return ie(t),null}if(e=zt(We.current),wr(t)){r=t.stateNode,n=t.type;var i=t.memoizedProps;switch(r[Be]=t,r[Xn]=i,e=(t.mode&1)!==0,n){case"dialog":A("cancel",r),A("close",r);break;case"iframe":case"object":case"embed":A("load",r);break;case"video":case"audio":for(l=0;l<jn.length;l++)A(jn[l],r);break;case"source":A("error",r);break;case"img":case"image":case"link":A("error",r),A("load",r);break;case"details":A("toggle",r);break;case"input":Gu(r,i),A("invalid",r);break;case"select":r._wrapperState={wasMultiple:!!i.multiple},A("invalid",r);break;case"textarea":Ju(r,i),A("invalid",r)}fi(n,i),l=null;for(var u in i)if(i.hasOwnProperty(u)){var o=i[u];u==="children"?typeof o=="string"?r.textContent!==o&&(i.suppressHydrationWarning!==!0&&yr(r.textContent,o,e),l=["children",o]):typeof o=="number"&&r.textContent!==""+o&&(i.suppressHydrationWarning!==!0&&yr(r.textContent,o,e),l=["children",""+o]):Un.hasOwnProperty(u)&&o!=null&&u==="onScroll"&&A("scroll",r)}switch(n){case"input":cr(r),Zu(r,i,!0);break;case"textarea":cr(r),qu(r);break;case"select":case"option":break;default:typeof i.onClick=="function"&&(r.onclick=Kr)}r=l,t.updateQueue=r,r!==null&&(t.flags|=4)}else{u=l.nodeType===9?l:l.ownerDocument,e==="http://www.w3.org/1999/xhtml"&&(e=Cs(n)),e==="http://www.w3.org/1999/xhtml"?n==="script"?(e=u.createElement("div"),e.innerHTML="<script><\/script>",e=e.removeChild(e.firstChild)):typeof r.is=="string"?e=u.createElement(n,{is:r.is}):(e=u.createElement(n),n==="select"&&(u=e,r.multiple?u.multiple=!0:r.size&&(u.size=r.size))):e=u.createElementNS(e,n),e[Be]=t,e[Xn]=r,Xa(e,t,!1,!1),t.stateNode=e;e:{switch(u=di(n,r),n){case"dialog":A("cancel",e),A("close",e),l=r;break;case"iframe":case"object":case"embed":A("load",e),l=r;break;case"video":case"audio":for(l=0;l<jn.length;l++)A(jn[l],e);l=r;break;case"source":A("error",e),l=r;break;case"img":case"image":case"link":A("error",e),A("load",e),l=r;break;case"details":A("toggle",e),l=r;break;case"input":Gu(e,r),l=ui(e,r),A("invalid",e);break;case"option":l=r;break;case"select":e._wrapperState={wasMultiple:!!r.multiple},l=K({},r,{value:void 0}),A("invalid",e);break;case"textarea":Ju(e,r),l=ai(e,r),A("invalid",e);break;default:l=r}fi(n,l),o=l;for(i in o)if(o.hasOwnProperty(i)){var s=o[i];i==="style"?Ps(e,s):i==="dangerouslySetInnerHTML"?(s=s?s.__html:void 0,s!=null&&_s(e,s)):i==="children"?typeof s=="string"?(n!=="textarea"||s!=="")&&$n(e,s):typeof s=="number"&&$n(e,""+s):i!=="suppressContentEditableWarning"&&i!=="suppressHydrationWarning"&&i!=="autoFocus"&&(Un.hasOwnProperty(i)?s!=null&&i==="onScroll"&&A("scroll",e):s!=null&&tu(e,i,s,u))}switch(n){case"input":cr(e),Zu(e,r,!1);break;case"textarea":cr(e),qu(e);break;case"option":r.value!=null&&e.setAttribute("value",""+gt(r.value));break;case"select":e.multiple=!!r.multiple,i=r.value,i!=null?qt(e,!!r.multiple,i,!1):r.defaultValue!=null&&qt(e,!!r.multiple,r.defaultValue,!0);break;default:typeof l.onClick=="function"&&(e.onclick=Kr)}switch(n){case"button":case"input":case"select":case"textarea":r=!!r.autoFocus;break e;case"img":r=!0;break e;default:r=!1}}r&&(t.flags|=4)}t.ref!==null&&(t.flags|=512,t.flags|=2097152)}return ie(t),null;case 6:if(e&&t.stateNode!=null)Za(e,t,e.memoizedProps,r);else{if(typeof r!="string"&&t.stateNode===null)throw Error(S(166));if(n=zt(Zn.current),zt(We.current),wr(t)){if(r=t.stateNode,n=t.memoizedProps,r[Be]=t,(i=r.nodeValue!==n)&&(e=Se,e!==null))switch(e.tag){case 3:yr(r.nodeValue,n,(e.mode&1)!==0);break;case 5:e.memoizedProps.suppressHydrationWarning!==!0&&yr(r.nodeValue,n,(e.mode&1)!==0)}i&&(t.flags|=4)}else r=(n.nodeType===9?n:n.ownerDocument).createTextNode(r),r[Be]=t,t.stateNode=r}return ie(t),null;case 13:if(B(H),r=t.memoizedState,e===null||e.memoizedState!==null&&e.memoizedState.dehydrated!==null){if(W&&we!==null&&t.mode&1&&!(t.flags&128))ha(),on(),t.flags|=98560,i=!1;else if(i=wr(t),r!==null&&r.dehydrated!==null){if(e===null){if(!i)throw Error(S(318));if(i=t.memoizedState,i=i!==null?i.dehydrated:null,!i)throw Error(S(317));i[Be]=t}else on(),!(t.flags&128)&&(t.memoizedState=null),t.flags|=4;ie(t),i=!1}else Me!==null&&(Ki(Me),Me=null),i=!0;if(!i)return t.flags&65536?t:null}return t.flags&128?(t.lanes=n,t):(r=r!==null,r!==(e!==null&&e.memoizedState!==null)&&r&&(t.child.flags|=8192,t.mode&1&&(e===null||H.current&1?J===0&&(J=3):Iu())),t.updateQueue!==null&&(t.flags|=4),ie(t),null);case 4:return an(),Ui(e,t),e===null&&Kn(t.stateNode.containerInfo),ie(t),null;case 10:return Su(t.type._context),ie(t),null;case 17:return ve(t.type)&&Yr(),ie(t),null;case 19:if(B(H),i=t.memoizedState,i===null)return ie(t),null;if(r=(t.flags&128)!==0,u=i.rendering,u===null)if(r)xn(i,!1);else{if(J!==0||e!==null&&e.flags&128)for(e=t.child;e!==null;){if(u=el(e),u!==null){for(t.flags|=128,xn(i,!1),r=u.updateQueue,r!==null&&(t.updateQueue=r,t.flags|=4),t.subtreeFlags=0,r=n,n=t.child;n!==null;)i=n,e=r,i.flags&=14680066,u=i.alternate,u===null?(i.childLanes=0,i.lanes=e,i.child=null,i.subtreeFlags=0,i.memoizedProps=null,i.memoizedState=null,i.updateQueue=null,i.dependencies=null,i.stateNode=null):(i.childLanes=u.childLanes,i.lanes=u.lanes,i.child=u.child,i.subtreeFlags=0,i.deletions=null,i.memoizedProps=u.memoizedProps,i.memoizedState=u.memoizedState,i.updateQueue=u.updateQueue,i.type=u.type,e=u.dependencies,i.dependencies=e===null?null:{lanes:e.lanes,firstContext:e.firstContext}),n=n.sibling;return $(H,H.current&1|2),t.child}e=e.sibling}i.tail!==null&&X()>fn&&(t.flags|=128,r=!0,xn(i,!1),t.lanes=4194304)}else{if(!r)if(e=el(u),e!==null){if(t.flags|=128,r=!0,n=e.updateQueue,n!==null&&(t.updateQueue=n,t.flags|=4),xn(i,!0),i.tail===null&&i.tailMode==="hidden"&&!u.alternate&&!W)return ie(t),null}else 2*X()-i.renderingStartTime>fn&&n!==1073741824&&(t.flags|=128,r=!0,xn(i,!1),t.lanes=4194304);i.isBackwards?(u.sibling=t.child,t.child=u):(n=i.last,n!==null?n.sibling=u:t.child=u,i.last=u)}return i.tail!==null?(t=i.tail,i.rendering=t,i.tail=t.sibling,i.renderingStartTime=X(),t.sibling=null,n=H.current,$(H,r?n&1|2:n&1),t):(ie(t),null);case 22:case 23:return Fu(),r=t.memoizedState!==null,e!==null&&e.memoizedState!==null!==r&&(t.flags|=8192),r&&t.mode&1?ye&1073741824&&(ie(t),t.subtreeFlags&6&&(t.flags|=8192)):ie(t),null;case 24:return null;case 25:return null}throw Error(S(156,t.tag))}function xd(e,t){switch(vu(t),t.tag){case 1:return ve(t.type)&&Yr(),e=t.flags,e&65536?(t.flags=e&-65537|128,t):null;case 3:return an(),B(me),B(oe),_u(),e=t.flags,e&65536&&!(e&128)?(t.flags=e&-65537|128,t):null;case 5:return Cu(t),null;case 13:if(B(H),e=t.memoizedState,e!==null&&e.dehydrated!==null){if(t.alternate===null)throw Error(S(340));on()}return e=t.flags,e&65536?(t.flags=e&-65537|128,t):null;case 19:return B(H),null;case 4:return an(),null;case 10:return Su(t.type._context),null;case 22:case 23:return Fu(),null;case 24:return null;default:return null}}var xr=!1,ue=!1,Ed=typeof WeakSet=="function"?WeakSet:Set,_=null;function Zt(e,t){var n=e.ref;if(n!==null)if(typeof n=="function")try{n(null)}catch(r){Y(e,t,r)}else n.current=null}function $i(e,t,n){try{n()}catch(r){Y(e,t,r)}}var Vo=!1;function Cd(e,t){if(xi=Wr,e=ta(),hu(e)){if("selectionStart"in e)var n={start:e.selectionStart,end:e.selectionEnd};else e:{n=(n=e.ownerDocument)&&n.defaultView||window;var r=n.getSelection&&n.getSelection();if(r&&r.rangeCount!==0){n=r.anchorNode;var l=r.anchorOffset,i=r.focusNode;r=r.focusOffset;try{n.nodeType,i.nodeType}catch{n=null;break e}var u=0,o=-1,s=-1,c=0,g=0,h=e,m=null;t:for(;;){for(var w;h!==n||l!==0&&h.nodeType!==3||(o=u+l),h!==i||r!==0&&h.nodeType!==3||(s=u+r),h.nodeType===3&&(u+=h.nodeValue.length),(w=h.firstChild)!==null;)m=h,h=w;for(;;){if(h===e)break t;if(m===n&&++c===l&&(o=u),m===i&&++g===r&&(s=u),(w=h.nextSibling)!==null)break;h=m,m=h.parentNode}h=w}n=o===-1||s===-1?null:{start:o,end:s}}else n=null}n=n||{start:0,end:0}}else n=null;for(Ei={focusedElem:e,selectionRange:n},Wr=!1,_=t;_!==null;)if(t=_,e=t.child,(t.subtreeFlags&1028)!==0&&e!==null)e.return=t,_=e;else for(;_!==null;){t=_;try{var E=t.alternate;if(t.flags&1024)switch(t.tag){case 0:case 11:case 15:break;case 1:if(E!==null){var x=E.memoizedProps,U=E.memoizedState,f=t.stateNode,a=f.getSnapshotBeforeUpdate(t.elementType===t.type?x:Re(t.type,x),U);f.__reactInternalSnapshotBeforeUpdate=a}break;case 3:var d=t.stateNode.containerInfo;d.nodeType===1?d.textContent="":d.nodeType===9&&d.documentElement&&d.removeChild(d.documentElement);break;case 5:case 6:case 4:case 17:break;default:throw Error(S(163))}}catch(y){Y(t,t.return,y)}if(e=t.sibling,e!==null){e.return=t.return,_=e;break}_=t.return}return E=Vo,Vo=!1,E}function Mn(e,t,n){var r=t.updateQueue;if(r=r!==null?r.lastEffect:null,r!==null){var l=r=r.next;do{if((l.tag&e)===e){var i=l.destroy;l.destroy=void 0,i!==void 0&&$i(t,n,i)}l=l.next}while(l!==r)}}function gl(e,t){if(t=t.updateQueue,t=t!==null?t.lastEffect:null,t!==null){var n=t=t.next;do{if((n.tag&e)===e){var r=n.create;n.destroy=r()}n=n.next}while(n!==t)}}function Ai(e){var t=e.ref;if(t!==null){var n=e.stateNode;switch(e.tag){case 5:e=n;break;default:e=n}typeof t=="function"?t(e):t.current=e}}function Ja(e){var t=e.alternate;t!==null&&(e.alternate=null,Ja(t)),e.child=null,e.deletions=null,e.sibling=null,e.tag===5&&(t=e.stateNode,t!==null&&(delete t[Be],delete t[Xn],delete t[Ni],delete t[ud],delete t[od])),e.stateNode=null,e.return=null,e.dependencies=null,e.memoizedProps=null,e.memoizedState=null,e.pendingProps=null,e.stateNode=null,e.updateQueue=null}function qa(e){return e.tag===5||e.tag===3||e.tag===4}function Wo(e){e:for(;;){for(;e.sibling===null;){if(e.return===null||qa(e.return))return null;e=e.return}for(e.sibling.return=e.return,e=e.sibling;e.tag!==5&&e.tag!==6&&e.tag!==18;){if(e.flags&2||e.child===null||e.tag===4)continue e;e.child.return=e,e=e.child}if(!(e.flags&2))return e.stateNode}}function Bi(e,t,n){var r=e.tag;if(r===5||r===6)e=e.stateNode,t?n.nodeType===8?n.parentNode.insertBefore(e,t):n.insertBefore(e,t):(n.nodeType===8?(t=n.parentNode,t.insertBefore(e,n)):(t=n,t.appendChild(e)),n=n._reactRootContainer,n!=null||t.onclick!==null||(t.onclick=Kr));else if(r!==4&&(e=e.child,e!==null))for(Bi(e,t,n),e=e.sibling;e!==null;)Bi(e,t,n),e=e.sibling}function Vi(e,t,n){var r=e.tag;if(r===5||r===6)e=e.stateNode,t?n.insertBefore(e,t):n.appendChild(e);else if(r!==4&&(e=e.child,e!==null))for(Vi(e,t,n),e=e.sibling;e!==null;)Vi(e,t,n),e=e.sibling}var ee=null,Oe=!1;function nt(e,t,n){for(n=n.child;n!==null;)ba(e,t,n),n=n.sibling}function ba(e,t,n){if(Ve&&typeof Ve.onCommitFiberUnmount=="function")try{Ve.onCommitFiberUnmount(al,n)}catch{}switch(n.tag){case 5:ue||Zt(n,t);case 6:var r=ee,l=Oe;ee=null,nt(e,t,n),ee=r,Oe=l,ee!==null&&(Oe?(e=ee,n=n.stateNode,e.nodeType===8?e.parentNode.removeChild(n):e.removeChild(n)):ee.removeChild(n.stateNode));break;case 18:ee!==null&&(Oe?(e=ee,n=n.stateNode,e.nodeType===8?Vl(e.parentNode,n):e.nodeType===1&&Vl(e,n),Wn(e)):Vl(ee,n.stateNode));break;case 4:r=ee,l=Oe,ee=n.stateNode.containerInfo,Oe=!0,nt(e,t,n),ee=r,Oe=l;break;case 0:case 11:case 14:case 15:if(!ue&&(r=n.updateQueue,r!==null&&(r=r.lastEffect,r!==null))){l=r=r.next;do{var i=l,u=i.destroy;i=i.tag,u!==void 0&&(i&2||i&4)&&$i(n,t,u),l=l.next}while(l!==r)}nt(e,t,n);break;case 1:if(!ue&&(Zt(n,t),r=n.stateNode,typeof r.componentWillUnmount=="function"))try{r.props=n.memoizedProps,r.state=n.memoizedState,r.componentWillUnmount()}catch(o){Y(n,t,o)}nt(e,t,n);break;case 21:nt(e,t,n);break;case 22:n.mode&1?(ue=(r=ue)||n.memoizedState!==null,nt(e,t,n),ue=r):nt(e,t,n);break;default:nt(e,t,n)}}function Ho(e){var t=e.updateQueue;if(t!==null){e.updateQueue=null;var n=e.stateNode;n===null&&(n=e.stateNode=new Ed),t.forEach(function(r){var l=Dd.bind(null,e,r);n.has(r)||(n.add(r),r.then(l,l))})}}function Te(e,t){var n=t.deletions;if(n!==null)for(var r=0;r<n.length;r++){var l=n[r];try{var i=e,u=t,o=u;e:for(;o!==null;){switch(o.tag){case 5:ee=o.stateNode,Oe=!1;break e;case 3:ee=o.stateNode.containerInfo,Oe=!0;break e;case 4:ee=o.stateNode.containerInfo,Oe=!0;break e}o=o.return}if(ee===null)throw Error(S(160));ba(i,u,l),ee=null,Oe=!1;var s=l.alternate;s!==null&&(s.return=null),l.return=null}catch(c){Y(l,t,c)}}if(t.subtreeFlags&12854)for(t=t.child;t!==null;)ec(t,e),t=t.sibling}function ec(e,t){var n=e.alternate,r=e.flags;switch(e.tag){case 0:case 11:case 14:case 15:if(Te(t,e),$e(e),r&4){try{Mn(3,e,e.return),gl(3,e)}catch(x){Y(e,e.return,x)}try{Mn(5,e,e.return)}catch(x){Y(e,e.return,x)}}break;case 1:Te(t,e),$e(e),r&512&&n!==null&&Zt(n,n.return);break;case 5:if(Te(t,e),$e(e),r&512&&n!==null&&Zt(n,n.return),e.flags&32){var l=e.stateNode;try{$n(l,"")}catch(x){Y(e,e.return,x)}}if(r&4&&(l=e.stateNode,l!=null)){var i=e.memoizedProps,u=n!==null?n.memoizedProps:i,o=e.type,s=e.updateQueue;if(e.updateQueue=null,s!==null)try{o==="input"&&i.type==="radio"&&i.name!=null&&xs(l,i),di(o,u);var c=di(o,i);for(u=0;u<s.length;u+=2){var g=s[u],h=s[u+1];g==="style"?Ps(l,h):g==="dangerouslySetInnerHTML"?_s(l,h):g==="children"?$n(l,h):tu(l,g,h,c)}switch(o){case"input":oi(l,i);break;case"textarea":Es(l,i);break;case"select":var m=l._wrapperState.wasMultiple;l._wrapperState.wasMultiple=!!i.multiple;var w=i.value;w!=null?qt(l,!!i.multiple,w,!1):m!==!!i.multiple&&(i.defaultValue!=null?qt(l,!!i.multiple,i.defaultValue,!0):qt(l,!!i.multiple,i.multiple?[]:"",!1))}l[Xn]=i}catch(x){Y(e,e.return,x)}}break;case 6:if(Te(t,e),$e(e),r&4){if(e.stateNode===null)throw Error(S(162));l=e.stateNode,i=e.memoizedProps;try{l.nodeValue=i}catch(x){Y(e,e.return,x)}}break;case 3:if(Te(t,e),$e(e),r&4&&n!==null&&n.memoizedState.isDehydrated)try{Wn(t.containerInfo)}catch(x){Y(e,e.return,x)}break;case 4:Te(t,e),$e(e);break;case 13:Te(t,e),$e(e),l=e.child,l.flags&8192&&(i=l.memoizedState!==null,l.stateNode.isHidden=i,!i||l.alternate!==null&&l.alternate.memoizedState!==null||(Ou=X())),r&4&&Ho(e);break;case 22:if(g=n!==null&&n.memoizedState!==null,e.mode&1?(ue=(c=ue)||g,Te(t,e),ue=c):Te(t,e),$e(e),r&8192){if(c=e.memoizedState!==null,(e.stateNode.isHidden=c)&&!g&&e.mode&1)for(_=e,g=e.child;g!==null;){for(h=_=g;_!==null;){switch(m=_,w=m.child,m.tag){case 0:case 11:case 14:case 15:Mn(4,m,m.return);break;case 1:Zt(m,m.return);var E=m.stateNode;if(typeof E.componentWillUnmount=="function"){r=m,n=m.return;try{t=r,E.props=t.memoizedProps,E.state=t.memoizedState,E.componentWillUnmount()}catch(x){Y(r,n,x)}}break;case 5:Zt(m,m.return);break;case 22:if(m.memoizedState!==null){Ko(h);continue}}w!==null?(w.return=m,_=w):Ko(h)}g=g.sibling}e:for(g=null,h=e;;){if(h.tag===5){if(g===null){g=h;try{l=h.stateNode,c?(i=l.style,typeof i.setProperty=="function"?i.setProperty("display","none","important"):i.display="none"):(o=h.stateNode,s=h.memoizedProps.style,u=s!=null&&s.hasOwnProperty("display")?s.display:null,o.style.display=Ns("display",u))}catch(x){Y(e,e.return,x)}}}else if(h.tag===6){if(g===null)try{h.stateNode.nodeValue=c?"":h.memoizedProps}catch(x){Y(e,e.return,x)}}else if((h.tag!==22&&h.tag!==23||h.memoizedState===null||h===e)&&h.child!==null){h.child.return=h,h=h.child;continue}if(h===e)break e;for(;h.sibling===null;){if(h.return===null||h.return===e)break e;g===h&&(g=null),h=h.return}g===h&&(g=null),h.sibling.return=h.return,h=h.sibling}}break;case 19:Te(t,e),$e(e),r&4&&Ho(e);break;case 21:break;default:Te(t,e),$e(e)}}function $e(e){var t=e.flags;if(t&2){try{e:{for(var n=e.return;n!==null;){if(qa(n)){var r=n;break e}n=n.return}throw Error(S(160))}switch(r.tag){case 5:var l=r.stateNode;r.flags&32&&($n(l,""),r.flags&=-33);var i=Wo(e);Vi(e,i,l);break;case 3:case 4:var u=r.stateNode.containerInfo,o=Wo(e);Bi(e,o,u);break;default:throw Error(S(161))}}catch(s){Y(e,e.return,s)}e.flags&=-3}t&4096&&(e.flags&=-4097)}function _d(e,t,n){_=e,tc(e)}function tc(e,t,n){for(var r=(e.mode&1)!==0;_!==null;){var l=_,i=l.child;if(l.tag===22&&r){var u=l.memoizedState!==null||xr;if(!u){var o=l.alternate,s=o!==null&&o.memoizedState!==null||ue;o=xr;var c=ue;if(xr=u,(ue=s)&&!c)for(_=l;_!==null;)u=_,s=u.child,u.tag===22&&u.memoizedState!==null?Yo(l):s!==null?(s.return=u,_=s):Yo(l);for(;i!==null;)_=i,tc(i),i=i.sibling;_=l,xr=o,ue=c}Qo(e)}else l.subtreeFlags&8772&&i!==null?(i.return=l,_=i):Qo(e)}}function Qo(e){for(;_!==null;){var t=_;if(t.flags&8772){var n=t.alternate;try{if(t.flags&8772)switch(t.tag){case 0:case 11:case 15:ue||gl(5,t);break;case 1:var r=t.stateNode;if(t.flags&4&&!ue)if(n===null)r.componentDidMount();else{var l=t.elementType===t.type?n.memoizedProps:Re(t.type,n.memoizedProps);r.componentDidUpdate(l,n.memoizedState,r.__reactInternalSnapshotBeforeUpdate)}var i=t.updateQueue;i!==null&&zo(t,i,r);break;case 3:var u=t.updateQueue;if(u!==null){if(n=null,t.child!==null)switch(t.child.tag){case 5:n=t.child.stateNode;break;case 1:n=t.child.stateNode}zo(t,u,n)}break;case 5:var o=t.stateNode;if(n===null&&t.flags&4){n=o;var s=t.memoizedProps;switch(t.type){case"button":case"input":case"select":case"textarea":s.autoFocus&&n.focus();break;case"img":s.src&&(n.src=s.src)}}break;case 6:break;case 4:break;case 12:break;case 13:if(t.memoizedState===null){var c=t.alternate;if(c!==null){var g=c.memoizedState;if(g!==null){var h=g.dehydrated;h!==null&&Wn(h)}}}break;case 19:case 17:case 21:case 22:case 23:case 25:break;default:throw Error(S(163))}ue||t.flags&512&&Ai(t)}catch(m){Y(t,t.return,m)}}if(t===e){_=null;break}if(n=t.sibling,n!==null){n.return=t.return,_=n;break}_=t.return}}function Ko(e){for(;_!==null;){var t=_;if(t===e){_=null;break}var n=t.sibling;if(n!==null){n.return=t.return,_=n;break}_=t.return}}function Yo(e){for(;_!==null;){var t=_;try{switch(t.tag){case 0:case 11:case 15:var n=t.return;try{gl(4,t)}catch(s){Y(t,n,s)}break;case 1:var r=t.stateNode;if(typeof r.componentDidMount=="function"){var l=t.return;try{r.componentDidMount()}catch(s){Y(t,l,s)}}var i=t.return;try{Ai(t)}catch(s){Y(t,i,s)}break;case 5:var u=t.return;try{Ai(t)}catch(s){Y(t,u,s)}}}catch(s){Y(t,t.return,s)}if(t===e){_=null;break}var o=t.sibling;if(o!==null){o.return=t.return,_=o;break}_=t.return}}var Nd=Math.ceil,rl=be.ReactCurrentDispatcher,Ru=be.ReactCurrentOwner,Pe=be.ReactCurrentBatchConfig,M=0,b=null,G=null,te=0,ye=0,Jt=St(0),J=0,er=null,Mt=0,yl=0,Du=0,Fn=null,pe=null,Ou=0,fn=1/0,He=null,ll=!1,Wi=null,ht=null,Er=!1,st=null,il=0,In=0,Hi=null,Mr=-1,Fr=0;function ae(){return M&6?X():Mr!==-1?Mr:Mr=X()}function mt(e){return e.mode&1?M&2&&te!==0?te&-te:ad.transition!==null?(Fr===0&&(Fr=$s()),Fr):(e=I,e!==0||(e=window.event,e=e===void 0?16:Ks(e.type)),e):1}function Ie(e,t,n,r){if(50<In)throw In=0,Hi=null,Error(S(185));nr(e,n,r),(!(M&2)||e!==b)&&(e===b&&(!(M&2)&&(yl|=n),J===4&&ut(e,te)),ge(e,r),n===1&&M===0&&!(t.mode&1)&&(fn=X()+500,hl&&kt()))}function ge(e,t){var n=e.callbackNode;af(e,t);var r=Vr(e,e===b?te:0);if(r===0)n!==null&&to(n),e.callbackNode=null,e.callbackPriority=0;else if(t=r&-r,e.callbackPriority!==t){if(n!=null&&to(n),t===1)e.tag===0?sd(Xo.bind(null,e)):fa(Xo.bind(null,e)),ld(function(){!(M&6)&&kt()}),n=null;else{switch(As(r)){case 1:n=uu;break;case 4:n=Is;break;case 16:n=Br;break;case 536870912:n=Us;break;default:n=Br}n=ac(n,nc.bind(null,e))}e.callbackPriority=t,e.callbackNode=n}}function nc(e,t){if(Mr=-1,Fr=0,M&6)throw Error(S(327));var n=e.callbackNode;if(rn()&&e.callbackNode!==n)return null;var r=Vr(e,e===b?te:0);if(r===0)return null;if(r&30||r&e.expiredLanes||t)t=ul(e,r);else{t=r;var l=M;M|=2;var i=lc();(b!==e||te!==t)&&(He=null,fn=X()+500,Lt(e,t));do try{zd();break}catch(o){rc(e,o)}while(!0);wu(),rl.current=i,M=l,G!==null?t=0:(b=null,te=0,t=J)}if(t!==0){if(t===2&&(l=gi(e),l!==0&&(r=l,t=Qi(e,l))),t===1)throw n=er,Lt(e,0),ut(e,r),ge(e,X()),n;if(t===6)ut(e,r);else{if(l=e.current.alternate,!(r&30)&&!Pd(l)&&(t=ul(e,r),t===2&&(i=gi(e),i!==0&&(r=i,t=Qi(e,i))),t===1))throw n=er,Lt(e,0),ut(e,r),ge(e,X()),n;switch(e.finishedWork=l,e.finishedLanes=r,t){case 0:case 1:throw Error(S(345));case 2:Nt(e,pe,He);break;case 3:if(ut(e,r),(r&130023424)===r&&(t=Ou+500-X(),10<t)){if(Vr(e,0)!==0)break;if(l=e.suspendedLanes,(l&r)!==r){ae(),e.pingedLanes|=e.suspendedLanes&l;break}e.timeoutHandle=_i(Nt.bind(null,e,pe,He),t);break}Nt(e,pe,He);break;case 4:if(ut(e,r),(r&4194240)===r)break;for(t=e.eventTimes,l=-1;0<r;){var u=31-Fe(r);i=1<<u,u=t[u],u>l&&(l=u),r&=~i}if(r=l,r=X()-r,r=(120>r?120:480>r?480:1080>r?1080:1920>r?1920:3e3>r?3e3:4320>r?4320:1960*Nd(r/1960))-r,10<r){e.timeoutHandle=_i(Nt.bind(null,e,pe,He),r);break}Nt(e,pe,He);break;case 5:Nt(e,pe,He);break;default:throw Error(S(329))}}}return ge(e,X()),e.callbackNode===n?nc.bind(null,e):null}function Qi(e,t){var n=Fn;return e.current.memoizedState.isDehydrated&&(Lt(e,t).flags|=256),e=ul(e,t),e!==2&&(t=pe,pe=n,t!==null&&Ki(t)),e}function Ki(e){pe===null?pe=e:pe.push.apply(pe,e)}function Pd(e){for(var t=e;;){if(t.flags&16384){var n=t.updateQueue;if(n!==null&&(n=n.stores,n!==null))for(var r=0;r<n.length;r++){var l=n[r],i=l.getSnapshot;l=l.value;try{if(!Ue(i(),l))return!1}catch{return!1}}}if(n=t.child,t.subtreeFlags&16384&&n!==null)n.return=t,t=n;else{if(t===e)break;for(;t.sibling===null;){if(t.return===null||t.return===e)return!0;t=t.return}t.sibling.return=t.return,t=t.sibling}}return!0}function ut(e,t){for(t&=~Du,t&=~yl,e.suspendedLanes|=t,e.pingedLanes&=~t,e=e.expirationTimes;0<t;){var n=31-Fe(t),r=1<<n;e[n]=-1,t&=~r}}function Xo(e){if(M&6)throw Error(S(327));rn();var t=Vr(e,0);if(!(t&1))return ge(e,X()),null;var n=ul(e,t);if(e.tag!==0&&n===2){var r=gi(e);r!==0&&(t=r,n=Qi(e,r))}if(n===1)throw n=er,Lt(e,0),ut(e,t),ge(e,X()),n;if(n===6)throw Error(S(345));return e.finishedWork=e.current.alternate,e.finishedLanes=t,Nt(e,pe,He),ge(e,X()),null}function Mu(e,t){var n=M;M|=1;try{return e(t)}finally{M=n,M===0&&(fn=X()+500,hl&&kt())}}function Ft(e){st!==null&&st.tag===0&&!(M&6)&&rn();var t=M;M|=1;var n=Pe.transition,r=I;try{if(Pe.transition=null,I=1,e)return e()}finally{I=r,Pe.transition=n,M=t,!(M&6)&&kt()}}function Fu(){ye=Jt.current,B(Jt)}function Lt(e,t){e.finishedWork=null,e.finishedLanes=0;var n=e.timeoutHandle;if(n!==-1&&(e.timeoutHandle=-1,rd(n)),G!==null)for(n=G.return;n!==null;){var r=n;switch(vu(r),r.tag){case 1:r=r.type.childContextTypes,r!=null&&Yr();break;case 3:an(),B(me),B(oe),_u();break;case 5:Cu(r);break;case 4:an();break;case 13:B(H);break;case 19:B(H);break;case 10:Su(r.type._context);break;case 22:case 23:Fu()}n=n.return}if(b=e,G=e=vt(e.current,null),te=ye=t,J=0,er=null,Du=yl=Mt=0,pe=Fn=null,jt!==null){for(t=0;t<jt.length;t++)if(n=jt[t],r=n.interleaved,r!==null){n.interleaved=null;var l=r.next,i=n.pending;if(i!==null){var u=i.next;i.next=l,r.next=u}n.pending=r}jt=null}return e}function rc(e,t){do{var n=G;try{if(wu(),Rr.current=nl,tl){for(var r=Q.memoizedState;r!==null;){var l=r.queue;l!==null&&(l.pending=null),r=r.next}tl=!1}if(Ot=0,q=Z=Q=null,On=!1,Jn=0,Ru.current=null,n===null||n.return===null){J=1,er=t,G=null;break}e:{var i=e,u=n.return,o=n,s=t;if(t=te,o.flags|=32768,s!==null&&typeof s=="object"&&typeof s.then=="function"){var c=s,g=o,h=g.tag;if(!(g.mode&1)&&(h===0||h===11||h===15)){var m=g.alternate;m?(g.updateQueue=m.updateQueue,g.memoizedState=m.memoizedState,g.lanes=m.lanes):(g.updateQueue=null,g.memoizedState=null)}var w=Mo(u);if(w!==null){w.flags&=-257,Fo(w,u,o,i,t),w.mode&1&&Oo(i,c,t),t=w,s=c;var E=t.updateQueue;if(E===null){var x=new Set;x.add(s),t.updateQueue=x}else E.add(s);break e}else{if(!(t&1)){Oo(i,c,t),Iu();break e}s=Error(S(426))}}else if(W&&o.mode&1){var U=Mo(u);if(U!==null){!(U.flags&65536)&&(U.flags|=256),Fo(U,u,o,i,t),gu(cn(s,o));break e}}i=s=cn(s,o),J!==4&&(J=2),Fn===null?Fn=[i]:Fn.push(i),i=u;do{switch(i.tag){case 3:i.flags|=65536,t&=-t,i.lanes|=t;var f=Aa(i,s,t);jo(i,f);break e;case 1:o=s;var a=i.type,d=i.stateNode;if(!(i.flags&128)&&(typeof a.getDerivedStateFromError=="function"||d!==null&&typeof d.componentDidCatch=="function"&&(ht===null||!ht.has(d)))){i.flags|=65536,t&=-t,i.lanes|=t;var y=Ba(i,o,t);jo(i,y);break e}}i=i.return}while(i!==null)}uc(n)}catch(C){t=C,G===n&&n!==null&&(G=n=n.return);continue}break}while(!0)}function lc(){var e=rl.current;return rl.current=nl,e===null?nl:e}function Iu(){(J===0||J===3||J===2)&&(J=4),b===null||!(Mt&268435455)&&!(yl&268435455)||ut(b,te)}function ul(e,t){var n=M;M|=2;var r=lc();(b!==e||te!==t)&&(He=null,Lt(e,t));do try{jd();break}catch(l){rc(e,l)}while(!0);if(wu(),M=n,rl.current=r,G!==null)throw Error(S(261));return b=null,te=0,J}function jd(){for(;G!==null;)ic(G)}function zd(){for(;G!==null&&!bc();)ic(G)}function ic(e){var t=sc(e.alternate,e,ye);e.memoizedProps=e.pendingProps,t===null?uc(e):G=t,Ru.current=null}function uc(e){var t=e;do{var n=t.alternate;if(e=t.return,t.flags&32768){if(n=xd(n,t),n!==null){n.flags&=32767,G=n;return}if(e!==null)e.flags|=32768,e.subtreeFlags=0,e.deletions=null;else{J=6,G=null;return}}else if(n=kd(n,t,ye),n!==null){G=n;return}if(t=t.sibling,t!==null){G=t;return}G=t=e}while(t!==null);J===0&&(J=5)}function Nt(e,t,n){var r=I,l=Pe.transition;try{Pe.transition=null,I=1,Ld(e,t,n,r)}finally{Pe.transition=l,I=r}return null}function Ld(e,t,n,r){do rn();while(st!==null);if(M&6)throw Error(S(327));n=e.finishedWork;var l=e.finishedLanes;if(n===null)return null;if(e.finishedWork=null,e.finishedLanes=0,n===e.current)throw Error(S(177));e.callbackNode=null,e.callbackPriority=0;var i=n.lanes|n.childLanes;if(cf(e,i),e===b&&(G=b=null,te=0),!(n.subtreeFlags&2064)&&!(n.flags&2064)||Er||(Er=!0,ac(Br,function(){return rn(),null})),i=(n.flags&15990)!==0,n.subtreeFlags&15990||i){i=Pe.transition,Pe.transition=null;var u=I;I=1;var o=M;M|=4,Ru.current=null,Cd(e,n),ec(n,e),Zf(Ei),Wr=!!xi,Ei=xi=null,e.current=n,_d(n),ef(),M=o,I=u,Pe.transition=i}else e.current=n;if(Er&&(Er=!1,st=e,il=l),i=e.pendingLanes,i===0&&(ht=null),rf(n.stateNode),ge(e,X()),t!==null)for(r=e.onRecoverableError,n=0;n<t.length;n++)l=t[n],r(l.value,{componentStack:l.stack,digest:l.digest});if(ll)throw ll=!1,e=Wi,Wi=null,e;return il&1&&e.tag!==0&&rn(),i=e.pendingLanes,i&1?e===Hi?In++:(In=0,Hi=e):In=0,kt(),null}function rn(){if(st!==null){var e=As(il),t=Pe.transition,n=I;try{if(Pe.transition=null,I=16>e?16:e,st===null)var r=!1;else{if(e=st,st=null,il=0,M&6)throw Error(S(331));var l=M;for(M|=4,_=e.current;_!==null;){var i=_,u=i.child;if(_.flags&16){var o=i.deletions;if(o!==null){for(var s=0;s<o.length;s++){var c=o[s];for(_=c;_!==null;){var g=_;switch(g.tag){case 0:case 11:case 15:Mn(8,g,i)}var h=g.child;if(h!==null)h.return=g,_=h;else for(;_!==null;){g=_;var m=g.sibling,w=g.return;if(Ja(g),g===c){_=null;break}if(m!==null){m.return=w,_=m;break}_=w}}}var E=i.alternate;if(E!==null){var x=E.child;if(x!==null){E.child=null;do{var U=x.sibling;x.sibling=null,x=U}while(x!==null)}}_=i}}if(i.subtreeFlags&2064&&u!==null)u.return=i,_=u;else e:for(;_!==null;){if(i=_,i.flags&2048)switch(i.tag){case 0:case 11:case 15:Mn(9,i,i.return)}var f=i.sibling;if(f!==null){f.return=i.return,_=f;break e}_=i.return}}var a=e.current;for(_=a;_!==null;){u=_;var d=u.child;if(u.subtreeFlags&2064&&d!==null)d.return=u,_=d;else e:for(u=a;_!==null;){if(o=_,o.flags&2048)try{switch(o.tag){case 0:case 11:case 15:gl(9,o)}}catch(C){Y(o,o.return,C)}if(o===u){_=null;break e}var y=o.sibling;if(y!==null){y.return=o.return,_=y;break e}_=o.return}}if(M=l,kt(),Ve&&typeof Ve.onPostCommitFiberRoot=="function")try{Ve.onPostCommitFiberRoot(al,e)}catch{}r=!0}return r}finally{I=n,Pe.transition=t}}return!1}function Go(e,t,n){t=cn(n,t),t=Aa(e,t,1),e=pt(e,t,1),t=ae(),e!==null&&(nr(e,1,t),ge(e,t))}function Y(e,t,n){if(e.tag===3)Go(e,e,n);else for(;t!==null;){if(t.tag===3){Go(t,e,n);break}else if(t.tag===1){var r=t.stateNode;if(typeof t.type.getDerivedStateFromError=="function"||typeof r.componentDidCatch=="function"&&(ht===null||!ht.has(r))){e=cn(n,e),e=Ba(t,e,1),t=pt(t,e,1),e=ae(),t!==null&&(nr(t,1,e),ge(t,e));break}}t=t.return}}function Td(e,t,n){var r=e.pingCache;r!==null&&r.delete(t),t=ae(),e.pingedLanes|=e.suspendedLanes&n,b===e&&(te&n)===n&&(J===4||J===3&&(te&130023424)===te&&500>X()-Ou?Lt(e,0):Du|=n),ge(e,t)}function oc(e,t){t===0&&(e.mode&1?(t=pr,pr<<=1,!(pr&130023424)&&(pr=4194304)):t=1);var n=ae();e=Je(e,t),e!==null&&(nr(e,t,n),ge(e,n))}function Rd(e){var t=e.memoizedState,n=0;t!==null&&(n=t.retryLane),oc(e,n)}function Dd(e,t){var n=0;switch(e.tag){case 13:var r=e.stateNode,l=e.memoizedState;l!==null&&(n=l.retryLane);break;case 19:r=e.stateNode;break;default:throw Error(S(314))}r!==null&&r.delete(t),oc(e,n)}var sc;sc=function(e,t,n){if(e!==null)if(e.memoizedProps!==t.pendingProps||me.current)he=!0;else{if(!(e.lanes&n)&&!(t.flags&128))return he=!1,Sd(e,t,n);he=!!(e.flags&131072)}else he=!1,W&&t.flags&1048576&&da(t,Zr,t.index);switch(t.lanes=0,t.tag){case 2:var r=t.type;Or(e,t),e=t.pendingProps;var l=un(t,oe.current);nn(t,n),l=Pu(null,t,r,e,l,n);var i=ju();return t.flags|=1,typeof l=="object"&&l!==null&&typeof l.render=="function"&&l.$$typeof===void 0?(t.tag=1,t.memoizedState=null,t.updateQueue=null,ve(r)?(i=!0,Xr(t)):i=!1,t.memoizedState=l.state!==null&&l.state!==void 0?l.state:null,xu(t),l.updater=vl,t.stateNode=l,l._reactInternals=t,Ri(t,r,e,n),t=Mi(null,t,r,!0,i,n)):(t.tag=0,W&&i&&mu(t),se(null,t,l,n),t=t.child),t;case 16:r=t.elementType;e:{switch(Or(e,t),e=t.pendingProps,l=r._init,r=l(r._payload),t.type=r,l=t.tag=Md(r),e=Re(r,e),l){case 0:t=Oi(null,t,r,e,n);break e;case 1:t=$o(null,t,r,e,n);break e;case 11:t=Io(null,t,r,e,n);break e;case 14:t=Uo(null,t,r,Re(r.type,e),n);break e}throw Error(S(306,r,""))}return t;case 0:return r=t.type,l=t.pendingProps,l=t.elementType===r?l:Re(r,l),Oi(e,t,r,l,n);case 1:return r=t.type,l=t.pendingProps,l=t.elementType===r?l:Re(r,l),$o(e,t,r,l,n);case 3:e:{if(Qa(t),e===null)throw Error(S(387));r=t.pendingProps,i=t.memoizedState,l=i.element,ya(e,t),br(t,r,null,n);var u=t.memoizedState;if(r=u.element,i.isDehydrated)if(i={element:r,isDehydrated:!1,cache:u.cache,pendingSuspenseBoundaries:u.pendingSuspenseBoundaries,transitions:u.transitions},t.updateQueue.baseState=i,t.memoizedState=i,t.flags&256){l=cn(Error(S(423)),t),t=Ao(e,t,r,n,l);break e}else if(r!==l){l=cn(Error(S(424)),t),t=Ao(e,t,r,n,l);break e}else for(we=dt(t.stateNode.containerInfo.firstChild),Se=t,W=!0,Me=null,n=va(t,null,r,n),t.child=n;n;)n.flags=n.flags&-3|4096,n=n.sibling;else{if(on(),r===l){t=qe(e,t,n);break e}se(e,t,r,n)}t=t.child}return t;case 5:return wa(t),e===null&&zi(t),r=t.type,l=t.pendingProps,i=e!==null?e.memoizedProps:null,u=l.children,Ci(r,l)?u=null:i!==null&&Ci(r,i)&&(t.flags|=32),Ha(e,t),se(e,t,u,n),t.child;case 6:return e===null&&zi(t),null;case 13:return Ka(e,t,n);case 4:return Eu(t,t.stateNode.containerInfo),r=t.pendingProps,e===null?t.child=sn(t,null,r,n):se(e,t,r,n),t.child;case 11:return r=t.type,l=t.pendingProps,l=t.elementType===r?l:Re(r,l),Io(e,t,r,l,n);case 7:return se(e,t,t.pendingProps,n),t.child;case 8:return se(e,t,t.pendingProps.children,n),t.child;case 12:return se(e,t,t.pendingProps.children,n),t.child;case 10:e:{if(r=t.type._context,l=t.pendingProps,i=t.memoizedProps,u=l.value,$(Jr,r._currentValue),r._currentValue=u,i!==null)if(Ue(i.value,u)){if(i.children===l.children&&!me.current){t=qe(e,t,n);break e}}else for(i=t.child,i!==null&&(i.return=t);i!==null;){var o=i.dependencies;if(o!==null){u=i.child;for(var s=o.firstContext;s!==null;){if(s.context===r){if(i.tag===1){s=Xe(-1,n&-n),s.tag=2;var c=i.updateQueue;if(c!==null){c=c.shared;var g=c.pending;g===null?s.next=s:(s.next=g.next,g.next=s),c.pending=s}}i.lanes|=n,s=i.alternate,s!==null&&(s.lanes|=n),Li(i.return,n,t),o.lanes|=n;break}s=s.next}}else if(i.tag===10)u=i.type===t.type?null:i.child;else if(i.tag===18){if(u=i.return,u===null)throw Error(S(341));u.lanes|=n,o=u.alternate,o!==null&&(o.lanes|=n),Li(u,n,t),u=i.sibling}else u=i.child;if(u!==null)u.return=i;else for(u=i;u!==null;){if(u===t){u=null;break}if(i=u.sibling,i!==null){i.return=u.return,u=i;break}u=u.return}i=u}se(e,t,l.children,n),t=t.child}return t;case 9:return l=t.type,r=t.pendingProps.children,nn(t,n),l=je(l),r=r(l),t.flags|=1,se(e,t,r,n),t.child;case 14:return r=t.type,l=Re(r,t.pendingProps),l=Re(r.type,l),Uo(e,t,r,l,n);case 15:return Va(e,t,t.type,t.pendingProps,n);case 17:return r=t.type,l=t.pendingProps,l=t.elementType===r?l:Re(r,l),Or(e,t),t.tag=1,ve(r)?(e=!0,Xr(t)):e=!1,nn(t,n),$a(t,r,l),Ri(t,r,l,n),Mi(null,t,r,!0,e,n);case 19:return Ya(e,t,n);case 22:return Wa(e,t,n)}throw Error(S(156,t.tag))};function ac(e,t){return Fs(e,t)}function Od(e,t,n,r){this.tag=e,this.key=n,this.sibling=this.child=this.return=this.stateNode=this.type=this.elementType=null,this.index=0,this.ref=null,this.pendingProps=t,this.dependencies=this.memoizedState=this.updateQueue=this.memoizedProps=null,this.mode=r,this.subtreeFlags=this.flags=0,this.deletions=null,this.childLanes=this.lanes=0,this.alternate=null}function Ne(e,t,n,r){return new Od(e,t,n,r)}function Uu(e){return e=e.prototype,!(!e||!e.isReactComponent)}function Md(e){if(typeof e=="function")return Uu(e)?1:0;if(e!=null){if(e=e.$$typeof,e===ru)return 11;if(e===lu)return 14}return 2}function vt(e,t){var n=e.alternate;return n===null?(n=Ne(e.tag,t,e.key,e.mode),n.elementType=e.elementType,n.type=e.type,n.stateNode=e.stateNode,n.alternate=e,e.alternate=n):(n.pendingProps=t,n.type=e.type,n.flags=0,n.subtreeFlags=0,n.deletions=null),n.flags=e.flags&14680064,n.childLanes=e.childLanes,n.lanes=e.lanes,n.child=e.child,n.memoizedProps=e.memoizedProps,n.memoizedState=e.memoizedState,n.updateQueue=e.updateQueue,t=e.dependencies,n.dependencies=t===null?null:{lanes:t.lanes,firstContext:t.firstContext},n.sibling=e.sibling,n.index=e.index,n.ref=e.ref,n}function Ir(e,t,n,r,l,i){var u=2;if(r=e,typeof e=="function")Uu(e)&&(u=1);else if(typeof e=="string")u=5;else e:switch(e){case Bt:return Tt(n.children,l,i,t);case nu:u=8,l|=8;break;case ni:return e=Ne(12,n,t,l|2),e.elementType=ni,e.lanes=i,e;case ri:return e=Ne(13,n,t,l),e.elementType=ri,e.lanes=i,e;case li:return e=Ne(19,n,t,l),e.elementType=li,e.lanes=i,e;case ws:return wl(n,l,i,t);default:if(typeof e=="object"&&e!==null)switch(e.$$typeof){case gs:u=10;break e;case ys:u=9;break e;case ru:u=11;break e;case lu:u=14;break e;case rt:u=16,r=null;break e}throw Error(S(130,e==null?e:typeof e,""))}return t=Ne(u,n,t,l),t.elementType=e,t.type=r,t.lanes=i,t}function Tt(e,t,n,r){return e=Ne(7,e,r,t),e.lanes=n,e}function wl(e,t,n,r){return e=Ne(22,e,r,t),e.elementType=ws,e.lanes=n,e.stateNode={isHidden:!1},e}function Zl(e,t,n){return e=Ne(6,e,null,t),e.lanes=n,e}function Jl(e,t,n){return t=Ne(4,e.children!==null?e.children:[],e.key,t),t.lanes=n,t.stateNode={containerInfo:e.containerInfo,pendingChildren:null,implementation:e.implementation},t}function Fd(e,t,n,r,l){this.tag=t,this.containerInfo=e,this.finishedWork=this.pingCache=this.current=this.pendingChildren=null,this.timeoutHandle=-1,this.callbackNode=this.pendingContext=this.context=null,this.callbackPriority=0,this.eventTimes=Tl(0),this.expirationTimes=Tl(-1),this.entangledLanes=this.finishedLanes=this.mutableReadLanes=this.expiredLanes=this.pingedLanes=this.suspendedLanes=this.pendingLanes=0,this.entanglements=Tl(0),this.identifierPrefix=r,this.onRecoverableError=l,this.mutableSourceEagerHydrationData=null}function $u(e,t,n,r,l,i,u,o,s){return e=new Fd(e,t,n,o,s),t===1?(t=1,i===!0&&(t|=8)):t=0,i=Ne(3,null,null,t),e.current=i,i.stateNode=e,i.memoizedState={element:r,isDehydrated:n,cache:null,transitions:null,pendingSuspenseBoundaries:null},xu(i),e}function Id(e,t,n){var r=3<arguments.length&&arguments[3]!==void 0?arguments[3]:null;return{$$typeof:At,key:r==null?null:""+r,children:e,containerInfo:t,implementation:n}}function cc(e){if(!e)return yt;e=e._reactInternals;e:{if(Ut(e)!==e||e.tag!==1)throw Error(S(170));var t=e;do{switch(t.tag){case 3:t=t.stateNode.context;break e;case 1:if(ve(t.type)){t=t.stateNode.__reactInternalMemoizedMergedChildContext;break e}}t=t.return}while(t!==null);throw Error(S(171))}if(e.tag===1){var n=e.type;if(ve(n))return ca(e,n,t)}return t}function fc(e,t,n,r,l,i,u,o,s){return e=$u(n,r,!0,e,l,i,u,o,s),e.context=cc(null),n=e.current,r=ae(),l=mt(n),i=Xe(r,l),i.callback=t??null,pt(n,i,l),e.current.lanes=l,nr(e,l,r),ge(e,r),e}function Sl(e,t,n,r){var l=t.current,i=ae(),u=mt(l);return n=cc(n),t.context===null?t.context=n:t.pendingContext=n,t=Xe(i,u),t.payload={element:e},r=r===void 0?null:r,r!==null&&(t.callback=r),e=pt(l,t,u),e!==null&&(Ie(e,l,u,i),Tr(e,l,u)),u}function ol(e){if(e=e.current,!e.child)return null;switch(e.child.tag){case 5:return e.child.stateNode;default:return e.child.stateNode}}function Zo(e,t){if(e=e.memoizedState,e!==null&&e.dehydrated!==null){var n=e.retryLane;e.retryLane=n!==0&&n<t?n:t}}function Au(e,t){Zo(e,t),(e=e.alternate)&&Zo(e,t)}function Ud(){return null}var dc=typeof reportError=="function"?reportError:function(e){console.error(e)};function Bu(e){this._internalRoot=e}kl.prototype.render=Bu.prototype.render=function(e){var t=this._internalRoot;if(t===null)throw Error(S(409));Sl(e,t,null,null)};kl.prototype.unmount=Bu.prototype.unmount=function(){var e=this._internalRoot;if(e!==null){this._internalRoot=null;var t=e.containerInfo;Ft(function(){Sl(null,e,null,null)}),t[Ze]=null}};function kl(e){this._internalRoot=e}kl.prototype.unstable_scheduleHydration=function(e){if(e){var t=Ws();e={blockedOn:null,target:e,priority:t};for(var n=0;n<it.length&&t!==0&&t<it[n].priority;n++);it.splice(n,0,e),n===0&&Qs(e)}};function Vu(e){return!(!e||e.nodeType!==1&&e.nodeType!==9&&e.nodeType!==11)}function xl(e){return!(!e||e.nodeType!==1&&e.nodeType!==9&&e.nodeType!==11&&(e.nodeType!==8||e.nodeValue!==" react-mount-point-unstable "))}function Jo(){}function $d(e,t,n,r,l){if(l){if(typeof r=="function"){var i=r;r=function(){var c=ol(u);i.call(c)}}var u=fc(t,r,e,0,null,!1,!1,"",Jo);return e._reactRootContainer=u,e[Ze]=u.current,Kn(e.nodeType===8?e.parentNode:e),Ft(),u}for(;l=e.lastChild;)e.removeChild(l);if(typeof r=="function"){var o=r;r=function(){var c=ol(s);o.call(c)}}var s=$u(e,0,!1,null,null,!1,!1,"",Jo);return e._reactRootContainer=s,e[Ze]=s.current,Kn(e.nodeType===8?e.parentNode:e),Ft(function(){Sl(t,s,n,r)}),s}function El(e,t,n,r,l){var i=n._reactRootContainer;if(i){var u=i;if(typeof l=="function"){var o=l;l=function(){var s=ol(u);o.call(s)}}Sl(t,u,e,l)}else u=$d(n,t,e,l,r);return ol(u)}Bs=function(e){switch(e.tag){case 3:var t=e.stateNode;if(t.current.memoizedState.isDehydrated){var n=Pn(t.pendingLanes);n!==0&&(ou(t,n|1),ge(t,X()),!(M&6)&&(fn=X()+500,kt()))}break;case 13:Ft(function(){var r=Je(e,1);if(r!==null){var l=ae();Ie(r,e,1,l)}}),Au(e,1)}};su=function(e){if(e.tag===13){var t=Je(e,134217728);if(t!==null){var n=ae();Ie(t,e,134217728,n)}Au(e,134217728)}};Vs=function(e){if(e.tag===13){var t=mt(e),n=Je(e,t);if(n!==null){var r=ae();Ie(n,e,t,r)}Au(e,t)}};Ws=function(){return I};Hs=function(e,t){var n=I;try{return I=e,t()}finally{I=n}};hi=function(e,t,n){switch(t){case"input":if(oi(e,n),t=n.name,n.type==="radio"&&t!=null){for(n=e;n.parentNode;)n=n.parentNode;for(n=n.querySelectorAll("input[name="+JSON.stringify(""+t)+'][type="radio"]'),t=0;t<n.length;t++){var r=n[t];if(r!==e&&r.form===e.form){var l=pl(r);if(!l)throw Error(S(90));ks(r),oi(r,l)}}}break;case"textarea":Es(e,n);break;case"select":t=n.value,t!=null&&qt(e,!!n.multiple,t,!1)}};Ls=Mu;Ts=Ft;var Ad={usingClientEntryPoint:!1,Events:[lr,Qt,pl,js,zs,Mu]},En={findFiberByHostInstance:Pt,bundleType:0,version:"18.3.1",rendererPackageName:"react-dom"},Bd={bundleType:En.bundleType,version:En.version,rendererPackageName:En.rendererPackageName,rendererConfig:En.rendererConfig,overrideHookState:null,overrideHookStateDeletePath:null,overrideHookStateRenamePath:null,overrideProps:null,overridePropsDeletePath:null,overridePropsRenamePath:null,setErrorHandler:null,setSuspenseHandler:null,scheduleUpdate:null,currentDispatcherRef:be.ReactCurrentDispatcher,findHostInstanceByFiber:function(e){return e=Os(e),e===null?null:e.stateNode},findFiberByHostInstance:En.findFiberByHostInstance||Ud,findHostInstancesForRefresh:null,scheduleRefresh:null,scheduleRoot:null,setRefreshHandler:null,getCurrentFiber:null,reconcilerVersion:"18.3.1-next-f1338f8080-20240426"};if(typeof __REACT_DEVTOOLS_GLOBAL_HOOK__<"u"){var Cr=__REACT_DEVTOOLS_GLOBAL_HOOK__;if(!Cr.isDisabled&&Cr.supportsFiber)try{al=Cr.inject(Bd),Ve=Cr}catch{}}xe.__SECRET_INTERNALS_DO_NOT_USE_OR_YOU_WILL_BE_FIRED=Ad;xe.createPortal=function(e,t){var n=2<arguments.length&&arguments[2]!==void 0?arguments[2]:null;if(!Vu(t))throw Error(S(200));return Id(e,t,null,n)};xe.createRoot=function(e,t){if(!Vu(e))throw Error(S(299));var n=!1,r="",l=dc;return t!=null&&(t.unstable_strictMode===!0&&(n=!0),t.identifierPrefix!==void 0&&(r=t.identifierPrefix),t.onRecoverableError!==void 0&&(l=t.onRecoverableError)),t=$u(e,1,!1,null,null,n,!1,r,l),e[Ze]=t.current,Kn(e.nodeType===8?e.parentNode:e),new Bu(t)};xe.findDOMNode=function(e){if(e==null)return null;if(e.nodeType===1)return e;var t=e._reactInternals;if(t===void 0)throw typeof e.render=="function"?Error(S(188)):(e=Object.keys(e).join(","),Error(S(268,e)));return e=Os(t),e=e===null?null:e.stateNode,e};xe.flushSync=function(e){return Ft(e)};xe.hydrate=function(e,t,n){if(!xl(t))throw Error(S(200));return El(null,e,t,!0,n)};xe.hydrateRoot=function(e,t,n){if(!Vu(e))throw Error(S(405));var r=n!=null&&n.hydratedSources||null,l=!1,i="",u=dc;if(n!=null&&(n.unstable_strictMode===!0&&(l=!0),n.identifierPrefix!==void 0&&(i=n.identifierPrefix),n.onRecoverableError!==void 0&&(u=n.onRecoverableError)),t=fc(t,null,e,1,n??null,l,!1,i,u),e[Ze]=t.current,Kn(e),r)for(e=0;e<r.length;e++)n=r[e],l=n._getVersion,l=l(n._source),t.mutableSourceEagerHydrationData==null?t.mutableSourceEagerHydrationData=[n,l]:t.mutableSourceEagerHydrationData.push(n,l);return new kl(t)};xe.render=function(e,t,n){if(!xl(t))throw Error(S(200));return El(null,e,t,!1,n)};xe.unmountComponentAtNode=function(e){if(!xl(e))throw Error(S(40));return e._reactRootContainer?(Ft(function(){El(null,null,e,!1,function(){e._reactRootContainer=null,e[Ze]=null})}),!0):!1};xe.unstable_batchedUpdates=Mu;xe.unstable_renderSubtreeIntoContainer=function(e,t,n,r){if(!xl(n))throw Error(S(200));if(e==null||e._reactInternals===void 0)throw Error(S(38));return El(e,t,n,!1,r)};xe.version="18.3.1-next-f1338f8080-20240426";function pc(){if(!(typeof __REACT_DEVTOOLS_GLOBAL_HOOK__>"u"||typeof __REACT_DEVTOOLS_GLOBAL_HOOK__.checkDCE!="function"))try{__REACT_DEVTOOLS_GLOBAL_HOOK__.checkDCE(pc)}catch(e){console.error(e)}}pc(),ps.exports=xe;var Vd=ps.exports,hc,qo=Vd;hc=qo.createRoot,qo.hydrateRoot;const Yi=e=>e.length?e.reduce((t,n)=>t+n,0)/e.length:NaN,Ct=e=>e.overallRating??Yi(Object.values(e.categoryRatings??{})),bo=e=>e?new Date(e).toLocaleDateString():"",ql=e=>Array.from(new Set(e.filter(Boolean))),_r=e=>e?new Date(e.getTime()-e.getTimezoneOffset()*6e4).toISOString().slice(0,10):"",Wd=e=>{const t=new Date(e);return t.setHours(0,0,0,0),t},Hd=e=>{const t=new Date(e);return t.setHours(23,59,59,999),t};function Qd(e,t=250){const[n,r]=O.useState(e);return O.useEffect(()=>{const l=setTimeout(()=>r(e),t);return()=>clearTimeout(l)},[e,t]),n}async function es(e){if(!e.ok)throw new Error(`${e.status} ${e.statusText}`);const t=await e.text();if(!t)return null;try{return JSON.parse(t)}catch{return null}}function Kd(){const e=new URLSearchParams(window.location.search),[t,n]=O.useState(e.get("q")??""),[r,l]=O.useState(e.get("channel")??"all"),[i,u]=O.useState(e.get("listing")??"all"),[o,s]=O.useState(Number(e.get("ratingMin")??"0")),[c,g]=O.useState(Number(e.get("ratingMax")??"10")),[h,m]=O.useState(e.get("from")?new Date(e.get("from")):null),[w,E]=O.useState(e.get("to")?new Date(e.get("to")):null),[x,U]=O.useState(e.get("sort")??"submittedAt"),[f,a]=O.useState(e.get("dir")??"desc"),[d,y]=O.useState(e.get("selected")==="1"),[C,j]=O.useState(!0),[N,z]=O.useState([]),[V,L]=O.useState(new Set),[de,et]=O.useState(null),tt=Qd(t,250);O.useEffect(()=>{const p=new URLSearchParams(window.location.search),k=(D,T)=>{!T||T==="all"||T===""?p.delete(D):p.set(D,T)};k("q",tt),k("channel",r),k("listing",i),k("ratingMin",String(o)),k("ratingMax",String(c)),k("from",h?_r(h):null),k("to",w?_r(w):null),k("sort",x),k("dir",f),k("selected",d?"1":null);const P=`${window.location.pathname}?${p.toString()}`;window.history.replaceState({},"",P)},[tt,r,i,o,c,h,w,x,f,d]),O.useEffect(()=>{let p=!1;return(async()=>{j(!0),et(null);try{const k=await fetch("/api/reviews/combined?limit=500&offset=0"),P=await es(k)??{source:"combined",count:0,reviews:[]};z(P.reviews??[]);const D=await fetch("/api/manager/reviews/selected");if(D.ok){const T=await es(D)??[];p||L(new Set(T.map(re=>re.id)))}}catch(k){p||et((k==null?void 0:k.message)??"Failed to load reviews.")}finally{p||j(!1)}})(),()=>{p=!0}},[]);const ur=O.useMemo(()=>ql(N.map(p=>p.listingName)),[N]),Cl=O.useMemo(()=>ql(N.map(p=>p.channel)),[N]),Le=O.useMemo(()=>{let p=[...N];if(d&&(p=p.filter(k=>V.has(k.id))),t){const k=t.toLowerCase();p=p.filter(P=>(P.text??"").toLowerCase().includes(k)||(P.guestName??"").toLowerCase().includes(k)||(P.listingName??"").toLowerCase().includes(k))}return r!=="all"&&(p=p.filter(k=>k.channel===r)),i!=="all"&&(p=p.filter(k=>k.listingName===i)),p=p.filter(k=>{const P=Ct(k);return Number.isFinite(P)?P>=o&&P<=c:!0}),h&&(p=p.filter(k=>k.submittedAt&&new Date(k.submittedAt)>=Wd(h))),w&&(p=p.filter(k=>k.submittedAt&&new Date(k.submittedAt)<=Hd(w))),p.sort((k,P)=>{const D=x==="overallRating"?Ct(k):k[x],T=x==="overallRating"?Ct(P):P[x];let re;return x==="submittedAt"?re=new Date(D??0).getTime()-new Date(T??0).getTime():typeof D=="number"&&typeof T=="number"?re=D-T:re=String(D??"").localeCompare(String(T??""),void 0,{numeric:!0}),f==="asc"?re:-re}),p},[N,V,d,t,r,i,o,c,h,w,x,f]),mn=O.useMemo(()=>{const p=new Map;for(const k of Le){const P=k.listingName??"(Unknown)",D=Ct(k),T=p.get(P)??{count:0,ratings:[],last:null};T.count++,Number.isFinite(D)&&T.ratings.push(D);const re=k.submittedAt?new Date(k.submittedAt):null;re&&(!T.last||re>T.last)&&(T.last=re),p.set(P,T)}return Array.from(p.entries()).map(([k,P])=>({listingName:k,reviews:P.count,avgRating:P.ratings.length?Yi(P.ratings):NaN,lastReview:P.last}))},[Le]);return v.jsxs("div",{style:F.page,children:[v.jsxs("div",{style:F.header,children:[v.jsx("h1",{style:{margin:0},children:"Manager Dashboard"}),v.jsx("button",{style:F.button,onClick:()=>window.location.reload(),children:"Refresh"})]}),v.jsx("div",{style:F.card,children:v.jsxs("div",{style:F.filters,children:[v.jsxs("div",{children:[v.jsx("label",{style:F.label,children:"Search"}),v.jsx("input",{style:F.input,placeholder:"Search text, guest, listing",value:t,onChange:p=>n(p.target.value)})]}),v.jsxs("div",{children:[v.jsx("label",{style:F.label,children:"Channel"}),v.jsxs("select",{style:F.select,value:r,onChange:p=>l(p.target.value),children:[v.jsx("option",{value:"all",children:"All"}),Cl.map(p=>v.jsx("option",{value:p,children:p},p))]})]}),v.jsxs("div",{children:[v.jsx("label",{style:F.label,children:"Listing"}),v.jsxs("select",{style:F.select,value:i,onChange:p=>u(p.target.value),children:[v.jsx("option",{value:"all",children:"All"}),ur.map(p=>v.jsx("option",{value:p,children:p},p))]})]}),v.jsxs("div",{children:[v.jsx("label",{style:F.label,children:"Rating min"}),v.jsx("input",{type:"number",min:0,max:10,step:1,style:F.input,value:o,onChange:p=>s(Number(p.target.value))})]}),v.jsxs("div",{children:[v.jsx("label",{style:F.label,children:"Rating max"}),v.jsx("input",{type:"number",min:0,max:10,step:1,style:F.input,value:c,onChange:p=>g(Number(p.target.value))})]}),v.jsxs("div",{children:[v.jsx("label",{style:F.label,children:"From"}),v.jsx("input",{type:"date",style:F.input,value:_r(h),onChange:p=>m(p.target.value?new Date(p.target.value):null)})]}),v.jsxs("div",{children:[v.jsx("label",{style:F.label,children:"To"}),v.jsx("input",{type:"date",style:F.input,value:_r(w),onChange:p=>E(p.target.value?new Date(p.target.value):null)})]}),v.jsxs("div",{children:[v.jsx("label",{style:F.label,children:"Sort by"}),v.jsxs("select",{style:F.select,value:x,onChange:p=>U(p.target.value),children:[v.jsx("option",{value:"submittedAt",children:"Date"}),v.jsx("option",{value:"overallRating",children:"Overall rating"}),v.jsx("option",{value:"listingName",children:"Listing"}),v.jsx("option",{value:"channel",children:"Channel"})]})]}),v.jsxs("div",{children:[v.jsx("label",{style:F.label,children:"Direction"}),v.jsxs("select",{style:F.select,value:f,onChange:p=>a(p.target.value),children:[v.jsx("option",{value:"desc",children:"Desc"}),v.jsx("option",{value:"asc",children:"Asc"})]})]}),v.jsxs("label",{style:{display:"flex",alignItems:"center",gap:8},children:[v.jsx("input",{type:"checkbox",checked:d,onChange:p=>y(p.target.checked)}),"Only selected"]})]})}),v.jsxs("div",{style:F.kpis,children:[v.jsx(bl,{title:"Total Reviews",value:String(Le.length)}),v.jsx(bl,{title:"Avg Rating",value:()=>{const p=Le.map(Ct).filter(k=>Number.isFinite(k));return p.length?Yi(p).toFixed(2):"–"}}),v.jsx(bl,{title:"# Listings",value:String(ql(Le.map(p=>p.listingName)).length)})]}),v.jsxs("div",{style:F.card,children:[v.jsx("div",{style:F.cardHeader,children:"Per-property performance"}),C?v.jsx("div",{children:"Loading…"}):v.jsxs("table",{style:F.table,children:[v.jsx("thead",{children:v.jsxs("tr",{children:[v.jsx("th",{children:"Listing"}),v.jsx("th",{children:"Reviews"}),v.jsx("th",{children:"Avg Rating"}),v.jsx("th",{children:"Last Review"})]})}),v.jsx("tbody",{children:mn.map(p=>{var k;return v.jsxs("tr",{onClick:()=>Xi("property",{listing:p.listingName}),style:{cursor:"pointer"},children:[v.jsx("td",{children:p.listingName}),v.jsx("td",{style:{textAlign:"right"},children:p.reviews}),v.jsx("td",{style:{textAlign:"right"},children:Number.isFinite(p.avgRating)?p.avgRating.toFixed(2):"–"}),v.jsx("td",{style:{textAlign:"right"},children:bo((k=p.lastReview)==null?void 0:k.toISOString())})]},p.listingName)})})]}),de&&v.jsx("div",{style:{padding:8,color:"#b00020"},children:de})]}),v.jsxs("div",{style:F.card,children:[v.jsx("div",{style:F.cardHeader,children:"Reviews"}),C?v.jsx("div",{children:"Loading…"}):Le.length===0?v.jsx("div",{style:{padding:12,color:"#666"},children:"No reviews match your filters."}):v.jsxs("table",{style:F.table,children:[v.jsx("thead",{children:v.jsxs("tr",{children:[v.jsx("th",{children:"Listing"}),v.jsx("th",{children:"Guest"}),v.jsx("th",{children:"Channel"}),v.jsx("th",{children:"Rating"}),v.jsx("th",{children:"Date"}),v.jsx("th",{children:"Text"})]})}),v.jsx("tbody",{children:Le.map(p=>v.jsxs("tr",{onClick:()=>p.listingName&&Xi("property",{listing:p.listingName,reviewId:p.id}),style:{cursor:"pointer"},children:[v.jsx("td",{children:p.listingName}),v.jsx("td",{children:p.guestName}),v.jsx("td",{children:p.channel}),v.jsx("td",{children:Number.isFinite(Ct(p))?Ct(p).toFixed(1):"–"}),v.jsx("td",{children:bo(p.submittedAt)}),v.jsx("td",{title:p.text??"",style:{maxWidth:520,whiteSpace:"nowrap",overflow:"hidden",textOverflow:"ellipsis"},children:p.text})]},p.id))})]})]})]})}function bl({title:e,value:t}){const n=typeof t=="function"?t():t;return v.jsxs("div",{style:F.kpiCard,children:[v.jsx("div",{style:{color:"#666",fontSize:12},children:e}),v.jsx("div",{style:{fontSize:24,fontWeight:600},children:n})]})}const F={page:{maxWidth:1120,margin:"0 auto",padding:16,fontFamily:"system-ui, sans-serif"},header:{display:"flex",alignItems:"center",justifyContent:"space-between",marginBottom:12},button:{padding:"8px 12px",border:"1px solid #ddd",borderRadius:8,background:"#fff",cursor:"pointer"},card:{background:"#fff",border:"1px solid #eee",borderRadius:12,padding:12,marginBottom:12,boxShadow:"0 1px 2px rgba(0,0,0,.04)"},cardHeader:{fontWeight:600,marginBottom:8},filters:{display:"grid",gridTemplateColumns:"repeat(5, minmax(0, 1fr))",gap:12,alignItems:"end"},label:{display:"block",color:"#666",fontSize:12,marginBottom:4},input:{width:"100%",padding:"8px 10px",border:"1px solid #ddd",borderRadius:8},select:{width:"100%",padding:"8px 10px",border:"1px solid #ddd",borderRadius:8,background:"#fff"},kpis:{display:"grid",gridTemplateColumns:"repeat(3,1fr)",gap:12,marginBottom:12},kpiCard:{background:"#fff",border:"1px solid #eee",borderRadius:12,padding:16,boxShadow:"0 1px 2px rgba(0,0,0,.04)"},table:{width:"100%",borderCollapse:"separate",borderSpacing:0}};async function ts(e){if(!e.ok)throw new Error(`${e.status} ${e.statusText}`);const t=await e.text();if(!t)return null;try{return JSON.parse(t)}catch{return null}}const mc=e=>e.length?e.reduce((t,n)=>t+n,0)/e.length:NaN,ei=e=>e.overallRating??mc(Object.values(e.categoryRatings??{})),Yd=e=>e?new Date(e).toLocaleDateString():"";function Xd({listing:e,reviewId:t}){const[n,r]=O.useState([]),[l,i]=O.useState([]),[u,o]=O.useState(!0);O.useEffect(()=>{let w=!1;return(async()=>{var E;o(!0);try{const x=await fetch("/api/manager/reviews/selected"),U=await ts(x)??[];w||r(U);const f=await fetch("/api/reviews/combined?limit=500&offset=0"),a=((E=await ts(f))==null?void 0:E.reviews)??[];i(a)}finally{w||o(!1)}})(),()=>{w=!0}},[]);const s=O.useMemo(()=>n.filter(w=>(w.listingName??"")===e),[n,e]),c=O.useMemo(()=>l.filter(E=>(E.listingName??"")===e).sort((E,x)=>new Date(x.submittedAt??0).getTime()-new Date(E.submittedAt??0).getTime())[0],[l,e]),g=O.useMemo(()=>{const E=(s.length?s:l.filter(x=>(x.listingName??"")===e)).map(ei).filter(x=>Number.isFinite(x));return E.length?mc(E).toFixed(2):"–"},[s,l,e]),h=t&&s.find(w=>w.id===t)||(s[0]??c),m=()=>{window.history.length>1?window.history.back():Xi("",{})};return v.jsxs("div",{style:De.page,children:[v.jsx("button",{onClick:m,style:De.backBtn,children:"← Back to Dashboard"}),v.jsx("h1",{style:De.title,children:e}),v.jsxs("div",{style:De.factsRow,children:[v.jsx(Cn,{label:"Guests",value:"4"}),v.jsx(Cn,{label:"Bedrooms",value:"1"}),v.jsx(Cn,{label:"Bathrooms",value:"1"}),v.jsx(Cn,{label:"Beds",value:"3"}),v.jsx(Cn,{label:"Avg Rating",value:g})]}),v.jsx("div",{style:De.centerWrap,children:h?v.jsxs("div",{style:De.sideCard,children:[v.jsx("div",{style:{fontWeight:700,marginBottom:8},children:"Highlighted Review"}),v.jsxs("div",{style:{display:"flex",justifyContent:"space-between",marginBottom:6},children:[v.jsx("div",{style:{fontWeight:600},children:h.guestName??"Guest"}),v.jsx("div",{style:De.pill,children:h.channel??"—"})]}),v.jsx("div",{style:{color:"#111",lineHeight:1.6},children:h.text}),v.jsxs("div",{style:{color:"#667085",fontSize:12,marginTop:8},children:[Number.isFinite(ei(h))?`Rating ${ei(h).toFixed(1)} · `:"",Yd(h.submittedAt)]}),!s.length&&h===c&&v.jsx("div",{style:{marginTop:8,color:"#9ca3af",fontSize:12},children:"(No approved reviews yet — showing most recent guest review)"})]}):v.jsx("div",{style:De.sideCardMuted,children:u?"Loading review…":"No reviews available for this property yet."})})]})}function Cn({label:e,value:t}){return v.jsxs("div",{style:De.fact,children:[v.jsx("div",{style:De.factValue,children:t}),v.jsx("div",{style:De.factLabel,children:e})]})}const De={page:{maxWidth:1120,margin:"0 auto",padding:"16px 16px 48px",fontFamily:"system-ui, sans-serif",background:"#faf9f6"},backBtn:{margin:"8px 0 4px",border:"1px solid #d0d5dd",background:"#fff",padding:"6px 10px",borderRadius:8,cursor:"pointer"},title:{fontSize:32,fontWeight:700,margin:"8px 0 12px"},factsRow:{display:"flex",gap:16,flexWrap:"wrap",marginBottom:16},fact:{background:"#fff",border:"1px solid #eee",borderRadius:12,padding:"10px 14px",minWidth:110,textAlign:"center"},factValue:{fontSize:18,fontWeight:700},factLabel:{fontSize:12,color:"#667085"},centerWrap:{maxWidth:560,margin:"0 auto"},sideCard:{background:"#fff",border:"1px solid #eee",borderRadius:16,padding:16,boxShadow:"0 2px 8px rgba(0,0,0,.06)"},sideCardMuted:{background:"#f8fafc",border:"1px dashed #d0d5dd",borderRadius:16,padding:16,color:"#667085"},pill:{fontSize:12,color:"#155e75",background:"#e0f2fe",border:"1px solid #bae6fd",padding:"2px 8px",borderRadius:999}};function Gd(){const[e,t]=O.useState(()=>new URLSearchParams(window.location.search));return O.useEffect(()=>{const n=()=>t(new URLSearchParams(window.location.search));return window.addEventListener("popstate",n),()=>window.removeEventListener("popstate",n)},[]),e}function Zd(){const e=Gd(),t=e.get("view"),n=e.get("listing")??"",r=e.get("reviewId")??"";return t==="property"&&n?v.jsx(Xd,{listing:n,reviewId:r}):v.jsx(Kd,{})}function Xi(e,t){const n=new URLSearchParams({view:e,...t}),r=`${window.location.pathname}?${n.toString()}`;window.history.pushState({},"",r),window.dispatchEvent(new PopStateEvent("popstate"))}hc(document.getElementById("root")).render(v.jsx(Zd,{}));
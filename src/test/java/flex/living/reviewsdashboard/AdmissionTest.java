@@ -0,0 +1,133 @@
+package flex.living.reviewsdashboard;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import flex.living.reviewsdashboard.config.AdmissionConfig;
+import flex.living.reviewsdashboard.config.ResponseCacheConfig;
+import flex.living.reviewsdashboard.service.DatasetVersion;
+import flex.living.reviewsdashboard.web.AdmissionFilter;
+import flex.living.reviewsdashboard.web.AdmissionLimiter;
+import flex.living.reviewsdashboard.web.ResponseBytesCache;
+import flex.living.reviewsdashboard.web.WireMappers;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AdmissionTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    private static AdmissionConfig.EndpointClass endpointClass(int limit, int queue, String... paths) {
+        var c = new AdmissionConfig.EndpointClass();
+        c.setPaths(List.of(paths));
+        c.setInitialLimit(limit);
+        c.setMinLimit(1);
+        c.setMaxLimit(limit);
+        c.setQueueCapacity(queue);
+        c.setMaxQueueMs(100);
+        return c;
+    }
+
+    private double shed(String reason) {
+        return registry.get("admission.shed").tag("reason", reason).counter().count();
+    }
+
+    @Test
+    void overTheLimit_waitsInLine_thenShedsWhenTheQueueIsFullOrTheWaitTooLong() throws Exception {
+        var limiter = new AdmissionLimiter("manager", endpointClass(2, 1), new AdmissionConfig(), registry);
+        var first = limiter.acquire();
+        var second = limiter.acquire();
+        assertThat(first).isNotNull();
+        assertThat(second).isNotNull();
+
+        var queued = CompletableFuture.supplyAsync(limiter::acquire);
+        while (registry.get("admission.queued").gauge().value() < 1) Thread.sleep(1);
+
+        assertThat(limiter.acquire()).isNull();           // queue full: shed at once
+        first.release();
+        assertThat(queued.get(1, TimeUnit.SECONDS)).isNotNull(); // the waiter takes the freed slot
+
+        long start = System.nanoTime();
+        assertThat(limiter.acquire()).isNull();           // waited max-queue-ms in line
+        assertThat(System.nanoTime() - start).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(100));
+        assertThat(shed("queue_full")).isEqualTo(1);
+        assertThat(shed("timeout")).isEqualTo(1);
+    }
+
+    @Test
+    void limitShrinksWhenLatencyRisesAboveTheBaseline() throws Exception {
+        var admission = new AdmissionConfig();
+        admission.setWindowMs(0);
+        admission.setMinSamples(5);
+        var cfg = endpointClass(20, 10);
+        cfg.setMaxLimit(40);
+        var limiter = new AdmissionLimiter("search", cfg, admission, registry);
+
+        for (int i = 0; i < 5; i++) limiter.acquire().release(); // baseline
+        assertThat(limiter.limit()).isEqualTo(20);                // idle capacity is not grown
+
+        for (int i = 0; i < 15; i++) {
+            var p = limiter.acquire();
+            Thread.sleep(10);
+            p.release();
+        }
+        assertThat(limiter.limit()).isLessThan(10).isGreaterThanOrEqualTo(1);
+    }
+
+    @Test
+    void filter_shedsPerClass_servingStaleForPublicPaths() throws Exception {
+        var admission = new AdmissionConfig();
+        var publicClass = endpointClass(1, 0, "/api/manager/reviews/selected");
+        publicClass.setStaleOnShed(true);
+        var manager = endpointClass(1, 0, "/api/manager/**");
+        manager.setExcludePaths(List.of("/api/manager/reviews/stream"));
+        manager.setRetryAfterSeconds(3);
+        admission.getClasses().put("public", publicClass);
+        admission.getClasses().put("manager", manager);
+        var cache = new ResponseBytesCache(new WireMappers(new ObjectMapper()), new DatasetVersion(), new ResponseCacheConfig());
+        var filter = new AdmissionFilter(admission, cache, registry);
+
+        // a previous answer of the public path is cached
+        cache.respond(get("/api/manager/reviews/selected"), "selected", Map.of(), () -> List.of("approved"));
+
+        // while one request of a class holds its only slot, the next is shed
+        MockHttpServletResponse[] inner = new MockHttpServletResponse[3];
+        AtomicInteger passed = new AtomicInteger();
+        FilterChain pass = (req, res) -> passed.incrementAndGet();
+        filter.doFilter(get("/api/manager/reviews"), new MockHttpServletResponse(), (req, res) -> {
+            inner[0] = new MockHttpServletResponse();
+            filter.doFilter(get("/api/manager/kpis"), inner[0], pass);
+            inner[1] = new MockHttpServletResponse();
+            filter.doFilter(get("/api/manager/reviews/selected"), inner[1], pass); // other class: admitted
+            inner[2] = new MockHttpServletResponse();
+            filter.doFilter(get("/api/manager/reviews/stream"), inner[2], pass);   // excluded: not limited
+        });
+        assertThat(inner[0].getStatus()).isEqualTo(503);
+        assertThat(inner[0].getHeader("Retry-After")).isEqualTo("3");
+        assertThat(inner[1].getStatus()).isEqualTo(200);
+        assertThat(passed.get()).isEqualTo(2);
+
+        MockHttpServletResponse stale = new MockHttpServletResponse();
+        filter.doFilter(get("/api/manager/reviews/selected"), new MockHttpServletResponse(),
+                (req, res) -> filter.doFilter(get("/api/manager/reviews/selected"), stale, pass));
+        assertThat(stale.getStatus()).isEqualTo(200);
+        assertThat(stale.getHeader("Warning")).startsWith("110");
+        assertThat(stale.getContentAsString()).isEqualTo("[\"approved\"]");
+        assertThat(passed.get()).isEqualTo(2);
+    }
+
+    private static MockHttpServletRequest get(String uri) {
+        var req = new MockHttpServletRequest("GET", uri);
+        req.addHeader("Accept", "application/json");
+        return req;
+    }
+}
@@ -0,0 +1,100 @@
+package flex.living.reviewsdashboard;
+
+import flex.living.reviewsdashboard.client.CallNotPermittedException;
+import flex.living.reviewsdashboard.client.CircuitBreaker;
+import flex.living.reviewsdashboard.client.CircuitBreakers;
+import flex.living.reviewsdashboard.client.RateLimitedException;
+import flex.living.reviewsdashboard.config.UpstreamBreakerConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CircuitBreakerTest {
+
+    private SimpleMeterRegistry registry;
+    private CircuitBreaker breaker;
+
+    @BeforeEach
+    void setUp() {
+        var cfg = new UpstreamBreakerConfig();
+        cfg.setWindowSize(4);
+        cfg.setMinimumCalls(4);
+        cfg.setFailureRateThreshold(50);
+        cfg.setOpenDurationMs(50);
+        cfg.setHalfOpenProbes(1);
+        cfg.setSlowCallDurationMs(20);
+        registry = new SimpleMeterRegistry();
+        breaker = new CircuitBreakers(cfg, registry).get("test");
+    }
+
+    @Test
+    void opensOnFailureRate_failsFast_thenClosesAfterSuccessfulProbe() throws Exception {
+        breaker.call(() -> "ok");
+        breaker.call(() -> "ok");
+        fail();
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.CLOSED);
+        fail(); // 2/4 failed → 50%
+
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThatThrownBy(() -> breaker.call(() -> "never")).isInstanceOf(CallNotPermittedException.class);
+        assertThat(registry.counter("upstream.breaker.rejected", "name", "test").count()).isEqualTo(1.0);
+
+        Thread.sleep(60);
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+        assertThat(breaker.call(() -> "probe")).isEqualTo("probe");
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void clientErrorsDoNotTripTheBreaker() {
+        for (int i = 0; i < 4; i++) {
+            assertThatThrownBy(() -> breaker.call(() -> {
+                throw WebClientResponseException.create(404, "Not Found", HttpHeaders.EMPTY, new byte[0], null);
+            })).isInstanceOf(WebClientResponseException.class);
+        }
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void localRateLimitRejections_areNotRecordedEvenWhenSlow() throws Exception {
+        for (int i = 0; i < 4; i++) {
+            assertThatThrownBy(() -> breaker.call(() -> {
+                sleep(30); // waited for a permit longer than a slow call
+                throw new RateLimitedException("Timed out waiting for a Hostaway permit");
+            })).isInstanceOf(RateLimitedException.class);
+        }
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.CLOSED);
+        assertThat(breaker.slowCallRate()).isZero();
+
+        fail();
+        fail();
+        fail();
+        fail();
+        Thread.sleep(60);
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+        assertThatThrownBy(() -> breaker.call(() -> {
+            throw new RateLimitedException("queue full");
+        })).isInstanceOf(RateLimitedException.class);
+        assertThat(breaker.call(() -> "probe")).isEqualTo("probe"); // the rejected probe gave its slot back
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void fail() {
+        assertThatThrownBy(() -> breaker.call(() -> {
+            throw new IllegalStateException("upstream down");
+        })).isInstanceOf(IllegalStateException.class);
+    }
+}
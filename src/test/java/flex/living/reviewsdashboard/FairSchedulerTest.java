@@ -0,0 +1,58 @@
+package flex.living.reviewsdashboard;
+
+import flex.living.reviewsdashboard.service.FairScheduler;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FairSchedulerTest {
+
+    @Test
+    void tenantsTakeTurns_inProportionToWeight() throws Exception {
+        Map<String, Integer> weights = Map.of("gate", 1, "big", 2, "small", 1);
+        List<String> order = new CopyOnWriteArrayList<>();
+        CountDownLatch open = new CountDownLatch(1);
+
+        try (var scheduler = new FairScheduler("test", 1, weights::get)) {
+            var gate = scheduler.submit("gate", () -> {
+                await(open); // hold the only worker until everything is queued
+                return null;
+            });
+            List<CompletableFuture<?>> all = new ArrayList<>(List.of(gate));
+            for (int i = 0; i < 4; i++) all.add(scheduler.submit("big", () -> order.add("big")));
+            for (int i = 0; i < 2; i++) all.add(scheduler.submit("small", () -> order.add("small")));
+            assertThat(scheduler.queued("big")).isEqualTo(4);
+
+            open.countDown();
+            CompletableFuture.allOf(all.toArray(CompletableFuture[]::new)).get(5, TimeUnit.SECONDS);
+        }
+
+        assertThat(order).containsExactly("big", "big", "small", "big", "big", "small");
+    }
+
+    @Test
+    void failingTask_completesItsFutureExceptionally() {
+        try (var scheduler = new FairScheduler("test", 2, t -> 1)) {
+            var f = scheduler.submit("a", () -> {
+                throw new IllegalStateException("boom");
+            });
+            assertThat(f).failsWithin(5, TimeUnit.SECONDS);
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
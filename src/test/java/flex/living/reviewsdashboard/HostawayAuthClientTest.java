@@ -1,7 +1,12 @@
 package flex.living.reviewsdashboard;
 
+import flex.living.reviewsdashboard.client.CircuitBreakers;
+import flex.living.reviewsdashboard.client.HostawayAccounts;
 import flex.living.reviewsdashboard.client.HostawayAuthClient;
 import flex.living.reviewsdashboard.config.HostawayConfig;
+import flex.living.reviewsdashboard.config.HostawayRateLimitConfig;
+import flex.living.reviewsdashboard.config.UpstreamBreakerConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import okhttp3.mockwebserver.MockResponse;
 import okhttp3.mockwebserver.MockWebServer;
 import org.junit.jupiter.api.AfterEach;
@@ -31,7 +36,9 @@ class HostawayAuthClientTest {
         );
         WebClient wc = WebClient.builder().baseUrl(cfg.baseUrl()).build();
 
-        auth = new HostawayAuthClient(wc, cfg);
+        var registry = new SimpleMeterRegistry();
+        var accounts = new HostawayAccounts(cfg, new HostawayRateLimitConfig(), registry);
+        auth = new HostawayAuthClient(wc, accounts, new CircuitBreakers(new UpstreamBreakerConfig(), registry));
     }
 
     @AfterEach
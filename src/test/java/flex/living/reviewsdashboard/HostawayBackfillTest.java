@@ -0,0 +1,193 @@
+package flex.living.reviewsdashboard;
+
+import flex.living.reviewsdashboard.client.CircuitBreakers;
+import flex.living.reviewsdashboard.client.HostawayAccounts;
+import flex.living.reviewsdashboard.client.HostawayAuthClient;
+import flex.living.reviewsdashboard.client.HostawayReviewClient;
+import flex.living.reviewsdashboard.config.HostawayConfig;
+import flex.living.reviewsdashboard.config.HostawayFetchConfig;
+import flex.living.reviewsdashboard.config.HostawayRateLimitConfig;
+import flex.living.reviewsdashboard.config.ReviewSyncConfig;
+import flex.living.reviewsdashboard.config.UpstreamBreakerConfig;
+import flex.living.reviewsdashboard.config.WebhookConfig;
+import flex.living.reviewsdashboard.service.DatasetVersion;
+import flex.living.reviewsdashboard.service.HostawayBackfill;
+import flex.living.reviewsdashboard.service.HostawayWebhookIngestor;
+import flex.living.reviewsdashboard.service.ReviewStore;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import okhttp3.HttpUrl;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HostawayBackfillTest {
+
+    private static final int TOTAL = 250;
+
+    private MockWebServer server;
+    private ReviewStore store;
+    private HostawayWebhookIngestor webhooks;
+    private HostawayBackfill backfill;
+    private final Set<Integer> requestedOffsets = ConcurrentHashMap.newKeySet();
+    private volatile int failingOffset = -1;
+    private volatile Runnable whileServingOffset100 = () -> {
+    };
+
+    @TempDir
+    Path tmp;
+    private Path checkpoint;
+
+    @BeforeEach
+    void setup() throws Exception {
+        server = new MockWebServer();
+        server.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest req) {
+                HttpUrl url = req.getRequestUrl();
+                if (url.encodedPath().equals("/v1/accessTokens")) {
+                    String form = req.getBody().readUtf8();
+                    String clientId = form.replaceAll(".*client_id=(\\d+).*", "$1");
+                    return json("{\"access_token\":\"tok-" + clientId + "\",\"expires_in\":3600}");
+                }
+                int limit = Integer.parseInt(url.queryParameter("limit"));
+                int offset = Integer.parseInt(url.queryParameter("offset"));
+                String token = req.getHeader("Authorization");
+                int accountId = Integer.parseInt(token.substring(token.indexOf("tok-") + 4));
+                requestedOffsets.add(offset);
+                if (offset == failingOffset) return new MockResponse().setResponseCode(500);
+                if (offset == 100) whileServingOffset100.run();
+                return json(page(accountId, limit, offset));
+            }
+        });
+        server.start();
+
+        checkpoint = tmp.resolve("backfill.json");
+        backfill = backfill(List.of());
+    }
+
+    private HostawayBackfill backfill(List<HostawayConfig.Account> accounts) {
+        var base = server.url("/").toString();
+        var cfg = new HostawayConfig(base.substring(0, base.length() - 1), 61148, "test-secret", 5000, 5000, accounts);
+        WebClient wc = WebClient.builder().baseUrl(cfg.baseUrl()).build();
+        var registry = new SimpleMeterRegistry();
+        var breakers = new CircuitBreakers(new UpstreamBreakerConfig(), registry);
+        var limits = new HostawayRateLimitConfig();
+        limits.setBaseBackoffMs(1);
+        limits.setPermitsPerSecond(1000);
+        var hostawayAccounts = new HostawayAccounts(cfg, limits, registry);
+        var client = new HostawayReviewClient(wc, new HostawayAuthClient(wc, hostawayAccounts, breakers), hostawayAccounts, breakers, new HostawayFetchConfig());
+
+        var sync = new ReviewSyncConfig();
+        sync.getBackfill().setPageSize(100);
+        sync.getBackfill().setParallelism(3);
+        sync.getBackfill().setCheckpointPath(checkpoint.toString());
+
+        store = new ReviewStore(new DatasetVersion());
+        webhooks = new HostawayWebhookIngestor(store, hostawayAccounts, new WebhookConfig(), registry);
+        return new HostawayBackfill(client, hostawayAccounts, store, sync, webhooks);
+    }
+
+    @AfterEach
+    void teardown() throws Exception {
+        server.shutdown();
+    }
+
+    @Test
+    void loadsEveryPage_andClearsCheckpoint() {
+        var status = backfill.run(null);
+
+        assertThat(status.state()).isEqualTo(HostawayBackfill.State.COMPLETED);
+        assertThat(status.total()).isEqualTo(TOTAL);
+        assertThat(status.reviewsLoaded()).isEqualTo(TOTAL);
+        assertThat(store.size()).isEqualTo(TOTAL);
+        assertThat(requestedOffsets).containsExactlyInAnyOrder(0, 100, 200);
+        assertThat(checkpoint).doesNotExist();
+    }
+
+    @Test
+    void failedPage_keepsCheckpoint_andResumeFetchesOnlyTheRest() throws Exception {
+        failingOffset = 200;
+        var failed = backfill.run(null);
+
+        assertThat(failed.state()).isEqualTo(HostawayBackfill.State.FAILED);
+        assertThat(Files.readString(checkpoint)).contains("\"completed\":[0,100]");
+
+        failingOffset = -1;
+        requestedOffsets.clear();
+        var resumed = backfill.run(null);
+
+        assertThat(resumed.state()).isEqualTo(HostawayBackfill.State.COMPLETED);
+        assertThat(requestedOffsets).containsExactly(200);
+        assertThat(store.size()).isEqualTo(TOTAL);
+    }
+
+    @Test
+    void severalAccounts_fillSeparatePartitions_withOwnCheckpoints() {
+        backfill = backfill(List.of(
+                new HostawayConfig.Account("north", 1, "s1", 2, null),
+                new HostawayConfig.Account("south", 2, "s2", 1, null)));
+
+        failingOffset = 200;
+        assertThat(backfill.run("north").state()).isEqualTo(HostawayBackfill.State.FAILED);
+        assertThat(tmp.resolve("backfill-north.json")).exists();
+        assertThat(checkpoint).doesNotExist();
+
+        failingOffset = -1;
+        assertThat(backfill.run("north").state()).isEqualTo(HostawayBackfill.State.COMPLETED);
+        assertThat(backfill.run("south").state()).isEqualTo(HostawayBackfill.State.COMPLETED);
+
+        assertThat(store.size("north")).isEqualTo(TOTAL);
+        assertThat(store.size("south")).isEqualTo(TOTAL);
+        assertThat(store.get("north", "100001")).isPresent();
+        assertThat(store.get("south", "100001")).isEmpty();
+        assertThat(backfill.status()).containsOnlyKeys("north", "south");
+    }
+
+    @Test
+    void webhookPushedWhileAPageIsInFlight_isNotOverwritten() {
+        String id = String.valueOf(61148 * 100_000L + 101); // offset 100 of the default account
+        whileServingOffset100 = () -> {
+            webhooks.offer(List.of(Map.of("event", "review.updated", "data", Map.of(
+                    "id", Long.parseLong(id), "type", "guest-to-host", "status", "published", "rating", 10,
+                    "listingName", "Hotel California", "guestName", "Guest 100", "submittedAt", "2024-01-01 10:00:00"))));
+            webhooks.flush();
+        };
+
+        assertThat(backfill.run(null).state()).isEqualTo(HostawayBackfill.State.COMPLETED);
+
+        assertThat(store.size()).isEqualTo(TOTAL);
+        assertThat(store.get(HostawayConfig.DEFAULT_ACCOUNT, id).orElseThrow().overallRating()).isEqualTo(10);
+    }
+
+    private static String page(int accountId, int limit, int offset) {
+        StringBuilder sb = new StringBuilder("{\"status\":\"success\",\"count\":").append(TOTAL).append(",\"result\":[");
+        int end = Math.min(TOTAL, offset + limit);
+        for (int i = offset; i < end; i++) {
+            if (i > offset) sb.append(',');
+            sb.append("{\"id\":").append(accountId * 100_000L + i + 1)
+                    .append(",\"type\":\"guest-to-host\",\"status\":\"published\",\"rating\":8")
+                    .append(",\"listingName\":\"Hotel California\",\"guestName\":\"Guest ").append(i)
+                    .append("\",\"submittedAt\":\"2024-01-01 10:00:00\"}");
+        }
+        return sb.append("]}").toString();
+    }
+
+    private static MockResponse json(String body) {
+        return new MockResponse().setResponseCode(200).setBody(body).addHeader("Content-Type", "application/json");
+    }
+}
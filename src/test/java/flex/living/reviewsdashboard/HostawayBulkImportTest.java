@@ -0,0 +1,124 @@
+package flex.living.reviewsdashboard;
+
+import flex.living.reviewsdashboard.client.HostawayAccounts;
+import flex.living.reviewsdashboard.config.HostawayConfig;
+import flex.living.reviewsdashboard.config.HostawayRateLimitConfig;
+import flex.living.reviewsdashboard.config.ReviewSyncConfig;
+import flex.living.reviewsdashboard.config.WebhookConfig;
+import flex.living.reviewsdashboard.model.NormalizedReview;
+import flex.living.reviewsdashboard.service.DatasetVersion;
+import flex.living.reviewsdashboard.service.HostawayBulkImport;
+import flex.living.reviewsdashboard.service.HostawayWebhookIngestor;
+import flex.living.reviewsdashboard.service.ReviewStore;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class HostawayBulkImportTest {
+
+    @TempDir
+    Path tmp;
+    private ReviewStore store;
+    private HostawayBulkImport bulkImport;
+    private HostawayWebhookIngestor webhooks;
+
+    @BeforeEach
+    void setup() {
+        var cfg = new HostawayConfig("http://localhost", 61148, "test-secret", 5000, 5000, List.of());
+        var accounts = new HostawayAccounts(cfg, new HostawayRateLimitConfig(), new SimpleMeterRegistry());
+        var sync = new ReviewSyncConfig();
+        sync.getBulkImport().setDirectory(tmp.toString());
+        sync.getBulkImport().setBatchSize(100);
+        sync.getBulkImport().setParallelism(3);
+        sync.getBulkImport().setMaxPendingBatches(2);
+        sync.getBulkImport().setWindowMb(1);
+        store = new ReviewStore(new DatasetVersion());
+        webhooks = new HostawayWebhookIngestor(store, accounts, new WebhookConfig(), new SimpleMeterRegistry());
+        bulkImport = new HostawayBulkImport(accounts, store, sync, webhooks);
+    }
+
+    @Test
+    void importsAnExportSpanningSeveralMappedWindows() throws IOException {
+        int total = 6000;
+        Path file = tmp.resolve("export.json");
+        try (BufferedWriter w = Files.newBufferedWriter(file)) {
+            w.write("{\"status\":\"success\",\"count\":" + total + ",\"result\":[");
+            for (int i = 0; i < total; i++) {
+                w.write(review(i + 1));
+                w.write(',');
+            }
+            w.write("\"not a review\"],\"limit\":null}");
+        }
+        assertThat(Files.size(file)).isGreaterThan(2L << 20);
+
+        var status = bulkImport.run(file, null, false);
+
+        assertThat(status.state()).isEqualTo(HostawayBulkImport.State.COMPLETED);
+        assertThat(status.reviewsParsed()).isEqualTo(total);
+        assertThat(status.reviewsLoaded()).isEqualTo(total);
+        assertThat(status.skipped()).isEqualTo(1);
+        assertThat(status.bytesRead()).isEqualTo(status.bytesTotal()).isEqualTo(Files.size(file));
+        assertThat(status.reviewsPerSecond()).isPositive();
+        assertThat(store.size()).isEqualTo(total);
+        assertThat(store.get("default", "6000")).get().extracting(r -> r.listingName()).isEqualTo("Hotel California");
+    }
+
+    @Test
+    void acceptsDataArraysAndRootArrays_andReportsMalformedFiles() throws IOException {
+        Path data = Files.writeString(tmp.resolve("data.json"), "{\"data\":[" + review(1) + "," + review(2) + "]}");
+        Path root = Files.writeString(tmp.resolve("root.json"), "[" + review(3) + "]");
+        Path broken = Files.writeString(tmp.resolve("broken.json"), "{\"result\":[" + review(4) + ",{\"id\":");
+
+        assertThat(bulkImport.run(data, null, false).reviewsLoaded()).isEqualTo(2);
+        assertThat(bulkImport.run(root, null, false).reviewsLoaded()).isEqualTo(1);
+        var failed = bulkImport.run(broken, null, false);
+
+        assertThat(failed.state()).isEqualTo(HostawayBulkImport.State.FAILED);
+        assertThat(failed.error()).contains("JsonEOFException");
+        assertThat(bulkImport.status()).isEqualTo(failed);
+        assertThat(store.size()).isEqualTo(3);
+    }
+
+    @Test
+    void storedReviewsAreKeptUnlessOverwriting() throws IOException {
+        webhooks.offer(List.of(Map.of("event", "review.updated", "data", Map.of(
+                "id", 1, "type", "guest-to-host", "status", "published", "rating", 3,
+                "listingName", "Hotel California", "guestName", "Guest 1", "submittedAt", "2024-01-01 10:00:00"))));
+        webhooks.flush();
+        Path file = Files.writeString(tmp.resolve("export.json"), "[" + review(1) + "," + review(2) + "]");
+
+        var status = bulkImport.run(file, null, false);
+        assertThat(status.reviewsLoaded()).isEqualTo(1);
+        assertThat(status.kept()).isEqualTo(1);
+        assertThat(store.get("default", "1")).get().extracting(NormalizedReview::overallRating).isEqualTo(3);
+
+        assertThat(bulkImport.run(file, null, true).reviewsLoaded()).isEqualTo(2);
+        assertThat(store.get("default", "1")).get().extracting(NormalizedReview::overallRating).isEqualTo(8);
+    }
+
+    @Test
+    void resolvesOnlyFilesInsideTheImportDirectory() {
+        assertThat(bulkImport.resolve("export.json")).isEqualTo(tmp.resolve("export.json").toAbsolutePath());
+        assertThatThrownBy(() -> bulkImport.resolve("../secrets.json")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> bulkImport.resolve("/etc/passwd")).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static String review(int id) {
+        return "{\"id\":" + id + ",\"type\":\"guest-to-host\",\"status\":\"published\",\"rating\":8"
+                + ",\"publicReview\":\"Lovely stay, would book again. The flat was spotless and close to the station. "
+                + "Check-in was easy and the host answered quickly. Lovely stay, would book again.\""
+                + ",\"reviewCategory\":[{\"category\":\"cleanliness\",\"rating\":10},{\"category\":\"communication\",\"rating\":9}]"
+                + ",\"listingName\":\"Hotel California\",\"guestName\":\"Guest " + id + "\",\"submittedAt\":\"2024-01-01 10:00:00\"}";
+    }
+}
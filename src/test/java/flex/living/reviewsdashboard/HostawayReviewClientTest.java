@@ -1,11 +1,26 @@
 package flex.living.reviewsdashboard;
 
+import flex.living.reviewsdashboard.client.CircuitBreakers;
 import flex.living.reviewsdashboard.client.HostawayAuthClient;
+import flex.living.reviewsdashboard.client.HostawayAccounts;
 import flex.living.reviewsdashboard.client.HostawayReviewClient;
 import flex.living.reviewsdashboard.config.HostawayConfig;
+import flex.living.reviewsdashboard.config.HostawayFetchConfig;
+import flex.living.reviewsdashboard.config.HostawayRateLimitConfig;
+import flex.living.reviewsdashboard.config.ReviewSyncConfig;
+import flex.living.reviewsdashboard.config.UpstreamBreakerConfig;
+import flex.living.reviewsdashboard.config.WebhookConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import flex.living.reviewsdashboard.model.NormalizedReviewResponse;
+import flex.living.reviewsdashboard.service.DatasetVersion;
+import flex.living.reviewsdashboard.service.HostawayReviewService;
+import flex.living.reviewsdashboard.service.HostawayWebhookIngestor;
+import flex.living.reviewsdashboard.service.ReviewStore;
+import okhttp3.HttpUrl;
+import okhttp3.mockwebserver.Dispatcher;
 import okhttp3.mockwebserver.MockResponse;
 import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -14,6 +29,11 @@ import org.springframework.web.reactive.function.client.WebClient;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -23,6 +43,8 @@ class HostawayReviewClientTest {
     private MockWebServer server;
     private HostawayAuthClient auth;
     private HostawayReviewClient client;
+    private SimpleMeterRegistry registry;
+    private HostawayAccounts accounts;
 
 
     @BeforeEach
@@ -38,8 +60,13 @@ class HostawayReviewClientTest {
                 5000
         );
         WebClient wc = WebClient.builder().baseUrl(cfg.baseUrl()).build();
-        auth = new HostawayAuthClient(wc, cfg);
-        client = new HostawayReviewClient(wc, auth);
+        registry = new SimpleMeterRegistry();
+        var breakers = new CircuitBreakers(new UpstreamBreakerConfig(), registry);
+        var limits = new HostawayRateLimitConfig();
+        limits.setBaseBackoffMs(1);
+        accounts = new HostawayAccounts(cfg, limits, registry);
+        auth = new HostawayAuthClient(wc, accounts, breakers);
+        client = new HostawayReviewClient(wc, auth, accounts, breakers, new HostawayFetchConfig());
     }
 
     @AfterEach
@@ -130,6 +157,104 @@ class HostawayReviewClientTest {
         assertThat(r.reviews().get(0).guestName()).isEqualTo("Shane Finkelstein");
     }
 
+    @Test
+    void reviewService_failedOrEmptyPages_serveMockButNeverReachTheStore() throws IOException {
+        var store = new ReviewStore(new DatasetVersion());
+        var webhooks = new HostawayWebhookIngestor(store, accounts, new WebhookConfig(), new SimpleMeterRegistry());
+        var sync = new ReviewSyncConfig();
+        var svc = new HostawayReviewService(client, accounts, store, sync, webhooks);
+        var upstream = new AtomicReference<MockResponse>(new MockResponse().setResponseCode(400)); // not retried, breaker stays closed
+        server.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest req) {
+                if (req.getPath().startsWith("/v1/accessTokens")) {
+                    return json("{\"access_token\":\"tok\",\"expires_in\":3600}");
+                }
+                return upstream.get();
+            }
+        });
+
+        var served = svc.getReviews(null, 10, 0);
+        assertThat(served.reviews()).extracting(r -> r.guestName()).containsExactly("Shane Finkelstein");
+        svc.refreshIfStale(null);
+        assertThat(store.size()).isZero();
+        int calls = server.getRequestCount();
+        assertThat(svc.snapshot(null)).extracting(r -> r.guestName()).containsExactly("Shane Finkelstein");
+        assertThat(server.getRequestCount()).isEqualTo(calls); // empty partition waits for the next re-pull
+        assertThat(store.size()).isZero();
+
+        upstream.set(json("{\"status\":\"success\",\"result\":[]}"));
+        assertThat(svc.getReviews(null, 10, 0).count()).isEqualTo(1); // mock again
+        assertThat(store.size()).isZero();
+
+        upstream.set(json("{\"status\":\"success\",\"result\":[{\"id\":42,\"type\":\"guest-to-host\",\"status\":\"published\"}]}"));
+        sync.setRefreshSeconds(0);
+        svc.refreshIfStale(null);
+        assertThat(store.all("default")).extracting(r -> r.id()).containsExactly("42");
+    }
+
+    private static MockResponse json(String body) {
+        return new MockResponse().setResponseCode(200).setBody(body).addHeader("Content-Type", "application/json");
+    }
+
+    @Test
+    void fetchAndNormalize_429_honoursRetryAfterThenRetries() throws IOException {
+        server.enqueue(new MockResponse()
+                .setResponseCode(200)
+                .setBody("{\"access_token\":\"tok\",\"expires_in\":3600}")
+                .addHeader("Content-Type", "application/json"));
+
+        // throttled once
+        server.enqueue(new MockResponse()
+                .setResponseCode(429)
+                .addHeader("Retry-After", "0"));
+
+        server.enqueue(new MockResponse()
+                .setResponseCode(200)
+                .setBody("""
+                        {"status":"success","result":[{"id":42,"type":"guest-to-host","status":"published","guestName":"Real Guest","listingName":"L"}]}
+                        """)
+                .addHeader("Content-Type", "application/json"));
+
+        var r = client.fetchAndNormalize(10, 0);
+        assertThat(r.reviews().get(0).guestName()).isEqualTo("Real Guest"); // not the mock fallback
+        assertThat(server.getRequestCount()).isEqualTo(3);
+        assertThat(registry.counter("hostaway.ratelimit.throttled", "account", "default").count()).isEqualTo(1.0);
+        assertThat(registry.counter("hostaway.ratelimit.retries", "account", "default").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void fetchAndNormalize_largePage_fetchesChunksInParallelAndKeepsOrder() throws IOException {
+        int available = 230;
+        Map<Integer, Integer> limitByOffset = new ConcurrentHashMap<>();
+        server.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest req) {
+                HttpUrl url = req.getRequestUrl();
+                if (url.encodedPath().equals("/v1/accessTokens")) {
+                    return new MockResponse().setBody("{\"access_token\":\"tok\",\"expires_in\":3600}")
+                            .addHeader("Content-Type", "application/json");
+                }
+                int limit = Integer.parseInt(url.queryParameter("limit"));
+                int offset = Integer.parseInt(url.queryParameter("offset"));
+                limitByOffset.put(offset, limit);
+                String reviews = IntStream.range(offset, Math.min(available, offset + limit))
+                        .mapToObj(i -> "{\"id\":" + i + ",\"type\":\"guest-to-host\",\"status\":\"published\",\"guestName\":\"G" + i + "\",\"listingName\":\"L\"}")
+                        .collect(Collectors.joining(","));
+                // count after the array: the parser must not depend on field order
+                return new MockResponse().setBody("{\"status\":\"success\",\"result\":[" + reviews + "],\"count\":" + available + "}")
+                        .addHeader("Content-Type", "application/json");
+            }
+        });
+
+        var r = client.fetchAndNormalize(250, 0);
+
+        assertThat(limitByOffset).containsExactlyInAnyOrderEntriesOf(Map.of(0, 100, 100, 100, 200, 50));
+        assertThat(r.count()).isEqualTo(available);
+        assertThat(r.reviews()).extracting(rev -> rev.id())
+                .containsExactlyElementsOf(IntStream.range(0, available).mapToObj(String::valueOf).toList());
+    }
+
     private String loadResource(String resourcePath) throws IOException {
         // Load from src/test/resources
         return Files.readString(Path.of(resourcePath), UTF_8);
@@ -0,0 +1,174 @@
+package flex.living.reviewsdashboard;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import flex.living.reviewsdashboard.api.HostawayWebhookController;
+import flex.living.reviewsdashboard.client.HostawayAccounts;
+import flex.living.reviewsdashboard.client.UnknownAccountException;
+import flex.living.reviewsdashboard.config.HostawayConfig;
+import flex.living.reviewsdashboard.config.HostawayRateLimitConfig;
+import flex.living.reviewsdashboard.config.WebhookConfig;
+import flex.living.reviewsdashboard.model.NormalizedReview;
+import flex.living.reviewsdashboard.service.DatasetVersion;
+import flex.living.reviewsdashboard.service.HostawayWebhookIngestor;
+import flex.living.reviewsdashboard.service.ReviewStore;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class HostawayWebhookIngestorTest {
+
+    private final ObjectMapper om = new ObjectMapper();
+    private DatasetVersion version;
+    private ReviewStore store;
+    private HostawayWebhookIngestor ingestor;
+
+    @BeforeEach
+    void setUp() {
+        version = new DatasetVersion();
+        store = new ReviewStore(version);
+        ingestor = ingestor(List.of());
+    }
+
+    private HostawayWebhookIngestor ingestor(List<HostawayConfig.Account> accounts) {
+        var registry = new SimpleMeterRegistry();
+        var cfg = new HostawayConfig("http://unused", 61148, "secret", 1000, 1000, accounts);
+        return new HostawayWebhookIngestor(store, new HostawayAccounts(cfg, new HostawayRateLimitConfig(), registry),
+                new WebhookConfig(), registry);
+    }
+
+    @Test
+    void replay_keepsNewestVersionPerReview() throws Exception {
+        List<Map<String, Object>> events = replayFile();
+        assertThat(ingestor.offer(events)).isTrue();
+
+        ingestor.flush();
+
+        assertThat(store.size()).isEqualTo(2);
+        NormalizedReview ana = store.get(HostawayConfig.DEFAULT_ACCOUNT, "9001").orElseThrow();
+        assertThat(ana.overallRating()).isEqualTo(10);
+        assertThat(ana.text()).isEqualTo("Lovely flat, great host");
+        assertThat(store.get(HostawayConfig.DEFAULT_ACCOUNT, "9002").orElseThrow().overallRating()).isEqualTo(8);
+    }
+
+    @Test
+    void replayingTwice_isIdempotent() throws Exception {
+        ingestor.offer(replayFile());
+        ingestor.flush();
+        long v = version.current();
+
+        ingestor.offer(replayFile());
+        assertThat(ingestor.flush()).isZero();
+        assertThat(version.current()).isEqualTo(v);
+    }
+
+    @Test
+    void staleEventInLaterBatch_isDropped() throws Exception {
+        List<Map<String, Object>> events = replayFile();
+        ingestor.offer(List.of(events.get(2))); // update (rating 10)
+        ingestor.flush();
+
+        ingestor.offer(List.of(events.get(0))); // older create arrives late
+        ingestor.flush();
+
+        assertThat(store.get(HostawayConfig.DEFAULT_ACCOUNT, "9001").orElseThrow().overallRating()).isEqualTo(10);
+    }
+
+    @Test
+    void unversionedUpdateWithUnchangedSubmittedAt_isApplied() throws Exception {
+        Map<String, Object> created = om.readValue("""
+                {"event":"review.created","data":{"id":9100,"type":"guest-to-host","status":"published","rating":6,
+                 "publicReview":"Fine","listingName":"Hotel California","guestName":"Cy","submittedAt":"2024-03-05 10:00:00"}}
+                """, new TypeReference<>() {});
+        Map<String, Object> updated = om.readValue("""
+                {"event":"review.updated","data":{"id":9100,"type":"guest-to-host","status":"published","rating":9,
+                 "publicReview":"Fine, host fixed the heating","listingName":"Hotel California","guestName":"Cy",
+                 "submittedAt":"2024-03-05 10:00:00"}}
+                """, new TypeReference<>() {});
+        ingestor.offer(List.of(created));
+        ingestor.flush();
+
+        ingestor.offer(List.of(updated));
+        assertThat(ingestor.flush()).isEqualTo(1);
+        assertThat(store.get(HostawayConfig.DEFAULT_ACCOUNT, "9100").orElseThrow().overallRating()).isEqualTo(9);
+
+        ingestor.offer(List.of(updated)); // redelivery: same content, nothing changes
+        assertThat(ingestor.flush()).isZero();
+    }
+
+    @Test
+    void pollStartedBeforeAPush_doesNotOverwriteIt() throws Exception {
+        long pollStarted = System.nanoTime();
+        ingestor.offer(List.of(replayFile().get(2))); // update (rating 10) lands while the poll is in flight
+        ingestor.flush();
+        NormalizedReview polled = store.get(HostawayConfig.DEFAULT_ACCOUNT, "9001").orElseThrow();
+
+        assertThat(ingestor.withoutNewerPushes(HostawayConfig.DEFAULT_ACCOUNT, List.of(polled), pollStarted)).isEmpty();
+        assertThat(ingestor.withoutNewerPushes(HostawayConfig.DEFAULT_ACCOUNT, List.of(polled), System.nanoTime()))
+                .containsExactly(polled);
+    }
+
+    @Test
+    void eventsAreRoutedToTheirAccountPartition() throws Exception {
+        ingestor = ingestor(List.of(
+                new HostawayConfig.Account("north", 1, "s1", 1, null),
+                new HostawayConfig.Account("south", 2, "s2", 1, null)));
+        Map<String, Object> create = replayFile().get(0);
+
+        ingestor.offer(List.of(withAccountId(create, 2), withAccountId(create, 99))); // 99 is not configured
+        ingestor.offer("north", List.of(create));
+        ingestor.flush();
+
+        assertThat(store.size("north")).isEqualTo(1);
+        assertThat(store.size("south")).isEqualTo(1);
+        assertThat(store.size()).isEqualTo(2); // same review id, one copy per account
+        assertThatThrownBy(() -> ingestor.offer("west", List.of(create))).isInstanceOf(UnknownAccountException.class);
+    }
+
+    @Test
+    void webhookEndpoint_failsClosedWithoutASecret() throws Exception {
+        Map<String, Object> create = replayFile().get(0);
+        var cfg = new WebhookConfig();
+        var controller = new HostawayWebhookController(ingestor, cfg);
+
+        assertThat(controller.hostaway(null, null, create).getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED);
+        assertThat(controller.hostaway("anything", null, create).getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED);
+
+        cfg.setAllowUnauthenticated(true);
+        assertThat(controller.hostaway(null, null, create).getStatusCode()).isEqualTo(HttpStatus.ACCEPTED);
+
+        cfg.setSecret("s3cret");
+        assertThat(controller.hostaway(null, null, create).getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED);
+        assertThat(controller.hostaway("s3cret", null, create).getStatusCode()).isEqualTo(HttpStatus.ACCEPTED);
+    }
+
+    private static Map<String, Object> withAccountId(Map<String, Object> event, int accountId) {
+        Map<String, Object> copy = new HashMap<>(event);
+        copy.put("accountId", accountId);
+        return copy;
+    }
+
+    private List<Map<String, Object>> replayFile() throws Exception {
+        List<Map<String, Object>> out = new ArrayList<>();
+        try (var in = new BufferedReader(new InputStreamReader(
+                getClass().getResourceAsStream("/webhook-events.jsonl"), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = in.readLine()) != null) {
+                if (!line.isBlank()) out.add(om.readValue(line, new TypeReference<>() {}));
+            }
+        }
+        return out;
+    }
+}
@@ -0,0 +1,86 @@
+package flex.living.reviewsdashboard;
+
+import flex.living.reviewsdashboard.config.KpiSketchConfig;
+import flex.living.reviewsdashboard.model.NormalizedReview;
+import flex.living.reviewsdashboard.service.DatasetVersion;
+import flex.living.reviewsdashboard.service.KpiSketches;
+import flex.living.reviewsdashboard.service.ReviewStore;
+import org.junit.jupiter.api.Test;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class KpiSketchesTest {
+
+    private static final String ACCOUNT = "default";
+
+    private static final OffsetDateTime T0 = OffsetDateTime.parse("2024-01-01T00:00:00Z");
+
+    private final ReviewStore store = new ReviewStore(new DatasetVersion());
+    private final KpiSketches kpis = new KpiSketches(new KpiSketchConfig(), store);
+
+    @Test
+    void percentilesAndDistinctGuests_mergeAcrossListings() {
+        Random rnd = new Random(7);
+        for (int i = 0; i < 20_000; i++) {
+            String listing = i % 2 == 0 ? "A" : "B";
+            int rating = 1 + rnd.nextInt(10);
+            store.upsert(ACCOUNT, guestReview("r" + i, listing, "airbnb", "guest " + (i % 5_000), rating, T0.plusHours(i)));
+        }
+
+        var both = kpis.query(ACCOUNT, List.of("A", "B"), List.of(), 0.1, 0.5, 0.9);
+        var onlyA = kpis.query(ACCOUNT, List.of("A"), List.of(), 0.5);
+
+        assertThat(both.reviews()).isEqualTo(20_000);
+        assertThat(both.ratingPercentiles().get("p50")).isCloseTo(5.5, within(0.6));
+        assertThat(both.ratingPercentiles().get("p90")).isCloseTo(9.5, within(0.6));
+        assertThat(both.distinctGuests()).isCloseTo(5_000L, within(250L));
+        assertThat(onlyA.reviews()).isEqualTo(10_000);
+        assertThat(onlyA.listings()).containsExactly("A");
+    }
+
+    @Test
+    void hostResponseTime_pairsGuestAndHostReviews() {
+        store.upsert(ACCOUNT, guestReview("g1", "A", "airbnb", "Ana", 9, T0));
+        store.upsert(ACCOUNT, hostReview("h1", "A", "Ana", T0.plusHours(6)));
+        store.upsert(ACCOUNT, hostReview("h2", "A", "Ben", T0));                   // host first, guest later
+        store.upsert(ACCOUNT, guestReview("g2", "A", "airbnb", "Ben", 8, T0.plusHours(30)));
+
+        var k = kpis.query(ACCOUNT, List.of(), List.of("airbnb"), 0, 1);
+
+        assertThat(k.responseHoursPercentiles()).isEqualTo(Map.of("p0", 6.0, "p100", 30.0));
+    }
+
+    @Test
+    void editedRatings_areCorrectedByBackgroundRebuild() throws InterruptedException {
+        var cfg = new KpiSketchConfig();
+        cfg.setRebuildStaleRatio(1.0); // rebuild on the last edit, when the store scan still misses it
+        var edited = new ReviewStore(new DatasetVersion());
+        var sketches = new KpiSketches(cfg, edited);
+        for (int i = 0; i < 50; i++) edited.upsert(ACCOUNT, guestReview("r" + i, "A", "airbnb", "g" + i, 2, T0));
+        for (int i = 0; i < 50; i++) edited.upsert(ACCOUNT, guestReview("r" + i, "A", "airbnb", "g" + i, 10, T0));
+
+        var k = sketches.query(ACCOUNT, List.of(), List.of(), 0.5);
+        for (long deadline = System.nanoTime() + 5_000_000_000L; k.reviews() != 50 && System.nanoTime() < deadline; ) {
+            Thread.sleep(10); // queries keep serving the current cells while the rebuild runs
+            k = sketches.query(ACCOUNT, List.of(), List.of(), 0.5);
+        }
+
+        assertThat(k.reviews()).isEqualTo(50);
+        assertThat(k.ratingPercentiles().get("p50")).isEqualTo(10.0);
+    }
+
+    private static NormalizedReview guestReview(String id, String listing, String channel, String guest, int rating,
+                                                OffsetDateTime at) {
+        return new NormalizedReview(id, listing, guest, "guest_to_host", "published", rating, Map.of(), channel, "text", at);
+    }
+
+    private static NormalizedReview hostReview(String id, String listing, String guest, OffsetDateTime at) {
+        return new NormalizedReview(id, listing, guest, "host_to_guest", "published", 10, Map.of(), "airbnb", "text", at);
+    }
+}
@@ -0,0 +1,219 @@
+package flex.living.reviewsdashboard;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Open-model load generator: requests are issued on a fixed arrival schedule regardless of how fast earlier
+ * ones complete, and latency is measured from the <em>intended</em> send time, so a stalled server shows up
+ * as queueing delay instead of silently lowering the offered load (coordinated omission).
+ */
+class OpenModelLoad {
+
+    /**
+     * One kind of request in the traffic mix; {@code weight} is relative to the other scenarios.
+     */
+    record Scenario(String name, double weight, List<String> paths, Map<String, String> headers) {
+        Scenario(String name, double weight, List<String> paths) {
+            this(name, weight, paths, Map.of());
+        }
+    }
+
+    record Stats(String name, int requests, int errors, double throughputPerSec,
+                 double p50Ms, double p90Ms, double p99Ms, double p999Ms, double maxMs) {
+    }
+
+    record Report(double offeredRate, double durationSec, List<Stats> scenarios, Stats overall,
+                  double allocatedMbPerSec, long gcCount, long gcTimeMs) {
+
+        String format() {
+            StringBuilder sb = new StringBuilder(String.format(Locale.ROOT,
+                    "offered %.0f req/s for %.0fs | alloc %.1f MB/s | gc %d collections, %d ms%n",
+                    offeredRate, durationSec, allocatedMbPerSec, gcCount, gcTimeMs));
+            sb.append(String.format(Locale.ROOT, "%-16s %8s %7s %9s %8s %8s %8s %8s %8s%n",
+                    "scenario", "requests", "errors", "req/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms"));
+            List<Stats> rows = new ArrayList<>(scenarios);
+            rows.add(overall);
+            for (Stats s : rows) {
+                sb.append(String.format(Locale.ROOT, "%-16s %8d %7d %9.1f %8.1f %8.1f %8.1f %8.1f %8.1f%n",
+                        s.name, s.requests, s.errors, s.throughputPerSec, s.p50Ms, s.p90Ms, s.p99Ms, s.p999Ms, s.maxMs));
+            }
+            return sb.toString();
+        }
+    }
+
+    private final String baseUrl;
+    private final List<Scenario> scenarios;
+    private final double ratePerSec;
+    private final Duration duration;
+    private final Duration warmup;
+    private final HttpClient http;
+    private final ExecutorService callbacks = Executors.newCachedThreadPool(r -> {
+        Thread t = new Thread(r, "load-client");
+        t.setDaemon(true);
+        return t;
+    });
+
+    OpenModelLoad(String baseUrl, List<Scenario> scenarios, double ratePerSec, Duration duration, Duration warmup) {
+        this.baseUrl = baseUrl;
+        this.scenarios = scenarios;
+        this.ratePerSec = ratePerSec;
+        this.duration = duration;
+        this.warmup = warmup;
+        this.http = HttpClient.newBuilder()
+                .executor(callbacks)
+                .connectTimeout(Duration.ofSeconds(5))
+                .version(HttpClient.Version.HTTP_1_1)
+                .build();
+    }
+
+    Report run() throws InterruptedException {
+        if (!warmup.isZero()) drive(warmup, null);
+
+        Map<String, Recorder> recorders = new LinkedHashMap<>();
+        scenarios.forEach(s -> recorders.put(s.name(), new Recorder()));
+
+        long allocBefore = allocatedBytes();
+        long[] gcBefore = gc();
+        long start = System.nanoTime();
+        drive(duration, recorders);
+        double elapsedSec = (System.nanoTime() - start) / 1e9;
+        long allocated = allocatedBytes() - allocBefore;
+        long[] gcAfter = gc();
+
+        List<Stats> stats = new ArrayList<>();
+        Recorder all = new Recorder();
+        recorders.forEach((name, r) -> {
+            stats.add(r.stats(name, elapsedSec));
+            all.addAll(r);
+        });
+        return new Report(ratePerSec, elapsedSec, stats, all.stats("all", elapsedSec),
+                allocated / 1e6 / elapsedSec, gcAfter[0] - gcBefore[0], gcAfter[1] - gcBefore[1]);
+    }
+
+    void close() {
+        callbacks.shutdownNow();
+    }
+
+    // ======================= DRIVER =======================
+
+    private void drive(Duration length, Map<String, Recorder> recorders) throws InterruptedException {
+        double totalWeight = scenarios.stream().mapToDouble(Scenario::weight).sum();
+        long intervalNanos = (long) (1e9 / ratePerSec);
+        long start = System.nanoTime();
+        long end = start + length.toNanos();
+        List<CompletableFuture<?>> inFlight = new ArrayList<>();
+
+        for (long i = 0; ; i++) {
+            long intended = start + i * intervalNanos;
+            if (intended >= end) break;
+            long wait = intended - System.nanoTime();
+            if (wait > 0) LockSupport.parkNanos(wait);
+
+            Scenario s = pick(totalWeight);
+            String path = s.paths().get(ThreadLocalRandom.current().nextInt(s.paths().size()));
+            HttpRequest.Builder req = HttpRequest.newBuilder(URI.create(baseUrl + path)).timeout(Duration.ofSeconds(30)).GET();
+            s.headers().forEach(req::header);
+
+            Recorder rec = recorders == null ? null : recorders.get(s.name());
+            inFlight.add(http.sendAsync(req.build(), HttpResponse.BodyHandlers.discarding())
+                    .whenComplete((resp, err) -> {
+                        if (rec == null) return;
+                        long latency = System.nanoTime() - intended;
+                        boolean failed = err != null || resp.statusCode() >= 500;
+                        rec.record(latency, failed);
+                    }));
+            if (inFlight.size() >= 10_000) inFlight.removeIf(CompletableFuture::isDone);
+        }
+        try {
+            CompletableFuture.allOf(inFlight.toArray(CompletableFuture[]::new)).get(60, TimeUnit.SECONDS);
+        } catch (Exception ignored) {
+            // errors are recorded per request; a timeout here just means stragglers
+        }
+    }
+
+    private Scenario pick(double totalWeight) {
+        double x = ThreadLocalRandom.current().nextDouble(totalWeight);
+        for (Scenario s : scenarios) {
+            x -= s.weight();
+            if (x < 0) return s;
+        }
+        return scenarios.get(scenarios.size() - 1);
+    }
+
+    // ======================= MEASUREMENT =======================
+
+    private static final class Recorder {
+        private long[] latencies = new long[1024];
+        private int size;
+        private int errors;
+
+        synchronized void record(long nanos, boolean failed) {
+            if (size == latencies.length) latencies = Arrays.copyOf(latencies, size * 2);
+            latencies[size++] = nanos;
+            if (failed) errors++;
+        }
+
+        synchronized void addAll(Recorder other) {
+            synchronized (other) {
+                for (int i = 0; i < other.size; i++) record(other.latencies[i], false);
+                errors += other.errors;
+            }
+        }
+
+        synchronized Stats stats(String name, double elapsedSec) {
+            long[] sorted = Arrays.copyOf(latencies, size);
+            Arrays.sort(sorted);
+            return new Stats(name, size, errors, size / elapsedSec,
+                    pct(sorted, 0.50), pct(sorted, 0.90), pct(sorted, 0.99), pct(sorted, 0.999),
+                    size == 0 ? 0 : sorted[size - 1] / 1e6);
+        }
+
+        private static double pct(long[] sorted, double q) {
+            if (sorted.length == 0) return 0;
+            int idx = (int) Math.ceil(q * sorted.length) - 1;
+            return sorted[Math.max(0, Math.min(sorted.length - 1, idx))] / 1e6;
+        }
+    }
+
+    /**
+     * Bytes allocated by all live threads (threads that exited during the run are not counted).
+     */
+    private static long allocatedBytes() {
+        if (!(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean mx)
+                || !mx.isThreadAllocatedMemorySupported()) {
+            return 0;
+        }
+        long sum = 0;
+        for (long bytes : mx.getThreadAllocatedBytes(mx.getAllThreadIds())) {
+            if (bytes > 0) sum += bytes;
+        }
+        return sum;
+    }
+
+    private static long[] gc() {
+        long count = 0, time = 0;
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            count += Math.max(0, gc.getCollectionCount());
+            time += Math.max(0, gc.getCollectionTime());
+        }
+        return new long[]{count, time};
+    }
+}
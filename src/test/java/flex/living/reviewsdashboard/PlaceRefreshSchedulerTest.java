@@ -0,0 +1,166 @@
+package flex.living.reviewsdashboard;
+
+import flex.living.reviewsdashboard.client.CircuitBreakers;
+import flex.living.reviewsdashboard.client.GooglePlacesStatusException;
+import flex.living.reviewsdashboard.client.GoogleReviewClient;
+import flex.living.reviewsdashboard.config.GooglePlacesConfig;
+import flex.living.reviewsdashboard.config.ListingsConfig;
+import flex.living.reviewsdashboard.config.UpstreamBreakerConfig;
+import flex.living.reviewsdashboard.service.PlaceRefreshScheduler;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class PlaceRefreshSchedulerTest {
+
+    private GoogleReviewClient google;
+    private GooglePlacesConfig googleCfg;
+    private ListingsConfig listings;
+
+    @BeforeEach
+    void setup() {
+        google = Mockito.mock(GoogleReviewClient.class);
+        googleCfg = new GooglePlacesConfig();
+        listings = new ListingsConfig();
+        Map<String, String> places = new LinkedHashMap<>();
+        places.put("Hot", "p-hot");
+        places.put("Warm", "p-warm");
+        places.put("Cold", "p-cold");
+        listings.setGooglePlaceIds(places);
+    }
+
+    private PlaceRefreshScheduler scheduler() {
+        return new PlaceRefreshScheduler(google, listings, googleCfg, new SimpleMeterRegistry());
+    }
+
+    @Test
+    void viewedPlacesAreRefreshedMoreOftenWithinTheBudget() {
+        var refresh = googleCfg.getRefresh();
+        refresh.setRequestsPerHour(4);
+        refresh.setMinIntervalMinutes(5);
+        refresh.setMaxIntervalMinutes(1440);
+        var scheduler = scheduler();
+
+        scheduler.recordAccess("p-hot", 400);
+        scheduler.recordAccess("p-warm", 4);
+
+        Map<String, PlaceRefreshScheduler.Entry> plan = scheduler.schedule().stream()
+                .collect(Collectors.toMap(PlaceRefreshScheduler.Entry::placeId, Function.identity()));
+
+        double hot = plan.get("p-hot").intervalMinutes();
+        double warm = plan.get("p-warm").intervalMinutes();
+        double cold = plan.get("p-cold").intervalMinutes();
+        assertThat(hot).isLessThan(warm).isGreaterThanOrEqualTo(5);
+        assertThat(warm).isLessThan(cold);
+        assertThat(cold).isEqualTo(1440); // idle: only the floor, the rest of the budget isn't spent on it
+        // square-root rule: 100x the views buys about 10x the refresh rate
+        assertThat((60 / hot - 60 / 1440.0) / (60 / warm - 60 / 1440.0)).isCloseTo(10.0, within(0.01));
+        double perHour = plan.values().stream().mapToDouble(e -> 60 / e.intervalMinutes()).sum();
+        assertThat(perHour).isLessThanOrEqualTo(4.0 + 1e-9);
+        assertThat(scheduler.schedule().get(0).placeId()).isEqualTo("p-hot");
+    }
+
+    @Test
+    void hottestPlaceIsCappedAtTheMinimumInterval() {
+        var refresh = googleCfg.getRefresh();
+        refresh.setRequestsPerHour(1000);
+        refresh.setMinIntervalMinutes(10);
+        var scheduler = scheduler();
+
+        scheduler.recordAccess("p-hot", 10_000);
+        scheduler.recordAccess("p-warm", 1);
+
+        Map<String, PlaceRefreshScheduler.Entry> plan = scheduler.schedule().stream()
+                .collect(Collectors.toMap(PlaceRefreshScheduler.Entry::placeId, Function.identity()));
+        assertThat(plan.get("p-hot").intervalMinutes()).isEqualTo(10.0);
+        // what the hot place could not use went to the other viewed place
+        assertThat(plan.get("p-warm").intervalMinutes()).isEqualTo(10.0);
+    }
+
+    @Test
+    void refreshesStopWhenTheBudgetIsSpent_includingOnDemandMisses() {
+        googleCfg.getRefresh().setRequestsPerHour(24); // bucket holds 2 refreshes
+        var scheduler = scheduler();
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<GoogleReviewClient.FetchListener> listener = ArgumentCaptor.forClass(GoogleReviewClient.FetchListener.class);
+        verify(google).addFetchListener(listener.capture());
+
+        // a user request missed the cache and went to Google: that spends one of the two
+        listener.getValue().onFetch("p-cold", true);
+        scheduler.recordAccess("p-hot", 10);
+
+        assertThat(scheduler.runOnce()).isEqualTo(1);
+        verify(google).refresh("p-hot"); // never fetched and viewed, so first in line
+        assertThat(scheduler.runOnce()).isZero();
+        verify(google, times(1)).refresh(anyString());
+    }
+
+    @Test
+    void quotaErrorKeepsTheCachedReviewsAndTheRefreshStaysDue() throws Exception {
+        listings.setGooglePlaceIds(Map.of("Hot", "p-hot"));
+        var registry = new SimpleMeterRegistry();
+        try (var server = new MockWebServer(); var ctx = new AnnotationConfigApplicationContext()) {
+            server.enqueue(json("""
+                    {"status":"OK","result":{"reviews":[{"author_name":"Dee","rating":5,"text":"Great","time":1700000000}]}}
+                    """));
+            server.enqueue(json("""
+                    {"status":"OVER_QUERY_LIMIT","error_message":"You have exceeded your daily request quota"}
+                    """));
+            server.start();
+            ctx.register(Caching.class);
+            ctx.registerBean(GoogleReviewClient.class, () -> new GoogleReviewClient(WebClient.create(server.url("/").toString()),
+                    googleCfg, new CircuitBreakers(new UpstreamBreakerConfig(), registry), registry));
+            ctx.refresh();
+            var client = ctx.getBean(GoogleReviewClient.class);
+            assertThat(client.fetchForPlace("p-hot").count()).isEqualTo(1);
+
+            var scheduler = new PlaceRefreshScheduler(client, listings, googleCfg, registry);
+            scheduler.recordAccess("p-hot", 10);
+
+            assertThat(scheduler.runOnce()).isZero();
+            assertThat(server.getRequestCount()).isEqualTo(2);
+            assertThat(client.fetchForPlace("p-hot").count()).isEqualTo(1); // still the good entry, from the cache
+            assertThat(server.getRequestCount()).isEqualTo(2);
+            assertThat(scheduler.schedule().get(0).due()).isTrue();
+
+            server.enqueue(json("{\"status\":\"REQUEST_DENIED\"}"));
+            assertThatThrownBy(() -> client.refresh("p-hot")).isInstanceOf(GooglePlacesStatusException.class);
+        }
+    }
+
+    private static MockResponse json(String body) {
+        return new MockResponse().setBody(body).addHeader("Content-Type", "application/json");
+    }
+
+    @Configuration
+    @EnableCaching
+    static class Caching {
+        @Bean
+        CacheManager cacheManager() {
+            return new ConcurrentMapCacheManager("google-reviews");
+        }
+    }
+}
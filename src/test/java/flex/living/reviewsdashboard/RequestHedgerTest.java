@@ -0,0 +1,88 @@
+package flex.living.reviewsdashboard;
+
+import flex.living.reviewsdashboard.client.RequestHedger;
+import flex.living.reviewsdashboard.config.GooglePlacesConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RequestHedgerTest {
+
+    @Test
+    void slowPrimary_isHedgedAndFasterDuplicateWins() {
+        var cfg = new GooglePlacesConfig.Hedge();
+        cfg.setEnabled(true);
+        cfg.setMinSamples(1);
+        cfg.setMinDelayMs(10);
+        cfg.setBudgetRatio(1.0);
+        var registry = new SimpleMeterRegistry();
+        var hedger = new RequestHedger("test", cfg, registry);
+
+        // warm the latency window with one fast call
+        assertThat(hedger.call(() -> Mono.just("warm")).block()).isEqualTo("warm");
+
+        var attempts = new AtomicInteger();
+        String result = hedger.call(() -> attempts.incrementAndGet() == 1
+                        ? Mono.delay(Duration.ofSeconds(5)).thenReturn("slow")
+                        : Mono.just("fast"))
+                .block(Duration.ofSeconds(2));
+
+        assertThat(result).isEqualTo("fast");
+        assertThat(attempts.get()).isEqualTo(2);
+        assertThat(registry.counter("upstream.hedge.fired", "endpoint", "test").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void fastFailingPrimary_propagatesItsOwnErrorWithoutHedging() throws Exception {
+        var cfg = new GooglePlacesConfig.Hedge();
+        cfg.setEnabled(true);
+        cfg.setMinSamples(1);
+        cfg.setMinDelayMs(50);
+        cfg.setBudgetRatio(1.0);
+        var registry = new SimpleMeterRegistry();
+        var hedger = new RequestHedger("test", cfg, registry);
+        hedger.call(() -> Mono.just("warm")).block();
+
+        var attempts = new AtomicInteger();
+        Mono<String> call = hedger.call(() -> {
+            attempts.incrementAndGet();
+            return Mono.error(WebClientResponseException.create(404, "Not Found", null, null, null));
+        });
+
+        assertThatThrownBy(() -> call.block(Duration.ofSeconds(2)))
+                .isInstanceOfSatisfying(WebClientResponseException.class,
+                        e -> assertThat(e.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND));
+        Thread.sleep(100); // past the hedge delay
+        assertThat(attempts.get()).isEqualTo(1);
+        assertThat(registry.counter("upstream.hedge.fired", "endpoint", "test").count()).isZero();
+    }
+
+    @Test
+    void noBudget_meansNoDuplicate() {
+        var cfg = new GooglePlacesConfig.Hedge();
+        cfg.setEnabled(true);
+        cfg.setMinSamples(1);
+        cfg.setMinDelayMs(10);
+        cfg.setBudgetRatio(0.05);
+        var hedger = new RequestHedger("test", cfg, new SimpleMeterRegistry());
+        hedger.call(() -> Mono.just("warm")).block();
+
+        var attempts = new AtomicInteger();
+        String result = hedger.call(() -> {
+                    attempts.incrementAndGet();
+                    return Mono.delay(Duration.ofMillis(100)).thenReturn("only");
+                })
+                .block(Duration.ofSeconds(2));
+
+        assertThat(result).isEqualTo("only");
+        assertThat(attempts.get()).isEqualTo(1);
+    }
+}
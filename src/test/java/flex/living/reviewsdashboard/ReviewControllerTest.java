@@ -1,28 +1,53 @@
 package flex.living.reviewsdashboard;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
 import flex.living.reviewsdashboard.api.ReviewController;
+import flex.living.reviewsdashboard.config.AdmissionConfig;
+import flex.living.reviewsdashboard.config.CorsCfg;
+import flex.living.reviewsdashboard.config.RequestTimingConfig;
+import flex.living.reviewsdashboard.config.ResponseCacheConfig;
 import flex.living.reviewsdashboard.model.NormalizedReview;
 import flex.living.reviewsdashboard.model.NormalizedReviewResponse;
 import flex.living.reviewsdashboard.service.HostawayReviewService;
+import flex.living.reviewsdashboard.service.ListingDirectoryService;
+import flex.living.reviewsdashboard.service.DatasetVersion;
 import flex.living.reviewsdashboard.service.ReviewsAggregationService;
+import flex.living.reviewsdashboard.web.ResponseBytesCache;
+import flex.living.reviewsdashboard.web.SlowRequestLog;
+import flex.living.reviewsdashboard.web.WireFormat;
+import flex.living.reviewsdashboard.web.WireMappers;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
 import java.time.OffsetDateTime;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(ReviewController.class)
+@Import({CorsCfg.class, ResponseBytesCache.class, ResponseCacheConfig.class, DatasetVersion.class, WireMappers.class,
+        RequestTimingConfig.class, SlowRequestLog.class, AdmissionConfig.class, SimpleMeterRegistry.class})
 class ReviewControllerTest {
 
     @Autowired
@@ -34,6 +59,9 @@ class ReviewControllerTest {
     @MockBean
     private ReviewsAggregationService aggregationService;
 
+    @MockBean
+    private ListingDirectoryService directory;
+
     @Test
     void hostaway_returnsNormalizedPayload() throws Exception {
         var review = new NormalizedReview(
@@ -50,7 +78,7 @@ class ReviewControllerTest {
         );
         var resp = new NormalizedReviewResponse("hostaway", 1, List.of(review));
 
-        Mockito.when(hostawayService.getReviews(1, 0)).thenReturn(resp);
+        Mockito.when(hostawayService.getReviews(null, 1, 0)).thenReturn(resp);
 
         mockMvc.perform(get("/api/reviews/hostaway")
                         .param("limit", "1")
@@ -67,7 +95,7 @@ class ReviewControllerTest {
 
     @Test
     void hostaway_onException_returnsEmptyPayload() throws Exception {
-        Mockito.when(hostawayService.getReviews(anyInt(), anyInt()))
+        Mockito.when(hostawayService.getReviews(isNull(), anyInt(), anyInt()))
                 .thenThrow(new RuntimeException("boom"));
 
         mockMvc.perform(get("/api/reviews/hostaway")
@@ -109,7 +137,7 @@ class ReviewControllerTest {
         );
         var combined = new NormalizedReviewResponse("combined", 2, List.of(r1, r2));
 
-        Mockito.when(aggregationService.combined(500, 0)).thenReturn(combined);
+        Mockito.when(aggregationService.combined(null, null, 500, 0)).thenReturn(combined);
 
         mockMvc.perform(get("/api/reviews/combined")
                         .param("limit", "500")
@@ -121,4 +149,132 @@ class ReviewControllerTest {
                 .andExpect(jsonPath("$.reviews[0].channel").exists())
                 .andExpect(jsonPath("$.reviews[1].channel").exists());
     }
+
+    @Test
+    void combined_servesCachedBytesAndHonoursIfNoneMatch() throws Exception {
+        var r1 = new NormalizedReview(
+                "hostaway:1",
+                "Listing A",
+                "Alice",
+                "guest_to_host",
+                "published",
+                9,
+                Map.of(),
+                "hostaway",
+                "Lovely stay!",
+                OffsetDateTime.parse("2024-01-10T12:00:00Z")
+        );
+        Mockito.when(aggregationService.combined(null, null, 20, 0))
+                .thenReturn(new NormalizedReviewResponse("combined", 1, List.of(r1)));
+
+        var first = mockMvc.perform(get("/api/reviews/combined")
+                        .param("limit", "20")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andExpect(jsonPath("$.reviews[0].id").value("hostaway:1"))
+                .andReturn();
+        String etag = first.getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/api/reviews/combined")
+                        .param("limit", "20")
+                        .header(HttpHeaders.IF_NONE_MATCH, etag)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, etag));
+
+        // second hit is served from the byte cache
+        verify(aggregationService, times(1)).combined(null, null, 20, 0);
+    }
+
+    @Test
+    void hostaway_negotiatesSmileAndColumnarLayout() throws Exception {
+        var a = new NormalizedReview("1", "Listing A", "Alice", "guest_to_host", "published",
+                9, Map.of(), "airbnb", "Great", OffsetDateTime.parse("2024-01-10T12:00:00Z"));
+        var b = new NormalizedReview("2", "Listing A", "Bob", "guest_to_host", "published",
+                7, Map.of(), "airbnb", "Fine", null);
+        Mockito.when(hostawayService.getReviews(null, 2, 0))
+                .thenReturn(new NormalizedReviewResponse("hostaway", 2, List.of(a, b)));
+
+        var res = mockMvc.perform(get("/api/reviews/hostaway")
+                        .param("limit", "2")
+                        .param("layout", "columnar")
+                        .accept(WireFormat.SMILE.mediaType()))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(WireFormat.SMILE.mediaType()))
+                .andReturn();
+
+        JsonNode page = new SmileMapper().readTree(res.getResponse().getContentAsByteArray());
+        assertThat(page.path("count").asInt()).isEqualTo(2);
+        assertThat(page.path("dictionaries").path("listings").size()).isEqualTo(1);
+        assertThat(page.path("columns").path("channel").get(1).asInt()).isZero();
+        assertThat(page.path("columns").path("submittedAt").get(0).asLong()).isEqualTo(1704888000000L);
+        assertThat(page.path("columns").path("submittedAt").get(1).isNull()).isTrue();
+
+        // JSON remains the default for wildcard clients
+        mockMvc.perform(get("/api/reviews/hostaway")
+                        .param("limit", "2")
+                        .accept(MediaType.ALL))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.reviews[1].guestName").value("Bob"));
+    }
+
+    @Test
+    void combined_appliesSparseFieldsAndSnippet() throws Exception {
+        var r = new NormalizedReview("hostaway:9", "Listing A", "Carol", "guest_to_host", "published",
+                10, Map.of("cleanliness", 10), "airbnb",
+                "Spotless flat with a great view over the canal and a very comfortable bed",
+                OffsetDateTime.parse("2024-02-01T08:00:00Z"));
+        Mockito.when(aggregationService.combined(null, null, 500, 0))
+                .thenReturn(new NormalizedReviewResponse("combined", 1, List.of(r)));
+
+        mockMvc.perform(get("/api/reviews/combined")
+                        .param("fields", "guestName,text,bogus")
+                        .param("snippet", "20")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.count").value(1))
+                .andExpect(jsonPath("$.reviews[0].id").value("hostaway:9"))
+                .andExpect(jsonPath("$.reviews[0].guestName").value("Carol"))
+                .andExpect(jsonPath("$.reviews[0].text").value("Spotless flat with a…"))
+                .andExpect(jsonPath("$.reviews[0].categoryRatings").doesNotExist())
+                .andExpect(jsonPath("$.reviews[0].channel").doesNotExist());
+    }
+
+    @Test
+    void combined_forOneListing_countsAViewEvenWhenCached() throws Exception {
+        Mockito.when(aggregationService.combined(null, "Listing A", 500, 0))
+                .thenReturn(new NormalizedReviewResponse("combined", 0, List.of()));
+
+        for (int i = 0; i < 2; i++) {
+            mockMvc.perform(get("/api/reviews/combined")
+                            .param("listing", "Listing A")
+                            .accept(MediaType.APPLICATION_JSON))
+                    .andExpect(status().isOk());
+        }
+
+        verify(aggregationService, times(1)).combined(null, "Listing A", 500, 0);
+        verify(directory, times(2)).recordView("Listing A");
+    }
+
+    @Test
+    void one_resolvesTheReviewById() throws Exception {
+        var r = new NormalizedReview("google:42", "Listing A", "Dee", "guest_to_host", "published",
+                5, Map.of(), "google", "Great", null);
+        Mockito.when(aggregationService.find(null, "google:42")).thenReturn(Optional.of(r));
+
+        mockMvc.perform(get("/api/reviews/google:42").accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.guestName").value("Dee"));
+        verify(aggregationService, never()).combined(isNull(), isNull(), anyInt(), anyInt());
+    }
+
+    @Test
+    void one_returns404WhenUnknown() throws Exception {
+        Mockito.when(aggregationService.find(null, "nope")).thenReturn(Optional.empty());
+
+        mockMvc.perform(get("/api/reviews/nope").accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isNotFound());
+    }
 }
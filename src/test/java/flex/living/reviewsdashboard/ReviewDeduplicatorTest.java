@@ -0,0 +1,89 @@
+package flex.living.reviewsdashboard;
+
+import flex.living.reviewsdashboard.config.DedupConfig;
+import flex.living.reviewsdashboard.model.NormalizedReview;
+import flex.living.reviewsdashboard.service.DatasetVersion;
+import flex.living.reviewsdashboard.service.ReviewDeduplicator;
+import flex.living.reviewsdashboard.service.ReviewStore;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReviewDeduplicatorTest {
+
+    private static final String LISTING = "Hotel California";
+    private static final OffsetDateTime T0 = OffsetDateTime.parse("2024-05-01T10:00:00Z");
+
+    private final ReviewDeduplicator dedup =
+            new ReviewDeduplicator(new DedupConfig(), new ReviewStore(new DatasetVersion()), new SimpleMeterRegistry());
+
+    @Test
+    void sameStayOnBothSources_keepsTheChannelReview() {
+        var hostaway = review("7453", LISTING, "Shane Finkelstein", "airbnb",
+                "Lovely flat, really clean and quiet. The host was super responsive and check-in was easy.", T0);
+        var google = review("google:1", LISTING, "Shane F.", "google",
+                "Lovely flat, really clean and quiet! The host was super responsive and check in was easy", T0.plusDays(3));
+        var other = review("google:2", LISTING, "Maria", "google",
+                "Terrible wifi and the heating did not work during our whole stay in January.", T0);
+
+        var out = dedup.collapse(List.of(google, other, hostaway));
+
+        assertThat(out).extracting(NormalizedReview::id).containsExactly("google:2", "7453");
+    }
+
+    @Test
+    void sameSourceOrFarApart_isKept() {
+        String text = "Great location near the station, spotless kitchen and very comfortable beds for the family.";
+        var a = review("1", LISTING, "Ana", "airbnb", text, T0);
+        var b = review("2", LISTING, "Ana", "booking", text, T0);
+        var late = review("google:9", LISTING, "Ana", "google", text, T0.plusDays(120));
+
+        assertThat(dedup.collapse(List.of(a, b, late))).hasSize(3);
+    }
+
+    @Test
+    void result_doesNotDependOnInputOrder() {
+        String text = "Spacious apartment, friendly host, would definitely stay again next time in London.";
+        List<NormalizedReview> input = new ArrayList<>(List.of(
+                review("11", LISTING, "Tom Baker", "airbnb", text, T0),
+                review("google:a", LISTING, "Tom B", "google", text, T0.plusDays(1)),
+                review("google:b", null, "Tom", "google", text + " Thanks!", T0.plusDays(2)),
+                review("12", LISTING, "Lee", "booking", "Small room but the bed was comfortable and the view was great.", T0)));
+
+        var expected = dedup.collapse(input).stream().map(NormalizedReview::id).sorted().toList();
+        for (int i = 0; i < 5; i++) {
+            Collections.shuffle(input);
+            assertThat(dedup.collapse(input).stream().map(NormalizedReview::id).sorted().toList()).isEqualTo(expected);
+        }
+        assertThat(expected).containsExactly("11", "12");
+    }
+
+    @Test
+    void setLargerThanTheIndexBound_isStillCollapsedWhole() {
+        var cfg = new DedupConfig();
+        cfg.setMaxEntries(2);
+        var small = new ReviewDeduplicator(cfg, new ReviewStore(new DatasetVersion()), new SimpleMeterRegistry());
+        String text = "Lovely flat, really clean and quiet. The host was super responsive and check-in was easy.";
+        var hostaway = review("7453", LISTING, "Shane", "airbnb", text, T0);
+        var filler = review("8000", LISTING, "Lee", "booking", "Small room but the bed was comfortable and the view was great.", T0);
+        var other = review("8001", LISTING, "Maria", "booking", "Terrible wifi and the heating did not work during our stay.", T0);
+        var google = review("google:1", LISTING, "Shane", "google", text, T0.plusDays(1));
+
+        assertThat(small.collapse(List.of(hostaway, filler, other, google)))
+                .extracting(NormalizedReview::id).containsExactly("7453", "8000", "8001");
+        assertThat(small.collapse(List.of(google, hostaway))).extracting(NormalizedReview::id).containsExactly("7453");
+    }
+
+    private static NormalizedReview review(String id, String listing, String guest, String channel, String text,
+                                           OffsetDateTime at) {
+        Map<String, Integer> cats = "google".equals(channel) ? Map.of() : Map.of("cleanliness", 10);
+        return new NormalizedReview(id, listing, guest, "guest_to_host", "published", 9, cats, channel, text, at);
+    }
+}
@@ -0,0 +1,99 @@
+package flex.living.reviewsdashboard;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import flex.living.reviewsdashboard.client.HostawayAccounts;
+import flex.living.reviewsdashboard.config.HostawayConfig;
+import flex.living.reviewsdashboard.config.HostawayRateLimitConfig;
+import flex.living.reviewsdashboard.manager.ReviewExport;
+import flex.living.reviewsdashboard.manager.ReviewExportController;
+import flex.living.reviewsdashboard.model.NormalizedReview;
+import flex.living.reviewsdashboard.service.DatasetVersion;
+import flex.living.reviewsdashboard.service.ReviewIndex;
+import flex.living.reviewsdashboard.service.ReviewStats;
+import flex.living.reviewsdashboard.service.ReviewStore;
+import flex.living.reviewsdashboard.web.ReviewFieldFilter;
+import flex.living.reviewsdashboard.web.WireMappers;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.io.ByteArrayInputStream;
+import java.time.OffsetDateTime;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class ReviewExportTest {
+
+    private static final String ACCOUNT = HostawayConfig.DEFAULT_ACCOUNT;
+
+    private ReviewStore store;
+    private MockMvc mvc;
+
+    @BeforeEach
+    void setUp() {
+        store = new ReviewStore(new DatasetVersion());
+        var accounts = new HostawayAccounts(new HostawayConfig("http://unused", 1, "s", 1000, 1000),
+                new HostawayRateLimitConfig(), new SimpleMeterRegistry());
+        var json = Jackson2ObjectMapperBuilder.json().filters(ReviewFieldFilter.provider()).build();
+        var export = new ReviewExport(new WireMappers(json));
+        mvc = MockMvcBuilders.standaloneSetup(new ReviewExportController(store, accounts, export, new ReviewStats(store), new ReviewIndex(store))).build();
+
+        store.upsert(ACCOUNT, review("10", "Hotel California", 9, "Quiet, \"spotless\"\nwould return"));
+        store.upsert(ACCOUNT, review("9", "Hotel California", 4, "=HYPERLINK(\"x\")"));
+        store.upsert(ACCOUNT, review("11", "Shoreditch Heights", 8, "Fine"));
+        store.upsert(ACCOUNT, review("100", "Hotel California", 7, "Ok"));
+    }
+
+    @Test
+    void csv_isFilteredEscapedAndInIdOrder() throws Exception {
+        String csv = mvc.perform(get("/api/manager/reviews/export").param("listing", "Hotel California"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Disposition", "attachment; filename=\"reviews-default.csv\""))
+                .andReturn().getResponse().getContentAsString(UTF_8);
+
+        assertThat(csv).startsWith("id,listingName,guestName,direction,status,overallRating,effectiveRating,channel,submittedAt,categoryRatings,text\r\n");
+        assertThat(csv.indexOf("\r\n9,")).isLessThan(csv.indexOf("\r\n10,")).isLessThan(csv.indexOf("\r\n100,"));
+        assertThat(csv).contains(",\"Quiet, \"\"spotless\"\"\nwould return\"\r\n");
+        assertThat(csv).contains(",\"'=HYPERLINK(\"\"x\"\")\"\r\n");
+        assertThat(csv).contains("cleanliness=10").doesNotContain("Shoreditch");
+    }
+
+    @Test
+    void ndjson_resumesAfterCursor_gzipped() throws Exception {
+        byte[] body = mvc.perform(get("/api/manager/reviews/export")
+                        .param("format", "ndjson").param("after", "9").param("limit", "2")
+                        .header("Accept-Encoding", "gzip"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Encoding", "gzip"))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        String ndjson;
+        try (var in = new GZIPInputStream(new ByteArrayInputStream(body))) {
+            ndjson = new String(in.readAllBytes(), UTF_8);
+        }
+        String[] lines = ndjson.split("\n");
+        var om = new ObjectMapper();
+        assertThat(lines).hasSize(2);
+        assertThat(om.readTree(lines[0]).get("id").asText()).isEqualTo("10");
+        assertThat(om.readTree(lines[1]).get("id").asText()).isEqualTo("11");
+    }
+
+    @Test
+    void unknownFormat_isRejected() throws Exception {
+        mvc.perform(get("/api/manager/reviews/export").param("format", "xlsx")).andExpect(status().isBadRequest());
+    }
+
+    private static NormalizedReview review(String id, String listing, int rating, String text) {
+        return new NormalizedReview(id, listing, "Ana", "guest_to_host", "published", rating,
+                Map.of("cleanliness", 10), "airbnb", text, OffsetDateTime.parse("2024-01-01T00:00:00Z"));
+    }
+}
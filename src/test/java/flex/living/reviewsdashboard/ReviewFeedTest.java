@@ -0,0 +1,119 @@
+package flex.living.reviewsdashboard;
+
+import flex.living.reviewsdashboard.client.HostawayAccounts;
+import flex.living.reviewsdashboard.config.FeedConfig;
+import flex.living.reviewsdashboard.config.HostawayConfig;
+import flex.living.reviewsdashboard.config.HostawayRateLimitConfig;
+import flex.living.reviewsdashboard.manager.ReviewFeed;
+import flex.living.reviewsdashboard.manager.ReviewFeedController;
+import flex.living.reviewsdashboard.manager.ReviewSelectionStore;
+import flex.living.reviewsdashboard.model.NormalizedReview;
+import flex.living.reviewsdashboard.service.DatasetVersion;
+import flex.living.reviewsdashboard.service.ReviewStore;
+import flex.living.reviewsdashboard.web.ReviewFieldFilter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.time.OffsetDateTime;
+import java.util.Map;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+class ReviewFeedTest {
+
+    private static final String ACCOUNT = HostawayConfig.DEFAULT_ACCOUNT;
+
+    private ReviewStore store;
+    private ReviewSelectionStore selections;
+    private FeedConfig cfg;
+    private MockMvc mvc;
+
+    @BeforeEach
+    void setUp() {
+        var version = new DatasetVersion();
+        store = new ReviewStore(version);
+        selections = new ReviewSelectionStore(version);
+        cfg = new FeedConfig();
+        cfg.setCoalesceMs(100);
+        cfg.setMaxPending(5);
+        var registry = new SimpleMeterRegistry();
+        var accounts = new HostawayAccounts(new HostawayConfig("http://unused", 1, "s", 1000, 1000),
+                new HostawayRateLimitConfig(), registry);
+        var feed = new ReviewFeed(store, selections, accounts, cfg, registry);
+        var json = Jackson2ObjectMapperBuilder.json().filters(ReviewFieldFilter.provider()).build();
+        mvc = MockMvcBuilders.standaloneSetup(new ReviewFeedController(feed))
+                .setMessageConverters(new MappingJackson2HttpMessageConverter(json))
+                .build();
+    }
+
+    @Test
+    void pushesMatchingChanges_coalescedPerReview() throws Exception {
+        var response = open(get("/api/manager/reviews/stream").param("listing", "Hotel California"));
+        awaitBody(response, b -> b.contains("event:ready"));
+
+        store.upsert(ACCOUNT, review("1", "Hotel California", 6));
+        store.upsert(ACCOUNT, review("1", "Hotel California", 7));
+        store.upsert(ACCOUNT, review("1", "Hotel California", 9)); // same burst: only the latest is sent
+        store.upsert(ACCOUNT, review("2", "Shoreditch Heights", 9)); // filtered out
+        selections.setSelected("1", true);
+
+        String body = awaitBody(response, b -> b.contains("event:selection"));
+        assertThat(count(body, "event:review\n")).isEqualTo(1);
+        assertThat(body).contains("\"overallRating\":9").doesNotContain("Shoreditch");
+        assertThat(body).contains("\"selected\":true");
+
+        store.upsert(ACCOUNT, review("1", "Shoreditch Heights", 9)); // moved out of the filter
+        assertThat(awaitBody(response, b -> b.contains("event:review-removed"))).contains("{\"id\":\"1\"}");
+    }
+
+    @Test
+    void laggingSubscriber_getsSingleResync() throws Exception {
+        cfg.setCoalesceMs(300);
+        var response = open(get("/api/manager/reviews/stream"));
+        awaitBody(response, b -> b.contains("event:ready"));
+
+        for (int i = 0; i < 20; i++) store.upsert(ACCOUNT, review("r" + i, "Hotel California", 8));
+
+        String body = awaitBody(response, b -> b.contains("event:resync"));
+        assertThat(count(body, "event:resync")).isEqualTo(1);
+        assertThat(body).doesNotContain("event:review\n");
+    }
+
+    private MockHttpServletResponse open(MockHttpServletRequestBuilder request) throws Exception {
+        return mvc.perform(request).andExpect(request().asyncStarted()).andReturn().getResponse();
+    }
+
+    /**
+     * Polls the streamed body until {@code done} holds for the events written completely so far.
+     */
+    private static String awaitBody(MockHttpServletResponse response, Predicate<String> done) throws Exception {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (true) {
+            String written = response.getContentAsString();
+            String body = written.substring(0, written.lastIndexOf("\n\n") + 1);
+            if (done.test(body)) return body;
+            if (System.currentTimeMillis() > deadline) throw new AssertionError("stream so far:\n" + body);
+            Thread.sleep(20);
+        }
+    }
+
+    private static int count(String body, String needle) {
+        return body.split(Pattern.quote(needle), -1).length - 1;
+    }
+
+    private static NormalizedReview review(String id, String listing, int rating) {
+        return new NormalizedReview(id, listing, "Ana", "guest_to_host", "published", rating, Map.of(), "airbnb",
+                "Nice stay", OffsetDateTime.parse("2024-01-01T00:00:00Z"));
+    }
+}
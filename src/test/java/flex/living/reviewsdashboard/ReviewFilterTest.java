@@ -0,0 +1,95 @@
+package flex.living.reviewsdashboard;
+
+import flex.living.reviewsdashboard.manager.QueryPlan;
+import flex.living.reviewsdashboard.manager.ReviewFilter;
+import flex.living.reviewsdashboard.model.NormalizedReview;
+import flex.living.reviewsdashboard.service.DatasetVersion;
+import flex.living.reviewsdashboard.service.ReviewStats;
+import flex.living.reviewsdashboard.service.ReviewStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReviewFilterTest {
+
+    private static final String ACCOUNT = "default";
+    private static final OffsetDateTime START = OffsetDateTime.of(2024, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC);
+
+    private ReviewStore store;
+    private ReviewStats stats;
+    private final List<NormalizedReview> reviews = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        store = new ReviewStore(new DatasetVersion());
+        stats = new ReviewStats(store);
+        for (int i = 0; i < 1_000; i++) {
+            String channel = i % 100 == 0 ? "vrbo" : "airbnb";      // 1% vrbo
+            String listing = "Listing " + (i % 4);                  // 25% each
+            Integer overall = i % 3 == 0 ? null : 1 + i % 10;
+            var cats = overall == null ? Map.of("cleanliness", 10, "communication", 7) : Map.<String, Integer>of();
+            var r = new NormalizedReview(String.valueOf(i), listing, "Guest " + i, "guest_to_host", "published",
+                    overall, cats, channel, i % 7 == 0 ? "Lovely QUIET flat" : "Fine", START.plusDays(i % 365));
+            reviews.add(r);
+            store.upsert(ACCOUNT, r);
+        }
+    }
+
+    @Test
+    void effectiveRating_fallsBackToRoundedCategoryMean() {
+        var r = new NormalizedReview("1", "L", "G", null, null, null, Map.of("a", 10, "b", 7), "airbnb", "", null);
+        assertThat(r.effectiveRating()).isEqualTo(9); // 8.5 rounds up
+        assertThat(new NormalizedReview("2", "L", "G", null, null, 4, Map.of("a", 10), "airbnb", "", null).effectiveRating())
+                .isEqualTo(4);
+        assertThat(new NormalizedReview("3", "L", "G", null, null, null, Map.of(), "airbnb", "", null).effectiveRating())
+                .isNull();
+    }
+
+    @Test
+    void plan_runsSelectiveCheapTermsFirstAndTextLast() {
+        var filter = new ReviewFilter("quiet", "vrbo", "Listing 1", 5, null, null, null);
+        QueryPlan plan = filter.plan(stats.of(ACCOUNT));
+
+        assertThat(plan.terms()).extracting(QueryPlan.Term::name).containsExactly("channel", "listing", "rating", "text");
+        assertThat(plan.terms().get(0).selectivity()).isEqualTo(0.01);
+    }
+
+    @Test
+    void plan_prefersANarrowDateRangeOverABroadRatingBound() {
+        var filter = new ReviewFilter(null, null, null, 2, null, START, START.plusDays(3));
+        QueryPlan plan = filter.plan(stats.of(ACCOUNT));
+
+        assertThat(plan.terms()).extracting(QueryPlan.Term::name).containsExactly("submitted", "rating");
+    }
+
+    @Test
+    void plan_matchesTheSameReviewsAsTheFilter() {
+        var filters = List.of(
+                new ReviewFilter("quiet", "airbnb", null, 6, 9, null, null),
+                new ReviewFilter(null, "all", "Listing 2", null, 3, START.plusDays(10), START.plusDays(200)),
+                new ReviewFilter("GUEST 1", null, null, null, null, null, START.plusDays(50)),
+                new ReviewFilter(null, null, null, null, null, null, null));
+        for (var f : filters) {
+            var plan = f.plan(stats.of(ACCOUNT));
+            assertThat(reviews.stream().filter(plan).toList()).isEqualTo(reviews.stream().filter(f).toList());
+        }
+    }
+
+    @Test
+    void stats_followEdits() {
+        var before = stats.of(ACCOUNT).channel("vrbo");
+        var r = reviews.get(1);
+        store.upsert(ACCOUNT, new NormalizedReview(r.id(), r.listingName(), r.guestName(), r.direction(), r.status(),
+                r.overallRating(), r.categoryRatings(), "vrbo", r.text(), r.submittedAt()));
+
+        assertThat(stats.of(ACCOUNT).channel("vrbo")).isEqualTo(before + 0.001);
+        assertThat(stats.of(ACCOUNT).total()).isEqualTo(1_000);
+    }
+}
@@ -0,0 +1,108 @@
+package flex.living.reviewsdashboard;
+
+import flex.living.reviewsdashboard.manager.QueryPlan;
+import flex.living.reviewsdashboard.manager.ReviewFilter;
+import flex.living.reviewsdashboard.model.NormalizedReview;
+import flex.living.reviewsdashboard.service.DatasetVersion;
+import flex.living.reviewsdashboard.service.ReviewIndex;
+import flex.living.reviewsdashboard.service.ReviewStats;
+import flex.living.reviewsdashboard.service.ReviewStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReviewIndexTest {
+
+    private static final String ACCOUNT = "default";
+    private static final OffsetDateTime START = OffsetDateTime.of(2024, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC);
+
+    private ReviewStore store;
+    private ReviewStats stats;
+    private ReviewIndex index;
+
+    @BeforeEach
+    void setUp() {
+        store = new ReviewStore(new DatasetVersion());
+        stats = new ReviewStats(store);
+        index = new ReviewIndex(store);
+        for (int i = 0; i < 2_000; i++) {
+            store.upsert(ACCOUNT, review(i, "Listing " + (i % 50), i % 10 == 0 ? "vrbo" : "airbnb",
+                    i % 97 == 0 ? null : START.plusHours(i)));
+        }
+    }
+
+    private static NormalizedReview review(int i, String listing, String channel, OffsetDateTime at) {
+        return new NormalizedReview(String.valueOf(i), listing, "Guest " + i, "guest_to_host", "published",
+                1 + i % 10, Map.of(), channel, i % 3 == 0 ? "quiet street" : "ok", at);
+    }
+
+    private QueryPlan plan(ReviewFilter f) {
+        return f.plan(stats.of(ACCOUNT), index.of(ACCOUNT));
+    }
+
+    private List<NormalizedReview> run(QueryPlan plan, String after) {
+        List<NormalizedReview> out = new ArrayList<>();
+        plan.scan(store, ACCOUNT, after).forEachRemaining(out::add);
+        return out;
+    }
+
+    private List<NormalizedReview> fullScan(ReviewFilter f, String after) {
+        List<NormalizedReview> out = new ArrayList<>();
+        Iterator<NormalizedReview> it = store.scan(ACCOUNT, after);
+        while (it.hasNext()) {
+            NormalizedReview r = it.next();
+            if (f.test(r)) out.add(r);
+        }
+        return out;
+    }
+
+    @Test
+    void selectiveTermsAreAnsweredFromTheIndex() {
+        var listingAndDate = new ReviewFilter(null, null, "Listing 7", null, null, START, START.plusDays(30));
+        var channelAndText = new ReviewFilter("QUIET", "vrbo", null, null, null, null, null);
+        var lastDay = new ReviewFilter(null, "airbnb", null, 5, null, START.plusHours(1990), null);
+        var broad = new ReviewFilter(null, "airbnb", null, null, null, null, null);
+
+        assertThat(plan(listingAndDate).access()).isEqualTo("listing");
+        assertThat(plan(channelAndText).access()).isEqualTo("channel");
+        assertThat(plan(lastDay).access()).isEqualTo("submitted");
+        assertThat(plan(broad).access()).isNull(); // 90% of reviews: scanning is cheaper
+
+        for (var f : List.of(listingAndDate, channelAndText, lastDay, broad)) {
+            assertThat(run(plan(f), null)).isNotEmpty().isEqualTo(fullScan(f, null));
+            assertThat(run(plan(f), "1000")).isEqualTo(fullScan(f, "1000"));
+        }
+    }
+
+    @Test
+    void undatedReviewsPassDateBounds() {
+        var f = new ReviewFilter(null, null, null, null, null, START.plusYears(5), null);
+
+        assertThat(plan(f).access()).isEqualTo("submitted");
+        assertThat(run(plan(f), null)).extracting(NormalizedReview::id)
+                .contains("0", "97", "194").allSatisfy(id -> assertThat(Integer.parseInt(id) % 97).isZero());
+    }
+
+    @Test
+    void editsMoveReviewsBetweenPostings() {
+        store.upsert(ACCOUNT, review(7, "Listing 8", "booking", START.minusYears(1)));
+
+        assertThat(index.of(ACCOUNT).listing("Listing 7")).doesNotContain("7");
+        assertThat(index.of(ACCOUNT).listing("Listing 8")).contains("7");
+        assertThat(index.of(ACCOUNT).channel("booking")).containsExactly("7");
+        assertThat(index.of(ACCOUNT).submitted(START.minusYears(1), START.minusDays(1)))
+                .contains("7").doesNotContain("8");
+        assertThat(index.of(ACCOUNT).submitted(START.plusHours(7), START.plusHours(7))).doesNotContain("7");
+
+        var f = new ReviewFilter(null, "booking", "Listing 8", null, null, null, null);
+        assertThat(run(plan(f), null)).extracting(NormalizedReview::id).containsExactly("7");
+    }
+}
@@ -0,0 +1,166 @@
+package flex.living.reviewsdashboard;
+
+import flex.living.reviewsdashboard.client.GoogleReviewClient;
+import flex.living.reviewsdashboard.client.HostawayAccount;
+import flex.living.reviewsdashboard.client.HostawayReviewClient;
+import flex.living.reviewsdashboard.config.ListingsConfig;
+import flex.living.reviewsdashboard.config.ReviewSourcesConfig;
+import flex.living.reviewsdashboard.model.NormalizedReview;
+import flex.living.reviewsdashboard.model.NormalizedReviewResponse;
+import flex.living.reviewsdashboard.service.GoogleReviewSource;
+import flex.living.reviewsdashboard.service.HostawayReviewService;
+import flex.living.reviewsdashboard.service.HostawayReviewSource;
+import flex.living.reviewsdashboard.service.ReviewSource;
+import flex.living.reviewsdashboard.service.ReviewSources;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+class ReviewSourcesTest {
+
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    @AfterEach
+    void teardown() {
+        release.countDown();
+    }
+
+    /**
+     * Returns one review per listing; the raw record is the listing name.
+     */
+    private static ReviewSource<String> fast(String name) {
+        return new ReviewSource<>() {
+            @Override
+            public String name() {
+                return name;
+            }
+
+            @Override
+            public List<String> fetch(Query query) {
+                return List.of("A", "B");
+            }
+
+            @Override
+            public NormalizedReview normalize(String listing, Query query) {
+                if (query.listing() != null && !query.listing().equals(listing)) return null;
+                return new NormalizedReview(name + ":" + listing, listing, "Guest", "guest_to_host", "published",
+                        8, Map.of(), name, "ok", null);
+            }
+        };
+    }
+
+    /**
+     * Holds its thread until the test ends, ignoring interrupts like a stuck socket read would.
+     */
+    private ReviewSource<String> stuck() {
+        return new ReviewSource<>() {
+            @Override
+            public String name() {
+                return "stuck";
+            }
+
+            @Override
+            public List<String> fetch(Query query) {
+                while (true) {
+                    try {
+                        if (release.await(10, TimeUnit.SECONDS)) return List.of();
+                    } catch (InterruptedException ignored) {
+                    }
+                }
+            }
+
+            @Override
+            public NormalizedReview normalize(String raw, Query query) {
+                return null;
+            }
+
+            @Override
+            public Limits limits() {
+                return new Limits(1, 1, 50);
+            }
+        };
+    }
+
+    private double count(String source, String outcome) {
+        var timer = registry.find("review.source.fetch").tag("source", source).tag("outcome", outcome).timer();
+        return timer == null ? 0 : timer.count();
+    }
+
+    @Test
+    void slowSourceTimesOutAndThenSaturates_withoutAffectingTheOthers() {
+        var sources = new ReviewSources(List.of(fast("airbnb"), stuck()), new ReviewSourcesConfig(), registry);
+        var query = new ReviewSource.Query(null, null, 50, 0);
+
+        for (int i = 0; i < 3; i++) {
+            List<NormalizedReview> merged = sources.fetchAll(query);
+            assertThat(merged).extracting(NormalizedReview::id).containsExactly("airbnb:A", "airbnb:B");
+        }
+
+        // 1st call holds the only thread, 2nd waits in the one queue slot, 3rd is turned away at once
+        assertThat(count("stuck", "timeout")).isEqualTo(2);
+        assertThat(count("stuck", "rejected")).isEqualTo(1);
+        assertThat(count("airbnb", "success")).isEqualTo(3);
+    }
+
+    @Test
+    void normalizationFiltersByListing_andSourcesCanBeDisabled() {
+        var cfg = new ReviewSourcesConfig();
+        var off = new ReviewSourcesConfig.Source();
+        off.setEnabled(false);
+        cfg.getSources().put("vrbo", off);
+        var sources = new ReviewSources(List.of(fast("airbnb"), fast("vrbo"), fast("booking")), cfg, registry);
+
+        assertThat(sources.names()).containsExactly("airbnb", "booking");
+        assertThat(sources.fetchAll(new ReviewSource.Query(null, "B", 50, 0)))
+                .extracting(NormalizedReview::id).containsExactly("airbnb:B", "booking:B");
+    }
+
+    @Test
+    void googleReviewIsFoundInTheCacheWithoutCallingGoogle() {
+        var google = Mockito.mock(GoogleReviewClient.class);
+        var listings = new ListingsConfig();
+        listings.setGooglePlaceIds(Map.of("Shoreditch Loft", "p-1", "Camden Studio", "p-2"));
+        var caches = new ConcurrentMapCacheManager("google-reviews");
+        var review = new NormalizedReview("google:42", null, "Dee", "guest_to_host", "published",
+                5, Map.of(), "google", "Great", null);
+        caches.getCache("google-reviews").put("p-1", new NormalizedReviewResponse("google", 1, List.of(review)));
+        var source = new GoogleReviewSource(google, listings, caches);
+
+        assertThat(source.find(null, "google:42")).get()
+                .extracting(NormalizedReview::listingName).isEqualTo("Shoreditch Loft");
+        assertThat(source.find(null, "google:7")).isEmpty(); // p-2 was never fetched: not looked up either
+        verifyNoInteractions(google);
+    }
+
+    @Test
+    void lookupIsRoutedToTheSourceOwningTheId() throws Exception {
+        var hostaway = Mockito.mock(HostawayReviewService.class);
+        var review = new NormalizedReview("7453", "Shoreditch Loft", "Ana", "guest_to_host", "published",
+                9, Map.of(), "airbnb", "Lovely", null);
+        Mockito.when(hostaway.find("default", "7453")).thenReturn(Optional.of(review));
+        var caches = new ConcurrentMapCacheManager("google-reviews");
+        var google = new GoogleReviewSource(Mockito.mock(GoogleReviewClient.class), new ListingsConfig(), caches);
+        var sources = new ReviewSources(List.of(
+                new HostawayReviewSource(Mockito.mock(HostawayReviewClient.class), hostaway), google, fast("vrbo")),
+                new ReviewSourcesConfig(), registry);
+        var account = Mockito.mock(HostawayAccount.class);
+        Mockito.when(account.key()).thenReturn("default");
+
+        assertThat(sources.find(account, "7453")).contains(review);
+        assertThat(sources.find(account, "google:42")).isEmpty();
+        assertThat(sources.find(account, "vrbo:A")).isEmpty(); // owns nothing: never asked
+        Mockito.verify(hostaway, Mockito.only()).find("default", "7453");
+    }
+}
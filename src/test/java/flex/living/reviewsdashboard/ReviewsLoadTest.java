@@ -0,0 +1,164 @@
+package flex.living.reviewsdashboard;
+
+import flex.living.reviewsdashboard.OpenModelLoad.Scenario;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * End-to-end load run: boots the app against {@link UpstreamStubs} and drives an open-model mix of
+ * dashboard, manager-filter and public-selected traffic. Excluded from the normal build; run with
+ * <pre>
+ * mvn -P loadtest test -Dload.rps=300 -Dload.durationSeconds=60 -Dstub.hostaway.datasetSize=20000
+ * </pre>
+ * Knobs (system properties): {@code load.rps}, {@code load.durationSeconds}, {@code load.warmupSeconds},
+ * {@code load.mix} (e.g. {@code dashboard=50,manager=35,selected=15}), {@code load.maxErrorRate},
+ * {@code load.maxP99Ms}, and {@code stub.hostaway.*} / {@code stub.google.*} =
+ * {@code medianMs, p99Ms, errorRate, datasetSize}. The report is printed and written to
+ * {@code target/loadtest-report.txt}.
+ */
+@Tag("load")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class ReviewsLoadTest {
+
+    private static final UpstreamStubs STUBS = startStubs();
+
+    @LocalServerPort
+    int port;
+
+    private static UpstreamStubs startStubs() {
+        try {
+            return new UpstreamStubs(
+                    UpstreamStubs.Profile.fromSystemProperties("stub.hostaway", new UpstreamStubs.Profile(80, 400, 0.01, 2000)),
+                    UpstreamStubs.Profile.fromSystemProperties("stub.google", new UpstreamStubs.Profile(120, 800, 0.02, 5)),
+                    Long.getLong("stub.seed", 42));
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @DynamicPropertySource
+    static void upstreams(DynamicPropertyRegistry r) {
+        r.add("hostaway.base-url", STUBS::hostawayBaseUrl);
+        r.add("hostaway.account-id", () -> "1");
+        r.add("hostaway.client-secret", () -> "load-test");
+        r.add("hostaway.rate-limit.permits-per-second", () -> System.getProperty("load.hostawayRps", "50"));
+        r.add("hostaway.sync.backfill.checkpoint-path", () -> "");
+        r.add("google.places.base-url", STUBS::googleBaseUrl);
+        r.add("google.places.api-key", () -> "load-test");
+    }
+
+    @AfterAll
+    static void stopStubs() throws IOException {
+        STUBS.close();
+    }
+
+    @Test
+    void openModelMix() throws Exception {
+        String base = "http://localhost:" + port;
+        awaitBackfill(base);
+        selectSome(base, 25);
+
+        double rps = Double.parseDouble(System.getProperty("load.rps", "100"));
+        var load = new OpenModelLoad(base, scenarios(System.getProperty("load.mix", "dashboard=50,manager=35,selected=15")),
+                rps,
+                Duration.ofSeconds(Long.getLong("load.durationSeconds", 20)),
+                Duration.ofSeconds(Long.getLong("load.warmupSeconds", 5)));
+        OpenModelLoad.Report report;
+        try {
+            report = load.run();
+        } finally {
+            load.close();
+        }
+
+        String text = report.format() + String.format("upstream calls: hostaway=%d google=%d%n",
+                STUBS.hostawayCalls.get(), STUBS.googleCalls.get());
+        System.out.println(text);
+        Files.createDirectories(Path.of("target"));
+        Files.writeString(Path.of("target", "loadtest-report.txt"), text);
+
+        var all = report.overall();
+        double maxErrorRate = Double.parseDouble(System.getProperty("load.maxErrorRate", "0.01"));
+        assertThat(all.requests()).isPositive();
+        assertThat((double) all.errors() / all.requests()).isLessThanOrEqualTo(maxErrorRate);
+        String maxP99 = System.getProperty("load.maxP99Ms");
+        if (maxP99 != null) assertThat(all.p99Ms()).isLessThanOrEqualTo(Double.parseDouble(maxP99));
+    }
+
+    // ======================= TRAFFIC MIX =======================
+
+    private static List<Scenario> scenarios(String mix) {
+        Map<String, List<String>> paths = Map.of(
+                "dashboard", List.of(
+                        "/api/reviews/combined",
+                        "/api/reviews/combined?layout=columnar",
+                        "/api/reviews/hostaway?limit=50",
+                        "/api/listings"),
+                "manager", List.of(
+                        "/api/manager/reviews",
+                        "/api/manager/reviews?listing=" + enc(UpstreamStubs.LISTINGS.get(2)) + "&ratingMin=8",
+                        "/api/manager/reviews?q=quiet",
+                        "/api/manager/reviews?channel=airbnb&from=2024-06-01T00:00:00Z",
+                        "/api/manager/reviews?fields=id,guestName,overallRating&snippet=80"),
+                "selected", List.of(
+                        "/api/manager/reviews/selected",
+                        "/api/manager/reviews/selected?fields=guestName,text&snippet=120"));
+
+        List<Scenario> out = new ArrayList<>();
+        for (String part : mix.split(",")) {
+            String[] kv = part.trim().split("=");
+            List<String> p = paths.get(kv[0].trim());
+            if (p == null) throw new IllegalArgumentException("Unknown scenario " + kv[0] + " (known: " + paths.keySet() + ")");
+            out.add(new Scenario(kv[0].trim(), Double.parseDouble(kv[1].trim()), p, Map.of("Accept-Encoding", "gzip")));
+        }
+        return out;
+    }
+
+    // ======================= SETUP =======================
+
+    private static void awaitBackfill(String base) throws Exception {
+        HttpClient http = HttpClient.newHttpClient();
+        long deadline = System.nanoTime() + Duration.ofSeconds(120).toNanos();
+        while (System.nanoTime() < deadline) {
+            String body = http.send(HttpRequest.newBuilder(URI.create(base + "/api/manager/backfill")).build(),
+                    HttpResponse.BodyHandlers.ofString()).body();
+            if (body.contains("\"COMPLETED\"") || body.contains("\"FAILED\"")) return;
+            Thread.sleep(200);
+        }
+    }
+
+    private static void selectSome(String base, int n) throws Exception {
+        HttpClient http = HttpClient.newHttpClient();
+        for (int i = 0; i < n; i++) {
+            http.send(HttpRequest.newBuilder(URI.create(base + "/api/manager/reviews/" + (100_000 + i * 7) + "/selection"))
+                            .header("Content-Type", "application/json")
+                            .method("PATCH", HttpRequest.BodyPublishers.ofString("{\"selected\":true}"))
+                            .build(),
+                    HttpResponse.BodyHandlers.discarding());
+        }
+    }
+
+    private static String enc(String s) {
+        return URLEncoder.encode(s, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,104 @@
+package flex.living.reviewsdashboard;
+
+import flex.living.reviewsdashboard.config.RequestTimingConfig;
+import flex.living.reviewsdashboard.web.RequestTimings;
+import flex.living.reviewsdashboard.web.ServerTimingFilter;
+import flex.living.reviewsdashboard.web.SlowRequestLog;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.startsWith;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class ServerTimingTest {
+
+    @RestController
+    static class PhasedController {
+
+        @GetMapping("/api/phased")
+        Map<String, Object> phased() throws InterruptedException {
+            try (var t = RequestTimings.start("hostaway-reviews")) {
+                try (var auth = RequestTimings.start("hostaway-auth")) {
+                    Thread.sleep(5);
+                }
+            }
+            try (var t = RequestTimings.start("google", "place-\"1\"")) {
+                Thread.sleep(5);
+            }
+            return Map.of("ok", true);
+        }
+
+        @GetMapping("/api/streamed")
+        void streamed(HttpServletResponse response) throws IOException {
+            try (var t = RequestTimings.start("query")) {
+                response.getOutputStream().write("a,b\n".getBytes());
+            }
+        }
+
+        @GetMapping("/other")
+        String other() {
+            return "x";
+        }
+    }
+
+    private final RequestTimingConfig cfg = new RequestTimingConfig();
+    private SlowRequestLog slow;
+    private MockMvc mvc;
+
+    @BeforeEach
+    void setUp() {
+        cfg.setSlowCapacity(2);
+        slow = new SlowRequestLog(cfg);
+        mvc = MockMvcBuilders.standaloneSetup(new PhasedController())
+                .addFilters(new ServerTimingFilter(cfg, slow))
+                .build();
+    }
+
+    @Test
+    void reportsEachPhaseAndTheTotal() throws Exception {
+        String timing = mvc.perform(get("/api/phased"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(RequestTimings.HEADER);
+
+        assertThat(timing).matches("hostaway-auth;dur=[\\d.]+, hostaway-reviews;dur=[\\d.]+, "
+                + "google;desc=\"place-\\\\\"1\\\\\"\";dur=[\\d.]+, total;dur=[\\d.]+");
+        assertThat(slow.slowest()).isEmpty();
+    }
+
+    @Test
+    void headerIsSetBeforeAStreamedBody() throws Exception {
+        mvc.perform(get("/api/streamed"))
+                .andExpect(header().string(RequestTimings.HEADER, startsWith("total;dur=")));
+    }
+
+    @Test
+    void onlyApiRequestsAreTimed() throws Exception {
+        mvc.perform(get("/other")).andExpect(header().doesNotExist(RequestTimings.HEADER));
+    }
+
+    @Test
+    void slowRequestsAreKeptSlowestFirst() throws Exception {
+        cfg.setSlowThresholdMs(0);
+        mvc.perform(get("/api/streamed"));
+        mvc.perform(get("/api/phased?x=1"));
+        mvc.perform(get("/api/phased?x=2"));
+
+        var kept = slow.slowest();
+        assertThat(kept).hasSize(2); // capacity: the oldest was overwritten
+        assertThat(kept).extracting(SlowRequestLog.SlowRequest::uri).containsExactlyInAnyOrder("/api/phased?x=1", "/api/phased?x=2");
+        assertThat(kept.get(0).ms()).isGreaterThanOrEqualTo(kept.get(1).ms());
+        assertThat(kept.get(0).phases()).extracting(SlowRequestLog.Phase::name)
+                .containsExactly("hostaway-auth", "hostaway-reviews", "google");
+    }
+}
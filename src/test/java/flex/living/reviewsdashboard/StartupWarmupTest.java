@@ -0,0 +1,104 @@
+package flex.living.reviewsdashboard;
+
+import flex.living.reviewsdashboard.client.GoogleReviewClient;
+import flex.living.reviewsdashboard.client.HostawayAccounts;
+import flex.living.reviewsdashboard.config.HostawayConfig;
+import flex.living.reviewsdashboard.config.HostawayRateLimitConfig;
+import flex.living.reviewsdashboard.config.ListingsConfig;
+import flex.living.reviewsdashboard.config.WarmupConfig;
+import flex.living.reviewsdashboard.model.NormalizedReviewResponse;
+import flex.living.reviewsdashboard.service.HostawayReviewService;
+import flex.living.reviewsdashboard.service.StartupWarmup;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.assertj.core.api.InstanceOfAssertFactories;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.boot.actuate.health.Status;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class StartupWarmupTest {
+
+    private final HostawayReviewService hostaway = Mockito.mock(HostawayReviewService.class);
+    private final GoogleReviewClient google = Mockito.mock(GoogleReviewClient.class);
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final WarmupConfig cfg = new WarmupConfig();
+
+    private StartupWarmup warmup() {
+        var accounts = new HostawayAccounts(
+                new HostawayConfig("http://localhost", 61148, "secret", 1000, 1000, List.of()),
+                new HostawayRateLimitConfig(), registry);
+        var listings = new ListingsConfig();
+        Map<String, String> places = new LinkedHashMap<>();
+        places.put("Hotel California", "place-1");
+        places.put("Wimbledon", "place-2");
+        listings.setGooglePlaceIds(places);
+        return new StartupWarmup(hostaway, accounts, google, listings, cfg, registry);
+    }
+
+    @Test
+    void holdsReadinessUntilEveryTaskIsDone() throws Exception {
+        var release = new CountDownLatch(1);
+        when(google.fetchForPlace("place-1")).thenAnswer(inv -> {
+            release.await(5, TimeUnit.SECONDS);
+            return new NormalizedReviewResponse("google", 0, List.of());
+        });
+        when(hostaway.snapshot("default")).thenThrow(new IOException("upstream down"));
+        var w = warmup();
+
+        assertThat(w.health().getStatus()).isEqualTo(Status.OUT_OF_SERVICE);
+        w.startAsync();
+        Thread.sleep(100);
+        assertThat(w.health().getStatus()).isEqualTo(Status.OUT_OF_SERVICE);
+
+        release.countDown();
+        awaitState(w, StartupWarmup.State.COMPLETED);
+
+        var health = w.health();
+        assertThat(health.getStatus()).isEqualTo(Status.UP);
+        assertThat(health.getDetails().get("failed")).asInstanceOf(InstanceOfAssertFactories.MAP).containsOnlyKeys("hostaway:default");
+        verify(google).fetchForPlace("place-2");
+        assertThat(registry.get("startup.warmup").tag("result", "completed").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void releasesReadinessAtTheTimeout() throws Exception {
+        cfg.setTimeoutMs(200);
+        when(google.fetchForPlace("place-1")).thenAnswer(inv -> {
+            Thread.sleep(2_000);
+            return new NormalizedReviewResponse("google", 0, List.of());
+        });
+        var w = warmup();
+
+        w.startAsync();
+        awaitState(w, StartupWarmup.State.TIMED_OUT);
+        assertThat(w.health().getStatus()).isEqualTo(Status.UP);
+    }
+
+    @Test
+    void disabledIsReadyImmediately() {
+        cfg.setEnabled(false);
+        var w = warmup();
+
+        w.startAsync();
+        assertThat(w.state()).isEqualTo(StartupWarmup.State.DISABLED);
+        assertThat(w.health().getStatus()).isEqualTo(Status.UP);
+    }
+
+    private static void awaitState(StartupWarmup w, StartupWarmup.State expected) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (w.state() != expected) {
+            if (System.currentTimeMillis() > deadline) throw new AssertionError("state: " + w.state());
+            Thread.sleep(20);
+        }
+    }
+}
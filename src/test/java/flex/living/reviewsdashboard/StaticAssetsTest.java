@@ -0,0 +1,111 @@
+package flex.living.reviewsdashboard;
+
+import flex.living.reviewsdashboard.config.StaticAssetHandlers;
+import flex.living.reviewsdashboard.config.StaticAssetsConfig;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.mock.web.MockServletContext;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.context.support.StaticWebApplicationContext;
+import org.springframework.web.servlet.HandlerExecutionChain;
+import org.springframework.web.servlet.handler.SimpleUrlHandlerMapping;
+import org.springframework.web.servlet.resource.ResourceHttpRequestHandler;
+import org.springframework.web.util.ServletRequestPathUtils;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StaticAssetsTest {
+
+    @TempDir
+    Path root;
+    private SimpleUrlHandlerMapping mapping;
+
+    @BeforeEach
+    void setup() throws Exception {
+        Files.createDirectories(root.resolve("assets"));
+        Files.writeString(root.resolve("index.html"), "<!doctype html><div id=\"root\"></div>");
+        Files.writeString(root.resolve("assets/index-abc123.js"), "console.log('app');".repeat(200));
+        Files.write(root.resolve("assets/index-abc123.js.br"), "brotli-bytes".getBytes(UTF_8));
+        Files.write(root.resolve("assets/index-abc123.js.gz"), "gzip-bytes".getBytes(UTF_8));
+
+        var cfg = new StaticAssetsConfig();
+        cfg.setLocation(root.toUri().toString());
+        cfg.setSendfileMinBytes(1024);
+
+        var servletContext = new MockServletContext();
+        var ctx = new StaticWebApplicationContext();
+        ctx.setServletContext(servletContext);
+        mapping = new StaticAssetHandlers().staticAssetMapping(cfg, ctx, servletContext);
+        mapping.setApplicationContext(ctx);
+    }
+
+    @AfterEach
+    void teardown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void hashedAsset_servesPrecompressedVariantAndIsImmutable() throws Exception {
+        var req = request("/assets/index-abc123.js");
+        req.addHeader(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate, br");
+
+        var resp = serve(req);
+
+        assertThat(resp.getStatus()).isEqualTo(200);
+        assertThat(resp.getHeader(HttpHeaders.CONTENT_ENCODING)).isEqualTo("br");
+        assertThat(resp.getContentAsString()).isEqualTo("brotli-bytes");
+        assertThat(resp.getHeader(HttpHeaders.CACHE_CONTROL)).isEqualTo("max-age=31536000, public, immutable");
+        assertThat(resp.getHeaders(HttpHeaders.VARY)).contains(HttpHeaders.ACCEPT_ENCODING);
+    }
+
+    @Test
+    void indexHtml_isRevalidated() throws Exception {
+        var resp = serve(request("/index.html"));
+
+        assertThat(resp.getStatus()).isEqualTo(200);
+        assertThat(resp.getHeader(HttpHeaders.CONTENT_ENCODING)).isNull();
+        assertThat(resp.getHeader(HttpHeaders.CACHE_CONTROL)).isEqualTo("no-cache");
+        assertThat(resp.getContentAsString()).contains("id=\"root\"");
+    }
+
+    @Test
+    void largeFile_isHandedToSendfileWhenTheConnectorSupportsIt() throws Exception {
+        var req = request("/assets/index-abc123.js");
+        req.setAttribute("org.apache.tomcat.sendfile.support", Boolean.TRUE);
+
+        var resp = serve(req);
+
+        Path file = root.resolve("assets/index-abc123.js");
+        assertThat(resp.getStatus()).isEqualTo(200);
+        assertThat(resp.getContentAsByteArray()).isEmpty(); // the connector writes the body
+        assertThat(resp.getContentLengthLong()).isEqualTo(Files.size(file));
+        assertThat(req.getAttribute("org.apache.tomcat.sendfile.filename")).isEqualTo(file.toFile().getAbsolutePath());
+        assertThat(req.getAttribute("org.apache.tomcat.sendfile.end")).isEqualTo(Files.size(file));
+    }
+
+    private static MockHttpServletRequest request(String uri) {
+        var req = new MockHttpServletRequest("GET", uri);
+        ServletRequestPathUtils.parseAndCache(req);
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(req));
+        return req;
+    }
+
+    private MockHttpServletResponse serve(MockHttpServletRequest req) throws Exception {
+        HandlerExecutionChain chain = mapping.getHandler(req);
+        assertThat(chain).isNotNull();
+        var resp = new MockHttpServletResponse();
+        for (var interceptor : chain.getInterceptorList()) interceptor.preHandle(req, resp, chain.getHandler());
+        ((ResourceHttpRequestHandler) chain.getHandler()).handleRequest(req, resp);
+        return resp;
+    }
+}
@@ -0,0 +1,63 @@
+package flex.living.reviewsdashboard;
+
+import flex.living.reviewsdashboard.config.TermSketchConfig;
+import flex.living.reviewsdashboard.model.NormalizedReview;
+import flex.living.reviewsdashboard.service.DatasetVersion;
+import flex.living.reviewsdashboard.service.ReviewStore;
+import flex.living.reviewsdashboard.service.TermSketches;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TermSketchesTest {
+
+    private static final String ACCOUNT = "default";
+
+    private final ReviewStore store = new ReviewStore(new DatasetVersion());
+    private final TermSketches terms = new TermSketches(new TermSketchConfig(), store);
+
+    @Test
+    void topTerms_countReviewsPerListing() {
+        store.upsert(ACCOUNT, review("1", "Hotel California", "Clean and quiet, clean sheets, fast wifi"));
+        store.upsert(ACCOUNT, review("2", "Hotel California", "Noise from the street but very clean"));
+        store.upsert(ACCOUNT, review("3", "Hotel California", "Wifi kept dropping, street noise at night"));
+        store.upsert(ACCOUNT, review("4", "Shoreditch Heights", "Great wifi"));
+
+        var top = terms.top(ACCOUNT, "Hotel California", 3);
+
+        assertThat(top.reviews()).isEqualTo(3);
+        assertThat(top.terms()).extracting(TermSketches.TermCount::term).containsExactly("clean", "noise", "street");
+        assertThat(top.terms().get(0).reviews()).isEqualTo(2); // repeated in one review counts once
+        assertThat(terms.top(ACCOUNT, "Shoreditch Heights", 5).terms()).extracting(TermSketches.TermCount::term).containsExactly("great", "wifi");
+    }
+
+    @Test
+    void editedReview_retractsOldTerms() {
+        store.upsert(ACCOUNT, review("1", "Hotel California", "Broken heating"));
+        store.upsert(ACCOUNT, review("1", "Hotel California", "Lovely garden"));
+
+        var top = terms.top(ACCOUNT, "Hotel California", 10);
+
+        assertThat(top.reviews()).isEqualTo(1);
+        assertThat(top.terms()).extracting(TermSketches.TermCount::term).containsExactlyInAnyOrder("lovely", "garden");
+    }
+
+    @Test
+    void trackedCandidates_areBounded() {
+        var cfg = new TermSketchConfig();
+        cfg.setTrackedTerms(4);
+        var small = new TermSketches(cfg, store);
+        for (int i = 0; i < 200; i++) store.upsert(ACCOUNT, review("r" + i, "L", "wifi term" + i + "x"));
+
+        var top = small.top(ACCOUNT, "L", 100);
+
+        assertThat(top.terms()).hasSizeLessThanOrEqualTo(4);
+        assertThat(top.terms().get(0)).isEqualTo(new TermSketches.TermCount("wifi", 200));
+    }
+
+    private static NormalizedReview review(String id, String listing, String text) {
+        return new NormalizedReview(id, listing, "Guest", "guest_to_host", "published", 8, Map.of(), "airbnb", text, null);
+    }
+}
@@ -0,0 +1,210 @@
+package flex.living.reviewsdashboard;
+
+import okhttp3.HttpUrl;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Simulated Hostaway and Google Places upstreams for end-to-end runs.
+ * <p>
+ * Each stub has its own {@link Profile}: a log-normal latency distribution (given by its median and p99),
+ * an error rate (HTTP 500) and, for Hostaway, the number of reviews served by {@code /v1/reviews}.
+ * The dataset is generated deterministically from a seed so runs are comparable.
+ */
+class UpstreamStubs implements AutoCloseable {
+
+    static final List<String> LISTINGS = List.of(
+            "2B N1 A - 29 Shoreditch Heights",
+            "Modern 1 Bed Apartment in Wimbledon",
+            "Hotel California");
+
+    private static final String[] WORDS = {"clean", "quiet", "spacious", "noisy", "friendly", "host", "location",
+            "great", "small", "kitchen", "wifi", "check-in", "view", "comfortable", "bed", "stay", "again", "recommend"};
+    private static final int[] CHANNEL_IDS = {2001, 2002, 2005}; // booking, airbnb, direct
+    private static final DateTimeFormatter HOSTAWAY_TS = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss").withZone(ZoneOffset.UTC);
+
+    /**
+     * @param medianMs    median response delay
+     * @param p99Ms       99th percentile response delay (>= median)
+     * @param errorRate   fraction of requests answered with 500
+     * @param datasetSize number of reviews (Hostaway) or reviews per place (Google, capped at 5 like the real API)
+     */
+    record Profile(double medianMs, double p99Ms, double errorRate, int datasetSize) {
+
+        static Profile fromSystemProperties(String prefix, Profile defaults) {
+            return new Profile(
+                    Double.parseDouble(System.getProperty(prefix + ".medianMs", String.valueOf(defaults.medianMs))),
+                    Double.parseDouble(System.getProperty(prefix + ".p99Ms", String.valueOf(defaults.p99Ms))),
+                    Double.parseDouble(System.getProperty(prefix + ".errorRate", String.valueOf(defaults.errorRate))),
+                    Integer.getInteger(prefix + ".datasetSize", defaults.datasetSize));
+        }
+
+        long sampleDelayMs() {
+            if (medianMs <= 0) return 0;
+            double sigma = p99Ms > medianMs ? Math.log(p99Ms / medianMs) / 2.326 : 0; // z(0.99)
+            return Math.round(medianMs * Math.exp(sigma * ThreadLocalRandom.current().nextGaussian()));
+        }
+
+        boolean fail() {
+            return errorRate > 0 && ThreadLocalRandom.current().nextDouble() < errorRate;
+        }
+    }
+
+    private final MockWebServer hostaway = new MockWebServer();
+    private final MockWebServer google = new MockWebServer();
+    private final Profile hostawayProfile;
+    private final Profile googleProfile;
+    private final String[] reviewJson;
+    final AtomicLong hostawayCalls = new AtomicLong();
+    final AtomicLong googleCalls = new AtomicLong();
+
+    UpstreamStubs(Profile hostawayProfile, Profile googleProfile, long seed) throws IOException {
+        this.hostawayProfile = hostawayProfile;
+        this.googleProfile = googleProfile;
+        this.reviewJson = generateReviews(hostawayProfile.datasetSize(), new Random(seed));
+        hostaway.setDispatcher(dispatcher(this::hostaway));
+        google.setDispatcher(dispatcher(this::google));
+        hostaway.start();
+        google.start();
+    }
+
+    String hostawayBaseUrl() {
+        return trim(hostaway.url("/").toString());
+    }
+
+    String googleBaseUrl() {
+        return trim(google.url("/").toString());
+    }
+
+    @Override
+    public void close() throws IOException {
+        hostaway.shutdown();
+        google.shutdown();
+    }
+
+    // ======================= HOSTAWAY =======================
+
+    private MockResponse hostaway(RecordedRequest req) {
+        hostawayCalls.incrementAndGet();
+        HttpUrl url = req.getRequestUrl();
+        if (url.encodedPath().equals("/v1/accessTokens")) {
+            return json("{\"token_type\":\"Bearer\",\"access_token\":\"load-test\",\"expires_in\":86400}", 0);
+        }
+        if (!url.encodedPath().equals("/v1/reviews")) return new MockResponse().setResponseCode(404);
+        if (hostawayProfile.fail()) return new MockResponse().setResponseCode(500);
+
+        int limit = parse(url.queryParameter("limit"), 50);
+        int offset = parse(url.queryParameter("offset"), 0);
+        int end = Math.min(reviewJson.length, offset + limit);
+        StringBuilder sb = new StringBuilder(64 + Math.max(0, end - offset) * 400)
+                .append("{\"status\":\"success\",\"count\":").append(reviewJson.length)
+                .append(",\"limit\":").append(limit).append(",\"offset\":").append(offset).append(",\"result\":[");
+        for (int i = offset; i < end; i++) {
+            if (i > offset) sb.append(',');
+            sb.append(reviewJson[i]);
+        }
+        return json(sb.append("]}").toString(), hostawayProfile.sampleDelayMs());
+    }
+
+    private static String[] generateReviews(int n, Random rnd) {
+        String[] out = new String[n];
+        long newest = Instant.parse("2025-01-01T00:00:00Z").getEpochSecond();
+        for (int i = 0; i < n; i++) {
+            int rating = 4 + rnd.nextInt(7);
+            out[i] = "{\"id\":" + (100_000 + i)
+                    + ",\"type\":\"" + (rnd.nextInt(5) == 0 ? "host-to-guest" : "guest-to-host") + "\""
+                    + ",\"status\":\"published\",\"rating\":" + rating
+                    + ",\"publicReview\":\"" + sentence(rnd, 8 + rnd.nextInt(40)) + "\""
+                    + ",\"reviewCategory\":[{\"category\":\"cleanliness\",\"rating\":" + rating + "},"
+                    + "{\"category\":\"communication\",\"rating\":" + (4 + rnd.nextInt(7)) + "}]"
+                    + ",\"submittedAt\":\"" + HOSTAWAY_TS.format(Instant.ofEpochSecond(newest - i * 3_600L)) + "\""
+                    + ",\"guestName\":\"Guest " + i + "\""
+                    + ",\"listingName\":\"" + LISTINGS.get(rnd.nextInt(LISTINGS.size())) + "\""
+                    + ",\"channelId\":" + CHANNEL_IDS[rnd.nextInt(CHANNEL_IDS.length)] + "}";
+        }
+        return out;
+    }
+
+    // ======================= GOOGLE =======================
+
+    private MockResponse google(RecordedRequest req) {
+        googleCalls.incrementAndGet();
+        HttpUrl url = req.getRequestUrl();
+        if (googleProfile.fail()) return new MockResponse().setResponseCode(500);
+        long delay = googleProfile.sampleDelayMs();
+
+        if (url.encodedPath().endsWith("/findplacefromtext/json")) {
+            String input = String.valueOf(url.queryParameter("input")).replace("\"", "");
+            return json("{\"status\":\"OK\",\"candidates\":[{\"place_id\":\"stub-" + Math.abs(input.hashCode())
+                    + "\",\"name\":\"" + input + "\",\"formatted_address\":\"London\"}]}", delay);
+        }
+        if (url.encodedPath().endsWith("/details/json")) {
+            Random rnd = new Random(String.valueOf(url.queryParameter("place_id")).hashCode());
+            int n = Math.min(5, Math.max(0, googleProfile.datasetSize()));
+            StringBuilder sb = new StringBuilder("{\"status\":\"OK\",\"result\":{\"rating\":4.6,\"user_ratings_total\":")
+                    .append(n).append(",\"reviews\":[");
+            for (int i = 0; i < n; i++) {
+                if (i > 0) sb.append(',');
+                sb.append("{\"author_name\":\"Google user ").append(i)
+                        .append("\",\"rating\":").append(1 + rnd.nextInt(5))
+                        .append(",\"text\":\"").append(sentence(rnd, 20)).append('"')
+                        .append(",\"time\":").append(1_700_000_000L + rnd.nextInt(10_000_000)).append('}');
+            }
+            return json(sb.append("]}}").toString(), delay);
+        }
+        return new MockResponse().setResponseCode(404);
+    }
+
+    // ======================= HELPERS =======================
+
+    private interface Handler {
+        MockResponse handle(RecordedRequest req);
+    }
+
+    private static Dispatcher dispatcher(Handler h) {
+        return new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest req) {
+                return h.handle(req);
+            }
+        };
+    }
+
+    private static MockResponse json(String body, long delayMs) {
+        var r = new MockResponse().setResponseCode(200).setBody(body).addHeader("Content-Type", "application/json");
+        return delayMs > 0 ? r.setHeadersDelay(delayMs, TimeUnit.MILLISECONDS) : r;
+    }
+
+    private static String sentence(Random rnd, int words) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < words; i++) {
+            if (i > 0) sb.append(' ');
+            sb.append(WORDS[rnd.nextInt(WORDS.length)]);
+        }
+        return sb.toString();
+    }
+
+    private static int parse(String v, int def) {
+        try {
+            return v == null ? def : Integer.parseInt(v);
+        } catch (NumberFormatException e) {
+            return def;
+        }
+    }
+
+    private static String trim(String url) {
+        return url.endsWith("/") ? url.substring(0, url.length() - 1) : url;
+    }
+}
@@ -14,6 +14,7 @@ export interface NormalizedReview {
     channel: string | null;
     text: string | null;
     submittedAt: string | null;
+    effectiveRating?: number | null; // overallRating, else the rounded category mean (server-side)
 }
 
 interface NormalizedReviewResponse {
@@ -48,7 +49,8 @@ const inRange = (d: Date | null, from: Date | null, to: Date | null) => {
     return true;
 };
 const avg = (xs: number[]) => (xs.length ? xs.reduce((a, b) => a + b, 0) / xs.length : NaN);
-const ratingOf = (r: NormalizedReview) => r.overallRating ?? avg(Object.values(r.categoryRatings ?? {}));
+const ratingOf = (r: NormalizedReview) =>
+    r.effectiveRating ?? r.overallRating ?? avg(Object.values(r.categoryRatings ?? {}));
 
 /* ---------------- Small UI helpers ---------------- */
 function StatCard({
@@ -158,6 +160,29 @@ export default function ManagerDashboard() {
         // eslint-disable-next-line react-hooks/exhaustive-deps
     }, []);
 
+    // live updates: new/edited Hostaway reviews are pushed instead of re-polling the whole list
+    useEffect(() => {
+        if (typeof EventSource === "undefined") return;
+        const es = new EventSource(`${API_BASE}/api/manager/reviews/stream`);
+        es.addEventListener("review", (e) => {
+            const r = JSON.parse((e as MessageEvent).data) as NormalizedReview;
+            setReviews((prev) => {
+                const i = prev.findIndex((x) => x.id === r.id);
+                if (i < 0) return [r, ...prev];
+                const next = prev.slice();
+                next[i] = r;
+                return next;
+            });
+        });
+        es.addEventListener("review-removed", (e) => {
+            const {id} = JSON.parse((e as MessageEvent).data) as { id: string };
+            setReviews((prev) => prev.filter((x) => x.id !== id));
+        });
+        es.addEventListener("resync", () => fetchAll()); // we fell behind; reload once
+        return () => es.close();
+        // eslint-disable-next-line react-hooks/exhaustive-deps
+    }, []);
+
     // channels & listings
     const channels = useMemo(() => {
         const s = new Set<string>();
@@ -15,6 +15,7 @@ interface NormalizedReview {
     channel: string | null;
     text: string | null;
     submittedAt: string | null;
+    effectiveRating?: number | null; // overallRating, else the rounded category mean (server-side)
 }
 
 interface NormalizedReviewResponse {
@@ -35,7 +36,8 @@ async function safeJson<T = any>(res: Response): Promise<T | null> {
 }
 
 const avg = (xs: number[]) => xs.length ? xs.reduce((a, b) => a + b, 0) / xs.length : NaN;
-const ratingOf = (r: NormalizedReview) => r.overallRating ?? avg(Object.values(r.categoryRatings ?? {}));
+const ratingOf = (r: NormalizedReview) =>
+    r.effectiveRating ?? r.overallRating ?? avg(Object.values(r.categoryRatings ?? {}));
 const fmtDate = (iso?: string | null) => iso ? new Date(iso).toLocaleDateString() : "";
 
 export default function PropertyDetails({listing, reviewId}: { listing: string; reviewId?: string }) {
@@ -52,7 +54,7 @@ export default function PropertyDetails({listing, reviewId}: { listing: string;
                 const sel = (await safeJson<NormalizedReview[]>(selRes)) ?? [];
                 if (!cancelled) setSelectedAll(sel);
 
-                const allRes = await fetch("/api/reviews/combined?limit=500&offset=0");
+                const allRes = await fetch(`/api/reviews/combined?limit=500&offset=0&listing=${encodeURIComponent(listing)}`);
                 const all = (await safeJson<NormalizedReviewResponse>(allRes))?.reviews ?? [];
                 if (!cancelled) setAllReviews(all);
             } finally {
@@ -62,7 +64,7 @@ export default function PropertyDetails({listing, reviewId}: { listing: string;
         return () => {
             cancelled = true;
         };
-    }, []);
+    }, [listing]);
 
     const approvedForListing = useMemo(
         () => selectedAll.filter(r => (r.listingName ?? "") === listing),
@@ -1,9 +1,32 @@
-import {defineConfig} from "vite";
+import {defineConfig, type Plugin} from "vite";
 import react from "@vitejs/plugin-react";
 import path from "node:path";
+import fs from "node:fs";
+import zlib from "node:zlib";
+
+// Writes .br and .gz next to each text asset so the server never compresses the UI at request time.
+function precompress(minBytes = 1024): Plugin {
+    return {
+        name: "precompress",
+        apply: "build",
+        writeBundle(options, bundle) {
+            const dir = options.dir ?? "dist";
+            for (const file of Object.keys(bundle)) {
+                if (!/\.(js|css|html|svg|json)$/.test(file)) continue;
+                const full = path.join(dir, file);
+                const raw = fs.readFileSync(full);
+                if (raw.length < minBytes) continue;
+                fs.writeFileSync(full + ".br", zlib.brotliCompressSync(raw, {
+                    params: {[zlib.constants.BROTLI_PARAM_QUALITY]: zlib.constants.BROTLI_MAX_QUALITY}
+                }));
+                fs.writeFileSync(full + ".gz", zlib.gzipSync(raw, {level: zlib.constants.Z_BEST_COMPRESSION}));
+            }
+        }
+    };
+}
 
 export default defineConfig({
-    plugins: [react()],
+    plugins: [react(), precompress()],
     resolve: {alias: {"@": path.resolve(__dirname, "src")}},
     server: {
         port: 5173,